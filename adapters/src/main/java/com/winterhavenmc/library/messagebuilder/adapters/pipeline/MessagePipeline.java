@@ -17,42 +17,91 @@
 
 package com.winterhavenmc.library.messagebuilder.adapters.pipeline;
 
+import com.winterhavenmc.library.messagebuilder.adapters.pipeline.caches.RenderCacheFactory;
+import com.winterhavenmc.library.messagebuilder.adapters.pipeline.compilers.ConstantFoldingCompiler;
 import com.winterhavenmc.library.messagebuilder.adapters.pipeline.cooldown.MessageCooldownMap;
+import com.winterhavenmc.library.messagebuilder.adapters.pipeline.analyzers.RegexTemplateAnalyzer;
+import com.winterhavenmc.library.messagebuilder.adapters.pipeline.gates.ContentRenderGate;
+import com.winterhavenmc.library.messagebuilder.adapters.pipeline.limiters.TokenBucketRateLimiter;
+import com.winterhavenmc.library.messagebuilder.adapters.pipeline.matchers.RegexPlaceholderMatcher;
+import com.winterhavenmc.library.messagebuilder.adapters.pipeline.prerenderers.MacroFreePrerenderer;
+import com.winterhavenmc.library.messagebuilder.adapters.pipeline.prerenderers.PrerenderedComponents;
 import com.winterhavenmc.library.messagebuilder.adapters.pipeline.processors.MessageProcessor;
+import com.winterhavenmc.library.messagebuilder.adapters.pipeline.queues.SendQueueFactory;
+import com.winterhavenmc.library.messagebuilder.adapters.pipeline.replacers.RegexMacroReplacer;
+import com.winterhavenmc.library.messagebuilder.adapters.pipeline.retrievers.CompilingMessageRetriever;
 import com.winterhavenmc.library.messagebuilder.adapters.pipeline.retrievers.LocalizedMessageRetriever;
+import com.winterhavenmc.library.messagebuilder.adapters.pipeline.schedulers.BukkitPipelineScheduler;
 import com.winterhavenmc.library.messagebuilder.adapters.pipeline.senders.SenderFactory;
+import com.winterhavenmc.library.messagebuilder.adapters.pipeline.snapshots.BukkitMacroSnapshotter;
+import com.winterhavenmc.library.messagebuilder.adapters.resources.ResourceMessage;
+import com.winterhavenmc.library.messagebuilder.adapters.resources.language.LocalePacksFactory;
 import com.winterhavenmc.library.messagebuilder.core.context.AccessorCtx;
 import com.winterhavenmc.library.messagebuilder.core.context.FormatterCtx;
 import com.winterhavenmc.library.messagebuilder.core.context.MessagePipelineCtx;
+import com.winterhavenmc.library.messagebuilder.core.maps.MacroObjectMap;
+import com.winterhavenmc.library.messagebuilder.core.message.Broadcast;
 import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.Pipeline;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.analyzers.RecipientDependence;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.caches.RenderCacheStatistics;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.matchers.PlaceholderMatcher;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.queues.SendQueueStatistics;
 
 import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.senders.Sender;
+import com.winterhavenmc.library.messagebuilder.core.ports.resources.ResourceSnapshot;
+import com.winterhavenmc.library.messagebuilder.core.ports.resources.ResourceSnapshots;
 import com.winterhavenmc.library.messagebuilder.core.ports.resources.language.MessageRepository;
 import com.winterhavenmc.library.messagebuilder.core.ports.resources.sound.SoundRepository;
+import com.winterhavenmc.library.messagebuilder.models.configuration.ConfigRepository;
 import com.winterhavenmc.library.messagebuilder.models.keys.CooldownKey;
+import com.winterhavenmc.library.messagebuilder.models.keys.MacroKey;
+import com.winterhavenmc.library.messagebuilder.models.keys.MessageKey;
+import com.winterhavenmc.library.messagebuilder.models.keys.ValidMacroKey;
+import com.winterhavenmc.library.messagebuilder.models.keys.ValidMessageKey;
+import com.winterhavenmc.library.messagebuilder.models.language.Section;
 import com.winterhavenmc.library.messagebuilder.models.language.message.FinalMessageRecord;
+import com.winterhavenmc.library.messagebuilder.models.language.message.MessagePriority;
 import com.winterhavenmc.library.messagebuilder.models.language.message.ValidMessageRecord;
+import com.winterhavenmc.library.messagebuilder.models.recipient.Recipient;
 
 import com.winterhavenmc.library.messagebuilder.core.message.ValidMessage;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.minimessage.MiniMessage;
+import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.NotNull;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.logging.Level;
+import java.util.stream.Stream;
 
 
 public final class MessagePipeline implements Pipeline
 {
+	private final static ValidMacroKey RECIPIENT_KEY = MacroKey.of("RECIPIENT").isValid().orElseThrow();
+	private final static List<Object> SYNTHETIC_VALUES = List.of("warm-up", 1234567L, Duration.ofMinutes(90));
+	private final static PlaceholderMatcher PLACEHOLDER_MATCHER = new RegexPlaceholderMatcher();
+
+	private final Plugin plugin;
+	private final ConfigRepository configRepository;
 	private final MessagePipelineCtx ctx;
 	private final MiniMessage miniMessage;
 
 
-	public MessagePipeline(final MessagePipelineCtx ctx)
+	public MessagePipeline(final Plugin plugin, final ConfigRepository configRepository, final MessagePipelineCtx ctx)
 	{
+		this.plugin = plugin;
+		this.configRepository = configRepository;
 		this.ctx = ctx;
 		this.miniMessage = ctx.miniMessage();
 	}
@@ -62,22 +111,18 @@ public final class MessagePipeline implements Pipeline
 	 *
 	 * @param formatterCtx a context container which contains instances of string formatters for specific types
 	 * @param accessorCtx a context container for injecting dependencies into adapters
+	 * @param snapshots the holder of the resource snapshot that each render pins
 	 * @return an instance of the message pipeline
 	 */
 	public static @NotNull MessagePipeline createMessagePipeline(final Plugin plugin,
 																 final MessageRepository messages,
 																 final SoundRepository sounds,
 																 final FormatterCtx formatterCtx,
-																 final AccessorCtx accessorCtx)
+																 final AccessorCtx accessorCtx,
+																 final ResourceSnapshots snapshots)
 	{
-		final LocalizedMessageRetriever localizedMessageRetriever = new LocalizedMessageRetriever(messages);
-		final MessageProcessor messageProcessor = MessageProcessor.create(formatterCtx, accessorCtx);
-		final MessageCooldownMap messageCooldownMap = new MessageCooldownMap();
-		final List<Sender> messageSenders = SenderFactory.createSenders(plugin, messageCooldownMap, sounds);
-
-		final MessagePipelineCtx pipelineCtx = new MessagePipelineCtx(localizedMessageRetriever, messageProcessor,
-				messageCooldownMap, formatterCtx.miniMessage(), messageSenders);
-		return new MessagePipeline(pipelineCtx);
+		return build(plugin, messages, formatterCtx, accessorCtx, snapshots,
+				(cooldownMap, components) -> SenderFactory.createSenders(plugin, cooldownMap, sounds, components));
 	}
 
 
@@ -86,28 +131,63 @@ public final class MessagePipeline implements Pipeline
 	 *
 	 * @param formatterCtx a context container which contains instances of string formatters for specific types
 	 * @param accessorCtx a context container for injecting dependencies into adapters
+	 * @param snapshots the holder of the resource snapshot that each render pins
 	 * @return an instance of the message pipeline
 	 */
 	static @NotNull MessagePipeline createComponentPipeline(final Plugin plugin,
 															final MessageRepository messages,
 															final SoundRepository sounds,
 															final FormatterCtx formatterCtx,
-															final AccessorCtx accessorCtx)
+															final AccessorCtx accessorCtx,
+															final ResourceSnapshots snapshots)
+	{
+		return build(plugin, messages, formatterCtx, accessorCtx, snapshots,
+				(cooldownMap, components) -> SenderFactory.createSenders(plugin, cooldownMap, sounds, components));
+	}
+
+
+	/**
+	 * Assembles a message pipeline, with the senders created by the given function from the cooldown map and
+	 * pre-rendered components of the pipeline
+	 */
+	private static MessagePipeline build(final Plugin plugin,
+										 final MessageRepository messages,
+										 final FormatterCtx formatterCtx,
+										 final AccessorCtx accessorCtx,
+										 final ResourceSnapshots snapshots,
+										 final BiFunction<MessageCooldownMap, PrerenderedComponents, List<Sender>> senders)
 	{
-		final LocalizedMessageRetriever localizedMessageRetriever = new LocalizedMessageRetriever(messages);
 		final MessageProcessor messageProcessor = MessageProcessor.create(formatterCtx, accessorCtx);
+		final CompilingMessageRetriever compilingMessageRetriever = CompilingMessageRetriever.create(
+				new LocalizedMessageRetriever(messages), ConstantFoldingCompiler.create(plugin, messageProcessor), snapshots);
 		final MessageCooldownMap messageCooldownMap = new MessageCooldownMap();
-		final List<Sender> messageSenders = SenderFactory.createSenders(plugin, messageCooldownMap, sounds);
+		final PrerenderedComponents prerenderedComponents = PrerenderedComponents.create(MiniMessage.miniMessage());
+		final RegexTemplateAnalyzer templateAnalyzer = new RegexTemplateAnalyzer();
+
+		final MessagePipelineCtx pipelineCtx = new MessagePipelineCtx(compilingMessageRetriever, messageProcessor,
+				messageCooldownMap, formatterCtx.miniMessage(), senders.apply(messageCooldownMap, prerenderedComponents),
+				BukkitPipelineScheduler.create(plugin, formatterCtx.configRepository()), BukkitMacroSnapshotter.create(accessorCtx), templateAnalyzer,
+				SendQueueFactory.createSendQueue(plugin, formatterCtx.configRepository()), new TokenBucketRateLimiter(),
+				new ContentRenderGate(),
+				RenderCacheFactory.createRenderCache(plugin, formatterCtx.configRepository(),
+						() -> snapshots.current().pack(), templateAnalyzer),
+				new MacroFreePrerenderer(prerenderedComponents, () -> snapshots.current().pack()), snapshots,
+				LocalePacksFactory.createLocalePacks(plugin, formatterCtx.configRepository()));
 
-		final MessagePipelineCtx pipelineCtx = new MessagePipelineCtx(localizedMessageRetriever, messageProcessor,
-				messageCooldownMap, formatterCtx.miniMessage(), messageSenders);
-		return new MessagePipeline(pipelineCtx);
+		// the language file was published before the pipeline was created, so its records are pre-rendered now
+		final MessagePipeline messagePipeline = new MessagePipeline(plugin, formatterCtx.configRepository(), pipelineCtx);
+		messagePipeline.prerender(messagePipeline.publishedMessageKeys());
+		return messagePipeline;
 	}
 
 
 	@Override
 	public void initiate(final ValidMessage message)
 	{
+		// every resource read by this send, including a deferred render, comes from one snapshot,
+		// carrying the language pack of the recipient's locale
+		final ResourceSnapshot snapshot = ctx.localePacks().select(ctx.snapshots().current(), message.getRecipient());
+
 		// queries CooldownMap, returns ValidMessageRecord
 		Function<CooldownKey, Optional<ValidMessageRecord>> retrieveMessageRecord = key ->
 				(ctx.messageRetriever().getRecord(message.getMessageKey()) instanceof ValidMessageRecord validMessageRecord)
@@ -115,20 +195,264 @@ public final class MessagePipeline implements Pipeline
 						: Optional.empty();
 
 		// transforms ValidMessageRecord into FinalMessageRecord
-		Function<ValidMessageRecord, FinalMessageRecord> processMessageRecord =messageRecord -> ctx.messageProcessor()
-				.process(messageRecord, message.getObjectMap());
+		Function<ValidMessageRecord, FinalMessageRecord> processMessageRecord = messageRecord ->
+				render(messageRecord, message.getObjectMap());
 
 		// consumes FinalMessageRecord
 		Consumer<FinalMessageRecord> sendMessageRecord = processed -> ctx.senders()
 				.forEach(sender -> sender.send(message.getRecipient(), processed));
 
+		// submits ValidMessageRecord to the send queue, which renders and sends it unless it is shed; the cooldown
+		// is reserved before submission, since the queue and the senders may defer delivery to a later tick
+		Consumer<ValidMessageRecord> submitMessageRecord = messageRecord -> ctx.sendQueue()
+				.submit(priority(message, messageRecord),
+						pinned(snapshot, () -> sendMessageRecord.accept(processMessageRecord.apply(messageRecord))),
+						shed(List.of(message.getRecipient()), messageRecord));
+
 
 		// process message through pipeline
-		CooldownKey.of(message.getRecipient(), message.getMessageKey())
+		ctx.snapshots().runPinned(snapshot, () -> CooldownKey.of(message.getRecipient(), message.getMessageKey())
 				.filter(ctx.cooldownMap()::notCooling)
 				.flatMap(retrieveMessageRecord)
-				.map(processMessageRecord)
-				.ifPresent(sendMessageRecord);
+				.filter(ctx.renderGate()::admits)
+				.filter(messageRecord -> admit(priority(message, messageRecord), message.getRecipient(), messageRecord))
+				.ifPresent(submitMessageRecord));
+	}
+
+
+	/**
+	 * Reports whether a send of a message would be suppressed, because the message is cooling down for its
+	 * recipient, has no valid record, or is not admitted by the pre-render gate. No rendering is performed, and no rate limit permit is consumed.
+	 * The record is read from the same resource snapshot, and language pack, from which a send would render it.
+	 *
+	 * @param message the message to check
+	 * @return {@code true} if a send of the message would be suppressed, {@code false} otherwise
+	 */
+	@Override
+	public boolean isSuppressed(final ValidMessage message)
+	{
+		final ResourceSnapshot snapshot = ctx.localePacks().select(ctx.snapshots().current(), message.getRecipient());
+
+		return ctx.snapshots().callPinned(snapshot, () -> CooldownKey.of(message.getRecipient(), message.getMessageKey())
+				.filter(ctx.cooldownMap()::notCooling)
+				.flatMap(cooldownKey -> retrieveRecord(message.getMessageKey()))
+				.filter(ctx.renderGate()::admits)
+				.isEmpty());
+	}
+
+
+	/**
+	 * Sends a message without rendering it on the calling thread. The cooldown check, record retrieval and
+	 * send queue admission are performed on the calling thread, where the cooldown of an admitted message is also
+	 * reserved, so that a repeated send made before the first is delivered is suppressed; the macro values referenced by the templates
+	 * of a message that passes these checks are captured there as immutable snapshots; macro resolution, formatting and MiniMessage parsing are executed by
+	 * the scheduler off the server thread, and only the resulting audience calls are scheduled back onto the
+	 * server thread. A pre-rendered message, which has no macros, is delivered directly on the calling thread.
+	 * The resource snapshot current on the calling thread is pinned on every thread that takes part in the send.
+	 *
+	 * @param message the message to send
+	 */
+	@Override
+	public void initiateAsync(final ValidMessage message)
+	{
+		final Recipient.Sendable recipient = message.getRecipient();
+		final ValidMessageKey messageKey = message.getMessageKey();
+		final ResourceSnapshot snapshot = ctx.localePacks().select(ctx.snapshots().current(), recipient);
+
+		ctx.snapshots().runPinned(snapshot, () -> CooldownKey.of(recipient, messageKey)
+				.filter(ctx.cooldownMap()::notCooling)
+				.flatMap(cooldownKey -> retrieveRecord(messageKey))
+				.filter(ctx.renderGate()::admits)
+				.filter(messageRecord -> admit(priority(message, messageRecord), recipient, messageRecord))
+				.ifPresent(messageRecord -> ctx.prerenderer().prerendered(messageRecord).ifPresentOrElse(
+						// pre-rendered messages have nothing to render, and are delivered directly
+						prerendered -> ctx.sendQueue().submit(priority(message, messageRecord),
+								pinned(snapshot, () -> ctx.senders().forEach(sender -> sender.send(recipient, prerendered))),
+								shed(List.of(recipient), messageRecord)),
+						() ->
+						{
+							// lazy macro values referenced by the templates are computed here, on the calling thread;
+							// values the templates do not reference are neither computed nor captured
+							final MacroObjectMap macroObjectMap = ctx.snapshotter().snapshotAll(message.getObjectMap(),
+									ctx.templateAnalyzer().referencedKeys(messageRecord));
+							ctx.sendQueue().submit(priority(message, messageRecord),
+									() -> ctx.scheduler().executeAsync(pinned(snapshot,
+											() -> renderAsync(recipient, messageRecord, macroObjectMap, snapshot))),
+									shed(List.of(recipient), messageRecord));
+						})));
+	}
+
+
+	/**
+	 * Sends a message to many recipients. Recipients for whom the message is cooling down are removed before
+	 * any rendering, and a broadcast consumes a single permit of the message rate limit. The cooldown of the message
+	 * is reserved for each remaining recipient when the broadcast is admitted. If the template analyzer finds the
+	 * message to be recipient-invariant, the message is rendered once and each sender delivers it to all remaining
+	 * recipients together; otherwise the message is rendered and sent separately for each recipient, with the
+	 * {@code RECIPIENT} macro bound. Recipients are grouped by the language pack of their locale, and each group is
+	 * sent the message from its own pack.
+	 *
+	 * @param broadcast the broadcast to send
+	 */
+	@Override
+	public void broadcast(final Broadcast broadcast)
+	{
+		final ValidMessageKey messageKey = broadcast.getMessageKey();
+		final ResourceSnapshot snapshot = ctx.snapshots().current();
+
+		final List<Recipient.Sendable> candidates = broadcast.getRecipients().stream()
+				.filter(recipient -> CooldownKey.of(recipient, messageKey).filter(ctx.cooldownMap()::notCooling).isPresent())
+				.toList();
+
+		if (candidates.isEmpty())
+		{
+			return;
+		}
+
+		ctx.snapshots().runPinned(snapshot, () -> retrieveRecord(messageKey)
+				.filter(ctx.renderGate()::admits)
+				.filter(messageRecord -> ctx.sendQueue().admits(broadcast.getPriority().orElse(messageRecord.priority())))
+				.filter(this::acquirePermit)
+				.ifPresent(messageRecord ->
+				{
+					final List<Recipient.Sendable> recipients = candidates.stream()
+							.filter(recipient -> reserveCooldown(recipient, messageRecord))
+							.toList();
+
+					if (recipients.isEmpty())
+					{
+						releasePermit(messageRecord);
+						return;
+					}
+
+					ctx.sendQueue().submit(broadcast.getPriority().orElse(messageRecord.priority()),
+							() -> groupByPack(snapshot, recipients).forEach((packSnapshot, packRecipients) ->
+									ctx.snapshots().runPinned(packSnapshot, () -> ((packSnapshot.equals(snapshot))
+											? Optional.of(messageRecord)
+											: retrieveRecord(messageKey))
+											.ifPresent(packRecord -> sendToRecipients(packRecipients, packRecord, broadcast.getObjectMap())))),
+							shed(recipients, messageRecord));
+				}));
+	}
+
+
+	/**
+	 * Returns the recipient dependence of the message identified by the given key, as determined by static
+	 * analysis of its templates.
+	 *
+	 * @param messageKey the key of the message to analyze
+	 * @return the recipient dependence of the message, or {@link RecipientDependence#UNKNOWN} if the message
+	 * has no valid record
+	 */
+	@Override
+	public RecipientDependence analyze(final ValidMessageKey messageKey)
+	{
+		return retrieveRecord(messageKey)
+				.map(ctx.templateAnalyzer()::analyze)
+				.orElse(RecipientDependence.UNKNOWN);
+	}
+
+
+	/**
+	 * Discards all state derived from the previously loaded language file, such as language packs, compiled
+	 * templates, pre-rendered messages and cached renders, and pre-renders the messages of the reloaded file off
+	 * the server thread. Called after the language file is reloaded.
+	 */
+	@Override
+	public void reload()
+	{
+		ctx.localePacks().clear();
+		ctx.messageRetriever().reload();
+		ctx.prerenderer().clear();
+		ctx.renderCache().clear();
+		prerenderAsync(publishedMessageKeys());
+	}
+
+
+	/**
+	 * Discards the state derived from the given messages only, keeping compiled templates, pre-rendered messages
+	 * and cached renders of all other messages, and pre-renders the given messages from the reloaded file off the
+	 * server thread. Called after the language file is reloaded with changes confined to those messages.
+	 *
+	 * @param changedMessageKeys the keys of the messages that were added, changed or removed
+	 */
+	@Override
+	public void reload(final Collection<ValidMessageKey> changedMessageKeys)
+	{
+		ctx.messageRetriever().reload(changedMessageKeys);
+		ctx.prerenderer().invalidate(changedMessageKeys);
+		ctx.renderCache().invalidate(changedMessageKeys);
+		prerenderAsync(changedMessageKeys);
+	}
+
+
+	/**
+	 * Renders each of the given messages once, against synthetic macro values, so that its templates are compiled,
+	 * its recipient dependence is analyzed, and the resolvers, formatters and MiniMessage parser are exercised
+	 * before the first message is sent. A message without macros is pre-rendered, as it would be on its first
+	 * send. Synthetic renders are not stored in the render cache, and nothing is sent. A message that cannot be
+	 * rendered is skipped, and the number of skipped messages is logged once the warm-up completes. The messages
+	 * are rendered off the server thread, by the scheduler of this pipeline, against the resource snapshot that
+	 * was current when this method was called. Intended to be called once, after the pipeline is created.
+	 *
+	 * @param messageKeys the keys of the messages to render
+	 */
+	@Override
+	public void warmUp(final Collection<ValidMessageKey> messageKeys)
+	{
+		final ResourceSnapshot snapshot = ctx.snapshots().current();
+		ctx.scheduler().executeAsync(() -> ctx.snapshots().runPinned(snapshot, () -> renderWarmUp(messageKeys)));
+	}
+
+
+	private void renderWarmUp(final Collection<ValidMessageKey> messageKeys)
+	{
+		int failures = 0;
+
+		for (ValidMessageKey messageKey : messageKeys)
+		{
+			try
+			{
+				retrieveRecord(messageKey).ifPresent(this::warmUp);
+			}
+			catch (RuntimeException exception)
+			{
+				// warm-up is best effort; the message will be rendered, and any error reported, on its first send
+				plugin.getLogger().log(Level.FINE, ResourceMessage.RESOURCE_WARM_UP_FAILED
+						.getLocalizedMessage(configRepository.logLocale(), messageKey.toString()), exception);
+				failures++;
+			}
+		}
+
+		if (failures > 0)
+		{
+			plugin.getLogger().info(ResourceMessage.RESOURCE_WARM_UP_SKIPPED
+					.getLocalizedMessage(configRepository.logLocale(), failures, messageKeys.size()));
+		}
+	}
+
+
+	/**
+	 * Returns the counters of the send queue of this pipeline.
+	 *
+	 * @return a snapshot of the send queue statistics
+	 */
+	@Override
+	public SendQueueStatistics queueStatistics()
+	{
+		return ctx.sendQueue().statistics();
+	}
+
+
+	/**
+	 * Returns the counters of the render cache of this pipeline.
+	 *
+	 * @return a snapshot of the render cache statistics
+	 */
+	@Override
+	public RenderCacheStatistics renderCacheStatistics()
+	{
+		return ctx.renderCache().statistics();
 	}
 
 
@@ -141,15 +465,229 @@ public final class MessagePipeline implements Pipeline
 						: Optional.empty();
 
 		// transforms ValidMessageRecord into FinalMessageRecord
-		Function<ValidMessageRecord, FinalMessageRecord> processMessageRecord =messageRecord -> ctx.messageProcessor()
-				.process(messageRecord, message.getObjectMap());
+		Function<ValidMessageRecord, FinalMessageRecord> processMessageRecord = messageRecord ->
+				render(messageRecord, message.getObjectMap());
 
 		// process message through pipeline
-		return CooldownKey.of(message.getRecipient(), message.getMessageKey())
+		final ResourceSnapshot snapshot = ctx.localePacks().select(ctx.snapshots().current(), message.getRecipient());
+		return ctx.snapshots().callPinned(snapshot, () -> CooldownKey.of(message.getRecipient(), message.getMessageKey())
 				.filter(ctx.cooldownMap()::notCooling)
 				.flatMap(retrieveMessageRecord)
 				.map(processMessageRecord)
-				.map(this::toComponent);
+				.map(this::toComponent));
+	}
+
+
+	private Optional<ValidMessageRecord> retrieveRecord(final ValidMessageKey messageKey)
+	{
+		return (ctx.messageRetriever().getRecord(messageKey) instanceof ValidMessageRecord validMessageRecord)
+				? Optional.of(validMessageRecord)
+				: Optional.empty();
+	}
+
+
+	/**
+	 * Compiles and pre-renders the given messages from the published snapshot, so that a message without macros
+	 * is ready before it is first sent. Each message is compiled independently, so the messages are compiled in
+	 * parallel, each task pinning the published snapshot on its own thread. Called once, when the pipeline is
+	 * created while the plugin is enabled.
+	 */
+	private void prerender(final Collection<ValidMessageKey> messageKeys)
+	{
+		final ResourceSnapshot snapshot = ctx.snapshots().current();
+		messageKeys.parallelStream().forEach(messageKey -> ctx.snapshots().runPinned(snapshot,
+				() -> retrieveRecord(messageKey).ifPresent(ctx.prerenderer()::prerendered)));
+	}
+
+
+	/**
+	 * Compiles and pre-renders the given messages from the published snapshot on the scheduler of this pipeline,
+	 * as the messages of a warm-up are rendered, so that a reload does not block the server thread. A message
+	 * sent before its pre-render completes is compiled and pre-rendered by that send.
+	 */
+	private void prerenderAsync(final Collection<ValidMessageKey> messageKeys)
+	{
+		final ResourceSnapshot snapshot = ctx.snapshots().current();
+		ctx.scheduler().executeAsync(() -> ctx.snapshots().runPinned(snapshot, () -> messageKeys
+				.forEach(messageKey -> retrieveRecord(messageKey).ifPresent(ctx.prerenderer()::prerendered))));
+	}
+
+
+	/**
+	 * Returns the keys of the messages of the language file in the published snapshot
+	 */
+	private Collection<ValidMessageKey> publishedMessageKeys()
+	{
+		final ConfigurationSection messages = ctx.snapshots().current().language()
+				.getConfigurationSection(Section.MESSAGES.name());
+
+		return (messages != null)
+				? messages.getKeys(false).stream()
+						.map(name -> MessageKey.of(name).isValid())
+						.flatMap(Optional::stream)
+						.toList()
+				: List.of();
+	}
+
+
+	private FinalMessageRecord render(final ValidMessageRecord messageRecord, final MacroObjectMap macroObjectMap)
+	{
+		return ctx.prerenderer().prerendered(messageRecord)
+				.orElseGet(() -> ctx.renderCache().render(messageRecord, macroObjectMap, ctx.messageProcessor()));
+	}
+
+
+	private void warmUp(final ValidMessageRecord messageRecord)
+	{
+		ctx.templateAnalyzer().analyze(messageRecord);
+
+		final FinalMessageRecord rendered = ctx.prerenderer().prerendered(messageRecord)
+				.orElseGet(() -> ctx.messageProcessor().process(messageRecord, syntheticObjectMap(messageRecord)));
+
+		rendered.finalMessageString().ifPresent(miniMessage::deserialize);
+		rendered.finalTitleString().ifPresent(miniMessage::deserialize);
+		rendered.finalSubtitleString().ifPresent(miniMessage::deserialize);
+	}
+
+
+	/**
+	 * Binds a synthetic value to each base macro key of a message, rotating through values of different types, so
+	 * that the string, number and duration paths of the resolvers are all exercised
+	 */
+	private static MacroObjectMap syntheticObjectMap(final ValidMessageRecord messageRecord)
+	{
+		final List<ValidMacroKey> macroKeys = Stream.of(messageRecord.message(), messageRecord.title(), messageRecord.subtitle())
+				.filter(Objects::nonNull)
+				.flatMap(template -> PLACEHOLDER_MATCHER.match(template, RegexMacroReplacer.BASE_KEY_PATTERN))
+				.filter(macroKey -> !macroKey.equals(RECIPIENT_KEY))
+				.distinct()
+				.toList();
+
+		final MacroObjectMap macroObjectMap = new MacroObjectMap();
+		for (int index = 0; index < macroKeys.size(); index++)
+		{
+			macroObjectMap.put(macroKeys.get(index), SYNTHETIC_VALUES.get(index % SYNTHETIC_VALUES.size()));
+		}
+		return macroObjectMap;
+	}
+
+
+	private boolean acquirePermit(final ValidMessageRecord messageRecord)
+	{
+		return ctx.rateLimiter().tryAcquire(messageRecord.key(), messageRecord.rateLimit());
+	}
+
+
+	/**
+	 * Admits a message for delivery to a recipient. The send queue must accept a message of the given priority,
+	 * a rate limit permit is taken, and the cooldown of the message is reserved for the recipient, in that order;
+	 * a permit taken for a message whose cooldown cannot be reserved is returned.
+	 */
+	private boolean admit(final MessagePriority priority,
+						  final Recipient.Sendable recipient,
+						  final ValidMessageRecord messageRecord)
+	{
+		if (!ctx.sendQueue().admits(priority) || !acquirePermit(messageRecord))
+		{
+			return false;
+		}
+
+		if (reserveCooldown(recipient, messageRecord))
+		{
+			return true;
+		}
+
+		releasePermit(messageRecord);
+		return false;
+	}
+
+
+	/**
+	 * Returns the action run by the send queue if it drops an admitted message, which returns the rate limit
+	 * permit of the message and releases the cooldowns reserved for its recipients
+	 */
+	private Runnable shed(final List<Recipient.Sendable> recipients, final ValidMessageRecord messageRecord)
+	{
+		return () ->
+		{
+			releasePermit(messageRecord);
+			recipients.forEach(recipient -> CooldownKey.of(recipient, messageRecord.key())
+					.ifPresent(ctx.cooldownMap()::release));
+		};
+	}
+
+
+	private static MessagePriority priority(final ValidMessage message, final ValidMessageRecord messageRecord)
+	{
+		return message.getPriority().orElse(messageRecord.priority());
+	}
+
+
+	private void releasePermit(final ValidMessageRecord messageRecord)
+	{
+		ctx.rateLimiter().release(messageRecord.key(), messageRecord.rateLimit());
+	}
+
+
+	private boolean reserveCooldown(final Recipient.Sendable recipient, final ValidMessageRecord messageRecord)
+	{
+		return CooldownKey.of(recipient, messageRecord.key())
+				.map(cooldownKey -> ctx.cooldownMap().reserve(cooldownKey, messageRecord.repeatDelay()))
+				.orElse(false);
+	}
+
+
+	private void renderAsync(final Recipient.Sendable recipient,
+							 final ValidMessageRecord messageRecord,
+							 final MacroObjectMap macroObjectMap,
+							 final ResourceSnapshot snapshot)
+	{
+		// renders record and parses components, off the server thread
+		final FinalMessageRecord processed = render(messageRecord, macroObjectMap);
+		final List<Runnable> deliveries = ctx.senders().stream().map(sender -> sender.prepare(recipient, processed)).toList();
+		ctx.scheduler().executeSync(pinned(snapshot, () -> deliveries.forEach(Runnable::run)));
+	}
+
+
+	private Map<ResourceSnapshot, List<Recipient.Sendable>> groupByPack(final ResourceSnapshot snapshot,
+																		final List<Recipient.Sendable> recipients)
+	{
+		return recipients.stream().collect(Collectors.groupingBy(recipient -> ctx.localePacks().select(snapshot, recipient),
+				LinkedHashMap::new, Collectors.toList()));
+	}
+
+
+	private Runnable pinned(final ResourceSnapshot snapshot, final Runnable task)
+	{
+		return () -> ctx.snapshots().runPinned(snapshot, task);
+	}
+
+
+	private void sendToRecipients(final List<Recipient.Sendable> recipients,
+								  final ValidMessageRecord messageRecord,
+								  final MacroObjectMap macroObjectMap)
+	{
+		if (ctx.templateAnalyzer().analyze(messageRecord) == RecipientDependence.DEPENDENT)
+		{
+			recipients.forEach(recipient -> sendToRecipient(recipient, messageRecord, macroObjectMap));
+		}
+		else
+		{
+			final FinalMessageRecord processed = render(messageRecord, macroObjectMap);
+			ctx.senders().forEach(sender -> sender.broadcast(recipients, processed));
+		}
+	}
+
+
+	private void sendToRecipient(final Recipient.Sendable recipient,
+								 final ValidMessageRecord messageRecord,
+								 final MacroObjectMap macroObjectMap)
+	{
+		final MacroObjectMap recipientObjectMap = macroObjectMap.copy();
+		recipientObjectMap.put(RECIPIENT_KEY, recipient.sender());
+
+		final FinalMessageRecord processed = render(messageRecord, recipientObjectMap);
+		ctx.senders().forEach(sender -> sender.send(recipient, processed));
 	}
 
 
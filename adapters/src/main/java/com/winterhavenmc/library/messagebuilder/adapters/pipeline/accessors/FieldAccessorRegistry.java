@@ -84,9 +84,9 @@ public class FieldAccessorRegistry implements AccessorRegistry
 		register(new DurationAdapter());
 		register(new ExpirationAdapter());
 		register(new InstantAdapter());
-		register(new OwnerAdapter());
-		register(new KillerAdapter());
-		register(new LooterAdapter());
+		register(new OwnerAdapter(ctx));
+		register(new KillerAdapter(ctx));
+		register(new LooterAdapter(ctx));
 		register(new LocationAdapter());
 		register(new BukkitQuantityAccessor());
 		register(new ProtectionAdapter());
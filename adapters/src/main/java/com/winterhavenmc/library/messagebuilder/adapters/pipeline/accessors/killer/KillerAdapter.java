@@ -17,6 +17,7 @@
 
 package com.winterhavenmc.library.messagebuilder.adapters.pipeline.accessors.killer;
 
+import com.winterhavenmc.library.messagebuilder.core.context.AccessorCtx;
 import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.accessors.Accessor;
 import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.accessors.killer.Killable;
 import org.bukkit.entity.LivingEntity;
@@ -40,6 +41,20 @@ import java.util.Optional;
  */
 public class KillerAdapter implements Accessor
 {
+	private final AccessorCtx ctx;
+
+
+	/**
+	 * Constructs a new {@code KillerAdapter} with the given context container.
+	 *
+	 * @param ctx the adapter context providing services such as player name resolution
+	 */
+	public KillerAdapter(final AccessorCtx ctx)
+	{
+		this.ctx = ctx;
+	}
+
+
 	/**
 	 * Attempts to adapt an object to the {@link Killable} interface.
 	 *
@@ -50,7 +65,7 @@ public class KillerAdapter implements Accessor
 	{
 		return switch (obj)
 		{
-			case Killable killable -> Optional.of(killable);
+			case Killable killable -> Optional.of(() -> ctx.playerNameResolver().resolveTamer(killable.getKiller()));
 			case LivingEntity livingEntity -> Optional.of(livingEntity::getKiller);
 			case LootContext lootContext -> Optional.of(lootContext::getKiller);
 			case null, default -> Optional.empty();
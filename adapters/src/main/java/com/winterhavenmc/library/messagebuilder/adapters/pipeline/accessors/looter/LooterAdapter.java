@@ -17,6 +17,7 @@
 
 package com.winterhavenmc.library.messagebuilder.adapters.pipeline.accessors.looter;
 
+import com.winterhavenmc.library.messagebuilder.core.context.AccessorCtx;
 import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.accessors.Accessor;
 import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.accessors.looter.Lootable;
 import org.bukkit.loot.LootContext;
@@ -39,6 +40,20 @@ import java.util.Optional;
  */
 public class LooterAdapter implements Accessor
 {
+	private final AccessorCtx ctx;
+
+
+	/**
+	 * Constructs a new {@code LooterAdapter} with the given context container.
+	 *
+	 * @param ctx the adapter context providing services such as player name resolution
+	 */
+	public LooterAdapter(final AccessorCtx ctx)
+	{
+		this.ctx = ctx;
+	}
+
+
 	/**
 	 * Attempts to adapt an object into a {@link Lootable}.
 	 *
@@ -49,7 +64,7 @@ public class LooterAdapter implements Accessor
 	{
 		return switch (obj)
 		{
-			case Lootable lootable -> Optional.of(lootable);
+			case Lootable lootable -> Optional.of(() -> ctx.playerNameResolver().resolveTamer(lootable.getLooter()));
 			case LootContext lootContext -> Optional.of(lootContext::getKiller);
 			case null, default -> Optional.empty();
 		};
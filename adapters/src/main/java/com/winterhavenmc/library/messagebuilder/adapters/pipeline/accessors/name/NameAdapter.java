@@ -50,6 +50,9 @@ import java.util.Optional;
  *   <li>{@link org.bukkit.plugin.Plugin}</li>
  * </ul>
  *
+ * <p>Names of {@link org.bukkit.OfflinePlayer} instances are served from the player name cache held in the
+ * {@link AccessorCtx}, so that no profile lookup is performed on the server thread.
+ *
  * <p>If the provided object is already an instance of {@code Nameable}, it is returned directly.
  * Otherwise, the adapter attempts to map a known {@code getName()} source into a {@code Nameable}
  * lambda reference. If no match is found, an empty {@code Optional} is returned.
@@ -90,7 +93,7 @@ public class NameAdapter implements Accessor
 		{
 			case Nameable nameable -> Optional.of(nameable);
 			case CommandSender commandSender -> Optional.of(commandSender::getName);
-			case OfflinePlayer offlinePlayer -> Optional.of(offlinePlayer::getName);
+			case OfflinePlayer offlinePlayer -> Optional.of(() -> ctx.playerNameResolver().resolveName(offlinePlayer).orElse(null));
 			case PlayerProfile playerProfile -> Optional.of(playerProfile::getName);
 			case World world -> Optional.of(world::getName);
 			case Server server -> Optional.of(server::getName);
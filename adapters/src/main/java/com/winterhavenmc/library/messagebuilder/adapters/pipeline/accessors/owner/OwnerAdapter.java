@@ -17,6 +17,7 @@
 
 package com.winterhavenmc.library.messagebuilder.adapters.pipeline.accessors.owner;
 
+import com.winterhavenmc.library.messagebuilder.core.context.AccessorCtx;
 import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.accessors.Accessor;
 import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.accessors.owner.Ownable;
 import org.bukkit.entity.Tameable;
@@ -42,6 +43,20 @@ import java.util.Optional;
  */
 public class OwnerAdapter implements Accessor
 {
+	private final AccessorCtx ctx;
+
+
+	/**
+	 * Constructs a new {@code OwnerAdapter} with the given context container.
+	 *
+	 * @param ctx the adapter context providing services such as player name resolution
+	 */
+	public OwnerAdapter(final AccessorCtx ctx)
+	{
+		this.ctx = ctx;
+	}
+
+
 	/**
 	 * Attempts to adapt the given object to the {@link Ownable} interface, either directly or by wrapping
 	 * supported Bukkit types.
@@ -54,8 +69,8 @@ public class OwnerAdapter implements Accessor
 	{
 		return switch (obj)
 		{
-			case Ownable ownable -> Optional.of(ownable);
-			case Tameable tameable -> Optional.of(tameable::getOwner);
+			case Ownable ownable -> Optional.of(() -> ctx.playerNameResolver().resolveTamer(ownable.getOwner()));
+			case Tameable tameable -> Optional.of(() -> ctx.playerNameResolver().resolveTamer(tameable.getOwner()));
 			case null, default -> Optional.empty();
 		};
 	}
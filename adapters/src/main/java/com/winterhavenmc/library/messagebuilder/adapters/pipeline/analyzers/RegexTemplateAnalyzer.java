@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.adapters.pipeline.analyzers;
+
+import com.winterhavenmc.library.messagebuilder.adapters.pipeline.matchers.RegexPlaceholderMatcher;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.analyzers.RecipientDependence;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.analyzers.TemplateAnalyzer;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.matchers.PlaceholderMatcher;
+import com.winterhavenmc.library.messagebuilder.models.keys.MacroKey;
+import com.winterhavenmc.library.messagebuilder.models.keys.ValidMacroKey;
+import com.winterhavenmc.library.messagebuilder.models.keys.ValidMessageKey;
+import com.winterhavenmc.library.messagebuilder.models.language.message.ValidMessageRecord;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.winterhavenmc.library.messagebuilder.adapters.pipeline.replacers.RegexMacroReplacer.BASE_KEY_PATTERN;
+
+
+/**
+ * A {@link TemplateAnalyzer} that matches placeholders in message templates with the base key pattern used by
+ * the {@link com.winterhavenmc.library.messagebuilder.adapters.pipeline.replacers.RegexMacroReplacer RegexMacroReplacer},
+ * and classifies a template as recipient-dependent if any placeholder has {@code RECIPIENT} as its base key. The
+ * base keys matched in the templates of a record are also reported as the keys it references.
+ * <p>
+ * Results are memoized per message key, together with the templates from which they were derived. A result is
+ * reused only while the templates of the record are unchanged, so that edits made by a language file reload
+ * are analyzed afresh without any explicit invalidation.
+ */
+public final class RegexTemplateAnalyzer implements TemplateAnalyzer
+{
+	private final static ValidMacroKey RECIPIENT_KEY = MacroKey.of("RECIPIENT").isValid().orElseThrow();
+
+	private final PlaceholderMatcher placeholderMatcher;
+	private final Map<ValidMessageKey, Analysis> analyses = new ConcurrentHashMap<>();
+
+
+	/**
+	 * Constructor
+	 */
+	public RegexTemplateAnalyzer()
+	{
+		this.placeholderMatcher = new RegexPlaceholderMatcher();
+	}
+
+
+	@Override
+	public RecipientDependence analyze(final ValidMessageRecord messageRecord)
+	{
+		return analysis(messageRecord).result();
+	}
+
+
+	@Override
+	public Set<ValidMacroKey> referencedKeys(final ValidMessageRecord messageRecord)
+	{
+		return analysis(messageRecord).macroKeys();
+	}
+
+
+	private Analysis analysis(final ValidMessageRecord messageRecord)
+	{
+		final Analysis cached = analyses.get(messageRecord.key());
+
+		if (cached != null && cached.matches(messageRecord))
+		{
+			return cached;
+		}
+
+		final Set<ValidMacroKey> macroKeys = matchKeys(messageRecord);
+		final Analysis analysis = new Analysis(messageRecord.message(), messageRecord.title(), messageRecord.subtitle(),
+				macroKeys, macroKeys.contains(RECIPIENT_KEY) ? RecipientDependence.DEPENDENT : RecipientDependence.INVARIANT);
+		analyses.put(messageRecord.key(), analysis);
+
+		return analysis;
+	}
+
+
+	private Set<ValidMacroKey> matchKeys(final ValidMessageRecord messageRecord)
+	{
+		return Stream.of(messageRecord.message(), messageRecord.title(), messageRecord.subtitle())
+				.filter(template -> template != null && !template.isBlank())
+				.flatMap(template -> placeholderMatcher.match(template, BASE_KEY_PATTERN))
+				.collect(Collectors.toUnmodifiableSet());
+	}
+
+
+	/**
+	 * The memoized result of analyzing the templates of a single message record.
+	 */
+	private record Analysis(String message, String title, String subtitle,
+							Set<ValidMacroKey> macroKeys, RecipientDependence result)
+	{
+		boolean matches(final ValidMessageRecord messageRecord)
+		{
+			return Objects.equals(message, messageRecord.message())
+					&& Objects.equals(title, messageRecord.title())
+					&& Objects.equals(subtitle, messageRecord.subtitle());
+		}
+	}
+
+}
@@ -0,0 +1,9 @@
+/**
+ * Provides an implementation of the
+ * {@link com.winterhavenmc.library.messagebuilder.core.ports.pipeline.analyzers.TemplateAnalyzer TemplateAnalyzer}
+ * port, which classifies message templates as recipient-invariant or recipient-dependent using the same
+ * placeholder pattern as the macro replacer.
+ *
+ * @see com.winterhavenmc.library.messagebuilder.adapters.pipeline.analyzers.RegexTemplateAnalyzer
+ */
+package com.winterhavenmc.library.messagebuilder.adapters.pipeline.analyzers;
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.adapters.pipeline.caches;
+
+import com.winterhavenmc.library.messagebuilder.core.maps.MacroObjectMap;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.analyzers.TemplateAnalyzer;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.caches.RenderCache;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.caches.RenderCacheStatistics;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.processors.Processor;
+import com.winterhavenmc.library.messagebuilder.models.keys.MacroKey;
+import com.winterhavenmc.library.messagebuilder.models.keys.ValidMessageKey;
+import com.winterhavenmc.library.messagebuilder.models.language.message.FinalMessageRecord;
+import com.winterhavenmc.library.messagebuilder.models.language.message.ValidMessageRecord;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+
+/**
+ * A bounded {@link RenderCache} that holds the most recently used rendered message records, keyed by
+ * message key, locale, language pack and {@link MacroFingerprint}. When the cache is full, the least recently used
+ * result is discarded.
+ * <p>
+ * Messages whose macro values cannot be fingerprinted are rendered without consulting the cache. Results
+ * rendered while the cache is being cleared are not stored, so that a result derived from templates of a
+ * previously loaded language file is never returned after a reload.
+ */
+public final class LruRenderCache implements RenderCache
+{
+	private final Supplier<Locale> localeSupplier;
+	private final Supplier<Locale> packSupplier;
+	private final TemplateAnalyzer templateAnalyzer;
+	private final Map<RenderKey, FinalMessageRecord> entries; // guarded by this
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong bypassed = new AtomicLong();
+	private final AtomicLong evictions = new AtomicLong();
+	private long generation; // guarded by this
+
+
+	/**
+	 * Constructor
+	 */
+	private LruRenderCache(final int capacity,
+						   final Supplier<Locale> localeSupplier,
+						   final Supplier<Locale> packSupplier,
+						   final TemplateAnalyzer templateAnalyzer)
+	{
+		this.localeSupplier = localeSupplier;
+		this.packSupplier = packSupplier;
+		this.templateAnalyzer = templateAnalyzer;
+		this.entries = new LinkedHashMap<>(16, 0.75f, true)
+		{
+			@Override
+			protected boolean removeEldestEntry(final Map.Entry<RenderKey, FinalMessageRecord> eldest)
+			{
+				final boolean evict = size() > capacity;
+				if (evict)
+				{
+					evictions.incrementAndGet();
+				}
+				return evict;
+			}
+		};
+	}
+
+
+	/**
+	 * Static factory method
+	 *
+	 * @param capacity the maximum number of rendered results held by the cache
+	 * @param localeSupplier a supplier of the locale in which messages are currently rendered
+	 * @param templateAnalyzer the analyzer used to determine the macro keys referenced by a message
+	 * @return a new {@code LruRenderCache}
+	 */
+	public static LruRenderCache create(final int capacity,
+										final Supplier<Locale> localeSupplier,
+										final TemplateAnalyzer templateAnalyzer)
+	{
+		return create(capacity, localeSupplier, () -> Locale.ROOT, templateAnalyzer);
+	}
+
+
+	/**
+	 * Static factory method
+	 *
+	 * @param capacity the maximum number of rendered results held by the cache
+	 * @param localeSupplier a supplier of the locale in which messages are currently rendered
+	 * @param packSupplier a supplier of the locale of the language pack from which messages are currently rendered
+	 * @param templateAnalyzer the analyzer used to determine the macro keys referenced by a message
+	 * @return a new {@code LruRenderCache}
+	 */
+	public static LruRenderCache create(final int capacity,
+										final Supplier<Locale> localeSupplier,
+										final Supplier<Locale> packSupplier,
+										final TemplateAnalyzer templateAnalyzer)
+	{
+		return new LruRenderCache(Math.max(1, capacity),
+				Objects.requireNonNull(localeSupplier),
+				Objects.requireNonNull(packSupplier),
+				Objects.requireNonNull(templateAnalyzer));
+	}
+
+
+	@Override
+	public FinalMessageRecord render(final ValidMessageRecord messageRecord,
+									 final MacroObjectMap macroObjectMap,
+									 final Processor processor)
+	{
+		final Optional<Map<MacroKey, Object>> fingerprint = MacroFingerprint.of(macroObjectMap,
+				templateAnalyzer.referencedKeys(messageRecord));
+
+		if (fingerprint.isEmpty())
+		{
+			bypassed.incrementAndGet();
+			return processor.process(messageRecord, macroObjectMap);
+		}
+
+		final RenderKey renderKey = new RenderKey(messageRecord.key(), localeSupplier.get(), packSupplier.get(), fingerprint.get());
+		final FinalMessageRecord cached;
+		final long renderGeneration;
+
+		synchronized (this)
+		{
+			cached = entries.get(renderKey);
+			renderGeneration = generation;
+		}
+
+		if (cached != null)
+		{
+			hits.incrementAndGet();
+			return cached;
+		}
+
+		misses.incrementAndGet();
+		final FinalMessageRecord rendered = processor.process(messageRecord, macroObjectMap);
+
+		synchronized (this)
+		{
+			if (renderGeneration == generation)
+			{
+				entries.put(renderKey, rendered);
+			}
+		}
+
+		return rendered;
+	}
+
+
+	@Override
+	public synchronized void clear()
+	{
+		entries.clear();
+		generation++;
+	}
+
+
+	@Override
+	public synchronized void invalidate(final Collection<ValidMessageKey> messageKeys)
+	{
+		// the changed keys describe the configured language file only, so renders from language packs are all discarded
+		entries.keySet().removeIf(renderKey -> !Locale.ROOT.equals(renderKey.pack())
+				|| messageKeys.contains(renderKey.messageKey()));
+		generation++;
+	}
+
+
+	@Override
+	public RenderCacheStatistics statistics()
+	{
+		final int size;
+
+		synchronized (this)
+		{
+			size = entries.size();
+		}
+
+		return new RenderCacheStatistics(hits.get(), misses.get(), bypassed.get(), evictions.get(), size);
+	}
+
+
+	/**
+	 * The key under which a rendered message record is held.
+	 */
+	private record RenderKey(ValidMessageKey messageKey, Locale locale, Locale pack, Map<MacroKey, Object> fingerprint) { }
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.adapters.pipeline.caches;
+
+import com.winterhavenmc.library.messagebuilder.core.maps.MacroObjectMap;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.accessors.expiration.Expirable;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.accessors.protection.Protectable;
+import com.winterhavenmc.library.messagebuilder.models.keys.MacroKey;
+import com.winterhavenmc.library.messagebuilder.models.keys.ValidMacroKey;
+
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+
+/**
+ * Derives a value-based fingerprint from the macro values of a message. Two messages with equal fingerprints
+ * render to the same output from the same templates.
+ * <p>
+ * A fingerprint can be derived only if every referenced macro value is of a stable type, whose equality is defined by its
+ * value and which cannot change after it is placed in the macro map. Stable types are strings, boxed primitives,
+ * {@link BigInteger}, {@link BigDecimal}, {@link UUID}, {@link Duration}, {@link Instant}, enum constants, and
+ * records whose components are all of stable types, such as the snapshots of Bukkit objects captured by the
+ * {@link com.winterhavenmc.library.messagebuilder.adapters.pipeline.snapshots.BukkitMacroSnapshotter BukkitMacroSnapshotter}.
+ * Live server objects, such as players and item stacks, are not stable. Nor are {@link Expirable} and
+ * {@link Protectable} values, whatever their components, since their duration macros are rendered relative to the
+ * current time.
+ * <p>
+ * Only the values bound to the base keys referenced by the templates of a message are part of its fingerprint, as
+ * no other value can affect its rendered output; other values, including lazy values that have not yet been computed,
+ * are never read. The {@code RECIPIENT} value is therefore only part of the fingerprint of messages whose templates
+ * reference it, and the {@code PLUGIN} value, which is the same for every message, is never part of the fingerprint.
+ */
+public final class MacroFingerprint
+{
+	private final static ValidMacroKey PLUGIN_KEY = MacroKey.of("PLUGIN").isValid().orElseThrow();
+	private final static Set<Class<?>> VALUE_TYPES = Set.of(String.class, Boolean.class, Character.class,
+			Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+			BigInteger.class, BigDecimal.class, UUID.class, Duration.class, Instant.class);
+
+
+	private MacroFingerprint() { }
+
+
+	/**
+	 * Derives the fingerprint of the values bound to the given keys.
+	 *
+	 * @param macroObjectMap the macro values of a message
+	 * @param referencedKeys the base macro keys referenced by the templates of the message
+	 * @return an {@link Optional} containing an immutable map of the fingerprinted values, or an empty
+	 * {@code Optional} if any referenced value is not of a stable type
+	 */
+	public static Optional<Map<MacroKey, Object>> of(final MacroObjectMap macroObjectMap,
+													 final Collection<ValidMacroKey> referencedKeys)
+	{
+		final Map<MacroKey, Object> values = new HashMap<>();
+
+		for (ValidMacroKey macroKey : referencedKeys)
+		{
+			if (!macroKey.equals(PLUGIN_KEY))
+			{
+				final Optional<Object> value = macroObjectMap.get(macroKey);
+				if (value.isPresent() && !isStable(value.get()))
+				{
+					return Optional.empty();
+				}
+				value.ifPresent(stableValue -> values.put(macroKey, stableValue));
+			}
+		}
+
+		return Optional.of(Map.copyOf(values));
+	}
+
+
+	/**
+	 * Determines whether a value is of a stable type.
+	 *
+	 * @param value the value to test
+	 * @return {@code true} if the value is of a stable type, {@code false} otherwise
+	 */
+	static boolean isStable(final Object value)
+	{
+		return switch (value)
+		{
+			case null -> false;
+			case Expirable ignored -> false;
+			case Protectable ignored -> false;
+			case Enum<?> ignored -> true;
+			case Record record -> hasStableComponents(record);
+			default -> VALUE_TYPES.contains(value.getClass());
+		};
+	}
+
+
+	private static boolean hasStableComponents(final Record record)
+	{
+		try
+		{
+			for (RecordComponent component : record.getClass().getRecordComponents())
+			{
+				final Object componentValue = component.getAccessor().invoke(record);
+				if (componentValue != null && !isStable(componentValue))
+				{
+					return false;
+				}
+			}
+			return true;
+		}
+		catch (ReflectiveOperationException | RuntimeException exception)
+		{
+			return false;
+		}
+	}
+
+}
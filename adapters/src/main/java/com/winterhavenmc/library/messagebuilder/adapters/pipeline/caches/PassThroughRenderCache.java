@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.adapters.pipeline.caches;
+
+import com.winterhavenmc.library.messagebuilder.core.maps.MacroObjectMap;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.caches.RenderCache;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.caches.RenderCacheStatistics;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.processors.Processor;
+import com.winterhavenmc.library.messagebuilder.models.language.message.FinalMessageRecord;
+import com.winterhavenmc.library.messagebuilder.models.language.message.ValidMessageRecord;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * A {@link RenderCache} that processes every message record, and never holds a result.
+ */
+public final class PassThroughRenderCache implements RenderCache
+{
+	private final AtomicLong bypassed = new AtomicLong();
+
+
+	@Override
+	public FinalMessageRecord render(final ValidMessageRecord messageRecord,
+									 final MacroObjectMap macroObjectMap,
+									 final Processor processor)
+	{
+		bypassed.incrementAndGet();
+		return processor.process(messageRecord, macroObjectMap);
+	}
+
+
+	@Override
+	public void clear() { }
+
+
+	@Override
+	public RenderCacheStatistics statistics()
+	{
+		return new RenderCacheStatistics(0, 0, bypassed.get(), 0, 0);
+	}
+
+}
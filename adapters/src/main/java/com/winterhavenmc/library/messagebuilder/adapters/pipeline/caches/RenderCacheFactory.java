@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.adapters.pipeline.caches;
+
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.analyzers.TemplateAnalyzer;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.caches.RenderCache;
+import com.winterhavenmc.library.messagebuilder.models.configuration.ConfigRepository;
+
+import org.bukkit.plugin.Plugin;
+
+import java.util.Locale;
+import java.util.function.Supplier;
+
+
+/**
+ * Creates the {@link RenderCache} for the message pipeline from the plugin configuration.
+ * <p>
+ * The render cache is enabled by setting {@code render-cache.enabled} to {@code true} in the plugin
+ * config.yml. The optional setting {@code render-cache.capacity} sets the maximum number of rendered
+ * messages held by the cache.
+ */
+public final class RenderCacheFactory
+{
+	final static String ENABLED_KEY = "render-cache.enabled";
+	final static String CAPACITY_KEY = "render-cache.capacity";
+	final static int DEFAULT_CAPACITY = 512;
+
+
+	private RenderCacheFactory() { }
+
+
+	public static RenderCache createRenderCache(final Plugin plugin,
+												final ConfigRepository configRepository,
+												final Supplier<Locale> packSupplier,
+												final TemplateAnalyzer templateAnalyzer)
+	{
+		return (plugin.getConfig().getBoolean(ENABLED_KEY))
+				? LruRenderCache.create(plugin.getConfig().getInt(CAPACITY_KEY, DEFAULT_CAPACITY),
+						configRepository::locale, packSupplier, templateAnalyzer)
+				: new PassThroughRenderCache();
+	}
+
+}
@@ -0,0 +1,16 @@
+/**
+ * Provides implementations of the
+ * {@link com.winterhavenmc.library.messagebuilder.core.ports.pipeline.caches.RenderCache RenderCache} port.
+ *
+ * <ul>
+ *   <li>{@link com.winterhavenmc.library.messagebuilder.adapters.pipeline.caches.PassThroughRenderCache PassThroughRenderCache}
+ *   – renders every message without caching; used when the render cache is not enabled.</li>
+ *   <li>{@link com.winterhavenmc.library.messagebuilder.adapters.pipeline.caches.LruRenderCache LruRenderCache}
+ *   – a bounded, least-recently-used cache keyed by message key, locale and macro fingerprint.</li>
+ *   <li>{@link com.winterhavenmc.library.messagebuilder.adapters.pipeline.caches.MacroFingerprint MacroFingerprint}
+ *   – derives a value-based fingerprint from the macro values of a message.</li>
+ *   <li>{@link com.winterhavenmc.library.messagebuilder.adapters.pipeline.caches.RenderCacheFactory RenderCacheFactory}
+ *   – selects an implementation from the plugin configuration.</li>
+ * </ul>
+ */
+package com.winterhavenmc.library.messagebuilder.adapters.pipeline.caches;
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.adapters.pipeline.compilers;
+
+import com.winterhavenmc.library.messagebuilder.core.maps.MacroObjectMap;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.compilers.TemplateCompiler;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.processors.Processor;
+import com.winterhavenmc.library.messagebuilder.models.keys.MacroKey;
+import com.winterhavenmc.library.messagebuilder.models.keys.ValidMacroKey;
+import com.winterhavenmc.library.messagebuilder.models.language.message.FinalMessageRecord;
+import com.winterhavenmc.library.messagebuilder.models.language.message.ValidMessageRecord;
+
+import org.bukkit.plugin.Plugin;
+
+import java.util.Objects;
+
+import static com.winterhavenmc.library.messagebuilder.models.validation.ErrorMessageKey.PARAMETER_NULL;
+import static com.winterhavenmc.library.messagebuilder.models.validation.Parameter.PLUGIN;
+import static com.winterhavenmc.library.messagebuilder.models.validation.Validator.throwing;
+import static com.winterhavenmc.library.messagebuilder.models.validation.Validator.validate;
+
+
+/**
+ * A {@link TemplateCompiler} that folds macros whose values are invariant for the lifetime of the plugin
+ * into message templates. These are the {@code PLUGIN} macro, which is added to every message, and its fields,
+ * such as {@code PLUGIN.NAME}, {@code PLUGIN.VERSION} and {@code PLUGIN.URL}.
+ * <p>
+ * Templates are compiled by running them through the message processor with a macro object map that contains
+ * only the invariant values. Placeholders for all other macros cannot be resolved from that map, and are left
+ * in place for resolution at send time.
+ */
+public final class ConstantFoldingCompiler implements TemplateCompiler
+{
+	private final static String PLUGIN_KEY = "PLUGIN";
+
+	private final Processor messageProcessor;
+	private final MacroObjectMap invariantObjectMap;
+
+
+	/**
+	 * Constructor
+	 */
+	private ConstantFoldingCompiler(final Processor messageProcessor, final MacroObjectMap invariantObjectMap)
+	{
+		this.messageProcessor = messageProcessor;
+		this.invariantObjectMap = invariantObjectMap;
+	}
+
+
+	/**
+	 * Static factory method
+	 *
+	 * @param plugin the plugin instance, whose macro fields are folded into templates
+	 * @param messageProcessor the processor used to resolve the invariant macros
+	 * @return a new {@code ConstantFoldingCompiler}
+	 */
+	public static ConstantFoldingCompiler create(final Plugin plugin, final Processor messageProcessor)
+	{
+		validate(plugin, Objects::isNull, throwing(PARAMETER_NULL, PLUGIN));
+
+		final MacroObjectMap invariantObjectMap = new MacroObjectMap();
+		final ValidMacroKey pluginKey = MacroKey.of(PLUGIN_KEY).isValid().orElseThrow();
+		invariantObjectMap.put(pluginKey, plugin);
+
+		return new ConstantFoldingCompiler(Objects.requireNonNull(messageProcessor), invariantObjectMap);
+	}
+
+
+	@Override
+	public ValidMessageRecord compile(final ValidMessageRecord messageRecord)
+	{
+		final FinalMessageRecord folded = messageProcessor.process(messageRecord, invariantObjectMap);
+
+		return messageRecord.withTemplates(
+				folded.finalMessageString().orElse(messageRecord.message()),
+				folded.finalTitleString().orElse(messageRecord.title()),
+				folded.finalSubtitleString().orElse(messageRecord.subtitle()));
+	}
+
+}
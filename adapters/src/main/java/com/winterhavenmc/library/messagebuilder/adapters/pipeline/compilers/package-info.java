@@ -0,0 +1,6 @@
+/**
+ * Provides the {@link com.winterhavenmc.library.messagebuilder.adapters.pipeline.compilers.ConstantFoldingCompiler ConstantFoldingCompiler}
+ * implementation of the {@link com.winterhavenmc.library.messagebuilder.core.ports.pipeline.compilers.TemplateCompiler TemplateCompiler}
+ * port, which substitutes the values of macros that are invariant for the lifetime of the plugin into message templates.
+ */
+package com.winterhavenmc.library.messagebuilder.adapters.pipeline.compilers;
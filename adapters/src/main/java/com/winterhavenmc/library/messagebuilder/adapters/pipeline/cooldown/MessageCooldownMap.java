@@ -23,6 +23,7 @@ import com.winterhavenmc.library.messagebuilder.models.keys.CooldownKey;
 import com.winterhavenmc.library.messagebuilder.models.recipient.Recipient;
 import com.winterhavenmc.library.messagebuilder.models.language.message.FinalMessageRecord;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Map;
 import java.util.Set;
@@ -75,6 +76,41 @@ public final class MessageCooldownMap implements CooldownMap
 	}
 
 
+	/**
+	 * Reserves the cooldown for the given string, if the string has no cooldown entry or its cooldown has
+	 * expired. The check and the new expiration time are applied in a single atomic update of the map.
+	 * A message with no repeat delay is never reserved, and is always allowed.
+	 *
+	 * @param key the composed cooldown string
+	 * @param repeatDelay the delay before the message may be shown again
+	 * @return {@code true} if the cooldown was reserved, or the message has no repeat delay
+	 */
+	public boolean reserve(final CooldownKey key, final Duration repeatDelay)
+	{
+		if (repeatDelay == null || !repeatDelay.isPositive())
+		{
+			return notCooling(key);
+		}
+
+		final Instant now = Instant.now();
+		final Instant expiration = now.plus(repeatDelay);
+		return COOLDOWN_MAP.compute(key, (cooldownKey, current) ->
+				(current == null || !now.isBefore(current)) ? expiration : current) == expiration;
+	}
+
+
+	/**
+	 * Releases a reserved cooldown, so that a message that was admitted but dropped before it was shown
+	 * does not hold back the next send.
+	 *
+	 * @param key the composed cooldown string
+	 */
+	public void release(final CooldownKey key)
+	{
+		COOLDOWN_MAP.remove(key);
+	}
+
+
 	/**
 	 * Removes all expired cooldown entries from the internal map.
 	 *
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.adapters.pipeline.gates;
+
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.gates.RenderGate;
+import com.winterhavenmc.library.messagebuilder.models.language.message.ValidMessageRecord;
+
+
+/**
+ * An implementation of {@link RenderGate} that admits a message record only if it is enabled, and at least
+ * one of its channels has content:
+ * <ul>
+ *     <li>chat, if the message template is not blank; matching sounds are played only with chat output</li>
+ *     <li>title, if the title or subtitle template is not blank</li>
+ * </ul>
+ * Macro replacement never turns a blank template into a non-blank string, so a record that is not admitted
+ * could not have produced output had it been rendered.
+ */
+public final class ContentRenderGate implements RenderGate
+{
+	@Override
+	public boolean admits(final ValidMessageRecord messageRecord)
+	{
+		return messageRecord.enabled()
+				&& (hasContent(messageRecord.message())
+				|| hasContent(messageRecord.title())
+				|| hasContent(messageRecord.subtitle()));
+	}
+
+
+	private static boolean hasContent(final String template)
+	{
+		return template != null && !template.isBlank();
+	}
+
+}
@@ -0,0 +1,6 @@
+/**
+ * Provides the {@link com.winterhavenmc.library.messagebuilder.adapters.pipeline.gates.ContentRenderGate ContentRenderGate}
+ * implementation of the {@link com.winterhavenmc.library.messagebuilder.core.ports.pipeline.gates.RenderGate RenderGate}
+ * port, which admits only enabled messages with chat, title or subtitle content.
+ */
+package com.winterhavenmc.library.messagebuilder.adapters.pipeline.gates;
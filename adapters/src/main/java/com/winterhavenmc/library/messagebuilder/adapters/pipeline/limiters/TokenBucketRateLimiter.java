@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.adapters.pipeline.limiters;
+
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.limiters.RateLimiter;
+import com.winterhavenmc.library.messagebuilder.models.keys.ValidMessageKey;
+import com.winterhavenmc.library.messagebuilder.models.language.message.RateLimit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+
+/**
+ * An implementation of {@link RateLimiter} that maintains a token bucket for each rate-limited message key.
+ * <p>
+ * Each bucket holds up to {@link RateLimit#burst()} tokens, and starts full. A send consumes one token, and is
+ * suppressed if no token is available. Tokens are refilled continuously, at a rate of {@code burst} tokens per
+ * {@link RateLimit#period()}. If the rate limit of a message changes, for instance after the language file is
+ * reloaded, its bucket is replaced with a full bucket for the new rate limit.
+ */
+public final class TokenBucketRateLimiter implements RateLimiter
+{
+	private final Map<ValidMessageKey, Bucket> BUCKET_MAP = new ConcurrentHashMap<>();
+	private final LongSupplier nanoClock;
+
+
+	/**
+	 * Constructor
+	 */
+	public TokenBucketRateLimiter()
+	{
+		this(System::nanoTime);
+	}
+
+
+	/**
+	 * Constructor
+	 *
+	 * @param nanoClock a source of monotonic time in nanoseconds
+	 */
+	TokenBucketRateLimiter(final LongSupplier nanoClock)
+	{
+		this.nanoClock = nanoClock;
+	}
+
+
+	@Override
+	public boolean tryAcquire(final ValidMessageKey messageKey, final RateLimit rateLimit)
+	{
+		if (rateLimit == null || !rateLimit.isLimited())
+		{
+			return true;
+		}
+
+		final long now = nanoClock.getAsLong();
+
+		return BUCKET_MAP.compute(messageKey, (key, bucket) -> (bucket == null || !bucket.rateLimit.equals(rateLimit))
+						? new Bucket(rateLimit, now)
+						: bucket)
+				.tryConsume(now);
+	}
+
+
+	@Override
+	public void release(final ValidMessageKey messageKey, final RateLimit rateLimit)
+	{
+		if (rateLimit == null || !rateLimit.isLimited())
+		{
+			return;
+		}
+
+		final Bucket bucket = BUCKET_MAP.get(messageKey);
+		if (bucket != null && bucket.rateLimit.equals(rateLimit))
+		{
+			bucket.refund();
+		}
+	}
+
+
+	/**
+	 * A token bucket for a single message key.
+	 */
+	private static final class Bucket
+	{
+		private final RateLimit rateLimit;
+		private final double nanosPerToken;
+		private double tokens;
+		private long lastRefillNanos;
+
+
+		private Bucket(final RateLimit rateLimit, final long now)
+		{
+			this.rateLimit = rateLimit;
+			this.nanosPerToken = (double) rateLimit.period().toNanos() / rateLimit.burst();
+			this.tokens = rateLimit.burst();
+			this.lastRefillNanos = now;
+		}
+
+
+		private synchronized boolean tryConsume(final long now)
+		{
+			tokens = Math.min(rateLimit.burst(), tokens + (now - lastRefillNanos) / nanosPerToken);
+			lastRefillNanos = now;
+
+			if (tokens < 1)
+			{
+				return false;
+			}
+
+			tokens -= 1;
+			return true;
+		}
+
+
+		private synchronized void refund()
+		{
+			tokens = Math.min(rateLimit.burst(), tokens + 1);
+		}
+	}
+
+}
@@ -0,0 +1,6 @@
+/**
+ * Provides the {@link com.winterhavenmc.library.messagebuilder.adapters.pipeline.limiters.TokenBucketRateLimiter TokenBucketRateLimiter}
+ * implementation of the {@link com.winterhavenmc.library.messagebuilder.core.ports.pipeline.limiters.RateLimiter RateLimiter}
+ * port, which maintains one token bucket per message key.
+ */
+package com.winterhavenmc.library.messagebuilder.adapters.pipeline.limiters;
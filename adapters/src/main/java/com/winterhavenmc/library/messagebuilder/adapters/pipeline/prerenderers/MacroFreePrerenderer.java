@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.adapters.pipeline.prerenderers;
+
+import com.winterhavenmc.library.messagebuilder.adapters.pipeline.matchers.RegexPlaceholderMatcher;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.matchers.PlaceholderMatcher;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.prerenderers.Prerenderer;
+import com.winterhavenmc.library.messagebuilder.models.keys.ValidMessageKey;
+import com.winterhavenmc.library.messagebuilder.models.language.message.FinalMessageRecord;
+import com.winterhavenmc.library.messagebuilder.models.language.message.ValidMessageRecord;
+
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static com.winterhavenmc.library.messagebuilder.adapters.pipeline.replacers.RegexMacroReplacer.FULL_KEY_PATTERN;
+
+
+/**
+ * A {@link Prerenderer} for message records whose templates contain no macro placeholders, including
+ * records whose only placeholders were folded into the templates when the record was compiled.
+ * <p>
+ * The templates of such a record are its final strings, so the record is rendered once, and the chat, title
+ * and subtitle strings are parsed into {@link PrerenderedComponents} for the senders. The result is held per
+ * language pack and message key, together with the record from which it was derived, and is reused only for that
+ * record, so that records of the same message from different language packs do not displace each other.
+ * <p>
+ * Records of the configured language file are pre-rendered by the pipeline when they are published; a record
+ * that was not, such as a record of a language pack, is pre-rendered when it is first sent.
+ */
+public final class MacroFreePrerenderer implements Prerenderer
+{
+	private final PlaceholderMatcher placeholderMatcher;
+	private final PrerenderedComponents prerenderedComponents;
+	private final Supplier<Locale> packSupplier;
+	private final Map<PrerenderKey, Prerendered> prerendered = new ConcurrentHashMap<>();
+
+
+	/**
+	 * Constructor
+	 *
+	 * @param prerenderedComponents the component store shared with the message senders
+	 */
+	public MacroFreePrerenderer(final PrerenderedComponents prerenderedComponents)
+	{
+		this(prerenderedComponents, () -> Locale.ROOT);
+	}
+
+
+	/**
+	 * Constructor
+	 *
+	 * @param prerenderedComponents the component store shared with the message senders
+	 * @param packSupplier a supplier of the locale of the language pack from which messages are currently rendered
+	 */
+	public MacroFreePrerenderer(final PrerenderedComponents prerenderedComponents, final Supplier<Locale> packSupplier)
+	{
+		this.placeholderMatcher = new RegexPlaceholderMatcher();
+		this.prerenderedComponents = Objects.requireNonNull(prerenderedComponents);
+		this.packSupplier = Objects.requireNonNull(packSupplier);
+	}
+
+
+	@Override
+	public Optional<FinalMessageRecord> prerendered(final ValidMessageRecord messageRecord)
+	{
+		final PrerenderKey prerenderKey = new PrerenderKey(packSupplier.get(), messageRecord.key());
+		final Prerendered cached = prerendered.get(prerenderKey);
+
+		if (cached != null && cached.source() == messageRecord)
+		{
+			return cached.result();
+		}
+
+		final Prerendered result = new Prerendered(messageRecord, prerender(messageRecord));
+		prerendered.put(prerenderKey, result);
+
+		return result.result();
+	}
+
+
+	@Override
+	public void clear()
+	{
+		prerendered.clear();
+		prerenderedComponents.clear();
+	}
+
+
+	@Override
+	public void invalidate(final Collection<ValidMessageKey> messageKeys)
+	{
+		// the changed keys describe the configured language file only, so results from language packs are all discarded
+		prerendered.keySet().removeIf(prerenderKey -> !Locale.ROOT.equals(prerenderKey.pack())
+				|| messageKeys.contains(prerenderKey.messageKey()));
+
+		prerenderedComponents.retain(prerendered.values().stream()
+				.map(Prerendered::result)
+				.flatMap(Optional::stream)
+				.flatMap(MacroFreePrerenderer::finalStrings)
+				.toList());
+	}
+
+
+	private Optional<FinalMessageRecord> prerender(final ValidMessageRecord messageRecord)
+	{
+		if (containsPlaceholder(messageRecord))
+		{
+			return Optional.empty();
+		}
+
+		final FinalMessageRecord finalMessageRecord = messageRecord
+				.withFinalStrings(messageRecord.message(), messageRecord.title(), messageRecord.subtitle());
+
+		finalStrings(finalMessageRecord).forEach(prerenderedComponents::add);
+
+		return Optional.of(finalMessageRecord);
+	}
+
+
+	private boolean containsPlaceholder(final ValidMessageRecord messageRecord)
+	{
+		return Stream.of(messageRecord.message(), messageRecord.title(), messageRecord.subtitle())
+				.filter(template -> template != null && !template.isBlank())
+				.anyMatch(template -> placeholderMatcher.match(template, FULL_KEY_PATTERN).findAny().isPresent());
+	}
+
+
+	private static Stream<String> finalStrings(final FinalMessageRecord finalMessageRecord)
+	{
+		return Stream.of(finalMessageRecord.finalMessageString(), finalMessageRecord.finalTitleString(), finalMessageRecord.finalSubtitleString())
+				.flatMap(Optional::stream);
+	}
+
+
+	/**
+	 * The key under which a pre-rendered result is held.
+	 */
+	private record PrerenderKey(Locale pack, ValidMessageKey messageKey) { }
+
+
+	/**
+	 * The pre-rendered result for a single message record.
+	 */
+	private record Prerendered(ValidMessageRecord source, Optional<FinalMessageRecord> result) { }
+
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.adapters.pipeline.prerenderers;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+/**
+ * Parses MiniMessage strings into components for the message senders. Strings of pre-rendered messages are
+ * parsed once when they are added, and the stored component is returned for every later send; all other
+ * strings are parsed on each call.
+ */
+public final class PrerenderedComponents
+{
+	private final MiniMessage miniMessage;
+	private final Map<String, Component> components = new ConcurrentHashMap<>();
+
+
+	/**
+	 * Constructor
+	 */
+	private PrerenderedComponents(final MiniMessage miniMessage)
+	{
+		this.miniMessage = miniMessage;
+	}
+
+
+	/**
+	 * Static factory method
+	 *
+	 * @param miniMessage the MiniMessage instance used to parse message strings
+	 * @return a new {@code PrerenderedComponents}
+	 */
+	public static PrerenderedComponents create(final MiniMessage miniMessage)
+	{
+		return new PrerenderedComponents(Objects.requireNonNull(miniMessage));
+	}
+
+
+	/**
+	 * Parses a string of a pre-rendered message, and holds the resulting component.
+	 *
+	 * @param messageString the MiniMessage string to parse
+	 */
+	public void add(final String messageString)
+	{
+		components.computeIfAbsent(messageString, miniMessage::deserialize);
+	}
+
+
+	/**
+	 * Returns the component for a MiniMessage string, from the pre-rendered components if the string
+	 * was added, or by parsing the string otherwise.
+	 *
+	 * @param messageString the MiniMessage string to parse
+	 * @return the component represented by the string
+	 */
+	public Component parse(final String messageString)
+	{
+		final Component component = components.get(messageString);
+
+		return (component != null)
+				? component
+				: miniMessage.deserialize(messageString);
+	}
+
+
+	/**
+	 * Discards the pre-rendered components of all strings other than the given strings.
+	 *
+	 * @param messageStrings the MiniMessage strings whose components are kept
+	 */
+	public void retain(final Collection<String> messageStrings)
+	{
+		components.keySet().retainAll(new HashSet<>(messageStrings));
+	}
+
+
+	/**
+	 * Discards all pre-rendered components.
+	 */
+	public void clear()
+	{
+		components.clear();
+	}
+
+}
@@ -0,0 +1,12 @@
+/**
+ * Provides the implementation of the
+ * {@link com.winterhavenmc.library.messagebuilder.core.ports.pipeline.prerenderers.Prerenderer Prerenderer} port.
+ *
+ * <ul>
+ *   <li>{@link com.winterhavenmc.library.messagebuilder.adapters.pipeline.prerenderers.MacroFreePrerenderer MacroFreePrerenderer}
+ *   – detects message records without macro placeholders, and renders them once.</li>
+ *   <li>{@link com.winterhavenmc.library.messagebuilder.adapters.pipeline.prerenderers.PrerenderedComponents PrerenderedComponents}
+ *   – holds the parsed components of pre-rendered messages, and parses all other message strings on demand.</li>
+ * </ul>
+ */
+package com.winterhavenmc.library.messagebuilder.adapters.pipeline.prerenderers;
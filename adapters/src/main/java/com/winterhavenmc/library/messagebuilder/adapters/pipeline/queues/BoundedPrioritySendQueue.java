@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.adapters.pipeline.queues;
+
+import com.winterhavenmc.library.messagebuilder.adapters.resources.ResourceMessage;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.queues.LoadSignal;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.queues.SendQueue;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.queues.SendQueueStatistics;
+import com.winterhavenmc.library.messagebuilder.models.configuration.ConfigRepository;
+import com.winterhavenmc.library.messagebuilder.models.language.message.MessagePriority;
+
+import org.bukkit.plugin.Plugin;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+
+import static com.winterhavenmc.library.messagebuilder.models.validation.ErrorMessageKey.PARAMETER_NULL;
+import static com.winterhavenmc.library.messagebuilder.models.validation.Parameter.PLUGIN;
+import static com.winterhavenmc.library.messagebuilder.models.validation.Validator.throwing;
+import static com.winterhavenmc.library.messagebuilder.models.validation.Validator.validate;
+
+
+/**
+ * A bounded {@link SendQueue} that holds send tasks in priority order, and runs them once per tick.
+ * <p>
+ * Tasks are handled according to their {@link MessagePriority}:
+ * <ul>
+ *     <li>{@code CRITICAL} tasks bypass the queue and are run immediately.</li>
+ *     <li>While the load signal exceeds the threshold, {@code LOW} tasks are dropped, and {@code NORMAL}
+ *     tasks are held over to a later tick. A {@code NORMAL} task that has been held over for the maximum
+ *     number of ticks is run regardless of load, so that no task is held indefinitely.
+ *     {@code HIGH} tasks are run regardless of load.</li>
+ *     <li>When the queue is full, the newest task of the lowest priority is dropped to make room for a
+ *     task of higher priority; otherwise the submitted task is dropped.</li>
+ * </ul>
+ * Because tasks are dropped before they are run, a shed message incurs no rendering cost. The shed action
+ * submitted with a task is run when the task is dropped, so that the pipeline may return the rate limit
+ * permit and cooldown reserved for the message. The deferred count is the number of distinct tasks that
+ * were held over at least once.
+ * <p>
+ * Tasks must be submitted from the server thread. Statistics may be read from any thread; the queued count is
+ * published after each change to the queue, so it may lag a drain in progress.
+ */
+public final class BoundedPrioritySendQueue implements SendQueue
+{
+	private final Plugin plugin;
+	private final ConfigRepository configRepository;
+	private final int capacity;
+	private final LoadSignal loadSignal;
+	private final double loadThreshold;
+	private final int maxDeferredTicks;
+
+	private final PriorityQueue<Entry> queue = new PriorityQueue<>(Entry.ORDER);
+	private long sequence;
+	private boolean drainScheduled;
+
+	private final AtomicLong submitted = new AtomicLong();
+	private final AtomicLong delivered = new AtomicLong();
+	private final AtomicLong shedOverCapacity = new AtomicLong();
+	private final AtomicLong shedUnderLoad = new AtomicLong();
+	private final AtomicLong deferred = new AtomicLong();
+	private final AtomicInteger queued = new AtomicInteger();
+
+
+	/**
+	 * Constructor
+	 */
+	private BoundedPrioritySendQueue(final Plugin plugin,
+									 final ConfigRepository configRepository,
+									 final int capacity,
+									 final LoadSignal loadSignal,
+									 final double loadThreshold,
+									 final int maxDeferredTicks)
+	{
+		this.plugin = plugin;
+		this.configRepository = configRepository;
+		this.capacity = capacity;
+		this.loadSignal = loadSignal;
+		this.loadThreshold = loadThreshold;
+		this.maxDeferredTicks = maxDeferredTicks;
+	}
+
+
+	/**
+	 * Static factory method
+	 *
+	 * @param plugin the plugin instance used to schedule the per-tick drain
+	 * @param configRepository the plugin configuration repository, supplying the locale of log messages
+	 * @param capacity the maximum number of tasks held in the queue
+	 * @param loadSignal the signal consulted to determine whether the server is under load
+	 * @param loadThreshold the load above which low-priority tasks are dropped or deferred
+	 * @param maxDeferredTicks the number of ticks after which a deferred task is run regardless of load
+	 * @return a new {@code BoundedPrioritySendQueue}
+	 */
+	public static BoundedPrioritySendQueue create(final Plugin plugin,
+												  final ConfigRepository configRepository,
+												  final int capacity,
+												  final LoadSignal loadSignal,
+												  final double loadThreshold,
+												  final int maxDeferredTicks)
+	{
+		validate(plugin, Objects::isNull, throwing(PARAMETER_NULL, PLUGIN));
+
+		return new BoundedPrioritySendQueue(plugin, Objects.requireNonNull(configRepository), Math.max(1, capacity),
+				Objects.requireNonNull(loadSignal),
+				loadThreshold, Math.max(1, maxDeferredTicks));
+	}
+
+
+	@Override
+	public boolean admits(final MessagePriority priority)
+	{
+		if (priority == MessagePriority.CRITICAL || !plugin.isEnabled())
+		{
+			return true;
+		}
+
+		if (priority == MessagePriority.LOW && isOverloaded())
+		{
+			return false;
+		}
+
+		return queue.size() < capacity || lowestQueued().priority().compareTo(priority) < 0;
+	}
+
+
+	@Override
+	public void submit(final MessagePriority priority, final Runnable task, final Runnable shed)
+	{
+		submitted.incrementAndGet();
+
+		// critical tasks, and any task submitted after the plugin is disabled, are run immediately
+		if (priority == MessagePriority.CRITICAL || !plugin.isEnabled())
+		{
+			run(task);
+			return;
+		}
+
+		if (priority == MessagePriority.LOW && isOverloaded())
+		{
+			shedUnderLoad.incrementAndGet();
+			shed.run();
+			return;
+		}
+
+		if (queue.size() >= capacity)
+		{
+			final Entry lowest = lowestQueued();
+			shedOverCapacity.incrementAndGet();
+
+			if (lowest.priority().compareTo(priority) >= 0)
+			{
+				shed.run();
+				return;
+			}
+
+			queue.remove(lowest);
+			lowest.shed().run();
+		}
+
+		queue.add(new Entry(priority, sequence++, task, shed, 0));
+		queued.set(queue.size());
+		scheduleDrain();
+	}
+
+
+	@Override
+	public SendQueueStatistics statistics()
+	{
+		return new SendQueueStatistics(submitted.get(), delivered.get(),
+				shedOverCapacity.get(), shedUnderLoad.get(), deferred.get(), queued.get());
+	}
+
+
+	/**
+	 * Runs queued tasks in priority order. While the server is under load, {@code LOW} tasks are dropped
+	 * and {@code NORMAL} tasks are returned to the queue for a later tick, until they have been held over for
+	 * the maximum number of ticks.
+	 */
+	void drain()
+	{
+		drainScheduled = false;
+
+		final boolean overloaded = isOverloaded();
+		final List<Entry> held = new ArrayList<>();
+
+		Entry entry;
+		while ((entry = queue.poll()) != null)
+		{
+			if (overloaded && entry.priority() == MessagePriority.LOW)
+			{
+				shedUnderLoad.incrementAndGet();
+				entry.shed().run();
+			}
+			else if (overloaded && entry.priority() == MessagePriority.NORMAL && entry.deferrals() < maxDeferredTicks)
+			{
+				if (entry.deferrals() == 0)
+				{
+					deferred.incrementAndGet();
+				}
+				held.add(entry.deferredOnce());
+			}
+			else
+			{
+				run(entry.task());
+			}
+		}
+
+		queue.addAll(held);
+		queued.set(queue.size());
+
+		if (!queue.isEmpty())
+		{
+			scheduleDrain();
+		}
+	}
+
+
+	/**
+	 * Returns the newest queued task of the lowest priority, which is the first to be dropped when the queue is full
+	 */
+	private Entry lowestQueued()
+	{
+		return queue.stream().max(Entry.ORDER).orElseThrow();
+	}
+
+
+	private boolean isOverloaded()
+	{
+		return loadSignal.currentLoad() > loadThreshold;
+	}
+
+
+	private void scheduleDrain()
+	{
+		if (!drainScheduled && plugin.isEnabled())
+		{
+			plugin.getServer().getScheduler().runTask(plugin, this::drain);
+			drainScheduled = true;
+		}
+	}
+
+
+	private void run(final Runnable task)
+	{
+		try
+		{
+			task.run();
+			delivered.incrementAndGet();
+		}
+		catch (RuntimeException exception)
+		{
+			plugin.getLogger().log(Level.WARNING, ResourceMessage.RESOURCE_SEND_FAILED
+					.getLocalizedMessage(configRepository.logLocale()), exception);
+		}
+	}
+
+
+	/**
+	 * A queued task, ordered by descending priority and then by order of submission, with the number of
+	 * ticks for which it has been held over.
+	 */
+	private record Entry(MessagePriority priority, long sequence, Runnable task, Runnable shed, int deferrals)
+	{
+		static final Comparator<Entry> ORDER = Comparator.comparing(Entry::priority, Comparator.reverseOrder())
+				.thenComparingLong(Entry::sequence);
+
+		Entry deferredOnce()
+		{
+			return new Entry(priority, sequence, task, shed, deferrals + 1);
+		}
+	}
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.adapters.pipeline.queues;
+
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.queues.LoadSignal;
+
+import org.bukkit.plugin.Plugin;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import static com.winterhavenmc.library.messagebuilder.models.validation.ErrorMessageKey.PARAMETER_NULL;
+import static com.winterhavenmc.library.messagebuilder.models.validation.Parameter.PLUGIN;
+import static com.winterhavenmc.library.messagebuilder.models.validation.Validator.throwing;
+import static com.winterhavenmc.library.messagebuilder.models.validation.Validator.validate;
+
+
+/**
+ * A {@link LoadSignal} that reports an exponential moving average of the milliseconds elapsed between
+ * consecutive server ticks. A healthy server reports approximately 50 milliseconds per tick.
+ */
+public final class BukkitTickLoadSignal implements LoadSignal
+{
+	private final static double SMOOTHING_FACTOR = 0.1;
+
+	private long lastTickNanos;
+	private volatile double averageMillis;
+
+
+	/**
+	 * Constructor
+	 */
+	BukkitTickLoadSignal()
+	{
+	}
+
+
+	/**
+	 * Static factory method. The returned signal samples the tick time once per tick, using a repeating
+	 * task scheduled for the given plugin.
+	 *
+	 * @param plugin the plugin instance used to schedule the sampling task
+	 * @return a new {@code BukkitTickLoadSignal}
+	 */
+	public static BukkitTickLoadSignal create(final Plugin plugin)
+	{
+		validate(plugin, Objects::isNull, throwing(PARAMETER_NULL, PLUGIN));
+
+		final BukkitTickLoadSignal loadSignal = new BukkitTickLoadSignal();
+		plugin.getServer().getScheduler().runTaskTimer(plugin, () -> loadSignal.sample(System.nanoTime()), 1L, 1L);
+		return loadSignal;
+	}
+
+
+	@Override
+	public double currentLoad()
+	{
+		return averageMillis;
+	}
+
+
+	/**
+	 * Records a tick at the given time, and updates the moving average.
+	 *
+	 * @param nanoTime the value of {@link System#nanoTime()} at the tick
+	 */
+	void sample(final long nanoTime)
+	{
+		if (lastTickNanos != 0)
+		{
+			final double elapsedMillis = (double) (nanoTime - lastTickNanos) / TimeUnit.MILLISECONDS.toNanos(1);
+			averageMillis = (averageMillis == 0)
+					? elapsedMillis
+					: averageMillis + SMOOTHING_FACTOR * (elapsedMillis - averageMillis);
+		}
+
+		lastTickNanos = nanoTime;
+	}
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.adapters.pipeline.queues;
+
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.queues.SendQueue;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.queues.SendQueueStatistics;
+import com.winterhavenmc.library.messagebuilder.models.language.message.MessagePriority;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * A {@link SendQueue} that runs every task immediately on the calling thread, regardless of priority.
+ * Nothing is ever shed or deferred.
+ */
+public final class ImmediateSendQueue implements SendQueue
+{
+	private final AtomicLong submitted = new AtomicLong();
+
+
+	@Override
+	public boolean admits(final MessagePriority priority)
+	{
+		return true;
+	}
+
+
+	@Override
+	public void submit(final MessagePriority priority, final Runnable task, final Runnable shed)
+	{
+		submitted.incrementAndGet();
+		task.run();
+	}
+
+
+	@Override
+	public SendQueueStatistics statistics()
+	{
+		final long count = submitted.get();
+		return new SendQueueStatistics(count, count, 0, 0, 0, 0);
+	}
+
+}
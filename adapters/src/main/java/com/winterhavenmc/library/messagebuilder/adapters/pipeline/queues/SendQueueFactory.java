@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.adapters.pipeline.queues;
+
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.queues.SendQueue;
+import com.winterhavenmc.library.messagebuilder.models.configuration.ConfigRepository;
+
+import org.bukkit.plugin.Plugin;
+
+
+/**
+ * Creates the {@link SendQueue} for the message pipeline from the plugin configuration.
+ * <p>
+ * The bounded priority queue is enabled by setting {@code message-queue.enabled} to {@code true} in the
+ * plugin config.yml. The optional settings {@code message-queue.capacity} and
+ * {@code message-queue.load-threshold} set the maximum number of queued sends and the average milliseconds
+ * per tick above which low-priority sends are dropped or deferred. The optional setting
+ * {@code message-queue.max-deferred-ticks} sets the number of ticks after which a deferred send is delivered
+ * regardless of load.
+ */
+public final class SendQueueFactory
+{
+	final static String ENABLED_KEY = "message-queue.enabled";
+	final static String CAPACITY_KEY = "message-queue.capacity";
+	final static String LOAD_THRESHOLD_KEY = "message-queue.load-threshold";
+	final static String MAX_DEFERRED_TICKS_KEY = "message-queue.max-deferred-ticks";
+	final static int DEFAULT_CAPACITY = 256;
+	final static double DEFAULT_LOAD_THRESHOLD = 60.0;
+	final static int DEFAULT_MAX_DEFERRED_TICKS = 100;
+
+
+	private SendQueueFactory() { }
+
+
+	public static SendQueue createSendQueue(final Plugin plugin, final ConfigRepository configRepository)
+	{
+		return (plugin.getConfig().getBoolean(ENABLED_KEY))
+				? BoundedPrioritySendQueue.create(plugin, configRepository,
+						plugin.getConfig().getInt(CAPACITY_KEY, DEFAULT_CAPACITY),
+						BukkitTickLoadSignal.create(plugin),
+						plugin.getConfig().getDouble(LOAD_THRESHOLD_KEY, DEFAULT_LOAD_THRESHOLD),
+						plugin.getConfig().getInt(MAX_DEFERRED_TICKS_KEY, DEFAULT_MAX_DEFERRED_TICKS))
+				: new ImmediateSendQueue();
+	}
+
+}
@@ -0,0 +1,17 @@
+/**
+ * Provides implementations of the
+ * {@link com.winterhavenmc.library.messagebuilder.core.ports.pipeline.queues.SendQueue SendQueue} and
+ * {@link com.winterhavenmc.library.messagebuilder.core.ports.pipeline.queues.LoadSignal LoadSignal} ports.
+ *
+ * <ul>
+ *   <li>{@link com.winterhavenmc.library.messagebuilder.adapters.pipeline.queues.ImmediateSendQueue ImmediateSendQueue}
+ *   – runs every send immediately; used when the bounded queue is not enabled.</li>
+ *   <li>{@link com.winterhavenmc.library.messagebuilder.adapters.pipeline.queues.BoundedPrioritySendQueue BoundedPrioritySendQueue}
+ *   – a bounded, priority-ordered queue drained once per tick, which sheds or defers low-priority sends.</li>
+ *   <li>{@link com.winterhavenmc.library.messagebuilder.adapters.pipeline.queues.BukkitTickLoadSignal BukkitTickLoadSignal}
+ *   – reports the moving average of milliseconds per server tick.</li>
+ *   <li>{@link com.winterhavenmc.library.messagebuilder.adapters.pipeline.queues.SendQueueFactory SendQueueFactory}
+ *   – selects an implementation from the plugin configuration.</li>
+ * </ul>
+ */
+package com.winterhavenmc.library.messagebuilder.adapters.pipeline.queues;
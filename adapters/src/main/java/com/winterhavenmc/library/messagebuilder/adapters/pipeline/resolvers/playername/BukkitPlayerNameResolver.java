@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.adapters.pipeline.resolvers.playername;
+
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.resolvers.playername.PlayerNameResolver;
+
+import org.bukkit.OfflinePlayer;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.plugin.Plugin;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.winterhavenmc.library.messagebuilder.models.validation.ErrorMessageKey.PARAMETER_NULL;
+import static com.winterhavenmc.library.messagebuilder.models.validation.Parameter.PLUGIN;
+import static com.winterhavenmc.library.messagebuilder.models.validation.Validator.throwing;
+import static com.winterhavenmc.library.messagebuilder.models.validation.Validator.validate;
+
+
+/**
+ * Default implementation of {@link PlayerNameResolver} that keeps an in-memory map of player
+ * {@link UUID UUIDs} to player names.
+ * <p>
+ * The cache is warmed once, after the resolver is created, from the server's list of known
+ * {@link OfflinePlayer OfflinePlayers}. The warm-up runs on the server thread, starting on the tick after the
+ * resolver is created, in batches of a bounded number of players per tick, so that a server with many known
+ * players does not stall at enable. Until a player's batch is reached, only an online player's name resolves.
+ * The cache is kept current by listening for {@link PlayerJoinEvent},
+ * so that name changes are picked up the next time a player joins. Lookups never consult the
+ * server's profile cache; a player who has never joined the server resolves to an empty {@code Optional}
+ * unless currently online.
+ *
+ * @see PlayerNameResolver
+ */
+public final class BukkitPlayerNameResolver implements PlayerNameResolver, Listener
+{
+	final static int WARM_BATCH_SIZE = 500;
+
+	private final Plugin plugin;
+	private final Map<UUID, String> playerNames = new ConcurrentHashMap<>();
+
+
+	/**
+	 * Constructor
+	 */
+	private BukkitPlayerNameResolver(final Plugin plugin)
+	{
+		this.plugin = plugin;
+	}
+
+
+	/**
+	 * Static factory method that creates the resolver, registers it as an event listener for the plugin,
+	 * and schedules the warm-up of its cache from the server's known players.
+	 *
+	 * @param plugin the plugin instance
+	 * @return a registered {@code BukkitPlayerNameResolver}, whose cache is warmed over the following ticks
+	 */
+	public static BukkitPlayerNameResolver create(final Plugin plugin)
+	{
+		validate(plugin, Objects::isNull, throwing(PARAMETER_NULL, PLUGIN));
+
+		final BukkitPlayerNameResolver resolver = new BukkitPlayerNameResolver(plugin);
+		plugin.getServer().getPluginManager().registerEvents(resolver, plugin);
+		plugin.getServer().getScheduler().runTask(plugin, () -> resolver.warm(plugin.getServer().getOfflinePlayers(), 0));
+
+		return resolver;
+	}
+
+
+	/**
+	 * Resolves the cached name of the player with the given {@link UUID}. On a cache miss, the name of
+	 * a matching online player is used and cached; offline players are never looked up.
+	 *
+	 * @param playerUid the {@link UUID} of the player whose name is to be resolved
+	 * @return an {@code Optional} containing the player name, or an empty {@code Optional} if not known
+	 */
+	@Override
+	public Optional<String> resolve(final UUID playerUid)
+	{
+		if (playerUid == null) return Optional.empty();
+
+		final String cachedName = playerNames.get(playerUid);
+		if (cachedName != null) return Optional.of(cachedName);
+
+		final Player player = plugin.getServer().getPlayer(playerUid);
+		if (player == null) return Optional.empty();
+
+		cache(playerUid, player.getName());
+		return Optional.ofNullable(playerNames.get(playerUid));
+	}
+
+
+	/**
+	 * Resolves the cached name of the given player. On a cache miss, the name held by the player instance is
+	 * used and cached, so that a player not yet reached by the warm-up, or not among the server's known
+	 * players, still resolves.
+	 *
+	 * @param offlinePlayer the player whose name is to be resolved, which may be {@code null}
+	 * @return an {@code Optional} containing the player name, or an empty {@code Optional} if not known
+	 */
+	@Override
+	public Optional<String> resolveName(final OfflinePlayer offlinePlayer)
+	{
+		if (offlinePlayer == null) return Optional.empty();
+
+		final Optional<String> cachedName = resolve(offlinePlayer.getUniqueId());
+		if (cachedName.isPresent()) return cachedName;
+
+		cache(offlinePlayer.getUniqueId(), offlinePlayer.getName());
+		return Optional.ofNullable(playerNames.get(offlinePlayer.getUniqueId()));
+	}
+
+
+	/**
+	 * Updates the cached name of a player when they join the server
+	 *
+	 * @param event the player join event
+	 */
+	@EventHandler(priority = EventPriority.MONITOR)
+	public void onPlayerJoin(final PlayerJoinEvent event)
+	{
+		cache(event.getPlayer().getUniqueId(), event.getPlayer().getName());
+	}
+
+
+	/**
+	 * Populates the cache from one batch of an array of known players, and schedules the next batch for the
+	 * next tick. Names already present are not replaced.
+	 *
+	 * @param offlinePlayers the known players of the server
+	 * @param from the index of the first player of the batch
+	 */
+	void warm(final OfflinePlayer[] offlinePlayers, final int from)
+	{
+		if (offlinePlayers == null) return;
+
+		final int to = Math.min(offlinePlayers.length, from + WARM_BATCH_SIZE);
+		for (int index = from; index < to; index++)
+		{
+			final String name = offlinePlayers[index].getName();
+			if (name != null && !name.isBlank())
+			{
+				playerNames.putIfAbsent(offlinePlayers[index].getUniqueId(), name);
+			}
+		}
+
+		if (to < offlinePlayers.length && plugin.isEnabled())
+		{
+			plugin.getServer().getScheduler().runTask(plugin, () -> warm(offlinePlayers, to));
+		}
+	}
+
+
+	/**
+	 * Returns the number of cached player names
+	 *
+	 * @return the number of entries in the cache
+	 */
+	int size()
+	{
+		return playerNames.size();
+	}
+
+
+	private void cache(final UUID playerUid, final String name)
+	{
+		if (playerUid != null && name != null && !name.isBlank())
+		{
+			playerNames.put(playerUid, name);
+		}
+	}
+
+}
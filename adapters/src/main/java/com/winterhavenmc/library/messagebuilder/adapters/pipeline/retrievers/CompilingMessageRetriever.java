@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.adapters.pipeline.retrievers;
+
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.compilers.TemplateCompiler;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.retrievers.MessageRetriever;
+import com.winterhavenmc.library.messagebuilder.core.ports.resources.ResourceSnapshot;
+import com.winterhavenmc.library.messagebuilder.core.ports.resources.ResourceSnapshots;
+import com.winterhavenmc.library.messagebuilder.models.keys.ValidMessageKey;
+import com.winterhavenmc.library.messagebuilder.models.language.message.MessageRecord;
+import com.winterhavenmc.library.messagebuilder.models.language.message.ValidMessageRecord;
+
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+/**
+ * A {@link MessageRetriever} decorator that compiles each valid message record once, using a
+ * {@link TemplateCompiler}, and returns the compiled record for every later retrieval of the same key.
+ * <p>
+ * Compiled records are held until {@link #reload()} is called after the language file is reloaded, and are
+ * tagged with the resource snapshot epoch in which they were compiled, so that a render pinned to a newer or
+ * older epoch never receives a record compiled from a different language file. Records are held separately for
+ * each language pack, so that a render for a recipient in one locale never receives a record compiled from the
+ * language pack of another.
+ * Invalid records are not held, and are retrieved from the delegate on every call.
+ */
+public final class CompilingMessageRetriever implements MessageRetriever
+{
+	private final MessageRetriever delegate;
+	private final TemplateCompiler compiler;
+	private final ResourceSnapshots snapshots;
+	private final Map<CompiledKey, Compiled> COMPILED_MAP = new ConcurrentHashMap<>();
+
+
+	private record CompiledKey(ValidMessageKey messageKey, Locale pack) { }
+	private record Compiled(long epoch, ValidMessageRecord messageRecord) { }
+
+
+	/**
+	 * Constructor
+	 */
+	private CompilingMessageRetriever(final MessageRetriever delegate,
+									  final TemplateCompiler compiler,
+									  final ResourceSnapshots snapshots)
+	{
+		this.delegate = delegate;
+		this.compiler = compiler;
+		this.snapshots = snapshots;
+	}
+
+
+	/**
+	 * Static factory method
+	 *
+	 * @param delegate the retriever from which uncompiled records are obtained
+	 * @param compiler the compiler applied to each valid record
+	 * @param snapshots the holder of the resource snapshot current on the calling thread, whose epoch and language
+	 *                  pack determine which compiled records may be reused
+	 * @return a new {@code CompilingMessageRetriever}
+	 */
+	public static CompilingMessageRetriever create(final MessageRetriever delegate,
+												   final TemplateCompiler compiler,
+												   final ResourceSnapshots snapshots)
+	{
+		return new CompilingMessageRetriever(Objects.requireNonNull(delegate),
+				Objects.requireNonNull(compiler),
+				Objects.requireNonNull(snapshots));
+	}
+
+
+	@Override
+	public MessageRecord getRecord(final ValidMessageKey messageKey)
+	{
+		final ResourceSnapshot snapshot = snapshots.current();
+		final long epoch = snapshot.epoch();
+		final CompiledKey compiledKey = new CompiledKey(messageKey, snapshot.pack());
+		final Compiled compiled = COMPILED_MAP.get(compiledKey);
+		if (compiled != null && compiled.epoch() == epoch)
+		{
+			return compiled.messageRecord();
+		}
+
+		final MessageRecord messageRecord = delegate.getRecord(messageKey);
+		if (messageRecord instanceof ValidMessageRecord validMessageRecord)
+		{
+			final ValidMessageRecord compiledRecord = compiler.compile(validMessageRecord);
+			COMPILED_MAP.put(compiledKey, new Compiled(epoch, compiledRecord));
+			return compiledRecord;
+		}
+
+		return messageRecord;
+	}
+
+
+	/**
+	 * Discards all compiled records, so that records are read from the reloaded language file and
+	 * compiled again on their next retrieval.
+	 */
+	@Override
+	public void reload()
+	{
+		COMPILED_MAP.clear();
+		delegate.reload();
+	}
+
+
+	/**
+	 * Discards the compiled records of the given messages, and carries the compiled records of all other
+	 * messages forward into the current snapshot epoch, so that they are not compiled again. The changed keys
+	 * describe the configured language file only, so records compiled from a language pack are all discarded.
+	 *
+	 * @param changedKeys the keys of the messages that were added, changed or removed
+	 */
+	@Override
+	public void reload(final Collection<ValidMessageKey> changedKeys)
+	{
+		final long epoch = snapshots.current().epoch();
+
+		// carry forward before discarding, so that a record compiled concurrently from the previous
+		// language file for a changed key is discarded rather than carried forward
+		COMPILED_MAP.replaceAll((key, compiled) -> new Compiled(epoch, compiled.messageRecord()));
+		COMPILED_MAP.keySet().removeIf(compiledKey -> !Locale.ROOT.equals(compiledKey.pack())
+				|| changedKeys.contains(compiledKey.messageKey()));
+		delegate.reload(changedKeys);
+	}
+
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.adapters.pipeline.schedulers;
+
+import com.winterhavenmc.library.messagebuilder.adapters.resources.ResourceMessage;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.schedulers.PipelineScheduler;
+import com.winterhavenmc.library.messagebuilder.models.configuration.ConfigRepository;
+
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.server.PluginDisableEvent;
+import org.bukkit.plugin.Plugin;
+
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.logging.Level;
+
+import static com.winterhavenmc.library.messagebuilder.models.validation.ErrorMessageKey.PARAMETER_NULL;
+import static com.winterhavenmc.library.messagebuilder.models.validation.Parameter.PLUGIN;
+import static com.winterhavenmc.library.messagebuilder.models.validation.Validator.throwing;
+import static com.winterhavenmc.library.messagebuilder.models.validation.Validator.validate;
+
+
+/**
+ * A {@link PipelineScheduler} that renders messages on virtual threads and delivers them
+ * on the server thread using the Bukkit scheduler.
+ * <p>
+ * Delivery tasks submitted from the server thread are run immediately. Delivery tasks submitted
+ * after the plugin has been disabled are discarded, since the Bukkit scheduler will not accept them.
+ * <p>
+ * The scheduler is registered as an event listener for the plugin, and closes its executor when the
+ * plugin is disabled, so that no rendering threads outlive the plugin.
+ */
+public final class BukkitPipelineScheduler implements PipelineScheduler, Listener
+{
+	private final Plugin plugin;
+	private final ConfigRepository configRepository;
+	private final ExecutorService executor;
+
+
+	/**
+	 * Constructor
+	 */
+	BukkitPipelineScheduler(final Plugin plugin, final ConfigRepository configRepository, final ExecutorService executor)
+	{
+		this.plugin = plugin;
+		this.configRepository = configRepository;
+		this.executor = executor;
+	}
+
+
+	/**
+	 * Static factory method
+	 *
+	 * @param plugin the plugin instance used to schedule delivery tasks
+	 * @param configRepository the plugin configuration repository, supplying the locale of log messages
+	 * @return a new {@code BukkitPipelineScheduler} backed by a virtual thread executor, registered to close
+	 * when the plugin is disabled
+	 */
+	public static BukkitPipelineScheduler create(final Plugin plugin, final ConfigRepository configRepository)
+	{
+		validate(plugin, Objects::isNull, throwing(PARAMETER_NULL, PLUGIN));
+
+		final BukkitPipelineScheduler scheduler = new BukkitPipelineScheduler(plugin,
+				Objects.requireNonNull(configRepository), Executors.newVirtualThreadPerTaskExecutor());
+		plugin.getServer().getPluginManager().registerEvents(scheduler, plugin);
+
+		return scheduler;
+	}
+
+
+	@Override
+	public void executeAsync(final Runnable task)
+	{
+		if (executor.isShutdown())
+		{
+			return;
+		}
+
+		try
+		{
+			executor.execute(() ->
+			{
+				try
+				{
+					task.run();
+				}
+				catch (RuntimeException exception)
+				{
+					plugin.getLogger().log(Level.WARNING, ResourceMessage.RESOURCE_RENDER_FAILED
+							.getLocalizedMessage(configRepository.logLocale()), exception);
+				}
+			});
+		}
+		catch (RejectedExecutionException exception)
+		{
+			// the scheduler was closed after the check above; the message is discarded, as it would be after close
+		}
+	}
+
+
+	@Override
+	public void executeSync(final Runnable task)
+	{
+		if (plugin.getServer().isPrimaryThread())
+		{
+			task.run();
+		}
+		else if (plugin.isEnabled())
+		{
+			plugin.getServer().getScheduler().runTask(plugin, task);
+		}
+	}
+
+
+
+	/**
+	 * Shuts down the rendering executor. Rendering tasks already submitted are allowed to complete, but their
+	 * delivery is discarded if the plugin has been disabled by then.
+	 */
+	@Override
+	public void close()
+	{
+		executor.shutdown();
+	}
+
+
+	/**
+	 * Closes this scheduler when its plugin is disabled
+	 *
+	 * @param event the plugin disable event
+	 */
+	@EventHandler(priority = EventPriority.MONITOR)
+	public void onPluginDisable(final PluginDisableEvent event)
+	{
+		if (event.getPlugin() == plugin)
+		{
+			close();
+		}
+	}
+
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.adapters.pipeline.schedulers;
+
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.schedulers.PipelineScheduler;
+
+
+/**
+ * A {@link PipelineScheduler} that runs every task immediately on the calling thread.
+ * <p>
+ * This scheduler is a stand-in for {@link BukkitPipelineScheduler} that allows the asynchronous
+ * send mode to be exercised deterministically in unit tests, or in environments without a running server.
+ */
+public final class ImmediatePipelineScheduler implements PipelineScheduler
+{
+	@Override
+	public void executeAsync(final Runnable task)
+	{
+		task.run();
+	}
+
+
+	@Override
+	public void executeSync(final Runnable task)
+	{
+		task.run();
+	}
+
+}
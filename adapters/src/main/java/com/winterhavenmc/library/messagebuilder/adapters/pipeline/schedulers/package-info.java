@@ -0,0 +1,13 @@
+/**
+ * Provides implementations of the
+ * {@link com.winterhavenmc.library.messagebuilder.core.ports.pipeline.schedulers.PipelineScheduler PipelineScheduler}
+ * port used by the asynchronous send mode of the message pipeline.
+ *
+ * <ul>
+ *   <li>{@link com.winterhavenmc.library.messagebuilder.adapters.pipeline.schedulers.BukkitPipelineScheduler BukkitPipelineScheduler}
+ *   – renders on virtual threads and delivers through the Bukkit scheduler.</li>
+ *   <li>{@link com.winterhavenmc.library.messagebuilder.adapters.pipeline.schedulers.ImmediatePipelineScheduler ImmediatePipelineScheduler}
+ *   – runs every task on the calling thread, for use in tests or environments without a server.</li>
+ * </ul>
+ */
+package com.winterhavenmc.library.messagebuilder.adapters.pipeline.schedulers;
@@ -18,16 +18,18 @@
 package com.winterhavenmc.library.messagebuilder.adapters.pipeline.senders;
 
 import com.winterhavenmc.library.messagebuilder.adapters.pipeline.cooldown.MessageCooldownMap;
+import com.winterhavenmc.library.messagebuilder.adapters.pipeline.prerenderers.PrerenderedComponents;
 import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.senders.Sender;
 import com.winterhavenmc.library.messagebuilder.core.ports.resources.sound.SoundRepository;
 import com.winterhavenmc.library.messagebuilder.models.keys.ValidMessageKey;
 import com.winterhavenmc.library.messagebuilder.models.language.message.FinalMessageRecord;
 import com.winterhavenmc.library.messagebuilder.models.recipient.Recipient;
 
+import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.platform.bukkit.BukkitAudiences;
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.minimessage.MiniMessage;
 
+import java.util.Collection;
 import java.util.Optional;
 
 
@@ -51,7 +53,7 @@ import java.util.Optional;
 public final class KyoriMessageSender implements Sender
 {
 	private final MessageCooldownMap messageCooldownMap;
-	private final MiniMessage miniMessage;
+	private final PrerenderedComponents components;
 	private final BukkitAudiences audiences;
 	private final SoundRepository sounds;
 
@@ -63,12 +65,12 @@ public final class KyoriMessageSender implements Sender
 	 * @param messageCooldownMap the cooldown map used to track and store message cooldowns
 	 */
 	public KyoriMessageSender(final MessageCooldownMap messageCooldownMap,
-							  final MiniMessage miniMessage,
+							  final PrerenderedComponents components,
 							  final BukkitAudiences audiences,
 							  final SoundRepository sounds)
 	{
 		this.messageCooldownMap = messageCooldownMap;
-		this.miniMessage = miniMessage;
+		this.components = components;
 		this.audiences = audiences;
 		this.sounds = sounds;
 	}
@@ -85,15 +87,64 @@ public final class KyoriMessageSender implements Sender
 	 */
 	@Override
 	public void send(final Recipient.Sendable recipient, final FinalMessageRecord messageRecord)
+	{
+		prepare(recipient, messageRecord).run();
+	}
+
+
+	/**
+	 * Parses the message text of the record into a component, and returns a task that sends the component
+	 * to the recipient, records the cooldown and plays any matching sound. If the message is disabled
+	 * or contains no content, the returned task does nothing.
+	 *
+	 * @param recipient the message recipient
+	 * @param messageRecord the final message record with resolved string content
+	 * @return a task that delivers the parsed message when run
+	 */
+	@Override
+	public Runnable prepare(final Recipient.Sendable recipient, final FinalMessageRecord messageRecord)
+	{
+		if (messageRecord.enabled()
+				&& messageRecord.finalMessageString().isPresent()
+				&& !messageRecord.finalMessageString().get().isBlank())
+		{
+			final Component component = components.parse(messageRecord.finalMessageString().get());
+			return () ->
+			{
+				audiences.sender(recipient.sender()).sendMessage(component);
+				messageCooldownMap.putExpirationTime(recipient, messageRecord);
+				playMatchingSound(recipient, messageRecord.key());
+			};
+		}
+
+		return () -> { };
+	}
+
+
+	/**
+	 * Parses the message text of the record once, and sends the resulting component to all recipients
+	 * through a single multi-recipient audience. Cooldowns are recorded and matching sounds are played
+	 * for each recipient. If the message is disabled or contains no content, nothing is sent.
+	 *
+	 * @param recipients the message recipients
+	 * @param messageRecord the final message record with resolved string content
+	 */
+	@Override
+	public void broadcast(final Collection<Recipient.Sendable> recipients, final FinalMessageRecord messageRecord)
 	{
 		if (messageRecord.enabled()
 				&& messageRecord.finalMessageString().isPresent()
 				&& !messageRecord.finalMessageString().get().isBlank())
 		{
-			Component component = miniMessage.deserialize(messageRecord.finalMessageString().get());
-			audiences.sender(recipient.sender()).sendMessage(component);
-			messageCooldownMap.putExpirationTime(recipient, messageRecord);
-			playMatchingSound(recipient, messageRecord.key());
+			final Component component = components.parse(messageRecord.finalMessageString().get());
+			Audience.audience(recipients.stream().map(recipient -> audiences.sender(recipient.sender())).toList())
+					.sendMessage(component);
+
+			recipients.forEach(recipient ->
+			{
+				messageCooldownMap.putExpirationTime(recipient, messageRecord);
+				playMatchingSound(recipient, messageRecord.key());
+			});
 		}
 	}
 
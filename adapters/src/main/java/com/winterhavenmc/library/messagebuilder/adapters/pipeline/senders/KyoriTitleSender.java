@@ -18,17 +18,21 @@
 package com.winterhavenmc.library.messagebuilder.adapters.pipeline.senders;
 
 import com.winterhavenmc.library.messagebuilder.adapters.pipeline.cooldown.MessageCooldownMap;
+import com.winterhavenmc.library.messagebuilder.adapters.pipeline.prerenderers.PrerenderedComponents;
 import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.senders.Sender;
 import com.winterhavenmc.library.messagebuilder.models.recipient.Recipient;
 import com.winterhavenmc.library.messagebuilder.models.language.message.FinalMessageRecord;
 
+import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.platform.bukkit.BukkitAudiences;
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.minimessage.MiniMessage;
 import net.kyori.adventure.title.Title;
 
 import org.bukkit.entity.Player;
 
+import java.util.Collection;
+import java.util.List;
+
 
 /**
  * Sends a title and optional subtitle to a {@link org.bukkit.entity.Player}
@@ -49,7 +53,7 @@ import org.bukkit.entity.Player;
 public final class KyoriTitleSender implements Sender
 {
 	private final MessageCooldownMap messageCooldownMap;
-	private final MiniMessage miniMessage;
+	private final PrerenderedComponents components;
 	private final BukkitAudiences audiences;
 
 
@@ -58,10 +62,10 @@ public final class KyoriTitleSender implements Sender
 	 *
 	 * @param messageCooldownMap an instance of the message cooldown map used to prevent redundant delivery
 	 */
-	public KyoriTitleSender(final MessageCooldownMap messageCooldownMap, final MiniMessage miniMessage, final BukkitAudiences audiences)
+	public KyoriTitleSender(final MessageCooldownMap messageCooldownMap, final PrerenderedComponents components, final BukkitAudiences audiences)
 	{
 		this.messageCooldownMap = messageCooldownMap;
-		this.miniMessage = miniMessage;
+		this.components = components;
 		this.audiences = audiences;
 	}
 
@@ -78,21 +82,77 @@ public final class KyoriTitleSender implements Sender
 	 */
 	@Override
 	public void send(final Recipient.Sendable recipient, final FinalMessageRecord messageRecord)
+	{
+		prepare(recipient, messageRecord).run();
+	}
+
+
+	/**
+	 * Builds the title and subtitle components from the given message record, and returns a task that
+	 * shows the title to the player and records the cooldown. If the recipient is not a player, the message
+	 * is disabled, or no title or subtitle is present, the returned task does nothing.
+	 *
+	 * @param recipient the message recipient
+	 * @param messageRecord the message record containing the title, subtitle, and timing data
+	 * @return a task that shows the prepared title when run
+	 */
+	@Override
+	public Runnable prepare(final Recipient.Sendable recipient, final FinalMessageRecord messageRecord)
 	{
 		// if sender is player and at least one title/subtitle string is non-null and non-blank, send title to player
-		if (recipient.sender() instanceof Player player
-				&& messageRecord.enabled()
-				&& (messageRecord.finalTitleString().isPresent() || messageRecord.finalSubtitleString().isPresent()))
+		if (recipient.sender() instanceof Player && hasTitle(messageRecord))
 		{
-			final Component mainTitle = miniMessage.deserialize(messageRecord.finalTitleString().orElse(""));
-			final Component subTitle = miniMessage.deserialize(messageRecord.finalSubtitleString().orElse(""));
-			final Title.Times times = Title.Times.times(messageRecord.titleFadeIn(), messageRecord.titleStay(), messageRecord.titleFadeOut());
-			final Title title = Title.title(mainTitle, subTitle, times);
+			final Title title = toTitle(messageRecord);
+
+			return () ->
+			{
+				audiences.sender(recipient.sender()).showTitle(title);
+				messageCooldownMap.putExpirationTime(recipient, messageRecord);
+			};
+		}
+
+		return () -> { };
+	}
 
-			audiences.sender(recipient.sender()).showTitle(title);
 
-			messageCooldownMap.putExpirationTime(recipient, messageRecord);
+	/**
+	 * Shows a title and subtitle to every recipient that is a player, through a single multi-recipient audience.
+	 * Cooldowns are recorded for each player to whom the title is shown.
+	 *
+	 * @param recipients the message recipients
+	 * @param messageRecord the final message record with resolved title and subtitle strings
+	 */
+	@Override
+	public void broadcast(final Collection<Recipient.Sendable> recipients, final FinalMessageRecord messageRecord)
+	{
+		// titles are only shown to players
+		final List<Recipient.Sendable> players = recipients.stream()
+				.filter(recipient -> recipient.sender() instanceof Player)
+				.toList();
+
+		if (!players.isEmpty() && hasTitle(messageRecord))
+		{
+			Audience.audience(players.stream().map(recipient -> audiences.sender(recipient.sender())).toList())
+					.showTitle(toTitle(messageRecord));
+
+			players.forEach(recipient -> messageCooldownMap.putExpirationTime(recipient, messageRecord));
 		}
 	}
 
+
+	private boolean hasTitle(final FinalMessageRecord messageRecord)
+	{
+		return messageRecord.enabled()
+				&& (messageRecord.finalTitleString().isPresent() || messageRecord.finalSubtitleString().isPresent());
+	}
+
+
+	private Title toTitle(final FinalMessageRecord messageRecord)
+	{
+		final Component mainTitle = components.parse(messageRecord.finalTitleString().orElse(""));
+		final Component subTitle = components.parse(messageRecord.finalSubtitleString().orElse(""));
+		final Title.Times times = Title.Times.times(messageRecord.titleFadeIn(), messageRecord.titleStay(), messageRecord.titleFadeOut());
+		return Title.title(mainTitle, subTitle, times);
+	}
+
 }
@@ -1,23 +1,30 @@
 package com.winterhavenmc.library.messagebuilder.adapters.pipeline.senders;
 
 import com.winterhavenmc.library.messagebuilder.adapters.pipeline.cooldown.MessageCooldownMap;
+import com.winterhavenmc.library.messagebuilder.adapters.pipeline.prerenderers.PrerenderedComponents;
 import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.senders.Sender;
 import com.winterhavenmc.library.messagebuilder.core.ports.resources.sound.SoundRepository;
 import net.kyori.adventure.platform.bukkit.BukkitAudiences;
-import net.kyori.adventure.text.minimessage.MiniMessage;
 import org.bukkit.plugin.Plugin;
 
 import java.util.List;
 
 public class SenderFactory
 {
-	public static List<Sender> createSenders(final Plugin plugin, final MessageCooldownMap messageCooldownMap, final SoundRepository sounds)
+	final static String MESSAGE_BATCHING_KEY = "message-batching";
+
+	public static List<Sender> createSenders(final Plugin plugin,
+											final MessageCooldownMap messageCooldownMap,
+											final SoundRepository sounds,
+											final PrerenderedComponents components)
 	{
-		final MiniMessage miniMessage = MiniMessage.miniMessage();
 		final BukkitAudiences bukkitAudiences = BukkitAudiences.create(plugin);
-		final KyoriMessageSender messageSender = new KyoriMessageSender(messageCooldownMap, miniMessage, bukkitAudiences, sounds);
-		final KyoriTitleSender titleSender = new KyoriTitleSender(messageCooldownMap, miniMessage, bukkitAudiences);
+		final KyoriMessageSender messageSender = new KyoriMessageSender(messageCooldownMap, components, bukkitAudiences, sounds);
+		final KyoriTitleSender titleSender = new KyoriTitleSender(messageCooldownMap, components, bukkitAudiences);
 
-		return List.of(messageSender, titleSender);
+		// wrap senders in tick batching decorators if enabled in plugin config
+		return (plugin.getConfig().getBoolean(MESSAGE_BATCHING_KEY))
+				? List.of(TickBatchingSender.create(plugin, messageSender), TickBatchingSender.create(plugin, titleSender))
+				: List.of(messageSender, titleSender);
 	}
 }
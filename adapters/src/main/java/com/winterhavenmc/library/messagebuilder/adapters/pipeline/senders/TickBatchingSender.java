@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.adapters.pipeline.senders;
+
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.senders.Sender;
+import com.winterhavenmc.library.messagebuilder.models.language.message.FinalMessageRecord;
+import com.winterhavenmc.library.messagebuilder.models.recipient.Recipient;
+
+import org.bukkit.plugin.Plugin;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.winterhavenmc.library.messagebuilder.models.validation.ErrorMessageKey.PARAMETER_NULL;
+import static com.winterhavenmc.library.messagebuilder.models.validation.Parameter.PLUGIN;
+import static com.winterhavenmc.library.messagebuilder.models.validation.Validator.throwing;
+import static com.winterhavenmc.library.messagebuilder.models.validation.Validator.validate;
+
+
+/**
+ * A {@link Sender} decorator that collects the message records sent to each recipient until the next server tick,
+ * discards exact duplicates, and passes the remaining records to the wrapped sender once, in a task scheduled to
+ * run on the next tick.
+ * <p>
+ * A single event may cause the same message to be sent to the same player many times within one tick, for
+ * example when an explosion damages many protected blocks. Since the records are identical, only the first
+ * is delivered. Records are delivered in the order in which they were first sent.
+ * <p>
+ * Records prepared off the server thread with {@link #prepare(Recipient.Sendable, FinalMessageRecord)} are
+ * prepared by the wrapped sender, so that its rendering work is still done off the server thread, and only the
+ * prepared delivery is batched.
+ * <p>
+ * Since delivery is deferred, the message pipeline reserves the cooldown of a message when the message is admitted,
+ * before it reaches this sender, so that a repeated send made before the flush is suppressed.
+ * <p>
+ * This class is not thread-safe. Records must be sent, and prepared deliveries run, on the server thread, which is
+ * already the case for both the synchronous and asynchronous send modes of the message pipeline. If the plugin is
+ * disabled, records are passed to the wrapped sender immediately, since no further ticks will be scheduled.
+ */
+public final class TickBatchingSender implements Sender
+{
+	private final Plugin plugin;
+	private final Sender delegate;
+	private final Map<Recipient.Sendable, Map<FinalMessageRecord, Runnable>> pending = new LinkedHashMap<>();
+
+
+	/**
+	 * Constructor
+	 */
+	private TickBatchingSender(final Plugin plugin, final Sender delegate)
+	{
+		this.plugin = plugin;
+		this.delegate = delegate;
+	}
+
+
+	/**
+	 * Static factory method
+	 *
+	 * @param plugin the plugin instance used to schedule the next-tick flush
+	 * @param delegate the sender to which batched records are passed
+	 * @return a new {@code TickBatchingSender} wrapping the given sender
+	 */
+	public static TickBatchingSender create(final Plugin plugin, final Sender delegate)
+	{
+		validate(plugin, Objects::isNull, throwing(PARAMETER_NULL, PLUGIN));
+
+		return new TickBatchingSender(plugin, Objects.requireNonNull(delegate));
+	}
+
+
+	/**
+	 * Queues the record for delivery to the recipient on the next tick. A record equal to one already queued
+	 * for the same recipient is discarded.
+	 *
+	 * @param recipient the recipient of the message
+	 * @param messageRecord the final message record with all macros resolved and fields populated
+	 */
+	@Override
+	public void send(final Recipient.Sendable recipient, final FinalMessageRecord messageRecord)
+	{
+		enqueue(recipient, messageRecord, () -> delegate.send(recipient, messageRecord));
+	}
+
+
+	/**
+	 * Prepares the record with the wrapped sender, and returns a task that queues the prepared delivery
+	 * for the next tick. A record equal to one already queued for the same recipient is discarded.
+	 *
+	 * @param recipient the recipient of the message
+	 * @param messageRecord the final message record with all macros resolved and fields populated
+	 * @return a task that queues the prepared delivery when run on the server thread
+	 */
+	@Override
+	public Runnable prepare(final Recipient.Sendable recipient, final FinalMessageRecord messageRecord)
+	{
+		final Runnable delivery = delegate.prepare(recipient, messageRecord);
+		return () -> enqueue(recipient, messageRecord, delivery);
+	}
+
+
+	/**
+	 * Passes broadcasts directly to the wrapped sender, since a broadcast is already delivered
+	 * to all of its recipients in a single operation.
+	 *
+	 * @param recipients the recipients of the message
+	 * @param messageRecord the final message record with all macros resolved and fields populated
+	 */
+	@Override
+	public void broadcast(final Collection<Recipient.Sendable> recipients, final FinalMessageRecord messageRecord)
+	{
+		delegate.broadcast(recipients, messageRecord);
+	}
+
+
+	/**
+	 * Passes all queued records to the wrapped sender, and clears the queue.
+	 */
+	void flush()
+	{
+		final Map<Recipient.Sendable, Map<FinalMessageRecord, Runnable>> batch = new LinkedHashMap<>(pending);
+		pending.clear();
+
+		batch.values().forEach(deliveries -> deliveries.values().forEach(Runnable::run));
+	}
+
+
+	/**
+	 * Returns the number of records waiting to be flushed.
+	 *
+	 * @return the number of queued records
+	 */
+	int pendingCount()
+	{
+		return pending.values().stream().mapToInt(Map::size).sum();
+	}
+
+
+	private void enqueue(final Recipient.Sendable recipient, final FinalMessageRecord messageRecord, final Runnable delivery)
+	{
+		if (!plugin.isEnabled())
+		{
+			delivery.run();
+			return;
+		}
+
+		if (pending.isEmpty())
+		{
+			plugin.getServer().getScheduler().runTask(plugin, this::flush);
+		}
+
+		pending.computeIfAbsent(recipient, __ -> new LinkedHashMap<>()).putIfAbsent(messageRecord, delivery);
+	}
+
+}
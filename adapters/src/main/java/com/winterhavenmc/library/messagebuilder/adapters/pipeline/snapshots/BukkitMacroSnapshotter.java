@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.adapters.pipeline.snapshots;
+
+import com.winterhavenmc.library.messagebuilder.core.context.AccessorCtx;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.resolvers.playername.PlayerNameResolver.CachedTamer;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.snapshots.MacroSnapshotter;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.entity.AnimalTamer;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.entity.Tameable;
+import org.bukkit.inventory.ItemStack;
+
+
+/**
+ * A {@link MacroSnapshotter} for Bukkit server objects. Must be called on the server thread.
+ * <p>
+ * Supported types are captured as follows:
+ * <ul>
+ *     <li>{@link Tameable}, {@link LivingEntity} and {@link Entity} — captured as {@link TameableSnapshot},
+ *     {@link LivingEntitySnapshot} and {@link EntitySnapshot} records</li>
+ *     <li>{@link World} — captured as a {@link WorldSnapshot}</li>
+ *     <li>{@link Location} and {@link Block} — captured as a {@link LocationSnapshot}</li>
+ *     <li>{@link ItemStack} — cloned</li>
+ * </ul>
+ * All other values, including strings, numbers, durations, plugins, offline players and plugin-defined
+ * objects implementing the accessor interfaces, are returned unchanged.
+ */
+public final class BukkitMacroSnapshotter implements MacroSnapshotter
+{
+	private final AccessorCtx ctx;
+
+
+	/**
+	 * Constructor
+	 */
+	private BukkitMacroSnapshotter(final AccessorCtx ctx)
+	{
+		this.ctx = ctx;
+	}
+
+
+	/**
+	 * Static factory method
+	 *
+	 * @param ctx the adapter context container, used to resolve world and player names at capture time
+	 * @return a new {@code BukkitMacroSnapshotter}
+	 */
+	public static BukkitMacroSnapshotter create(final AccessorCtx ctx)
+	{
+		return new BukkitMacroSnapshotter(ctx);
+	}
+
+
+	@Override
+	public Object snapshot(final Object value)
+	{
+		return switch (value)
+		{
+			case Tameable tameable -> new TameableSnapshot(tameable.getName(), displayName(tameable),
+					tameable.getUniqueId(), LocationSnapshot.of(tameable.getLocation(), ctx),
+					captureTamer(tameable.getKiller()), captureTamer(tameable.getOwner()));
+			case LivingEntity livingEntity -> new LivingEntitySnapshot(livingEntity.getName(), displayName(livingEntity),
+					livingEntity.getUniqueId(), LocationSnapshot.of(livingEntity.getLocation(), ctx),
+					captureTamer(livingEntity.getKiller()));
+			case Entity entity -> new EntitySnapshot(entity.getName(), displayName(entity),
+					entity.getUniqueId(), LocationSnapshot.of(entity.getLocation(), ctx));
+			case World world -> new WorldSnapshot(world.getName(),
+					ctx.worldNameResolver().resolve(world.getUID()), world.getUID());
+			case Location location -> LocationSnapshot.of(location, ctx);
+			case Block block -> LocationSnapshot.of(block.getLocation(), ctx);
+			case ItemStack itemStack -> itemStack.clone();
+			case null, default -> value;
+		};
+	}
+
+
+	private static String displayName(final Entity entity)
+	{
+		return (entity instanceof Player player)
+				? player.getDisplayName()
+				: entity.getCustomName();
+	}
+
+
+	private AnimalTamer captureTamer(final AnimalTamer animalTamer)
+	{
+		return switch (ctx.playerNameResolver().resolveTamer(animalTamer))
+		{
+			case null -> null;
+			case CachedTamer cachedTamer -> cachedTamer;
+			case AnimalTamer resolved -> new CachedTamer(resolved.getUniqueId(), resolved.getName());
+		};
+	}
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.adapters.pipeline.snapshots;
+
+import com.winterhavenmc.library.messagebuilder.core.context.AccessorCtx;
+import com.winterhavenmc.library.messagebuilder.core.maps.MacroStringMap;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.accessors.location.Locatable;
+import com.winterhavenmc.library.messagebuilder.models.keys.ValidMacroKey;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.UUID;
+
+import static com.winterhavenmc.library.messagebuilder.core.ports.pipeline.accessors.Accessor.BuiltIn.LOCATION;
+import static com.winterhavenmc.library.messagebuilder.core.ports.pipeline.accessors.Accessor.UNKNOWN_VALUE;
+
+
+/**
+ * An immutable snapshot of a {@link Location}, holding the world name as resolved at the time of capture
+ * and the block coordinates of the location.
+ * <p>
+ * Because the world name is resolved when the snapshot is taken, macro extraction does not consult the
+ * {@link com.winterhavenmc.library.messagebuilder.core.ports.pipeline.resolvers.worldname.WorldNameResolver WorldNameResolver}
+ * and may be performed on any thread.
+ *
+ * @param worldUid the unique id of the world, or {@code null} if the location has no world
+ * @param worldName the resolved name of the world, or {@code null} if the location has no world
+ * @param blockX the block x coordinate
+ * @param blockY the block y coordinate
+ * @param blockZ the block z coordinate
+ */
+public record LocationSnapshot(UUID worldUid, String worldName, int blockX, int blockY, int blockZ) implements Locatable
+{
+	/**
+	 * Static factory method
+	 *
+	 * @param location the location to capture
+	 * @param ctx the adapter context container, used to resolve the world name
+	 * @return a snapshot of the location, or {@code null} if the location is {@code null}
+	 */
+	public static LocationSnapshot of(final Location location, final AccessorCtx ctx)
+	{
+		if (location == null)
+		{
+			return null;
+		}
+
+		final World world = location.getWorld();
+
+		return new LocationSnapshot((world != null) ? world.getUID() : null,
+				Locatable.getLocationWorldName(location, ctx).orElse(null),
+				location.getBlockX(), location.getBlockY(), location.getBlockZ());
+	}
+
+
+	/**
+	 * Returns a new {@link Location} without a world, holding the block coordinates of this snapshot.
+	 *
+	 * @return a world-less location at the captured block coordinates
+	 */
+	@Override
+	public Location getLocation()
+	{
+		return new Location(null, blockX, blockY, blockZ);
+	}
+
+
+	@Override
+	public MacroStringMap extractLocation(final ValidMacroKey baseKey, final AccessorCtx ctx)
+	{
+		MacroStringMap resultMap = new MacroStringMap();
+
+		// create location subkey if base key does not end with 'LOCATION'
+		ValidMacroKey locationKey = (!baseKey.toString().endsWith("LOCATION"))
+				? baseKey.append(LOCATION).isValid().orElseThrow()
+				: baseKey;
+
+		String world = (worldName != null) ? worldName : UNKNOWN_VALUE;
+		String x = ctx.formatterCtx().localeNumberFormatter().format(blockX);
+		String y = ctx.formatterCtx().localeNumberFormatter().format(blockY);
+		String z = ctx.formatterCtx().localeNumberFormatter().format(blockZ);
+
+		resultMap.put(locationKey, world + " [" + String.join(", ", x, y, z) + "]");
+		locationKey.append(Field.WORLD).isValid().ifPresent(worldKey -> resultMap.put(worldKey, world));
+		locationKey.append(Field.X).isValid().ifPresent(xKey -> resultMap.put(xKey, x));
+		locationKey.append(Field.Y).isValid().ifPresent(yKey -> resultMap.put(yKey, y));
+		locationKey.append(Field.Z).isValid().ifPresent(zKey -> resultMap.put(zKey, z));
+
+		return resultMap;
+	}
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.adapters.pipeline.snapshots;
+
+import com.winterhavenmc.library.messagebuilder.core.context.AccessorCtx;
+import com.winterhavenmc.library.messagebuilder.core.maps.MacroStringMap;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.accessors.displayname.DisplayNameable;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.accessors.identity.Identifiable;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.accessors.killer.Killable;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.accessors.location.Locatable;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.accessors.name.Nameable;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.accessors.owner.Ownable;
+import com.winterhavenmc.library.messagebuilder.models.keys.ValidMacroKey;
+
+import org.bukkit.Location;
+import org.bukkit.entity.AnimalTamer;
+
+import java.util.UUID;
+
+
+/**
+ * An immutable snapshot of a {@link org.bukkit.entity.Tameable Tameable} entity, holding its name, display name,
+ * unique id, location, killer and owner at the time of capture.
+ * <p>
+ * Tamers are held as {@link com.winterhavenmc.library.messagebuilder.core.ports.pipeline.resolvers.playername.PlayerNameResolver.CachedTamer CachedTamer}
+ * records, so that their names may be read on any thread.
+ *
+ * @param name the name of the entity
+ * @param displayName the display name of a player, or the custom name of any other entity
+ * @param uniqueId the unique id of the entity
+ * @param location a snapshot of the location of the entity
+ * @param killer the player who killed the entity, or {@code null}
+ * @param owner the owner of the entity, or {@code null}
+ */
+public record TameableSnapshot(String name, String displayName, UUID uniqueId, LocationSnapshot location,
+							   AnimalTamer killer, AnimalTamer owner)
+		implements Nameable, DisplayNameable, Identifiable, Locatable, Killable, Ownable
+{
+	@Override
+	public String getName()
+	{
+		return name;
+	}
+
+
+	@Override
+	public String getDisplayName()
+	{
+		return displayName;
+	}
+
+
+	@Override
+	public UUID getUniqueId()
+	{
+		return uniqueId;
+	}
+
+
+	@Override
+	public Location getLocation()
+	{
+		return (location != null) ? location.getLocation() : null;
+	}
+
+
+	@Override
+	public MacroStringMap extractLocation(final ValidMacroKey baseKey, final AccessorCtx ctx)
+	{
+		return (location != null) ? location.extractLocation(baseKey, ctx) : new MacroStringMap();
+	}
+
+
+	@Override
+	public AnimalTamer getKiller()
+	{
+		return killer;
+	}
+
+
+	@Override
+	public AnimalTamer getOwner()
+	{
+		return owner;
+	}
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.adapters.pipeline.snapshots;
+
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.accessors.displayname.DisplayNameable;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.accessors.identity.Identifiable;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.accessors.name.Nameable;
+
+import java.util.UUID;
+
+
+/**
+ * An immutable snapshot of a {@link org.bukkit.World World}, holding its name, its display name as
+ * resolved at the time of capture, and its unique id.
+ *
+ * @param name the name of the world
+ * @param displayName the resolved display name of the world
+ * @param uniqueId the unique id of the world
+ */
+public record WorldSnapshot(String name, String displayName, UUID uniqueId)
+		implements Nameable, DisplayNameable, Identifiable
+{
+	@Override
+	public String getName()
+	{
+		return name;
+	}
+
+
+	@Override
+	public String getDisplayName()
+	{
+		return displayName;
+	}
+
+
+	@Override
+	public UUID getUniqueId()
+	{
+		return uniqueId;
+	}
+
+}
@@ -0,0 +1,19 @@
+/**
+ * Provides an implementation of the
+ * {@link com.winterhavenmc.library.messagebuilder.core.ports.pipeline.snapshots.MacroSnapshotter MacroSnapshotter}
+ * port, together with the immutable value records it produces.
+ *
+ * <ul>
+ *   <li>{@link com.winterhavenmc.library.messagebuilder.adapters.pipeline.snapshots.BukkitMacroSnapshotter BukkitMacroSnapshotter}
+ *   – captures Bukkit entities, worlds, blocks, locations and item stacks.</li>
+ *   <li>{@link com.winterhavenmc.library.messagebuilder.adapters.pipeline.snapshots.EntitySnapshot EntitySnapshot},
+ *   {@link com.winterhavenmc.library.messagebuilder.adapters.pipeline.snapshots.LivingEntitySnapshot LivingEntitySnapshot} and
+ *   {@link com.winterhavenmc.library.messagebuilder.adapters.pipeline.snapshots.TameableSnapshot TameableSnapshot}
+ *   – the name, display name, unique id, location, killer and owner of an entity.</li>
+ *   <li>{@link com.winterhavenmc.library.messagebuilder.adapters.pipeline.snapshots.LocationSnapshot LocationSnapshot}
+ *   – the resolved world name and block coordinates of a location.</li>
+ *   <li>{@link com.winterhavenmc.library.messagebuilder.adapters.pipeline.snapshots.WorldSnapshot WorldSnapshot}
+ *   – the name, display name and unique id of a world.</li>
+ * </ul>
+ */
+package com.winterhavenmc.library.messagebuilder.adapters.pipeline.snapshots;
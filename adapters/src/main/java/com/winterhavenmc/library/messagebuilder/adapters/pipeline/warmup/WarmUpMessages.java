@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.adapters.pipeline.warmup;
+
+import com.winterhavenmc.library.messagebuilder.models.keys.MessageKey;
+import com.winterhavenmc.library.messagebuilder.models.keys.ValidMessageKey;
+import com.winterhavenmc.library.messagebuilder.models.language.Section;
+
+import org.bukkit.configuration.Configuration;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.plugin.Plugin;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+
+/**
+ * Selects the messages to be rendered by the pipeline at startup from the plugin configuration.
+ * <p>
+ * The startup warm-up is enabled by setting {@code warm-up.enabled} to {@code true} in the plugin config.yml.
+ * The optional setting {@code warm-up.messages} lists the keys of the messages to be rendered; if it is not set,
+ * every message of the language file is rendered.
+ */
+public final class WarmUpMessages
+{
+	final static String ENABLED_KEY = "warm-up.enabled";
+	final static String MESSAGES_KEY = "warm-up.messages";
+
+
+	private WarmUpMessages() { }
+
+
+	/**
+	 * Returns the keys of the messages to be rendered at startup
+	 *
+	 * @param plugin reference to plugin main class
+	 * @param language the loaded language configuration
+	 * @return the keys of the configured messages, or of every message of the language file if none are
+	 * configured, or an empty {@code Optional} if the warm-up is not enabled
+	 */
+	public static Optional<Collection<ValidMessageKey>> select(final Plugin plugin, final Configuration language)
+	{
+		if (!plugin.getConfig().getBoolean(ENABLED_KEY))
+		{
+			return Optional.empty();
+		}
+
+		final List<String> configured = plugin.getConfig().getStringList(MESSAGES_KEY);
+		final ConfigurationSection messages = language.getConfigurationSection(Section.MESSAGES.name());
+		final Collection<String> names = (!configured.isEmpty())
+				? configured
+				: (messages != null)
+						? messages.getKeys(false)
+						: List.of();
+
+		return Optional.of(names.stream()
+				.map(name -> MessageKey.of(name).isValid())
+				.flatMap(Optional::stream)
+				.toList());
+	}
+
+}
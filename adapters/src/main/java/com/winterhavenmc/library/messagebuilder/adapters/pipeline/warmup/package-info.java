@@ -0,0 +1,6 @@
+/**
+ * Provides {@link com.winterhavenmc.library.messagebuilder.adapters.pipeline.warmup.WarmUpMessages WarmUpMessages},
+ * which selects from the plugin configuration the messages that the pipeline renders once at startup, before
+ * the first message is sent.
+ */
+package com.winterhavenmc.library.messagebuilder.adapters.pipeline.warmup;
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.winterhavenmc.library.messagebuilder.adapters.resources;
+
+import com.winterhavenmc.library.messagebuilder.core.ports.resources.ResourceSnapshot;
+import com.winterhavenmc.library.messagebuilder.core.ports.resources.ResourceSnapshots;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+
+/**
+ * A {@link ResourceSnapshots} implementation that holds the latest snapshot in a single {@link AtomicReference},
+ * and the snapshot pinned by a render in a {@link ThreadLocal}.
+ */
+public final class AtomicResourceSnapshots implements ResourceSnapshots
+{
+	private final AtomicReference<ResourceSnapshot> latest;
+	private final ThreadLocal<ResourceSnapshot> pinned = new ThreadLocal<>();
+
+
+	/**
+	 * Constructs an {@code AtomicResourceSnapshots} holding the empty snapshot of epoch zero
+	 */
+	public AtomicResourceSnapshots()
+	{
+		this(ResourceSnapshot.empty());
+	}
+
+
+	/**
+	 * Constructs an {@code AtomicResourceSnapshots} holding the given initial snapshot
+	 *
+	 * @param initial the snapshot that is current until the first publication
+	 */
+	public AtomicResourceSnapshots(final ResourceSnapshot initial)
+	{
+		this.latest = new AtomicReference<>(Objects.requireNonNull(initial));
+	}
+
+
+	@Override
+	public ResourceSnapshot current()
+	{
+		final ResourceSnapshot snapshot = pinned.get();
+
+		return (snapshot != null)
+				? snapshot
+				: latest.get();
+	}
+
+
+	@Override
+	public ResourceSnapshot publish(final UnaryOperator<ResourceSnapshot> update)
+	{
+		return latest.updateAndGet(snapshot ->
+		{
+			final ResourceSnapshot updated = update.apply(snapshot);
+			return new ResourceSnapshot(snapshot.epoch() + 1, updated.language(), updated.sounds());
+		});
+	}
+
+
+	@Override
+	public <T> T callPinned(final ResourceSnapshot snapshot, final Supplier<T> task)
+	{
+		final ResourceSnapshot previous = pinned.get();
+		pinned.set(Objects.requireNonNull(snapshot));
+
+		try
+		{
+			return task.get();
+		}
+		finally
+		{
+			if (previous != null)
+			{
+				pinned.set(previous);
+			}
+			else
+			{
+				pinned.remove();
+			}
+		}
+	}
+
+}
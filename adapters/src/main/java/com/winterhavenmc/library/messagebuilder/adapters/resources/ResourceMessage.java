@@ -27,6 +27,7 @@ public enum ResourceMessage
 {
 	RESOURCE_INSTALL_SUCCESS("Resource file ''{0}'' was successfully installed."),
 	RESOURCE_INSTALL_MISSING("Resource installation failed. File missing after save: {0}"),
+	RESOURCE_INSTALL_UNAVAILABLE("Resource file ''{0}'' was not found in the plugin jar, and will not be installed."),
 	RESOURCE_INSTALL_EXCEPTION("An exception occurred while attempting to install resource file ''{0}'': {1}"),
 
 	RESOURCE_LOAD_SUCCESS("Resource file ''{0}'' was successfully loaded."),
@@ -43,6 +44,18 @@ public enum ResourceMessage
 	RESOURCE_UNREADABLE("Resource file ''{0}'' could not be read. Falling back to default."),
 
 	RESOURCE_TAG_MISSING("No valid language tag could be resolved from config or default."),
+
+	RESOURCE_VALIDATION_PASSED("Validated {0} messages in {1} language files. No problems were found."),
+	RESOURCE_VALIDATION_FAILED("Validated {0} messages in {1} language files. {2} problems were found:"),
+
+	RESOURCE_WATCH_FAILED("The language and sound files could not be watched for changes."),
+	RESOURCE_WATCH_STOPPED("Watching the language and sound files for changes has stopped."),
+
+	RESOURCE_RENDER_FAILED("An exception occurred while rendering a message."),
+	RESOURCE_SEND_FAILED("An exception was thrown while sending a queued message."),
+	RESOURCE_WARM_UP_FAILED("The message ''{0}'' could not be rendered during warm-up."),
+	RESOURCE_WARM_UP_SKIPPED("{0} of {1} messages could not be rendered during warm-up, and were skipped."),
+	RESOURCE_BOOTSTRAP_TIME("Language and sound resources were loaded, and messages compiled, in {0} ms."),
 	;
 
 	private final String defaultMessage;
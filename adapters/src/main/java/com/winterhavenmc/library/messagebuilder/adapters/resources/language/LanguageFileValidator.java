@@ -0,0 +1,406 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.adapters.resources.language;
+
+import com.winterhavenmc.library.messagebuilder.adapters.pipeline.matchers.RegexPlaceholderMatcher;
+import com.winterhavenmc.library.messagebuilder.adapters.pipeline.replacers.RegexMacroReplacer;
+import com.winterhavenmc.library.messagebuilder.adapters.resources.ResourceMessage;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.matchers.PlaceholderMatcher;
+import com.winterhavenmc.library.messagebuilder.core.ports.resources.language.LanguageValidationReport;
+import com.winterhavenmc.library.messagebuilder.core.ports.resources.language.LanguageValidationReport.Issue;
+import com.winterhavenmc.library.messagebuilder.core.ports.resources.language.LanguageValidationReport.Kind;
+import com.winterhavenmc.library.messagebuilder.models.configuration.ConfigRepository;
+import com.winterhavenmc.library.messagebuilder.models.keys.ConstantKey;
+import com.winterhavenmc.library.messagebuilder.models.keys.ItemKey;
+import com.winterhavenmc.library.messagebuilder.models.keys.MessageKey;
+import com.winterhavenmc.library.messagebuilder.models.keys.ValidMacroKey;
+import com.winterhavenmc.library.messagebuilder.models.keys.ValidMessageKey;
+import com.winterhavenmc.library.messagebuilder.models.language.Section;
+import com.winterhavenmc.library.messagebuilder.models.language.item.ItemRecord;
+import com.winterhavenmc.library.messagebuilder.models.language.item.ValidItemRecord;
+import com.winterhavenmc.library.messagebuilder.models.language.message.MessageRecord;
+import com.winterhavenmc.library.messagebuilder.models.language.message.ValidMessageRecord;
+
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.ParsingException;
+import org.bukkit.Material;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.plugin.Plugin;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.MatchResult;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static com.winterhavenmc.library.messagebuilder.adapters.resources.language.LanguageConfigConstant.RESOURCE_SUBDIRECTORY;
+
+
+/**
+ * Validates every language file installed in the language subdirectory of the plugin data directory, ahead of
+ * the first message rendered from it. The files are read and validated in parallel, and the problems found in all
+ * of them are collected into a single {@link LanguageValidationReport}.
+ * <p>
+ * In the {@code MESSAGES} section, every entry must be named by a constant of the plugin's message id enum, and
+ * every constant should have an entry. The text, title and subtitle of each message must parse as MiniMessage,
+ * must not contain tags that MiniMessage does not know, and may only contain macros whose base key is a constant of
+ * the plugin's macro enum, or a macro populated by this library. In the {@code ITEMS} section, each item must have a
+ * valid key and a known material, and its names and lore must parse as MiniMessage. In the {@code CONSTANTS}
+ * section, each constant must have a valid key and a value. Without the plugin's enums, only the syntax of the
+ * files is validated, and message and macro names are not checked.
+ * <p>
+ * MiniMessage is parsed in strict mode, in which every tag must be explicitly closed, so a tag left open at the
+ * end of a message is reported, although it is closed implicitly when the message is rendered.
+ * <p>
+ * Validation only reports problems. A message that fails validation is still loaded, and is rendered as it was
+ * written, as MiniMessage renders any unknown or malformed tag as plain text.
+ * <p>
+ * Validation of the installed files when the library is created, and after each reload, is enabled by setting
+ * {@code language-validation.enabled} to {@code true} in the plugin config.yml.
+ */
+public final class LanguageFileValidator
+{
+	private final static Set<String> LIBRARY_MACROS = Set.of("PLUGIN", "RECIPIENT");
+	private final static Pattern UNKNOWN_TAG_PATTERN = Pattern.compile("</?[a-zA-Z_#!][^<>]*>");
+	private final static MiniMessage STRICT_MINI_MESSAGE = MiniMessage.builder().strict(true).build();
+	final static String ENABLED_KEY = "language-validation.enabled";
+
+	private final Plugin plugin;
+	private final ConfigRepository configRepository;
+	private final MiniMessage miniMessage;
+	private final PlaceholderMatcher placeholderMatcher = new RegexPlaceholderMatcher();
+
+
+	private LanguageFileValidator(final Plugin plugin, final ConfigRepository configRepository, final MiniMessage miniMessage)
+	{
+		this.plugin = plugin;
+		this.configRepository = configRepository;
+		this.miniMessage = miniMessage;
+	}
+
+
+	/**
+	 * Static factory method
+	 *
+	 * @param plugin reference to plugin main class
+	 * @param configRepository the repository of the plugin configuration
+	 * @param miniMessage the MiniMessage instance with which messages are rendered
+	 * @return a new {@code LanguageFileValidator}
+	 */
+	public static LanguageFileValidator create(final Plugin plugin,
+											   final ConfigRepository configRepository,
+											   final MiniMessage miniMessage)
+	{
+		return new LanguageFileValidator(Objects.requireNonNull(plugin),
+				Objects.requireNonNull(configRepository),
+				Objects.requireNonNull(miniMessage));
+	}
+
+
+	/**
+	 * Static factory method that creates a validator only if validation is enabled in the plugin configuration
+	 *
+	 * @param plugin reference to plugin main class
+	 * @param configRepository the repository of the plugin configuration
+	 * @param miniMessage the MiniMessage instance with which messages are rendered
+	 * @return a new {@code LanguageFileValidator}, or an empty {@code Optional} if validation is not enabled
+	 */
+	public static Optional<LanguageFileValidator> createIfEnabled(final Plugin plugin,
+																  final ConfigRepository configRepository,
+																  final MiniMessage miniMessage)
+	{
+		return (plugin.getConfig().getBoolean(ENABLED_KEY))
+				? Optional.of(create(plugin, configRepository, miniMessage))
+				: Optional.empty();
+	}
+
+
+	/**
+	 * Validates the syntax of all installed language files in parallel, without checking message and macro names
+	 *
+	 * @return a report of all problems found in all installed language files
+	 */
+	public LanguageValidationReport validate()
+	{
+		return validate(Optional.empty());
+	}
+
+
+	/**
+	 * Validates all installed language files in parallel
+	 *
+	 * @param messageIds the enum of the plugin's message ids
+	 * @param macros the enum of the plugin's macros
+	 * @return a report of all problems found in all installed language files
+	 * @param <E> the type of the message id enum
+	 * @param <M> the type of the macro enum
+	 */
+	public <E extends Enum<E>, M extends Enum<M>> LanguageValidationReport validate(final Class<E> messageIds,
+																					 final Class<M> macros)
+	{
+		return validate(Optional.of(new Names(
+				EnumSet.allOf(messageIds).stream().map(Enum::name).collect(Collectors.toSet()),
+				EnumSet.allOf(macros).stream().map(Enum::name).collect(Collectors.toSet()))));
+	}
+
+
+	private LanguageValidationReport validate(final Optional<Names> names)
+	{
+		final List<FileReport> fileReports = languageFiles().parallelStream()
+				.map(file -> validateFile(file, names))
+				.toList();
+
+		return new LanguageValidationReport(fileReports.size(),
+				fileReports.stream().mapToInt(FileReport::messages).sum(),
+				fileReports.stream().flatMap(fileReport -> fileReport.issues().stream()).toList());
+	}
+
+
+	/**
+	 * Writes a report to the plugin log, as a single entry
+	 *
+	 * @param report the report to be logged
+	 */
+	public void log(final LanguageValidationReport report)
+	{
+		if (report.isClean())
+		{
+			plugin.getLogger().info(ResourceMessage.RESOURCE_VALIDATION_PASSED
+					.getLocalizedMessage(configRepository.logLocale(), report.messages(), report.files()));
+		}
+		else
+		{
+			plugin.getLogger().warning(ResourceMessage.RESOURCE_VALIDATION_FAILED
+					.getLocalizedMessage(configRepository.logLocale(), report.messages(), report.files(), report.issues().size())
+					+ report.issues().stream().map(issue -> System.lineSeparator() + "  " + issue).collect(Collectors.joining()));
+		}
+	}
+
+
+	/**
+	 * The messages validated in, and the problems found in, a single language file
+	 */
+	private record FileReport(int messages, List<Issue> issues) { }
+
+
+	/**
+	 * The names of the plugin's message ids and macros
+	 */
+	private record Names(Set<String> messages, Set<String> macros) { }
+
+
+	/**
+	 * Returns the language files in the language subdirectory of the plugin data directory, in order of name
+	 */
+	private List<File> languageFiles()
+	{
+		final File[] files = new File(plugin.getDataFolder(), RESOURCE_SUBDIRECTORY.toString())
+				.listFiles(file -> file.isFile() && file.getName().endsWith(".yml"));
+
+		return (files == null)
+				? List.of()
+				: Arrays.stream(files).sorted(Comparator.comparing(File::getName)).toList();
+	}
+
+
+	private FileReport validateFile(final File file, final Optional<Names> names)
+	{
+		final List<Issue> issues = new ArrayList<>();
+		final YamlConfiguration configuration = new YamlConfiguration();
+		try
+		{
+			configuration.load(file);
+		}
+		catch (IOException | InvalidConfigurationException | IllegalArgumentException exception)
+		{
+			issues.add(new Issue(file.getName(), "", Kind.INVALID_FILE, String.valueOf(exception.getMessage()).lines()
+					.findFirst().orElse(exception.getClass().getSimpleName())));
+			return new FileReport(0, issues);
+		}
+
+		final int messages = validateMessages(file.getName(), configuration.getConfigurationSection(Section.MESSAGES.name()),
+				names, issues);
+		validateItems(file.getName(), configuration.getConfigurationSection(Section.ITEMS.name()), issues);
+		validateConstants(file.getName(), configuration.getConfigurationSection(Section.CONSTANTS.name()), issues);
+
+		return new FileReport(messages, issues);
+	}
+
+
+	private int validateMessages(final String fileName,
+								 final ConfigurationSection section,
+								 final Optional<Names> names,
+								 final List<Issue> issues)
+	{
+		final Set<String> entries = (section != null) ? section.getKeys(false) : Set.of();
+
+		for (String name : entries)
+		{
+			final String path = Section.MESSAGES.name() + "." + name;
+			final ValidMessageKey messageKey = MessageKey.of(name).isValid().orElse(null);
+			if (messageKey == null)
+			{
+				issues.add(new Issue(fileName, path, Kind.INVALID_KEY, name));
+				continue;
+			}
+			if (names.isPresent() && !names.get().messages().contains(name))
+			{
+				issues.add(new Issue(fileName, path, Kind.UNKNOWN_MESSAGE, name));
+			}
+			if (MessageRecord.of(messageKey, section.getConfigurationSection(name)) instanceof ValidMessageRecord messageRecord)
+			{
+				validateTemplate(fileName, path + "." + MessageRecord.Field.MESSAGE_TEXT.toKey(), messageRecord.message(), names, issues);
+				validateTemplate(fileName, path + "." + MessageRecord.Field.TITLE_TEXT.toKey(), messageRecord.title(), names, issues);
+				validateTemplate(fileName, path + "." + MessageRecord.Field.SUBTITLE_TEXT.toKey(), messageRecord.subtitle(), names, issues);
+			}
+			else
+			{
+				issues.add(new Issue(fileName, path, Kind.INVALID_MESSAGE, "not a section"));
+			}
+		}
+
+		names.stream()
+				.flatMap(known -> known.messages().stream())
+				.filter(name -> !entries.contains(name))
+				.sorted()
+				.forEach(name -> issues.add(new Issue(fileName, Section.MESSAGES.name() + "." + name, Kind.MISSING_MESSAGE, name)));
+
+		return entries.size();
+	}
+
+
+	private void validateTemplate(final String fileName,
+								  final String path,
+								  final String template,
+								  final Optional<Names> names,
+								  final List<Issue> issues)
+	{
+		if (template == null || template.isEmpty())
+		{
+			return;
+		}
+
+		names.ifPresent(known -> placeholderMatcher.match(template, RegexMacroReplacer.BASE_KEY_PATTERN)
+				.map(ValidMacroKey::toString)
+				.filter(macro -> !known.macros().contains(macro) && !LIBRARY_MACROS.contains(macro))
+				.distinct()
+				.forEach(macro -> issues.add(new Issue(fileName, path, Kind.UNKNOWN_MACRO, macro))));
+
+		validateMiniMessage(fileName, path, template, issues);
+	}
+
+
+	private void validateMiniMessage(final String fileName, final String path, final String text, final List<Issue> issues)
+	{
+		if (text == null || text.isEmpty())
+		{
+			return;
+		}
+
+		try
+		{
+			// the lenient instance never throws, rendering malformed tags as text
+			STRICT_MINI_MESSAGE.deserialize(text);
+		}
+		catch (ParsingException exception)
+		{
+			issues.add(new Issue(fileName, path, Kind.INVALID_MINIMESSAGE, exception.getMessage()));
+			return;
+		}
+
+		UNKNOWN_TAG_PATTERN.matcher(miniMessage.stripTags(text)).results()
+				.map(MatchResult::group)
+				.distinct()
+				.forEach(tag -> issues.add(new Issue(fileName, path, Kind.UNKNOWN_TAG, tag)));
+	}
+
+
+	private void validateItems(final String fileName, final ConfigurationSection section, final List<Issue> issues)
+	{
+		if (section == null)
+		{
+			return;
+		}
+
+		for (String name : section.getKeys(false))
+		{
+			final String path = Section.ITEMS.name() + "." + name;
+			final ConfigurationSection itemEntry = section.getConfigurationSection(name);
+			final ItemRecord itemRecord = ItemKey.of(name).isValid()
+					.map(itemKey -> ItemRecord.of(itemKey, itemEntry))
+					.orElse(null);
+
+			if (itemRecord == null)
+			{
+				issues.add(new Issue(fileName, path, Kind.INVALID_KEY, name));
+			}
+			else if (!(itemRecord instanceof ValidItemRecord validItemRecord))
+			{
+				issues.add(new Issue(fileName, path, Kind.INVALID_ITEM, "not a section"));
+			}
+			else
+			{
+				if (!validItemRecord.material().isEmpty() && Material.matchMaterial(validItemRecord.material()) == null)
+				{
+					issues.add(new Issue(fileName, path + "." + ItemRecord.Field.MATERIAL.toKey(), Kind.INVALID_ITEM, validItemRecord.material()));
+				}
+				validateMiniMessage(fileName, path + "." + ItemRecord.Field.NAME.toKey(), validItemRecord.name(), issues);
+				validateMiniMessage(fileName, path + "." + ItemRecord.Field.PLURAL_NAME.toKey(), validItemRecord.pluralName(), issues);
+				validateMiniMessage(fileName, path + "." + ItemRecord.Field.DISPLAY_NAME.toKey(), validItemRecord.displayName(), issues);
+				validItemRecord.lore().forEach(line -> validateMiniMessage(fileName, path + "." + ItemRecord.Field.LORE.toKey(), line, issues));
+			}
+		}
+	}
+
+
+	private void validateConstants(final String fileName, final ConfigurationSection section, final List<Issue> issues)
+	{
+		if (section == null)
+		{
+			return;
+		}
+
+		for (String name : section.getKeys(true))
+		{
+			final String path = Section.CONSTANTS.name() + "." + name;
+			if (section.isConfigurationSection(name))
+			{
+				continue;
+			}
+			if (ConstantKey.of(name).isValid().isEmpty())
+			{
+				issues.add(new Issue(fileName, path, Kind.INVALID_KEY, name));
+			}
+			else if (section.get(name) == null)
+			{
+				issues.add(new Issue(fileName, path, Kind.INVALID_CONSTANT, "no value"));
+			}
+		}
+	}
+
+}
@@ -0,0 +1,332 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.winterhavenmc.library.messagebuilder.adapters.resources.language;
+
+import org.bukkit.configuration.Configuration;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.zip.CRC32C;
+
+
+/**
+ * A compact binary copy of a parsed language file, written next to the YAML file, from which the language
+ * configuration can be rebuilt without parsing YAML.
+ * <p>
+ * The cache file holds every value of the language configuration by path, with its type, together with the size,
+ * modification time and CRC-32C checksum of the YAML file from which it was written. The cache is read through a
+ * memory-mapped buffer, and is used only while all three still match the YAML file; a cache that is stale, corrupt
+ * or of a different format version is ignored, and the YAML file is parsed instead. A configuration holding a value
+ * of a type that cannot be represented, such as a list of maps, is not cached.
+ * <p>
+ * The cache is enabled by setting {@code language-cache.enabled} to {@code true} in the plugin config.yml.
+ */
+public final class LanguagePackCache
+{
+	final static String ENABLED_KEY = "language-cache.enabled";
+	final static String FILE_SUFFIX = ".bin";
+	private final static int MAGIC = 0x4D424C50; // "MBLP"
+	private final static int FORMAT_VERSION = 1;
+
+	private final static byte EMPTY_SECTION = 0;
+	private final static byte STRING = 1;
+	private final static byte INTEGER = 2;
+	private final static byte LONG = 3;
+	private final static byte DOUBLE = 4;
+	private final static byte BOOLEAN = 5;
+	private final static byte STRING_LIST = 6;
+
+
+	private LanguagePackCache() { }
+
+
+	/**
+	 * The identity of a YAML file, by which the validity of its cache is determined
+	 *
+	 * @param size the size of the file in bytes
+	 * @param lastModified the modification time of the file, in milliseconds since the epoch
+	 * @param checksum the CRC-32C checksum of the contents of the file
+	 */
+	public record FileStamp(long size, long lastModified, long checksum)
+	{
+		/**
+		 * Reads the identity of a file. The stamp should be taken before the file is parsed, so that a change made
+		 * while it is parsed leaves the cache stale rather than holding values that do not match the stamp.
+		 *
+		 * @param file the path of the file
+		 * @return an {@code Optional} containing the stamp of the file, or an empty {@code Optional} if the file
+		 * could not be read
+		 */
+		public static Optional<FileStamp> of(final Path file)
+		{
+			try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ))
+			{
+				final CRC32C crc = new CRC32C();
+				crc.update(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+				return Optional.of(new FileStamp(channel.size(), Files.getLastModifiedTime(file).toMillis(), crc.getValue()));
+			}
+			catch (IOException exception)
+			{
+				return Optional.empty();
+			}
+		}
+	}
+
+
+	/**
+	 * Returns the path of the cache file for a YAML language file
+	 *
+	 * @param languageFile the path of the YAML language file
+	 * @return the path of the cache file, in the same directory as the language file
+	 */
+	static Path cacheFile(final Path languageFile)
+	{
+		return languageFile.resolveSibling(languageFile.getFileName() + FILE_SUFFIX);
+	}
+
+
+	/**
+	 * Rebuilds the configuration of a YAML language file from its cache, if the cache is still valid
+	 *
+	 * @param languageFile the path of the YAML language file
+	 * @param yamlFactory a supplier of the configuration object into which the cached values are set
+	 * @return an {@code Optional} containing the rebuilt configuration, or an empty {@code Optional} if there is
+	 * no valid cache for the language file
+	 */
+	public static Optional<Configuration> read(final Path languageFile, final Supplier<YamlConfiguration> yamlFactory)
+	{
+		final Path cacheFile = cacheFile(languageFile);
+		if (!Files.isRegularFile(languageFile) || !Files.isRegularFile(cacheFile))
+		{
+			return Optional.empty();
+		}
+
+		try (FileChannel channel = FileChannel.open(cacheFile, StandardOpenOption.READ))
+		{
+			final ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION)
+			{
+				return Optional.empty();
+			}
+
+			// size and modification time are compared before the language file is read for its checksum
+			final long size = buffer.getLong();
+			final long lastModified = buffer.getLong();
+			final long checksum = buffer.getLong();
+			if (size != Files.size(languageFile)
+					|| lastModified != Files.getLastModifiedTime(languageFile).toMillis()
+					|| !FileStamp.of(languageFile).equals(Optional.of(new FileStamp(size, lastModified, checksum))))
+			{
+				return Optional.empty();
+			}
+
+			final YamlConfiguration configuration = yamlFactory.get();
+			final int entryCount = buffer.getInt();
+			for (int i = 0; i < entryCount; i++)
+			{
+				final String path = readString(buffer);
+				final byte type = buffer.get();
+				switch (type)
+				{
+					case EMPTY_SECTION -> configuration.createSection(path);
+					case STRING -> configuration.set(path, readString(buffer));
+					case INTEGER -> configuration.set(path, buffer.getInt());
+					case LONG -> configuration.set(path, buffer.getLong());
+					case DOUBLE -> configuration.set(path, buffer.getDouble());
+					case BOOLEAN -> configuration.set(path, buffer.get() != 0);
+					case STRING_LIST -> configuration.set(path, readStringList(buffer));
+					default -> { return Optional.empty(); }
+				}
+			}
+
+			return Optional.of(configuration);
+		}
+		catch (IOException | BufferUnderflowException | IllegalArgumentException exception)
+		{
+			// a corrupt cache is ignored, and overwritten once the language file has been parsed
+			return Optional.empty();
+		}
+	}
+
+
+	/**
+	 * Writes the cache of a YAML language file, from the configuration parsed from it. The cache file is written
+	 * to a temporary file and moved into place, so that a partially written cache is never read.
+	 *
+	 * @param languageFile the path of the YAML language file
+	 * @param stamp the stamp of the language file, taken before it was parsed
+	 * @param configuration the configuration parsed from the language file
+	 * @return true if the cache was written, false if the configuration cannot be cached or the write failed
+	 */
+	public static boolean write(final Path languageFile, final FileStamp stamp, final Configuration configuration)
+	{
+		try
+		{
+			final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			final DataOutputStream out = new DataOutputStream(bytes);
+
+			out.writeInt(MAGIC);
+			out.writeInt(FORMAT_VERSION);
+			out.writeLong(stamp.size());
+			out.writeLong(stamp.lastModified());
+			out.writeLong(stamp.checksum());
+
+			final Map<String, Object> values = configuration.getValues(true);
+			final List<Map.Entry<String, Object>> entries = new ArrayList<>();
+			for (Map.Entry<String, Object> entry : values.entrySet())
+			{
+				if (!(entry.getValue() instanceof ConfigurationSection section) || section.getKeys(false).isEmpty())
+				{
+					entries.add(entry);
+				}
+			}
+
+			out.writeInt(entries.size());
+			for (Map.Entry<String, Object> entry : entries)
+			{
+				writeString(out, entry.getKey());
+				if (!writeValue(out, entry.getValue()))
+				{
+					return false;
+				}
+			}
+
+			final Path cacheFile = cacheFile(languageFile);
+			final Path temporaryFile = Files.createTempFile(cacheFile.getParent(), cacheFile.getFileName().toString(), ".tmp");
+			try
+			{
+				Files.write(temporaryFile, bytes.toByteArray());
+				Files.move(temporaryFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			}
+			finally
+			{
+				Files.deleteIfExists(temporaryFile);
+			}
+
+			return true;
+		}
+		catch (IOException | UnsupportedOperationException exception)
+		{
+			return false;
+		}
+	}
+
+
+	private static boolean writeValue(final DataOutputStream out, final Object value) throws IOException
+	{
+		switch (value)
+		{
+			case ConfigurationSection ignored -> out.writeByte(EMPTY_SECTION);
+			case String string ->
+			{
+				out.writeByte(STRING);
+				writeString(out, string);
+			}
+			case Integer integer ->
+			{
+				out.writeByte(INTEGER);
+				out.writeInt(integer);
+			}
+			case Long longValue ->
+			{
+				out.writeByte(LONG);
+				out.writeLong(longValue);
+			}
+			case Double doubleValue ->
+			{
+				out.writeByte(DOUBLE);
+				out.writeDouble(doubleValue);
+			}
+			case Boolean bool ->
+			{
+				out.writeByte(BOOLEAN);
+				out.writeBoolean(bool);
+			}
+			case List<?> list when list.stream().allMatch(String.class::isInstance) ->
+			{
+				out.writeByte(STRING_LIST);
+				out.writeInt(list.size());
+				for (Object element : list)
+				{
+					writeString(out, (String) element);
+				}
+			}
+			default ->
+			{
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+
+	private static void writeString(final DataOutputStream out, final String string) throws IOException
+	{
+		final byte[] encoded = string.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(encoded.length);
+		out.write(encoded);
+	}
+
+
+	private static String readString(final ByteBuffer buffer)
+	{
+		final int length = buffer.getInt();
+		if (length < 0 || length > buffer.remaining())
+		{
+			throw new IllegalArgumentException("Invalid string length in language cache: " + length);
+		}
+
+		final byte[] encoded = new byte[length];
+		buffer.get(encoded);
+		return new String(encoded, StandardCharsets.UTF_8);
+	}
+
+
+	private static List<String> readStringList(final ByteBuffer buffer)
+	{
+		final int size = buffer.getInt();
+		if (size < 0 || size > buffer.remaining())
+		{
+			throw new IllegalArgumentException("Invalid list size in language cache: " + size);
+		}
+
+		final List<String> list = new ArrayList<>(size);
+		for (int i = 0; i < size; i++)
+		{
+			list.add(readString(buffer));
+		}
+		return list;
+	}
+
+}
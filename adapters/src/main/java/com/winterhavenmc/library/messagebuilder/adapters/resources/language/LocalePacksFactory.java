@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.winterhavenmc.library.messagebuilder.adapters.resources.language;
+
+import com.winterhavenmc.library.messagebuilder.core.ports.resources.language.LocalePacks;
+import com.winterhavenmc.library.messagebuilder.models.configuration.ConfigRepository;
+
+import org.bukkit.plugin.Plugin;
+
+
+/**
+ * Creates the {@link LocalePacks} for the message pipeline from the plugin configuration.
+ * <p>
+ * Per-recipient language packs are enabled by setting {@code locale-packs.enabled} to {@code true} in the plugin
+ * config.yml. The optional setting {@code locale-packs.capacity} sets the maximum number of language packs held
+ * in memory.
+ */
+public final class LocalePacksFactory
+{
+	final static String ENABLED_KEY = "locale-packs.enabled";
+	final static String CAPACITY_KEY = "locale-packs.capacity";
+	final static int DEFAULT_CAPACITY = 8;
+
+
+	private LocalePacksFactory() { }
+
+
+	public static LocalePacks createLocalePacks(final Plugin plugin, final ConfigRepository configRepository)
+	{
+		return (plugin.getConfig().getBoolean(ENABLED_KEY))
+				? YamlLocalePacks.create(plugin, configRepository, plugin.getConfig().getInt(CAPACITY_KEY, DEFAULT_CAPACITY))
+				: new PassThroughLocalePacks();
+	}
+
+}
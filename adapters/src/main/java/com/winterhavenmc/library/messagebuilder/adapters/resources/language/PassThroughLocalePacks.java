@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.winterhavenmc.library.messagebuilder.adapters.resources.language;
+
+import com.winterhavenmc.library.messagebuilder.core.ports.resources.ResourceSnapshot;
+import com.winterhavenmc.library.messagebuilder.core.ports.resources.language.LocalePacks;
+import com.winterhavenmc.library.messagebuilder.models.recipient.Recipient;
+
+
+/**
+ * A {@link LocalePacks} that renders every message from the configured language file.
+ */
+public final class PassThroughLocalePacks implements LocalePacks
+{
+	@Override
+	public ResourceSnapshot select(final ResourceSnapshot snapshot, final Recipient.Sendable recipient)
+	{
+		return snapshot;
+	}
+
+}
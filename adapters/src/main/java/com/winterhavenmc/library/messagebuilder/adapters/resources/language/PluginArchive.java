@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.winterhavenmc.library.messagebuilder.adapters.resources.language;
+
+import org.bukkit.plugin.Plugin;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.CodeSource;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+
+/**
+ * An index of the entries of the plugin jar archive, read once from the central directory of the archive, from which
+ * resources can be copied into the plugin data directory without going through the plugin class loader.
+ * <p>
+ * The index holds the uncompressed size and CRC-32 checksum recorded in the archive for each entry. The archive is
+ * opened again only to read or copy an entry, and every copy is checked against the size and checksum of its entry
+ * before it is moved into place.
+ */
+public final class PluginArchive
+{
+	private final Path archive;
+	private final Map<String, EntryStamp> entries;
+
+
+	/**
+	 * The size and checksum of an archive entry, as recorded in the central directory of the archive
+	 *
+	 * @param size the uncompressed size of the entry in bytes
+	 * @param checksum the CRC-32 checksum of the uncompressed entry
+	 */
+	public record EntryStamp(long size, long checksum) { }
+
+
+	private PluginArchive(final Path archive, final Map<String, EntryStamp> entries)
+	{
+		this.archive = archive;
+		this.entries = entries;
+	}
+
+
+	/**
+	 * Resolves the location of the jar archive from which a plugin was loaded
+	 *
+	 * @param plugin the plugin
+	 * @return an {@code Optional} containing the path of the plugin jar archive, or an empty {@code Optional} if the
+	 * plugin was not loaded from a jar archive on the default file system
+	 */
+	public static Optional<Path> locate(final Plugin plugin)
+	{
+		try
+		{
+			final CodeSource codeSource = plugin.getClass().getProtectionDomain().getCodeSource();
+			if (codeSource == null || codeSource.getLocation() == null)
+			{
+				return Optional.empty();
+			}
+
+			final Path location = Path.of(codeSource.getLocation().toURI());
+			return (Files.isRegularFile(location))
+					? Optional.of(location)
+					: Optional.empty();
+		}
+		catch (URISyntaxException | IllegalArgumentException | FileSystemNotFoundException | SecurityException exception)
+		{
+			return Optional.empty();
+		}
+	}
+
+
+	/**
+	 * Reads the index of a jar archive
+	 *
+	 * @param archive the path of the jar archive
+	 * @return an {@code Optional} containing the index of the archive, or an empty {@code Optional} if the archive
+	 * could not be read
+	 */
+	public static Optional<PluginArchive> open(final Path archive)
+	{
+		try (JarFile jarFile = new JarFile(archive.toFile(), false))
+		{
+			final Map<String, EntryStamp> entries = new HashMap<>();
+			jarFile.stream()
+					.filter(entry -> !entry.isDirectory())
+					.forEach(entry -> entries.put(entry.getName(), new EntryStamp(entry.getSize(), entry.getCrc())));
+			return Optional.of(new PluginArchive(archive, Collections.unmodifiableMap(entries)));
+		}
+		catch (IOException | SecurityException exception)
+		{
+			return Optional.empty();
+		}
+	}
+
+
+	/**
+	 * Returns the size and checksum of an archive entry
+	 *
+	 * @param entryName the name of the entry
+	 * @return an {@code Optional} containing the stamp of the entry, or an empty {@code Optional} if the archive
+	 * has no entry with the name
+	 */
+	public Optional<EntryStamp> stamp(final String entryName)
+	{
+		return (entryName == null)
+				? Optional.empty()
+				: Optional.ofNullable(entries.get(entryName));
+	}
+
+
+	/**
+	 * Reads an archive entry
+	 *
+	 * @param entryName the name of the entry
+	 * @param reader a function that reads the contents of the entry
+	 * @return an {@code Optional} containing the result of the reader, or an empty {@code Optional} if the archive
+	 * has no entry with the name, or the entry could not be read
+	 */
+	public <T> Optional<T> read(final String entryName, final Function<InputStream, T> reader)
+	{
+		if (stamp(entryName).isEmpty())
+		{
+			return Optional.empty();
+		}
+
+		try (JarFile jarFile = new JarFile(archive.toFile(), false);
+			 InputStream input = jarFile.getInputStream(jarFile.getJarEntry(entryName)))
+		{
+			return Optional.ofNullable(reader.apply(input));
+		}
+		catch (IOException | SecurityException exception)
+		{
+			return Optional.empty();
+		}
+	}
+
+
+	/**
+	 * Copies an archive entry to a file. The entry is transferred through channels into a temporary file in the
+	 * directory of the target, checked against the size and checksum of the entry, and then moved into place, so
+	 * that an interrupted or corrupt copy never leaves a partial file at the target.
+	 *
+	 * @param entryName the name of the entry
+	 * @param target the path of the file to which the entry is copied
+	 * @return the number of bytes copied
+	 * @throws IOException if the archive has no entry with the name, the entry could not be copied, or the copy does
+	 * not match the size and checksum of the entry
+	 */
+	public long copy(final String entryName, final Path target) throws IOException
+	{
+		final EntryStamp stamp = stamp(entryName)
+				.orElseThrow(() -> new IOException("no archive entry " + entryName));
+
+		Files.createDirectories(target.toAbsolutePath().getParent());
+		final Path temporary = Files.createTempFile(target.toAbsolutePath().getParent(), target.getFileName().toString(), ".tmp");
+		try
+		{
+			final CRC32 checksum = new CRC32();
+			final long copied;
+			try (JarFile jarFile = new JarFile(archive.toFile(), false))
+			{
+				final JarEntry entry = jarFile.getJarEntry(entryName);
+				try (ReadableByteChannel source = Channels.newChannel(new CheckedInputStream(jarFile.getInputStream(entry), checksum));
+					 FileChannel sink = FileChannel.open(temporary, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING))
+				{
+					copied = sink.transferFrom(source, 0, (stamp.size() < 0) ? Long.MAX_VALUE : stamp.size());
+				}
+			}
+
+			if ((stamp.size() >= 0 && copied != stamp.size()) || (stamp.checksum() >= 0 && checksum.getValue() != stamp.checksum()))
+			{
+				throw new IOException("copy of archive entry " + entryName + " does not match its size or checksum");
+			}
+
+			Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE);
+			return copied;
+		}
+		finally
+		{
+			Files.deleteIfExists(temporary);
+		}
+	}
+
+}
@@ -0,0 +1,342 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.winterhavenmc.library.messagebuilder.adapters.resources.language;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.error.YAMLException;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.events.ScalarEvent;
+import org.yaml.snakeyaml.nodes.NodeId;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.resolver.Resolver;
+
+import java.io.Reader;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+
+/**
+ * Loads a YAML language file into a configuration from the event stream of the YAML parser, setting each value
+ * into its configuration section as it is parsed.
+ * <p>
+ * {@link YamlConfiguration#load(Reader)} composes the whole document into a node graph, constructs a tree of maps
+ * from the node graph, and only then copies the tree into configuration sections. Loading from the event stream
+ * builds the configuration sections alone, with no intermediate representation of the document, and holds a single
+ * instance of each distinct key, such as the field names repeated by every message. Plain scalars are given the
+ * same types as {@code YamlConfiguration} gives them.
+ * <p>
+ * Documents using YAML features that are rare in language files, namely anchors and aliases, merge keys, explicit
+ * tags and timestamps, are not loaded; the caller loads them with {@code YamlConfiguration} instead.
+ */
+public final class StreamingYamlLoader
+{
+	final static String ENABLED_KEY = "language-streaming.enabled";
+	private final static String STRING_TAG = Tag.STR.getValue();
+
+	private final Resolver resolver = new Resolver();
+	private final Map<String, String> keys = new HashMap<>();
+
+
+	/**
+	 * Thrown when a document uses a YAML feature that is not loaded from the event stream
+	 */
+	private static final class UnsupportedFeatureException extends RuntimeException
+	{
+		private UnsupportedFeatureException(final String feature)
+		{
+			super(feature, null, false, false);
+		}
+	}
+
+
+	private StreamingYamlLoader() { }
+
+
+	/**
+	 * Loads a YAML document into a configuration
+	 *
+	 * @param reader the reader of the YAML document
+	 * @param configuration the empty configuration into which the document is loaded
+	 * @return {@code true} if the document was loaded, or {@code false} if the document uses a YAML feature that is
+	 * not loaded from the event stream, in which case the configuration is left empty
+	 * @throws InvalidConfigurationException if the document is not valid YAML, or its top level is not a map
+	 */
+	public static boolean load(final Reader reader, final YamlConfiguration configuration) throws InvalidConfigurationException
+	{
+		final LoaderOptions loaderOptions = new LoaderOptions();
+		loaderOptions.setCodePointLimit(Integer.MAX_VALUE);
+
+		try
+		{
+			final Iterator<Event> events = new Yaml(loaderOptions).parse(reader).iterator();
+			new StreamingYamlLoader().loadDocument(events, configuration);
+			return true;
+		}
+		catch (UnsupportedFeatureException exception)
+		{
+			configuration.getKeys(false).forEach(key -> configuration.set(key, null));
+			return false;
+		}
+		catch (YAMLException | NoSuchElementException exception)
+		{
+			throw new InvalidConfigurationException(exception);
+		}
+	}
+
+
+	private void loadDocument(final Iterator<Event> events, final ConfigurationSection root) throws InvalidConfigurationException
+	{
+		expect(events.next(), Event.ID.StreamStart);
+		Event event = events.next();
+		if (event.is(Event.ID.StreamEnd))
+		{
+			return; // empty document
+		}
+
+		expect(event, Event.ID.DocumentStart);
+		event = events.next();
+		if (event.is(Event.ID.MappingStart))
+		{
+			loadMapping(events, root);
+			event = events.next();
+		}
+		else if (!(event instanceof ScalarEvent scalar && resolve(scalar) == null))
+		{
+			throw new InvalidConfigurationException("Top level is not a Map.");
+		}
+		else
+		{
+			event = events.next();
+		}
+
+		expect(event, Event.ID.DocumentEnd);
+		if (!events.next().is(Event.ID.StreamEnd))
+		{
+			throw new UnsupportedFeatureException("multiple documents");
+		}
+	}
+
+
+	/**
+	 * Sets the entries of a mapping, whose start event has been read, into a configuration section
+	 */
+	private void loadMapping(final Iterator<Event> events, final ConfigurationSection section)
+	{
+		Event event;
+		while (!(event = events.next()).is(Event.ID.MappingEnd))
+		{
+			final String key = key(event);
+			final Event valueEvent = events.next();
+
+			switch (valueEvent.getEventId())
+			{
+				case MappingStart -> loadMapping(events, section.createSection(key));
+				case SequenceStart -> section.set(key, loadSequence(events));
+				case Scalar ->
+				{
+					final Object value = resolve((ScalarEvent) valueEvent);
+					if (value != null)
+					{
+						section.set(key, value);
+					}
+				}
+				default -> throw new UnsupportedFeatureException(valueEvent.getEventId().name());
+			}
+		}
+	}
+
+
+	/**
+	 * Reads the elements of a sequence, whose start event has been read, into a list
+	 */
+	private List<Object> loadSequence(final Iterator<Event> events)
+	{
+		final List<Object> list = new ArrayList<>();
+		Event event;
+		while (!(event = events.next()).is(Event.ID.SequenceEnd))
+		{
+			list.add(value(events, event));
+		}
+		return list;
+	}
+
+
+	/**
+	 * Reads the entries of a mapping nested in a sequence, whose start event has been read, into a map
+	 */
+	private Map<String, Object> loadMap(final Iterator<Event> events)
+	{
+		final Map<String, Object> map = new LinkedHashMap<>();
+		Event event;
+		while (!(event = events.next()).is(Event.ID.MappingEnd))
+		{
+			final String key = key(event);
+			map.put(key, value(events, events.next()));
+		}
+		return map;
+	}
+
+
+	private Object value(final Iterator<Event> events, final Event event)
+	{
+		return switch (event.getEventId())
+		{
+			case MappingStart -> loadMap(events);
+			case SequenceStart -> loadSequence(events);
+			case Scalar -> resolve((ScalarEvent) event);
+			default -> throw new UnsupportedFeatureException(event.getEventId().name());
+		};
+	}
+
+
+	/**
+	 * Returns the single instance held of a mapping key
+	 */
+	private String key(final Event event)
+	{
+		if (!(event instanceof ScalarEvent scalar))
+		{
+			throw new UnsupportedFeatureException("complex key");
+		}
+
+		final Object resolved = resolve(scalar);
+		if (resolved == null)
+		{
+			throw new UnsupportedFeatureException("null key");
+		}
+
+		final String key = String.valueOf(resolved);
+		return keys.computeIfAbsent(key, k -> k);
+	}
+
+
+	/**
+	 * Resolves the value of a scalar to the type given to it by {@code YamlConfiguration}
+	 */
+	private Object resolve(final ScalarEvent scalar)
+	{
+		if (scalar.getAnchor() != null)
+		{
+			throw new UnsupportedFeatureException("anchor");
+		}
+
+		if (scalar.getTag() != null && !STRING_TAG.equals(scalar.getTag()) && !"!".equals(scalar.getTag()))
+		{
+			throw new UnsupportedFeatureException("tag " + scalar.getTag());
+		}
+
+		final String value = scalar.getValue();
+		if (!scalar.isPlain() || scalar.getTag() != null)
+		{
+			return value;
+		}
+
+		final Tag tag = resolver.resolve(NodeId.scalar, value, true);
+		if (Tag.STR.equals(tag)) return value;
+		if (Tag.NULL.equals(tag)) return null;
+		if (Tag.BOOL.equals(tag)) return toBoolean(value);
+		if (Tag.INT.equals(tag)) return toInteger(value);
+		if (Tag.FLOAT.equals(tag)) return toDouble(value);
+		throw new UnsupportedFeatureException("scalar " + tag);
+	}
+
+
+	private static Boolean toBoolean(final String value)
+	{
+		return switch (value.toLowerCase())
+		{
+			case "yes", "true", "on" -> Boolean.TRUE;
+			default -> Boolean.FALSE;
+		};
+	}
+
+
+	/**
+	 * Converts an integer scalar as the YAML 1.1 safe constructor does, to the narrowest of
+	 * {@code Integer}, {@code Long} and {@code BigInteger} that holds it
+	 */
+	private static Number toInteger(final String value)
+	{
+		String digits = value.replace("_", "");
+		int sign = 1;
+		if (digits.startsWith("-") || digits.startsWith("+"))
+		{
+			sign = (digits.charAt(0) == '-') ? -1 : 1;
+			digits = digits.substring(1);
+		}
+
+		if (digits.contains(":"))
+		{
+			throw new UnsupportedFeatureException("sexagesimal integer");
+		}
+
+		final int radix;
+		if (digits.startsWith("0b")) { radix = 2; digits = digits.substring(2); }
+		else if (digits.startsWith("0x")) { radix = 16; digits = digits.substring(2); }
+		else if (digits.startsWith("0o")) { radix = 8; digits = digits.substring(2); }
+		else if (digits.length() > 1 && digits.startsWith("0")) { radix = 8; digits = digits.substring(1); }
+		else { radix = 10; }
+
+		final BigInteger number = new BigInteger(digits, radix);
+		final BigInteger signed = (sign < 0) ? number.negate() : number;
+
+		if (signed.bitLength() < Integer.SIZE) return signed.intValue();
+		if (signed.bitLength() < Long.SIZE) return signed.longValue();
+		return signed;
+	}
+
+
+	/**
+	 * Converts a float scalar as the YAML 1.1 safe constructor does
+	 */
+	private static Double toDouble(final String value)
+	{
+		final String digits = value.replace("_", "");
+		final String lower = digits.toLowerCase();
+
+		if (lower.equals(".inf") || lower.equals("+.inf")) return Double.POSITIVE_INFINITY;
+		if (lower.equals("-.inf")) return Double.NEGATIVE_INFINITY;
+		if (lower.equals(".nan")) return Double.NaN;
+		if (digits.contains(":"))
+		{
+			throw new UnsupportedFeatureException("sexagesimal float");
+		}
+
+		return Double.valueOf(digits);
+	}
+
+
+	private static void expect(final Event event, final Event.ID id)
+	{
+		if (!event.is(id))
+		{
+			throw new UnsupportedFeatureException(event.getEventId().name());
+		}
+	}
+
+}
@@ -25,8 +25,11 @@ import com.winterhavenmc.library.messagebuilder.models.configuration.ConfigRepos
 import org.bukkit.plugin.Plugin;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.winterhavenmc.library.messagebuilder.adapters.resources.language.LanguageConfigConstant.RESOURCE_AUTO_INSTALL;
 import static com.winterhavenmc.library.messagebuilder.adapters.resources.language.LanguageConfigConstant.RESOURCE_SUBDIRECTORY;
@@ -37,6 +40,15 @@ import static com.winterhavenmc.library.messagebuilder.adapters.resources.langua
  * to the language subdirectory of the plugin data directory.
  * Any files listed in an auto_install.txt file with a .yml suffix that are stored as a resource within a /language
  * subdirectory in the plugin jar archive will be copied to the /language subdirectory of the plugin data directory.
+ * <p>
+ * When the plugin was loaded from a jar archive, the entries of the archive and the auto install list are read once,
+ * on the first install, and resources are copied directly from the archive; an install in which every listed
+ * resource is already present in the plugin data directory does no archive I/O at all. Otherwise, resources are
+ * read and saved through the plugin, the auto install list is read once, and a resource found to be missing from
+ * the jar archive is remembered, so that a later install does no archive I/O for it either.
+ * <p>
+ * A resource is never copied over an existing file. A language file updated in a new version of the plugin is
+ * therefore not installed for a server that already has the file in its plugin data directory.
  */
 public final class YamlLanguageResourceInstaller implements ResourceInstaller
 {
@@ -44,6 +56,16 @@ public final class YamlLanguageResourceInstaller implements ResourceInstaller
 
 	private final Plugin plugin;
 	private final ConfigRepository configRepository;
+	private final Optional<Path> archiveLocation;
+	private Optional<ArchiveIndex> archiveIndex; // guarded by this, null until first read
+	private Set<String> autoInstallSet; // guarded by this, null until first read
+	private final Set<String> unavailable = ConcurrentHashMap.newKeySet();
+
+
+	/**
+	 * The index of the plugin jar archive, with the set of resources listed in its auto install resource
+	 */
+	private record ArchiveIndex(PluginArchive archive, Set<String> autoInstallSet) { }
 
 
 	/**
@@ -52,26 +74,40 @@ public final class YamlLanguageResourceInstaller implements ResourceInstaller
 	 * @param plugin reference to plugin main class
 	 */
 	public YamlLanguageResourceInstaller(final Plugin plugin, final ConfigRepository configRepository)
+	{
+		this(plugin, configRepository, PluginArchive.locate(plugin));
+	}
+
+
+	/**
+	 * Class constructor
+	 *
+	 * @param plugin reference to plugin main class
+	 * @param archiveLocation the location of the jar archive from which resources are installed, if any
+	 */
+	YamlLanguageResourceInstaller(final Plugin plugin, final ConfigRepository configRepository, final Optional<Path> archiveLocation)
 	{
 		this.plugin = plugin;
 		this.configRepository = configRepository;
+		this.archiveLocation = archiveLocation;
 	}
 
 
 	/**
-	 * Install resources listed in auto_install.txt to the plugin data directory
+	 * Install resources listed in auto_install.txt to the plugin data directory. Resources are copied with
+	 * {@link Plugin#saveResource}, which is not thread-safe, so this method should be called on the server thread.
 	 */
 	@Override
 	public InstallerStatus install()
 	{
-		InstallerStatus installerStatus = InstallerStatus.FAIL;
-		Set<String> resourceNames = getAutoInstallSet(getAutoInstallResourceName());
-		for (String resourceName : resourceNames)
-		{
-			installIfMissing(resourceName);
-			installerStatus = InstallerStatus.SUCCESS;
-		}
-		return installerStatus;
+		Set<String> resourceNames = archiveIndex()
+				.map(ArchiveIndex::autoInstallSet)
+				.orElseGet(this::autoInstallSet);
+		resourceNames.forEach(this::installIfMissing);
+
+		return (resourceNames.isEmpty())
+				? InstallerStatus.FAIL
+				: InstallerStatus.SUCCESS;
 	}
 
 
@@ -96,11 +132,20 @@ public final class YamlLanguageResourceInstaller implements ResourceInstaller
 	public Set<String> getAutoInstallSet(final String autoInstallPathName)
 	{
 		InputStream input = plugin.getResource(autoInstallPathName);
-		if (input == null)
-		{
-			return Collections.emptySet();
-		}
+		return (input != null)
+				? readAutoInstallSet(input)
+				: Collections.emptySet();
+	}
+
 
+	/**
+	 * Read the resource names with a .yml suffix from an auto install resource
+	 *
+	 * @param input the contents of the auto install resource
+	 * @return the set of sanitized resource names
+	 */
+	private Set<String> readAutoInstallSet(final InputStream input)
+	{
 		Set<String> result = new LinkedHashSet<>();
 		try (Scanner scanner = new Scanner(input))
 		{
@@ -138,12 +183,17 @@ public final class YamlLanguageResourceInstaller implements ResourceInstaller
 	 */
 	public InstallerStatus installByName(final String resourceName)
 	{
-		if (plugin.getResource(resourceName) == null)
+		if (resourceName == null || unavailable.contains(resourceName))
 		{
-			plugin.getLogger().warning("Resource not found in plugin JAR: " + resourceName);
 			return InstallerStatus.UNAVAILABLE;
 		}
 
+		Optional<ArchiveIndex> index = archiveIndex();
+		if (index.isPresent())
+		{
+			return installFromArchive(index.get().archive(), resourceName);
+		}
+
 		if (isInstalled(resourceName))
 		{
 			return InstallerStatus.FILE_EXISTS;
@@ -151,7 +201,7 @@ public final class YamlLanguageResourceInstaller implements ResourceInstaller
 
 		try
 		{
-			plugin.saveResource(resourceName, false); // Never overwrite
+			plugin.saveResource(resourceName, false); // Never overwrite; throws if the resource is not in the jar
 			String filePath = resourceName.replace("/", File.separator);
 			File installedFile = new File(plugin.getDataFolder(), filePath);
 
@@ -168,6 +218,10 @@ public final class YamlLanguageResourceInstaller implements ResourceInstaller
 				return InstallerStatus.FAIL;
 			}
 		}
+		catch (IllegalArgumentException exception)
+		{
+			return unavailable(resourceName);
+		}
 		catch (Exception exception)
 		{
 			plugin.getLogger().severe(ResourceMessage.RESOURCE_INSTALL_EXCEPTION
@@ -177,6 +231,94 @@ public final class YamlLanguageResourceInstaller implements ResourceInstaller
 	}
 
 
+	/**
+	 * Install resource by copying it directly from the plugin jar archive to the plugin data directory
+	 *
+	 * @param archive the index of the plugin jar archive
+	 * @param resourceName the path name of the resource to be installed
+	 * @return the status of the resource installation
+	 */
+	private InstallerStatus installFromArchive(final PluginArchive archive, final String resourceName)
+	{
+		if (archive.stamp(resourceName).isEmpty())
+		{
+			return unavailable(resourceName);
+		}
+
+		if (isInstalled(resourceName))
+		{
+			return InstallerStatus.FILE_EXISTS;
+		}
+
+		String filePath = resourceName.replace("/", File.separator);
+		try
+		{
+			archive.copy(resourceName, new File(plugin.getDataFolder(), filePath).toPath());
+			plugin.getLogger().info(ResourceMessage.RESOURCE_INSTALL_SUCCESS
+					.getLocalizedMessage(configRepository.logLocale(), filePath));
+			return InstallerStatus.SUCCESS;
+		}
+		catch (IOException exception)
+		{
+			plugin.getLogger().severe(ResourceMessage.RESOURCE_INSTALL_EXCEPTION
+					.getLocalizedMessage(configRepository.logLocale(), resourceName, exception.getLocalizedMessage()));
+			return InstallerStatus.FAIL;
+		}
+	}
+
+
+	/**
+	 * Remembers a resource found to be missing from the plugin jar archive, so that a later install neither reads
+	 * the archive for it nor repeats the warning logged here
+	 *
+	 * @param resourceName the path name of the missing resource
+	 * @return the status of an unavailable resource
+	 */
+	private InstallerStatus unavailable(final String resourceName)
+	{
+		if (unavailable.add(resourceName))
+		{
+			plugin.getLogger().warning(ResourceMessage.RESOURCE_INSTALL_UNAVAILABLE
+					.getLocalizedMessage(configRepository.logLocale(), resourceName));
+		}
+		return InstallerStatus.UNAVAILABLE;
+	}
+
+
+	/**
+	 * Returns the index of the plugin jar archive, reading it on first use. The index is empty if the plugin was
+	 * not loaded from a jar archive, or the archive has no auto install resource.
+	 *
+	 * @return an {@code Optional} containing the index of the plugin jar archive
+	 */
+	private synchronized Optional<ArchiveIndex> archiveIndex()
+	{
+		if (archiveIndex == null)
+		{
+			archiveIndex = archiveLocation
+					.flatMap(PluginArchive::open)
+					.flatMap(archive -> archive.read(getAutoInstallResourceName(), this::readAutoInstallSet)
+							.map(autoInstallSet -> new ArchiveIndex(archive, Collections.unmodifiableSet(autoInstallSet))));
+		}
+		return archiveIndex;
+	}
+
+
+	/**
+	 * Returns the set of resources listed in the auto install resource, reading it through the plugin on first use
+	 *
+	 * @return the set of filenames to be autoinstalled into the plugin data directory
+	 */
+	private synchronized Set<String> autoInstallSet()
+	{
+		if (autoInstallSet == null)
+		{
+			autoInstallSet = Collections.unmodifiableSet(getAutoInstallSet(getAutoInstallResourceName()));
+		}
+		return autoInstallSet;
+	}
+
+
 	/**
 	 * Test if resource is installed in the plugin data directory
 	 *
@@ -118,63 +118,190 @@ public class YamlLanguageResourceLoader implements ResourceLoader
 
 
 	/**
-	 * Attempts to load the preferred language file from disk.
-	 * If unavailable or invalid, falls back to loading the fallback language directly from the plugin resource.
+	 * Reads the configured language, the cache and streaming settings, and the locale of log messages, from the
+	 * plugin configuration on the calling thread, and returns a task that loads the configured language file without
+	 * calling the server, so that the file may be parsed on any thread. If the task returns an empty
+	 * {@code Optional}, the file could not be loaded, and {@link #loadFallback()} should be called on the server thread.
+	 *
+	 * @return a task that loads the configured language file
+	 */
+	public Supplier<Optional<Configuration>> fileLoader()
+	{
+		final LanguageTag languageTag = getConfiguredLanguageTag()
+				.orElseThrow(() -> new IllegalStateException(ResourceMessage.RESOURCE_TAG_MISSING
+						.getLocalizedMessage(configRepository.locale())));
+		final File languageFile = new File(plugin.getDataFolder(), YamlLanguageResourceManager.getFileName(languageTag));
+		final boolean cacheEnabled = plugin.getConfig().getBoolean(LanguagePackCache.ENABLED_KEY);
+		final boolean streamingEnabled = plugin.getConfig().getBoolean(StreamingYamlLoader.ENABLED_KEY);
+		final Locale locale = configRepository.locale();
+
+		return () -> loadFile(languageFile, cacheEnabled, streamingEnabled, locale);
+	}
+
+
+	/**
+	 * Reads the plugin configuration on the calling thread, and returns a task that loads the configured language
+	 * file, or the default language resource from the plugin JAR if the file cannot be loaded, without calling
+	 * the server.
+	 *
+	 * @return a task that loads the configured language file, falling back to the default language resource
+	 */
+	@Override
+	public Supplier<Configuration> prepareLoad()
+	{
+		final Supplier<Optional<Configuration>> fileLoader = fileLoader();
+		final Locale locale = configRepository.locale();
+
+		return () -> fileLoader.get().orElseGet(() -> loadFromResource(defaultLanguageTag, locale));
+	}
+
+
+	/**
+	 * Loads the default language file from the plugin resource, for use when the configured language file
+	 * could not be loaded
+	 *
+	 * @return the configuration loaded from the default language resource
+	 */
+	public Configuration loadFallback()
+	{
+		return loadFromResource(defaultLanguageTag);
+	}
+
+
+	/**
+	 * Attempts to load the preferred language file from disk, from its binary cache if the language cache is enabled
+	 * and the cache is still valid. If unavailable or invalid, falls back to loading the fallback language directly
+	 * from the plugin resource.
 	 */
 	public Configuration loadWithFallback(LanguageTag preferred, LanguageTag fallback)
 	{
 		File languageFile = new File(plugin.getDataFolder(), YamlLanguageResourceManager.getFileName(preferred));
+
+		return loadFile(languageFile,
+				plugin.getConfig().getBoolean(LanguagePackCache.ENABLED_KEY),
+				plugin.getConfig().getBoolean(StreamingYamlLoader.ENABLED_KEY))
+				.orElseGet(() -> loadFromResource(fallback));
+	}
+
+
+	/**
+	 * Loads a language file from disk, from its binary cache if the cache is enabled and still valid, or by parsing
+	 * the file otherwise, writing a new cache if the cache is enabled. The plugin configuration is read only for the
+	 * locale of log messages; the task returned by {@link #fileLoader()} reads that locale in advance, so that the
+	 * file may be loaded off the server thread.
+	 *
+	 * @param languageFile the language file to load
+	 * @param cacheEnabled whether the binary cache of the file is read and written
+	 * @param streamingEnabled whether the file is parsed from the event stream of the YAML parser
+	 * @return an {@link Optional} containing the loaded configuration, or an empty {@code Optional} if the file
+	 * is missing or cannot be loaded, in which case the reason has been logged
+	 */
+	public Optional<Configuration> loadFile(final File languageFile, final boolean cacheEnabled, final boolean streamingEnabled)
+	{
+		return loadFile(languageFile, cacheEnabled, streamingEnabled, configRepository.locale());
+	}
+
+
+	private Optional<Configuration> loadFile(final File languageFile,
+											 final boolean cacheEnabled,
+											 final boolean streamingEnabled,
+											 final Locale locale)
+	{
+		if (cacheEnabled)
+		{
+			Optional<Configuration> cached = LanguagePackCache.read(languageFile.toPath(), yamlFactory);
+			if (cached.isPresent())
+			{
+				plugin.getLogger().info(ResourceMessage.RESOURCE_LOAD_SUCCESS
+						.getLocalizedMessage(locale, languageFile.getName()));
+				return cached;
+			}
+		}
+
+		// the stamp is taken before parsing, so that an edit made during parsing leaves the cache stale
+		Optional<LanguagePackCache.FileStamp> stamp = (cacheEnabled)
+				? LanguagePackCache.FileStamp.of(languageFile.toPath())
+				: Optional.empty();
 		YamlConfiguration config = yamlFactory.get();
 		boolean success = false;
 
 		try
 		{
-			config.load(languageFile);
+			parseFile(languageFile, config, streamingEnabled);
 			success = true;
+			stamp.ifPresent(fileStamp -> LanguagePackCache.write(languageFile.toPath(), fileStamp, config));
 		}
 		catch (FileNotFoundException exception)
 		{
 			plugin.getLogger().warning(ResourceMessage.RESOURCE_NOT_FOUND
-					.getLocalizedMessage(configRepository.locale(), languageFile.getName()));
+					.getLocalizedMessage(locale, languageFile.getName()));
 		}
 		catch (IOException ioException)
 		{
 			plugin.getLogger().warning(ResourceMessage.RESOURCE_UNREADABLE
-					.getLocalizedMessage(configRepository.locale(), languageFile.getName()));
+					.getLocalizedMessage(locale, languageFile.getName()));
 		}
 		catch (InvalidConfigurationException configurationException)
 		{
 			plugin.getLogger().warning(ResourceMessage.RESOURCE_INVALID_YAML
-					.getLocalizedMessage(configRepository.locale(), languageFile.getName()));
+					.getLocalizedMessage(locale, languageFile.getName()));
 		}
 		catch (IllegalArgumentException argumentException)
 		{
 			plugin.getLogger().warning(ResourceMessage.RESOURCE_INVALID_FILE
-					.getLocalizedMessage(configRepository.locale(), languageFile.getName(), argumentException.getLocalizedMessage()));
+					.getLocalizedMessage(locale, languageFile.getName(), argumentException.getLocalizedMessage()));
 		}
 		catch (Exception exception)
 		{
 			plugin.getLogger().severe(ResourceMessage.RESOURCE_LOAD_EXCEPTION
-					.getLocalizedMessage(configRepository.locale(), languageFile.getName()));
+					.getLocalizedMessage(locale, languageFile.getName()));
 		}
 
 		if (success)
 		{
 			plugin.getLogger().info(ResourceMessage.RESOURCE_LOAD_SUCCESS
-					.getLocalizedMessage(configRepository.locale(), languageFile.getName()));
-			return config;
+					.getLocalizedMessage(locale, languageFile.getName()));
+			return Optional.of(config);
 		}
 		else
 		{
-			return loadFromResource(fallback);
+			return Optional.empty();
 		}
 	}
 
 
+	/**
+	 * Loads a language file into an empty configuration, from the event stream of the YAML parser if streaming
+	 * is enabled and the file uses no YAML feature the streaming loader does not support.
+	 */
+	private void parseFile(final File languageFile, final YamlConfiguration config, final boolean streamingEnabled)
+			throws IOException, InvalidConfigurationException
+	{
+		if (streamingEnabled)
+		{
+			try (Reader reader = new InputStreamReader(new FileInputStream(languageFile), StandardCharsets.UTF_8))
+			{
+				if (StreamingYamlLoader.load(reader, config))
+				{
+					return;
+				}
+			}
+		}
+
+		config.load(languageFile);
+	}
+
+
 	/**
 	 * Loads a language YAML file directly from the JAR resource as a last resort.
 	 */
 	public Configuration loadFromResource(LanguageTag fallback)
+	{
+		return loadFromResource(fallback, configRepository.locale());
+	}
+
+
+	private Configuration loadFromResource(final LanguageTag fallback, final Locale locale)
 	{
 		String resourcePath = YamlLanguageResourceManager.getResourceName(fallback);
 		try (InputStream stream = plugin.getResource(resourcePath))
@@ -184,19 +311,19 @@ public class YamlLanguageResourceLoader implements ResourceLoader
 				YamlConfiguration config = yamlFactory.get();
 				config.load(new InputStreamReader(stream, StandardCharsets.UTF_8));
 				plugin.getLogger().info(ResourceMessage.RESOURCE_FALLBACK_SUCCESS
-						.getLocalizedMessage(configRepository.locale(), resourcePath));
+						.getLocalizedMessage(locale, resourcePath));
 				return config;
 			}
 			else
 			{
 				plugin.getLogger().severe(ResourceMessage.RESOURCE_FALLBACK_MISSING
-						.getLocalizedMessage(configRepository.locale(), resourcePath));
+						.getLocalizedMessage(locale, resourcePath));
 			}
 		}
 		catch (IOException | InvalidConfigurationException exception)
 		{
 			plugin.getLogger().severe(ResourceMessage.RESOURCE_FALLBACK_FAILED
-					.getLocalizedMessage(configRepository.locale(), resourcePath));
+					.getLocalizedMessage(locale, resourcePath));
 		}
 
 		return new YamlConfiguration(); // always return a safe config
@@ -17,6 +17,7 @@
 
 package com.winterhavenmc.library.messagebuilder.adapters.resources.language;
 
+import com.winterhavenmc.library.messagebuilder.adapters.resources.AtomicResourceSnapshots;
 import com.winterhavenmc.library.messagebuilder.core.ports.resources.*;
 
 import com.winterhavenmc.library.messagebuilder.core.ports.resources.language.LanguageResourceManager;
@@ -27,6 +28,11 @@ import org.bukkit.configuration.Configuration;
 import org.bukkit.plugin.Plugin;
 
 import java.io.File;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 
 import static com.winterhavenmc.library.messagebuilder.adapters.resources.language.LanguageConfigConstant.RESOURCE_SUBDIRECTORY;
 
@@ -34,9 +40,10 @@ import static com.winterhavenmc.library.messagebuilder.adapters.resources.langua
 /**
  * This class is responsible for the management and lifecycle of the language resource.
  * The language resource is made available as a Bukkit {@link Configuration} object,
- * which is loaded into a {@code Supplier} that is provided to classes that have a need to access the
- * language configuration object. This supplier will return an up-to-date version of the language configuration
- * object to any consumers, even if the language resource has been reloaded since the creation of the supplier.
+ * which is published in a {@link ResourceSnapshot} and read through a {@code Supplier} that is provided to classes
+ * that have a need to access the language configuration object. This supplier will return the language configuration
+ * of the snapshot pinned by the current render, or of the latest snapshot if none is pinned, even if the language
+ * resource has been reloaded since the creation of the supplier.
  * A convenience method is provided to query the current language setting in the plugin configuration so that
  * changes to this setting may result in a different language resource being used for any subsequent reload operations.
  * <p>
@@ -48,23 +55,27 @@ public final class YamlLanguageResourceManager implements LanguageResourceManage
 {
 	private final ResourceLoader resourceLoader;
 	private final ResourceInstaller resourceInstaller;
-	private Configuration languageConfiguration;
+	private final ResourceSnapshots snapshots;
 
 
 	/**
 	 * Class constructor
 	 *
+	 * @param snapshots the holder in which the language configuration is published
 	 * @param resourceInstaller a YamlLanguageResourceInstaller instance
 	 * @param resourceLoader  a YamlLanguageResourceLoader instance
 	 */
-	private YamlLanguageResourceManager(final ResourceInstaller resourceInstaller,
+	private YamlLanguageResourceManager(final ResourceSnapshots snapshots,
+									   final ResourceInstaller resourceInstaller,
 									   final ResourceLoader resourceLoader)
 	{
 		this.resourceInstaller = resourceInstaller;
 		this.resourceLoader = resourceLoader;
+		this.snapshots = snapshots;
 
 		installResources();
-		this.languageConfiguration = resourceLoader.load();
+		final Configuration configuration = resourceLoader.load();
+		snapshots.publish(snapshot -> snapshot.withLanguage(configuration));
 	}
 
 
@@ -76,11 +87,71 @@ public final class YamlLanguageResourceManager implements LanguageResourceManage
 	 */
 	public static YamlLanguageResourceManager create(final Plugin plugin,
 													 final ConfigRepository configRepository)
+	{
+		return create(plugin, configRepository, new AtomicResourceSnapshots());
+	}
+
+
+	/**
+	 * Static factory method to create the language resource manager, publishing in a shared snapshot holder
+	 *
+	 * @param plugin an instance of the plugin
+	 * @param configRepository the plugin configuration repository
+	 * @param snapshots the holder in which the language configuration is published
+	 * @return an instance of the language resource manager
+	 */
+	public static YamlLanguageResourceManager create(final Plugin plugin,
+													 final ConfigRepository configRepository,
+													 final ResourceSnapshots snapshots)
+	{
+		final YamlLanguageResourceInstaller resourceInstaller = new YamlLanguageResourceInstaller(plugin, configRepository);
+		final YamlLanguageResourceLoader resourceLoader = new YamlLanguageResourceLoader(plugin, configRepository);
+
+		return new YamlLanguageResourceManager(snapshots, resourceInstaller, resourceLoader);
+	}
+
+
+	/**
+	 * Class constructor that publishes a configuration loaded ahead of the construction of the manager
+	 */
+	private YamlLanguageResourceManager(final ResourceSnapshots snapshots,
+									   final ResourceInstaller resourceInstaller,
+									   final ResourceLoader resourceLoader,
+									   final Configuration configuration)
+	{
+		this.resourceInstaller = resourceInstaller;
+		this.resourceLoader = resourceLoader;
+		this.snapshots = snapshots;
+
+		snapshots.publish(snapshot -> snapshot.withLanguage(configuration));
+	}
+
+
+	/**
+	 * Static factory method to create the language resource manager, parsing the language file with the given
+	 * executor. The language resources are installed, and the plugin configuration is read, on the calling thread,
+	 * as neither may be done off the server thread. The returned supplier waits for the language file to be parsed,
+	 * and creates the manager on the thread that calls it, so that other resources may be loaded in the meantime.
+	 *
+	 * @param plugin an instance of the plugin
+	 * @param configRepository the plugin configuration repository
+	 * @param snapshots the holder in which the language configuration is published
+	 * @param executor the executor on which the language file is parsed
+	 * @return a supplier of the language resource manager
+	 */
+	public static Supplier<YamlLanguageResourceManager> createAsync(final Plugin plugin,
+																	final ConfigRepository configRepository,
+																	final ResourceSnapshots snapshots,
+																	final Executor executor)
 	{
 		final YamlLanguageResourceInstaller resourceInstaller = new YamlLanguageResourceInstaller(plugin, configRepository);
 		final YamlLanguageResourceLoader resourceLoader = new YamlLanguageResourceLoader(plugin, configRepository);
 
-		return new YamlLanguageResourceManager(resourceInstaller, resourceLoader);
+		resourceInstaller.install();
+		final CompletableFuture<Optional<Configuration>> parse = CompletableFuture.supplyAsync(resourceLoader.fileLoader(), executor);
+
+		return () -> new YamlLanguageResourceManager(snapshots, resourceInstaller, resourceLoader,
+				parse.join().orElseGet(resourceLoader::loadFallback));
 	}
 
 
@@ -97,7 +168,7 @@ public final class YamlLanguageResourceManager implements LanguageResourceManage
 	{
 		this.resourceInstaller = installer;
 		this.resourceLoader = loader;
-		this.languageConfiguration = configuration;
+		this.snapshots = new AtomicResourceSnapshots(ResourceSnapshot.empty().withLanguage(configuration));
 	}
 
 	/**
@@ -121,27 +192,60 @@ public final class YamlLanguageResourceManager implements LanguageResourceManage
 
 
 	/**
-	 * Reload the language resource. This method first calls the reload method in the resource loader,
-	 * and receives the new configuration object as the return value. If the new configuration object
-	 * is null, the old configuration object is not replace, and the method returns {@code false}.
-	 * If the new configuration exists, a new configuration supplier is created with the
-	 * new configuration, and the method returns {@code true}.
+	 * Installs and loads the language resource, without replacing the current configuration object. If the new
+	 * configuration object is null, the method returns an empty {@code Optional}, and the old configuration object
+	 * remains in use. Otherwise, the returned update places the configuration object in a snapshot, so that
+	 * the messages, items and constants of the new language file become visible to all repositories together.
 	 *
-	 * @return {@code true} if the configuration was successfully reloaded, {@code false} if it failed
+	 * @return an {@code Optional} containing an update that places the new configuration in a snapshot, or an empty
+	 * {@code Optional} if the configuration could not be loaded
 	 */
 	@Override
-	public boolean reload()
+	public Optional<UnaryOperator<ResourceSnapshot>> stageReload()
+	{
+		installResources();
+		return stage(resourceLoader.load());
+	}
+
+
+	/**
+	 * Installs the language resources, and reads the plugin configuration, on the calling thread, and returns a task
+	 * that loads the language resource on any thread, without replacing the current configuration object. The task
+	 * returns an update as described for {@link #stageReload()}.
+	 *
+	 * @return a task that returns an {@code Optional} containing an update that places the new configuration in a
+	 * snapshot, or an empty {@code Optional} if the configuration could not be loaded
+	 */
+	@Override
+	public Supplier<Optional<UnaryOperator<ResourceSnapshot>>> prepareReload()
 	{
 		installResources();
+		final Supplier<Configuration> loader = resourceLoader.prepareLoad();
+
+		return () -> stage(loader.get());
+	}
+
+
+	private static Optional<UnaryOperator<ResourceSnapshot>> stage(final Configuration newConfig)
+	{
+		return (newConfig != null)
+				? Optional.of(snapshot -> snapshot.withLanguage(newConfig))
+				: Optional.empty(); // keep the old config if reload failed
+	}
 
-		Configuration newConfig = resourceLoader.load();
-		if (newConfig != null)
-		{
-			this.languageConfiguration = newConfig;
-			return true;
-		}
 
-		return false; // keep the old config if reload failed
+	/**
+	 * Installs and loads the language resource, and publishes it in a new snapshot
+	 *
+	 * @return true if the new configuration was published, false if the old configuration remains in use
+	 */
+	@Override
+	public boolean reload()
+	{
+		final Optional<UnaryOperator<ResourceSnapshot>> update = stageReload();
+		update.ifPresent(snapshots::publish);
+
+		return update.isPresent();
 	}
 
 
@@ -153,14 +257,14 @@ public final class YamlLanguageResourceManager implements LanguageResourceManage
 	@Override
 	public SectionProvider getSectionProvider(Section section)
 	{
-		return new YamlLanguageSectionProvider(() -> languageConfiguration, section);
+		return new YamlLanguageSectionProvider(() -> snapshots.current().language(), section);
 	}
 
 
 	@Override
 	public ConfigurationProvider getConfigurationProvider()
 	{
-		return new YamlLanguageConfigurationProvider(() -> languageConfiguration);
+		return new YamlLanguageConfigurationProvider(() -> snapshots.current().language());
 	}
 
 
@@ -0,0 +1,310 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.winterhavenmc.library.messagebuilder.adapters.resources.language;
+
+import com.winterhavenmc.library.messagebuilder.core.ports.resources.ResourceSnapshot;
+import com.winterhavenmc.library.messagebuilder.core.ports.resources.language.LocalePacks;
+import com.winterhavenmc.library.messagebuilder.models.configuration.ConfigRepository;
+import com.winterhavenmc.library.messagebuilder.models.configuration.LanguageTag;
+import com.winterhavenmc.library.messagebuilder.models.recipient.Recipient;
+
+import org.bukkit.configuration.Configuration;
+import org.bukkit.configuration.MemoryConfiguration;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+
+import java.io.File;
+import java.lang.ref.SoftReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+
+/**
+ * A {@link LocalePacks} that renders messages to each player from the language file of the player's client locale,
+ * loaded from the language subdirectory of the plugin data directory on first demand.
+ * <p>
+ * Language packs are loaded on a background thread, never on the thread that sends a message. Until the pack of
+ * a locale is ready, messages to its players are rendered from the published snapshot, that is, from the configured
+ * language file. Language files are read from their binary cache, or parsed from the event stream of the YAML
+ * parser, if the language cache or streaming loader is enabled in the plugin configuration.
+ * <p>
+ * The language pack of a locale is built once, when it is loaded, by flattening its fallback chain into a single
+ * configuration: the configured language file, overlaid by the file of the locale's language, if any, overlaid
+ * by the file of the full locale, if any. A message to a player in {@code pt-BR} is thus read from
+ * {@code pt-BR.yml}, then {@code pt.yml}, then the configured language file, without walking the chain on lookup.
+ * A locale with no language file of its own, and the locale of the configured language file, are rendered from the
+ * configured language file.
+ * <p>
+ * At most {@code capacity} language packs are held, and the least recently used pack is discarded when another is
+ * loaded. Packs are held by soft reference, so that rarely used packs are also discarded when memory is tight, and
+ * loaded again on their next use. A pack built from a previously published language file is never used.
+ */
+public final class YamlLocalePacks implements LocalePacks
+{
+	private final Plugin plugin;
+	private final ConfigRepository configRepository;
+	private final YamlLanguageResourceLoader loader;
+	private final Executor executor;
+	private final boolean cacheEnabled;
+	private final boolean streamingEnabled;
+	private final Map<Locale, SoftReference<Pack>> packs; // guarded by this
+	private final Map<Locale, Long> loading = new HashMap<>(); // epoch of the pack being loaded; guarded by this
+
+
+	/**
+	 * A language pack, and the epoch of the snapshot from whose language configuration it was built
+	 *
+	 * @param epoch the epoch of the snapshot from which the pack was built
+	 * @param language the flattened language pack, or an empty {@code Optional} if the locale has no language file
+	 */
+	private record Pack(long epoch, Optional<Configuration> language) { }
+
+
+	private YamlLocalePacks(final Plugin plugin,
+							final ConfigRepository configRepository,
+							final int capacity,
+							final Executor executor)
+	{
+		this.plugin = plugin;
+		this.configRepository = configRepository;
+		this.loader = new YamlLanguageResourceLoader(plugin, configRepository);
+		this.executor = executor;
+		this.cacheEnabled = plugin.getConfig().getBoolean(LanguagePackCache.ENABLED_KEY);
+		this.streamingEnabled = plugin.getConfig().getBoolean(StreamingYamlLoader.ENABLED_KEY);
+		this.packs = new LinkedHashMap<>(16, 0.75f, true)
+		{
+			@Override
+			protected boolean removeEldestEntry(final Map.Entry<Locale, SoftReference<Pack>> eldest)
+			{
+				return size() > capacity;
+			}
+		};
+	}
+
+
+	/**
+	 * Static factory method
+	 *
+	 * @param plugin reference to plugin main class
+	 * @param configRepository the repository of the plugin configuration
+	 * @param capacity the maximum number of language packs held in memory
+	 * @return a new {@code YamlLocalePacks}
+	 */
+	public static YamlLocalePacks create(final Plugin plugin, final ConfigRepository configRepository, final int capacity)
+	{
+		Objects.requireNonNull(plugin);
+		return create(plugin, configRepository, capacity,
+				task -> plugin.getServer().getScheduler().runTaskAsynchronously(plugin, task));
+	}
+
+
+	/**
+	 * Static factory method. Must be called on the server thread, as the plugin configuration is read.
+	 *
+	 * @param plugin reference to plugin main class
+	 * @param configRepository the repository of the plugin configuration
+	 * @param capacity the maximum number of language packs held in memory
+	 * @param executor the executor on which language packs are loaded
+	 * @return a new {@code YamlLocalePacks}
+	 */
+	public static YamlLocalePacks create(final Plugin plugin,
+										 final ConfigRepository configRepository,
+										 final int capacity,
+										 final Executor executor)
+	{
+		return new YamlLocalePacks(Objects.requireNonNull(plugin), Objects.requireNonNull(configRepository),
+				Math.max(1, capacity), Objects.requireNonNull(executor));
+	}
+
+
+	@Override
+	public ResourceSnapshot select(final ResourceSnapshot snapshot, final Recipient.Sendable recipient)
+	{
+		if (!Locale.ROOT.equals(snapshot.pack()))
+		{
+			return snapshot;
+		}
+
+		return clientLocale(recipient)
+				.filter(locale -> !locale.equals(configuredLocale()))
+				.flatMap(locale -> pack(locale, snapshot)
+						.flatMap(Pack::language)
+						.map(language -> snapshot.withPack(locale, language)))
+				.orElse(snapshot);
+	}
+
+
+	@Override
+	public synchronized void clear()
+	{
+		packs.clear();
+	}
+
+
+	/**
+	 * Returns the language pack of a locale built from the language configuration of the given snapshot, if it is
+	 * held; otherwise starts loading it on the executor, unless it is already being loaded, and returns the pack
+	 * if the executor has already loaded it
+	 */
+	private Optional<Pack> pack(final Locale locale, final ResourceSnapshot snapshot)
+	{
+		synchronized (this)
+		{
+			final Optional<Pack> held = held(locale, snapshot);
+			if (held.isPresent() || Objects.equals(loading.get(locale), snapshot.epoch()))
+			{
+				return held;
+			}
+			loading.put(locale, snapshot.epoch());
+		}
+
+		executor.execute(() ->
+		{
+			try
+			{
+				final Pack loaded = new Pack(snapshot.epoch(), load(locale, snapshot.language()));
+				synchronized (this)
+				{
+					// a pack of a later snapshot, loaded concurrently, is not replaced
+					final SoftReference<Pack> reference = packs.get(locale);
+					final Pack current = (reference != null) ? reference.get() : null;
+					if (current == null || current.epoch() <= loaded.epoch())
+					{
+						packs.put(locale, new SoftReference<>(loaded));
+					}
+				}
+			}
+			finally
+			{
+				synchronized (this)
+				{
+					loading.remove(locale, snapshot.epoch());
+				}
+			}
+		});
+
+		synchronized (this)
+		{
+			return held(locale, snapshot);
+		}
+	}
+
+
+	/**
+	 * Returns the held language pack of a locale, if it was built from the language configuration of the given
+	 * snapshot. Must be called while holding the lock of this object.
+	 */
+	private Optional<Pack> held(final Locale locale, final ResourceSnapshot snapshot)
+	{
+		final SoftReference<Pack> reference = packs.get(locale);
+		return Optional.ofNullable((reference != null) ? reference.get() : null)
+				.filter(pack -> pack.epoch() == snapshot.epoch());
+	}
+
+
+	/**
+	 * Flattens the fallback chain of a locale into a single configuration, from the least to the most specific
+	 */
+	private Optional<Configuration> load(final Locale locale, final Configuration configuredLanguage)
+	{
+		final List<Configuration> layers = new ArrayList<>();
+		if (!locale.getCountry().isEmpty())
+		{
+			LanguageTag.of(Locale.of(locale.getLanguage())).flatMap(this::loadFile).ifPresent(layers::add);
+		}
+		LanguageTag.of(locale).flatMap(this::loadFile).ifPresent(layers::add);
+
+		if (layers.isEmpty())
+		{
+			return Optional.empty();
+		}
+
+		final MemoryConfiguration flattened = new MemoryConfiguration();
+		overlay(flattened, configuredLanguage);
+		layers.forEach(layer -> overlay(flattened, layer));
+		return Optional.of(flattened);
+	}
+
+
+	/**
+	 * Sets every value of a layer into the flattened configuration, replacing any value at the same path
+	 */
+	private static void overlay(final MemoryConfiguration flattened, final Configuration layer)
+	{
+		for (String path : layer.getKeys(true))
+		{
+			if (!layer.isConfigurationSection(path))
+			{
+				flattened.set(path, layer.get(path));
+			}
+			else if (!flattened.isConfigurationSection(path))
+			{
+				flattened.createSection(path);
+			}
+		}
+	}
+
+
+	/**
+	 * Loads the language file of a language tag from the plugin data directory, if it is present and valid
+	 */
+	private Optional<Configuration> loadFile(final LanguageTag languageTag)
+	{
+		final File languageFile = new File(plugin.getDataFolder(), YamlLanguageResourceManager.getFileName(languageTag));
+
+		return (languageFile.isFile())
+				? loader.loadFile(languageFile, cacheEnabled, streamingEnabled)
+				: Optional.empty();
+	}
+
+
+	/**
+	 * Returns the locale of the configured language file
+	 */
+	private Locale configuredLocale()
+	{
+		return LanguageTag.of(configRepository.language())
+				.map(LanguageTag::getLocale)
+				.orElse(Locale.ROOT);
+	}
+
+
+	/**
+	 * Returns the locale reported by the client of a player recipient. Spigot reports the client locale in
+	 * the form {@code pt_br}.
+	 */
+	static Optional<Locale> clientLocale(final Recipient.Sendable recipient)
+	{
+		if (!(recipient.sender() instanceof Player player) || player.getLocale() == null || player.getLocale().isBlank())
+		{
+			return Optional.empty();
+		}
+
+		final Locale locale = Locale.forLanguageTag(player.getLocale().strip().replace('_', '-'));
+		return (locale.getLanguage().isEmpty())
+				? Optional.empty()
+				: Optional.of(locale);
+	}
+
+}
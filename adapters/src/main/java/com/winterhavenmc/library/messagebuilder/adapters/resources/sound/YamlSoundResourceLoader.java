@@ -17,6 +17,7 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Locale;
 import java.util.function.Supplier;
 
 import static com.winterhavenmc.library.messagebuilder.adapters.resources.sound.SoundResourceConstant.RESOURCE_NAME;
@@ -48,25 +49,53 @@ public final class YamlSoundResourceLoader implements ResourceLoader
 
 	@Override
 	public FileConfiguration load()
+	{
+		return load(new File(plugin.getDataFolder(), RESOURCE_NAME.toString()), configRepository.locale());
+	}
+
+
+	/**
+	 * Reads the locale of log messages from the plugin configuration on the calling thread, and returns a task
+	 * that loads the sound file without calling the server, so that the file may be parsed on any thread
+	 *
+	 * @return a task that loads the sound file
+	 */
+	public Supplier<FileConfiguration> fileLoader()
+	{
+		final File soundConfigFile = new File(plugin.getDataFolder(), RESOURCE_NAME.toString());
+		final Locale locale = configRepository.locale();
+
+		return () -> load(soundConfigFile, locale);
+	}
+
+
+	@Override
+	public Supplier<Configuration> prepareLoad()
+	{
+		final Supplier<FileConfiguration> fileLoader = fileLoader();
+		return fileLoader::get;
+	}
+
+
+	private FileConfiguration load(final File soundConfigFile, final Locale locale)
 	{
 		YamlConfiguration configuration = configurationSupplier.get();
 
 		try
 		{
-			File soundConfigFile = new File(plugin.getDataFolder(), RESOURCE_NAME.toString());
 			if (soundConfigFile.exists())
 			{
 				configuration.load(soundConfigFile);
-				plugin.getLogger().info(RESOURCE_LOAD_SUCCESS.getLocalizedMessage(configRepository.locale(), RESOURCE_NAME.toString()));
+				plugin.getLogger().info(RESOURCE_LOAD_SUCCESS.getLocalizedMessage(locale, RESOURCE_NAME.toString()));
 			}
 			else
 			{
-				plugin.getLogger().warning(RESOURCE_LOAD_MISSING.getLocalizedMessage(configRepository.locale(), RESOURCE_NAME.toString()));
+				plugin.getLogger().warning(RESOURCE_LOAD_MISSING.getLocalizedMessage(locale, RESOURCE_NAME.toString()));
 			}
 		}
 		catch (IOException | InvalidConfigurationException e)
 		{
-			plugin.getLogger().warning(RESOURCE_UNREADABLE.getLocalizedMessage(configRepository.locale(), RESOURCE_NAME.toString()));
+			plugin.getLogger().warning(RESOURCE_UNREADABLE.getLocalizedMessage(locale, RESOURCE_NAME.toString()));
 		}
 
 		return configuration;
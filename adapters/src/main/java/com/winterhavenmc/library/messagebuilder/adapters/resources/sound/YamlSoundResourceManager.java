@@ -1,46 +1,101 @@
 package com.winterhavenmc.library.messagebuilder.adapters.resources.sound;
 
+import com.winterhavenmc.library.messagebuilder.adapters.resources.AtomicResourceSnapshots;
 import com.winterhavenmc.library.messagebuilder.core.ports.resources.*;
 import com.winterhavenmc.library.messagebuilder.core.ports.resources.sound.SoundResourceManager;
 
 import com.winterhavenmc.library.messagebuilder.models.configuration.ConfigRepository;
 import org.bukkit.configuration.Configuration;
+import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.plugin.Plugin;
 
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
 
 public final class YamlSoundResourceManager implements SoundResourceManager
 {
 	private final ResourceLoader resourceLoader;
 	private final ResourceInstaller resourceInstaller;
-	private Configuration soundConfiguration;
+	private final ResourceSnapshots snapshots;
 
 
-	private YamlSoundResourceManager(final ResourceInstaller resourceInstaller, final ResourceLoader resourceLoader)
+	private YamlSoundResourceManager(final ResourceInstaller resourceInstaller,
+									 final ResourceLoader resourceLoader,
+									 final ResourceSnapshots snapshots)
 	{
 		this.resourceInstaller = resourceInstaller;
 		this.resourceLoader = resourceLoader;
+		this.snapshots = snapshots;
 
 		reload();
 	}
 
 
+	private YamlSoundResourceManager(final ResourceInstaller resourceInstaller,
+									 final ResourceLoader resourceLoader,
+									 final ResourceSnapshots snapshots,
+									 final Configuration configuration)
+	{
+		this.resourceInstaller = resourceInstaller;
+		this.resourceLoader = resourceLoader;
+		this.snapshots = snapshots;
+
+		snapshots.publish(snapshot -> snapshot.withSounds(configuration));
+	}
+
+
 	/**
 	 * Static factory method returns instance of YamlSoundResourceManager
 	 */
 	public static YamlSoundResourceManager create(final Plugin plugin,
 												  final ConfigRepository configRepository)
+	{
+		return create(plugin, configRepository, new AtomicResourceSnapshots());
+	}
+
+
+	/**
+	 * Static factory method returns instance of YamlSoundResourceManager, publishing in a shared snapshot holder
+	 */
+	public static YamlSoundResourceManager create(final Plugin plugin,
+												  final ConfigRepository configRepository,
+												  final ResourceSnapshots snapshots)
 	{
 		final YamlSoundResourceInstaller resourceInstaller = new YamlSoundResourceInstaller(plugin);
 		final YamlSoundResourceLoader resourceLoader = new YamlSoundResourceLoader(plugin, configRepository);
 
-		return new YamlSoundResourceManager(resourceInstaller, resourceLoader);
+		return new YamlSoundResourceManager(resourceInstaller, resourceLoader, snapshots);
+	}
+
+
+	/**
+	 * Static factory method returns a supplier of a YamlSoundResourceManager, parsing the sound file with the given
+	 * executor. The sound file is installed on the calling thread, and the returned supplier waits for the file to
+	 * be parsed, and creates the manager on the thread that calls it.
+	 */
+	public static Supplier<YamlSoundResourceManager> createAsync(final Plugin plugin,
+																 final ConfigRepository configRepository,
+																 final ResourceSnapshots snapshots,
+																 final Executor executor)
+	{
+		final YamlSoundResourceInstaller resourceInstaller = new YamlSoundResourceInstaller(plugin);
+		final YamlSoundResourceLoader resourceLoader = new YamlSoundResourceLoader(plugin, configRepository);
+
+		resourceInstaller.install();
+		final CompletableFuture<FileConfiguration> parse = CompletableFuture.supplyAsync(resourceLoader.fileLoader(), executor);
+
+		return () -> new YamlSoundResourceManager(resourceInstaller, resourceLoader, snapshots, parse.join());
 	}
 
 
 	@Override
 	public ConfigurationProvider getConfigurationProvider()
 	{
-		return new YamlSoundConfigurationProvider(() -> soundConfiguration);
+		return new YamlSoundConfigurationProvider(() -> snapshots.current().sounds());
 	}
 
 
@@ -55,21 +110,48 @@ public final class YamlSoundResourceManager implements SoundResourceManager
 
 
 	/**
-	 * reload sound configuration from YAML file in plugin data folder
+	 * load sound configuration from YAML file in plugin data folder, returning an update that places it in a snapshot
 	 */
 	@Override
-	public boolean reload()
+	public Optional<UnaryOperator<ResourceSnapshot>> stageReload()
+	{
+		resourceInstaller.install();
+		return stage(resourceLoader.load());
+	}
+
+
+	/**
+	 * install sound resource files on the calling thread, returning a task that loads the sound configuration
+	 * from the YAML file in plugin data folder on any thread
+	 */
+	@Override
+	public Supplier<Optional<UnaryOperator<ResourceSnapshot>>> prepareReload()
 	{
 		resourceInstaller.install();
-		Configuration soundConfiguration = resourceLoader.load();
+		final Supplier<Configuration> loader = resourceLoader.prepareLoad();
 
-		if (soundConfiguration != null)
-		{
-			this.soundConfiguration = soundConfiguration;
-			return true;
-		}
+		return () -> stage(loader.get());
+	}
+
+
+	private static Optional<UnaryOperator<ResourceSnapshot>> stage(final Configuration soundConfiguration)
+	{
+		return (soundConfiguration != null)
+				? Optional.of(snapshot -> snapshot.withSounds(soundConfiguration))
+				: Optional.empty();
+	}
+
+
+	/**
+	 * load sound configuration from YAML file in plugin data folder, and publish it in a new snapshot
+	 */
+	@Override
+	public boolean reload()
+	{
+		final Optional<UnaryOperator<ResourceSnapshot>> update = stageReload();
+		update.ifPresent(snapshots::publish);
 
-		return false;
+		return update.isPresent();
 	}
 
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.winterhavenmc.library.messagebuilder.adapters.resources.watchers;
+
+import com.winterhavenmc.library.messagebuilder.models.keys.MessageKey;
+import com.winterhavenmc.library.messagebuilder.models.keys.ValidMessageKey;
+import com.winterhavenmc.library.messagebuilder.models.language.Section;
+
+import org.bukkit.configuration.Configuration;
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+
+/**
+ * The differences between two versions of a language configuration. Changes within the {@code MESSAGES} section
+ * are reported per message, so that only the changed messages need be compiled and rendered again; a change
+ * anywhere else in the file, such as to an item or a constant, may affect any message, and is reported as such.
+ *
+ * @param messageKeys the keys of the messages that were added, changed or removed
+ * @param confinedToMessages true if every change is within the {@code MESSAGES} section
+ */
+public record LanguageChanges(Set<ValidMessageKey> messageKeys, boolean confinedToMessages)
+{
+	private final static String MESSAGES_PREFIX = Section.MESSAGES.name() + ".";
+
+
+	/**
+	 * Compares two versions of a language configuration, value by value
+	 *
+	 * @param previous the configuration before the change
+	 * @param current the configuration after the change
+	 * @return the differences between the two configurations
+	 */
+	public static LanguageChanges between(final Configuration previous, final Configuration current)
+	{
+		final Map<String, Object> previousValues = leafValues(previous);
+		final Map<String, Object> currentValues = leafValues(current);
+
+		final Set<String> changedPaths = new HashSet<>(previousValues.keySet());
+		changedPaths.addAll(currentValues.keySet());
+		changedPaths.removeIf(path -> Objects.equals(previousValues.get(path), currentValues.get(path)));
+
+		final boolean confinedToMessages = changedPaths.stream().allMatch(path -> path.startsWith(MESSAGES_PREFIX));
+
+		final Set<ValidMessageKey> messageKeys = changedPaths.stream()
+				.filter(path -> path.startsWith(MESSAGES_PREFIX))
+				.map(path -> path.substring(MESSAGES_PREFIX.length()).split("\\.", 2)[0])
+				.map(key -> MessageKey.of(key).isValid())
+				.flatMap(Optional::stream)
+				.collect(Collectors.toUnmodifiableSet());
+
+		return new LanguageChanges(messageKeys, confinedToMessages);
+	}
+
+
+	/**
+	 * Returns the values of a configuration by path, omitting the sections themselves, whose equality is by identity
+	 */
+	private static Map<String, Object> leafValues(final Configuration configuration)
+	{
+		final Map<String, Object> values = new HashMap<>(configuration.getValues(true));
+		values.values().removeIf(ConfigurationSection.class::isInstance);
+
+		return values;
+	}
+
+}
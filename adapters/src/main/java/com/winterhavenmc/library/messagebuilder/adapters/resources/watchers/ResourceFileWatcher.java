@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.winterhavenmc.library.messagebuilder.adapters.resources.watchers;
+
+import com.winterhavenmc.library.messagebuilder.adapters.resources.ResourceMessage;
+import com.winterhavenmc.library.messagebuilder.models.configuration.ConfigRepository;
+
+import org.bukkit.plugin.Plugin;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+import static com.winterhavenmc.library.messagebuilder.adapters.resources.language.LanguageConfigConstant.RESOURCE_SUBDIRECTORY;
+import static com.winterhavenmc.library.messagebuilder.adapters.resources.sound.SoundResourceConstant.RESOURCE_NAME;
+
+
+/**
+ * Watches the language and sound files in the plugin data folder, and reports which of them have changed, so
+ * that an operator's edits are picked up without a reload command.
+ * <p>
+ * The watcher is enabled by setting {@code resource-watcher.enabled} to {@code true} in the plugin config.yml.
+ * Changes are debounced: a change is reported only when no further change has been seen for the interval set by
+ * the optional setting {@code resource-watcher.debounce-millis}, so that an editor writing a file in several
+ * steps causes a single reload. Changes are reported on a background thread, and the watcher stops when the
+ * plugin is disabled.
+ */
+public final class ResourceFileWatcher
+{
+	final static String ENABLED_KEY = "resource-watcher.enabled";
+	final static String DEBOUNCE_KEY = "resource-watcher.debounce-millis";
+	final static long DEFAULT_DEBOUNCE_MILLIS = 500;
+	private final static long IDLE_POLL_MILLIS = 1000;
+
+
+	/**
+	 * The resources whose files are watched
+	 */
+	public enum ChangedResource
+	{
+		LANGUAGE,
+		SOUNDS,
+	}
+
+
+	private final Plugin plugin;
+	private final ConfigRepository configRepository;
+	private final WatchService watchService;
+	private final Path languageDirectory;
+	private final Path soundFile;
+	private final long debounceMillis;
+	private final Consumer<Set<ChangedResource>> listener;
+
+
+	/**
+	 * Constructor
+	 */
+	ResourceFileWatcher(final Plugin plugin,
+						final ConfigRepository configRepository,
+						final WatchService watchService,
+						final Path dataFolder,
+						final long debounceMillis,
+						final Consumer<Set<ChangedResource>> listener)
+	{
+		this.plugin = plugin;
+		this.configRepository = configRepository;
+		this.watchService = watchService;
+		this.languageDirectory = dataFolder.resolve(RESOURCE_SUBDIRECTORY.toString());
+		this.soundFile = dataFolder.resolve(RESOURCE_NAME.toString());
+		this.debounceMillis = debounceMillis;
+		this.listener = listener;
+	}
+
+
+	/**
+	 * Reports whether the watcher is enabled in the plugin configuration. This method reads the plugin configuration,
+	 * and must be called on the server thread.
+	 *
+	 * @param plugin an instance of the plugin
+	 * @return {@code true} if the watcher is enabled, {@code false} otherwise
+	 */
+	public static boolean isEnabled(final Plugin plugin)
+	{
+		return plugin.getConfig().getBoolean(ENABLED_KEY);
+	}
+
+
+	/**
+	 * Static factory method that creates and starts a watcher, if the watcher is enabled in the plugin configuration
+	 *
+	 * @param plugin an instance of the plugin
+	 * @param configRepository the plugin configuration repository
+	 * @param listener a consumer of the set of resources whose files have changed, called on a background thread
+	 * @return an {@code Optional} containing the started watcher, or an empty {@code Optional} if the watcher is
+	 * not enabled or the data folder could not be watched
+	 */
+	public static Optional<ResourceFileWatcher> create(final Plugin plugin,
+														final ConfigRepository configRepository,
+														final Consumer<Set<ChangedResource>> listener)
+	{
+		if (!isEnabled(plugin))
+		{
+			return Optional.empty();
+		}
+
+		final Path dataFolder = plugin.getDataFolder().toPath();
+		final long debounceMillis = Math.max(0, plugin.getConfig().getLong(DEBOUNCE_KEY, DEFAULT_DEBOUNCE_MILLIS));
+
+		try
+		{
+			final WatchService watchService = dataFolder.getFileSystem().newWatchService();
+			final ResourceFileWatcher watcher = new ResourceFileWatcher(plugin, configRepository, watchService, dataFolder, debounceMillis, listener);
+			watcher.register(dataFolder);
+			watcher.start();
+			return Optional.of(watcher);
+		}
+		catch (IOException exception)
+		{
+			plugin.getLogger().log(Level.WARNING, ResourceMessage.RESOURCE_WATCH_FAILED
+					.getLocalizedMessage(configRepository.logLocale()), exception);
+			return Optional.empty();
+		}
+	}
+
+
+	/**
+	 * Registers the data folder and its language subdirectory with the watch service
+	 */
+	void register(final Path dataFolder) throws IOException
+	{
+		dataFolder.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+
+		if (Files.isDirectory(languageDirectory))
+		{
+			languageDirectory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+					StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+		}
+	}
+
+
+	private void start()
+	{
+		plugin.getServer().getScheduler().runTaskAsynchronously(plugin, this::watch);
+	}
+
+
+	/**
+	 * Waits for changes until the plugin is disabled, reporting each debounced set of changed resources
+	 */
+	void watch()
+	{
+		try (watchService)
+		{
+			while (plugin.isEnabled())
+			{
+				final WatchKey first = watchService.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+				if (first == null)
+				{
+					continue;
+				}
+
+				final Set<ChangedResource> changed = EnumSet.noneOf(ChangedResource.class);
+				changed.addAll(drain(first));
+
+				// keep collecting until the files have been quiet for the debounce interval
+				WatchKey next;
+				while ((next = watchService.poll(debounceMillis, TimeUnit.MILLISECONDS)) != null)
+				{
+					changed.addAll(drain(next));
+				}
+
+				if (!changed.isEmpty() && plugin.isEnabled())
+				{
+					listener.accept(changed);
+				}
+			}
+		}
+		catch (InterruptedException exception)
+		{
+			Thread.currentThread().interrupt();
+		}
+		catch (IOException | ClosedWatchServiceException exception)
+		{
+			plugin.getLogger().log(Level.WARNING, ResourceMessage.RESOURCE_WATCH_STOPPED
+					.getLocalizedMessage(configRepository.logLocale()), exception);
+		}
+	}
+
+
+	/**
+	 * Returns the resources whose files are named by the pending events of a watch key, and resets the key
+	 */
+	Set<ChangedResource> drain(final WatchKey watchKey)
+	{
+		final Set<ChangedResource> changed = EnumSet.noneOf(ChangedResource.class);
+		final Path directory = (Path) watchKey.watchable();
+
+		for (WatchEvent<?> event : watchKey.pollEvents())
+		{
+			if (event.kind() == StandardWatchEventKinds.OVERFLOW)
+			{
+				changed.addAll(EnumSet.allOf(ChangedResource.class));
+			}
+			else if (event.context() instanceof Path name)
+			{
+				classify(directory.resolve(name)).ifPresent(changed::add);
+			}
+		}
+
+		watchKey.reset();
+
+		return changed;
+	}
+
+
+	/**
+	 * Returns the resource to which a changed file belongs, if any
+	 */
+	Optional<ChangedResource> classify(final Path path)
+	{
+		if (path.equals(soundFile))
+		{
+			return Optional.of(ChangedResource.SOUNDS);
+		}
+		else if (languageDirectory.equals(path.getParent()) && path.getFileName().toString().endsWith(".yml"))
+		{
+			return Optional.of(ChangedResource.LANGUAGE);
+		}
+		else
+		{
+			return Optional.empty();
+		}
+	}
+
+}
@@ -0,0 +1,11 @@
+/**
+ * Provides hot reloading of the language and sound files in the plugin data folder.
+ *
+ * <ul>
+ *   <li>{@link com.winterhavenmc.library.messagebuilder.adapters.resources.watchers.ResourceFileWatcher ResourceFileWatcher}
+ *   – watches the language and sound files, and reports debounced changes.</li>
+ *   <li>{@link com.winterhavenmc.library.messagebuilder.adapters.resources.watchers.LanguageChanges LanguageChanges}
+ *   – determines which messages differ between two versions of a language file.</li>
+ * </ul>
+ */
+package com.winterhavenmc.library.messagebuilder.adapters.resources.watchers;
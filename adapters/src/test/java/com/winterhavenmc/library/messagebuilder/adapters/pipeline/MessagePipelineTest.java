@@ -17,19 +17,44 @@
 
 package com.winterhavenmc.library.messagebuilder.adapters.pipeline;
 
+import com.winterhavenmc.library.messagebuilder.adapters.pipeline.analyzers.RegexTemplateAnalyzer;
+import com.winterhavenmc.library.messagebuilder.adapters.pipeline.caches.LruRenderCache;
+import com.winterhavenmc.library.messagebuilder.adapters.pipeline.caches.PassThroughRenderCache;
+import com.winterhavenmc.library.messagebuilder.adapters.pipeline.prerenderers.MacroFreePrerenderer;
+import com.winterhavenmc.library.messagebuilder.adapters.pipeline.prerenderers.PrerenderedComponents;
+import com.winterhavenmc.library.messagebuilder.adapters.pipeline.gates.ContentRenderGate;
+import com.winterhavenmc.library.messagebuilder.adapters.pipeline.limiters.TokenBucketRateLimiter;
+import com.winterhavenmc.library.messagebuilder.adapters.pipeline.queues.ImmediateSendQueue;
 import com.winterhavenmc.library.messagebuilder.adapters.pipeline.cooldown.MessageCooldownMap;
 import com.winterhavenmc.library.messagebuilder.adapters.pipeline.processors.MessageProcessor;
+import com.winterhavenmc.library.messagebuilder.adapters.pipeline.schedulers.ImmediatePipelineScheduler;
 import com.winterhavenmc.library.messagebuilder.adapters.pipeline.senders.KyoriMessageSender;
 import com.winterhavenmc.library.messagebuilder.adapters.pipeline.senders.KyoriTitleSender;
+import com.winterhavenmc.library.messagebuilder.adapters.resources.AtomicResourceSnapshots;
+import com.winterhavenmc.library.messagebuilder.adapters.resources.ResourceMessage;
+import com.winterhavenmc.library.messagebuilder.adapters.resources.language.PassThroughLocalePacks;
+import com.winterhavenmc.library.messagebuilder.adapters.util.Macro;
 import com.winterhavenmc.library.messagebuilder.core.context.MessagePipelineCtx;
+import com.winterhavenmc.library.messagebuilder.core.maps.MacroObjectMap;
 import com.winterhavenmc.library.messagebuilder.core.maps.MacroStringMap;
+import com.winterhavenmc.library.messagebuilder.core.message.Broadcast;
+import com.winterhavenmc.library.messagebuilder.core.message.ValidMessage;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.analyzers.RecipientDependence;
 import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.cooldown.CooldownMap;
 import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.retrievers.MessageRetriever;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.schedulers.PipelineScheduler;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.prerenderers.Prerenderer;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.queues.SendQueue;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.queues.SendQueueStatistics;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.senders.Sender;
+import com.winterhavenmc.library.messagebuilder.models.configuration.ConfigRepository;
 import com.winterhavenmc.library.messagebuilder.models.keys.MacroKey;
 import com.winterhavenmc.library.messagebuilder.models.keys.MessageKey;
 import com.winterhavenmc.library.messagebuilder.models.keys.ValidMessageKey;
+import com.winterhavenmc.library.messagebuilder.models.language.InvalidRecordReason;
 import com.winterhavenmc.library.messagebuilder.models.language.message.FinalMessageRecord;
 import com.winterhavenmc.library.messagebuilder.models.language.message.InvalidMessageRecord;
+import com.winterhavenmc.library.messagebuilder.models.language.message.MessagePriority;
 import com.winterhavenmc.library.messagebuilder.models.language.message.MessageRecord;
 import com.winterhavenmc.library.messagebuilder.models.language.message.ValidMessageRecord;
 import com.winterhavenmc.library.messagebuilder.models.recipient.Recipient;
@@ -40,15 +65,31 @@ import org.bukkit.configuration.MemoryConfiguration;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
 
 import static com.winterhavenmc.library.messagebuilder.adapters.util.MessageId.ENABLED_MESSAGE;
 import static com.winterhavenmc.library.messagebuilder.models.validation.ErrorMessageKey.PARAMETER_INVALID;
 import static com.winterhavenmc.library.messagebuilder.models.validation.Parameter.RECIPIENT;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
 
 
 @ExtendWith(MockitoExtension.class)
@@ -57,7 +98,9 @@ class MessagePipelineTest
 	@Mock MessageRetriever messageRetrieverMock;
 	@Mock MessageProcessor messageProcessorMock;
 	@Mock Plugin pluginMock;
+	@Mock ConfigRepository configRepositoryMock;
 	@Mock Player playerMock;
+	@Mock Player player2Mock;
 	@Mock KyoriMessageSender messageSenderMock;
 	@Mock KyoriTitleSender titleSenderMock;
 
@@ -84,9 +127,10 @@ class MessagePipelineTest
 		cooldownMap = new MessageCooldownMap();
 
 		MessagePipelineCtx messagePipelineCtx = new MessagePipelineCtx(messageRetrieverMock, messageProcessorMock,
-				cooldownMap, MiniMessage.miniMessage(), List.of(messageSenderMock, titleSenderMock));
+				cooldownMap, MiniMessage.miniMessage(), List.of(messageSenderMock, titleSenderMock),
+				new ImmediatePipelineScheduler(), value -> value, new RegexTemplateAnalyzer(), new ImmediateSendQueue(), new TokenBucketRateLimiter(), new ContentRenderGate(), new PassThroughRenderCache(), messageRecord -> Optional.empty(), new AtomicResourceSnapshots(), new PassThroughLocalePacks());
 
-		messagePipeline = new MessagePipeline(messagePipelineCtx);
+		messagePipeline = new MessagePipeline(pluginMock, configRepositoryMock, messagePipelineCtx);
 
 		recordKey = MessageKey.of(ENABLED_MESSAGE).isValid().orElseThrow();
 
@@ -113,6 +157,815 @@ class MessagePipelineTest
 	}
 
 
+	@Test @DisplayName("initiateAsync delivers processed record through scheduler")
+	void initiateAsync_delivers_processed_record()
+	{
+		// Arrange
+		List<FinalMessageRecord> delivered = new ArrayList<>();
+		Sender recordingSender = (sendable, messageRecord) -> delivered.add(messageRecord);
+		MessagePipeline asyncPipeline = new MessagePipeline(pluginMock, configRepositoryMock, new MessagePipelineCtx(messageRetrieverMock, messageProcessorMock,
+				cooldownMap, MiniMessage.miniMessage(), List.of(recordingSender), new ImmediatePipelineScheduler(),
+				value -> value, new RegexTemplateAnalyzer(), new ImmediateSendQueue(), new TokenBucketRateLimiter(), new ContentRenderGate(), new PassThroughRenderCache(), messageRecord -> Optional.empty(), new AtomicResourceSnapshots(), new PassThroughLocalePacks()));
+
+		when(playerMock.getUniqueId()).thenReturn(new UUID(42, 42));
+		when(messageRetrieverMock.getRecord(recordKey)).thenReturn(validMessageRecord);
+		when(messageProcessorMock.process(eq(validMessageRecord), any(MacroObjectMap.class))).thenReturn(finalMessageRecord);
+		ValidMessage message = new ValidMessage(pluginMock, recipient, recordKey, asyncPipeline);
+
+		// Act
+		asyncPipeline.initiateAsync(message);
+
+		// Assert
+		assertEquals(List.of(finalMessageRecord), delivered);
+	}
+
+
+	@Test @DisplayName("initiateAsync snapshots macros and defers delivery to the sync stage")
+	void initiateAsync_snapshots_macros_and_defers_delivery()
+	{
+		// Arrange
+		List<Runnable> asyncTasks = new ArrayList<>();
+		List<Runnable> syncTasks = new ArrayList<>();
+		PipelineScheduler deferredScheduler = new PipelineScheduler()
+		{
+			@Override public void executeAsync(final Runnable task) { asyncTasks.add(task); }
+			@Override public void executeSync(final Runnable task) { syncTasks.add(task); }
+		};
+
+		List<FinalMessageRecord> delivered = new ArrayList<>();
+		Sender recordingSender = (sendable, messageRecord) -> delivered.add(messageRecord);
+		MessagePipeline asyncPipeline = new MessagePipeline(pluginMock, configRepositoryMock, new MessagePipelineCtx(messageRetrieverMock, messageProcessorMock,
+				cooldownMap, MiniMessage.miniMessage(), List.of(recordingSender), deferredScheduler,
+				value -> value, new RegexTemplateAnalyzer(), new ImmediateSendQueue(), new TokenBucketRateLimiter(), new ContentRenderGate(), new PassThroughRenderCache(), messageRecord -> Optional.empty(), new AtomicResourceSnapshots(), new PassThroughLocalePacks()));
+
+		when(playerMock.getUniqueId()).thenReturn(new UUID(42, 42));
+		when(messageRetrieverMock.getRecord(recordKey)).thenReturn(validMessageRecord);
+		when(messageProcessorMock.process(eq(validMessageRecord), any(MacroObjectMap.class))).thenReturn(finalMessageRecord);
+		ValidMessage message = new ValidMessage(pluginMock, recipient, recordKey, asyncPipeline);
+		MacroKey lateKey = MacroKey.of("LATE").isValid().orElseThrow();
+
+		// Act
+		asyncPipeline.initiateAsync(message);
+		message.getObjectMap().put(lateKey, "late value");
+		asyncTasks.forEach(Runnable::run);
+
+		// Assert
+		assertTrue(delivered.isEmpty(), "Delivery should not occur on the rendering thread.");
+		syncTasks.forEach(Runnable::run);
+		assertEquals(List.of(finalMessageRecord), delivered);
+
+		// Verify
+		ArgumentCaptor<MacroObjectMap> captor = ArgumentCaptor.forClass(MacroObjectMap.class);
+		verify(messageProcessorMock).process(eq(validMessageRecord), captor.capture());
+		assertTrue(captor.getValue().get(lateKey).isEmpty(), "Macros set after sendAsync should not be rendered.");
+	}
+
+
+	@Test @DisplayName("initiateAsync pins the resource snapshot that was current when the send was initiated")
+	void initiateAsync_pins_resource_snapshot()
+	{
+		// Arrange
+		List<Runnable> asyncTasks = new ArrayList<>();
+		List<Runnable> syncTasks = new ArrayList<>();
+		PipelineScheduler deferredScheduler = new PipelineScheduler()
+		{
+			@Override public void executeAsync(final Runnable task) { asyncTasks.add(task); }
+			@Override public void executeSync(final Runnable task) { syncTasks.add(task); }
+		};
+
+		AtomicResourceSnapshots snapshots = new AtomicResourceSnapshots();
+		List<Long> epochs = new ArrayList<>();
+		Sender recordingSender = (sendable, messageRecord) -> epochs.add(snapshots.current().epoch());
+		MessagePipeline asyncPipeline = new MessagePipeline(pluginMock, configRepositoryMock, new MessagePipelineCtx(messageRetrieverMock, messageProcessorMock,
+				cooldownMap, MiniMessage.miniMessage(), List.of(recordingSender), deferredScheduler,
+				value -> value, new RegexTemplateAnalyzer(), new ImmediateSendQueue(), new TokenBucketRateLimiter(), new ContentRenderGate(), new PassThroughRenderCache(), messageRecord -> Optional.empty(), snapshots, new PassThroughLocalePacks()));
+
+		when(playerMock.getUniqueId()).thenReturn(new UUID(42, 42));
+		when(messageRetrieverMock.getRecord(recordKey)).thenReturn(validMessageRecord);
+		when(messageProcessorMock.process(eq(validMessageRecord), any(MacroObjectMap.class))).thenAnswer(invocation ->
+		{
+			epochs.add(snapshots.current().epoch());
+			return finalMessageRecord;
+		});
+		ValidMessage message = new ValidMessage(pluginMock, recipient, recordKey, asyncPipeline);
+
+		// Act
+		asyncPipeline.initiateAsync(message);
+		snapshots.publish(snapshot -> snapshot.withLanguage(new MemoryConfiguration()));
+		asyncTasks.forEach(Runnable::run);
+		syncTasks.forEach(Runnable::run);
+
+		// Assert
+		assertEquals(List.of(0L, 0L), epochs, "Render and delivery should read the snapshot of epoch zero.");
+		assertEquals(1L, snapshots.current().epoch());
+	}
+
+
+	@Test @DisplayName("initiateAsync computes lazy macro values on calling thread, only for messages not cooling")
+	void initiateAsync_computes_lazy_macros_after_cooldown()
+	{
+		// Arrange
+		List<Runnable> asyncTasks = new ArrayList<>();
+		PipelineScheduler deferredScheduler = new PipelineScheduler()
+		{
+			@Override public void executeAsync(final Runnable task) { asyncTasks.add(task); }
+			@Override public void executeSync(final Runnable task) { task.run(); }
+		};
+		MessagePipeline asyncPipeline = new MessagePipeline(pluginMock, configRepositoryMock, new MessagePipelineCtx(messageRetrieverMock, messageProcessorMock,
+				cooldownMap, MiniMessage.miniMessage(), List.of(messageSenderMock), deferredScheduler,
+				value -> value, new RegexTemplateAnalyzer(), new ImmediateSendQueue(), new TokenBucketRateLimiter(), new ContentRenderGate(), new PassThroughRenderCache(), messageRecord -> Optional.empty(), new AtomicResourceSnapshots(), new PassThroughLocalePacks()));
+
+		section.set(MessageRecord.Field.MESSAGE_TEXT.toKey(), "this is a {TOOL} message");
+		ValidMessageRecord toolRecord = ValidMessageRecord.create(recordKey, section);
+		Recipient.Sendable recipient2 = (Recipient.Sendable) Recipient.of(player2Mock);
+		when(playerMock.getUniqueId()).thenReturn(new UUID(42, 42));
+		when(player2Mock.getUniqueId()).thenReturn(new UUID(43, 43));
+		when(messageRetrieverMock.getRecord(recordKey)).thenReturn(toolRecord);
+		((MessageCooldownMap) cooldownMap).putExpirationTime(recipient, finalMessageRecord);
+
+		AtomicInteger coolingInvocations = new AtomicInteger();
+		AtomicInteger sendableInvocations = new AtomicInteger();
+		ValidMessage coolingMessage = new ValidMessage(pluginMock, recipient, recordKey, asyncPipeline);
+		coolingMessage.setMacro(Macro.TOOL, coolingInvocations::incrementAndGet);
+		ValidMessage sendableMessage = new ValidMessage(pluginMock, recipient2, recordKey, asyncPipeline);
+		sendableMessage.setMacro(Macro.TOOL, sendableInvocations::incrementAndGet);
+
+		// Act
+		asyncPipeline.initiateAsync(coolingMessage);
+		asyncPipeline.initiateAsync(sendableMessage);
+
+		// Assert
+		assertEquals(0, coolingInvocations.get(), "Supplier should not be invoked for a cooling message.");
+		assertEquals(1, sendableInvocations.get(), "Supplier should be invoked on the calling thread.");
+		assertEquals(1, asyncTasks.size());
+	}
+
+
+	@Test @DisplayName("initiateAsync never computes lazy macro values that the templates do not reference")
+	void initiateAsync_skips_unreferenced_lazy_macros()
+	{
+		// Arrange
+		List<FinalMessageRecord> delivered = new ArrayList<>();
+		Sender recordingSender = (sendable, messageRecord) -> delivered.add(messageRecord);
+		MessagePipeline asyncPipeline = new MessagePipeline(pluginMock, configRepositoryMock, new MessagePipelineCtx(messageRetrieverMock, messageProcessorMock,
+				cooldownMap, MiniMessage.miniMessage(), List.of(recordingSender), new ImmediatePipelineScheduler(),
+				value -> value, new RegexTemplateAnalyzer(), new ImmediateSendQueue(), new TokenBucketRateLimiter(), new ContentRenderGate(), new PassThroughRenderCache(), messageRecord -> Optional.empty(), new AtomicResourceSnapshots(), new PassThroughLocalePacks()));
+
+		section.set(MessageRecord.Field.MESSAGE_TEXT.toKey(), "this is a {TOOL} message");
+		ValidMessageRecord toolRecord = ValidMessageRecord.create(recordKey, section);
+		when(playerMock.getUniqueId()).thenReturn(new UUID(42, 42));
+		when(messageRetrieverMock.getRecord(recordKey)).thenReturn(toolRecord);
+		when(messageProcessorMock.process(eq(toolRecord), any(MacroObjectMap.class))).thenReturn(finalMessageRecord);
+
+		AtomicInteger referencedInvocations = new AtomicInteger();
+		AtomicInteger unreferencedInvocations = new AtomicInteger();
+		ValidMessage message = new ValidMessage(pluginMock, recipient, recordKey, asyncPipeline);
+		message.setMacro(Macro.TOOL, referencedInvocations::incrementAndGet);
+		message.setMacro(Macro.PLAYER, unreferencedInvocations::incrementAndGet);
+
+		// Act
+		asyncPipeline.initiateAsync(message);
+
+		// Assert
+		assertEquals(List.of(finalMessageRecord), delivered);
+		assertEquals(1, referencedInvocations.get());
+		assertEquals(0, unreferencedInvocations.get(), "Supplier of an unreferenced macro should never be invoked.");
+	}
+
+
+	@Test @DisplayName("initiateAsync never computes unreferenced lazy macro values when the render cache is enabled")
+	void initiateAsync_skips_unreferenced_lazy_macros_with_render_cache()
+	{
+		// Arrange
+		LruRenderCache renderCache = LruRenderCache.create(8, () -> Locale.US, new RegexTemplateAnalyzer());
+		List<FinalMessageRecord> delivered = new ArrayList<>();
+		Sender recordingSender = (sendable, messageRecord) -> delivered.add(messageRecord);
+		MessagePipeline asyncPipeline = new MessagePipeline(pluginMock, configRepositoryMock, new MessagePipelineCtx(messageRetrieverMock, messageProcessorMock,
+				cooldownMap, MiniMessage.miniMessage(), List.of(recordingSender), new ImmediatePipelineScheduler(),
+				value -> value, new RegexTemplateAnalyzer(), new ImmediateSendQueue(), new TokenBucketRateLimiter(),
+				new ContentRenderGate(), renderCache, messageRecord -> Optional.empty(), new AtomicResourceSnapshots(), new PassThroughLocalePacks()));
+
+		section.set(MessageRecord.Field.MESSAGE_TEXT.toKey(), "this is a {TOOL} message");
+		ValidMessageRecord toolRecord = ValidMessageRecord.create(recordKey, section);
+		when(playerMock.getUniqueId()).thenReturn(new UUID(42, 42));
+		when(messageRetrieverMock.getRecord(recordKey)).thenReturn(toolRecord);
+		when(messageProcessorMock.process(eq(toolRecord), any(MacroObjectMap.class))).thenReturn(finalMessageRecord);
+
+		AtomicInteger referencedInvocations = new AtomicInteger();
+		AtomicInteger unreferencedInvocations = new AtomicInteger();
+		ValidMessage message = new ValidMessage(pluginMock, recipient, recordKey, asyncPipeline);
+		message.setMacro(Macro.TOOL, referencedInvocations::incrementAndGet);
+		message.setMacro(Macro.PLAYER, unreferencedInvocations::incrementAndGet);
+
+		// Act
+		asyncPipeline.initiateAsync(message);
+
+		// Assert
+		assertEquals(List.of(finalMessageRecord), delivered);
+		assertEquals(1, renderCache.statistics().misses(), "Render should be fingerprinted and looked up in the cache.");
+		assertEquals(1, referencedInvocations.get());
+		assertEquals(0, unreferencedInvocations.get(), "Supplier of an unreferenced macro should never be invoked.");
+	}
+
+
+	@Test @DisplayName("initiateAsync reserves cooldown on calling thread, suppressing a repeated send made before delivery")
+	void initiateAsync_reserves_cooldown_at_admission()
+	{
+		// Arrange
+		List<Runnable> asyncTasks = new ArrayList<>();
+		PipelineScheduler deferredScheduler = new PipelineScheduler()
+		{
+			@Override public void executeAsync(final Runnable task) { asyncTasks.add(task); }
+			@Override public void executeSync(final Runnable task) { task.run(); }
+		};
+		MessagePipeline asyncPipeline = new MessagePipeline(pluginMock, configRepositoryMock, new MessagePipelineCtx(messageRetrieverMock, messageProcessorMock,
+				cooldownMap, MiniMessage.miniMessage(), List.of(messageSenderMock), deferredScheduler,
+				value -> value, new RegexTemplateAnalyzer(), new ImmediateSendQueue(), new TokenBucketRateLimiter(), new ContentRenderGate(), new PassThroughRenderCache(), messageRecord -> Optional.empty(), new AtomicResourceSnapshots(), new PassThroughLocalePacks()));
+
+		when(playerMock.getUniqueId()).thenReturn(new UUID(42, 42));
+		when(messageRetrieverMock.getRecord(recordKey)).thenReturn(validMessageRecord);
+		ValidMessage message = new ValidMessage(pluginMock, recipient, recordKey, asyncPipeline);
+
+		// Act
+		asyncPipeline.initiateAsync(message);
+		asyncPipeline.initiateAsync(message);
+		asyncPipeline.initiateAsync(message);
+
+		// Assert
+		assertEquals(1, asyncTasks.size(), "Only the first send should be admitted before any delivery.");
+		assertTrue(asyncPipeline.isSuppressed(message));
+	}
+
+
+	@Test @DisplayName("isSuppressed returns false for enabled message that is not cooling")
+	void isSuppressed_false_for_sendable_message()
+	{
+		// Arrange
+		when(playerMock.getUniqueId()).thenReturn(new UUID(42, 42));
+		when(messageRetrieverMock.getRecord(recordKey)).thenReturn(validMessageRecord);
+		ValidMessage message = new ValidMessage(pluginMock, recipient, recordKey, messagePipeline);
+
+		// Act & Assert
+		assertFalse(messagePipeline.isSuppressed(message));
+		verifyNoInteractions(messageProcessorMock);
+	}
+
+
+	@Test @DisplayName("isSuppressed returns true for message cooling down for recipient, without retrieving record")
+	void isSuppressed_true_for_cooling_message()
+	{
+		// Arrange
+		when(playerMock.getUniqueId()).thenReturn(new UUID(42, 42));
+		((MessageCooldownMap) cooldownMap).putExpirationTime(recipient, finalMessageRecord);
+		ValidMessage message = new ValidMessage(pluginMock, recipient, recordKey, messagePipeline);
+
+		// Act & Assert
+		assertTrue(messagePipeline.isSuppressed(message));
+		verifyNoInteractions(messageRetrieverMock);
+	}
+
+
+	@Test @DisplayName("isSuppressed returns true for disabled message")
+	void isSuppressed_true_for_disabled_message()
+	{
+		// Arrange
+		section.set(MessageRecord.Field.ENABLED.toKey(), false);
+		when(playerMock.getUniqueId()).thenReturn(new UUID(42, 42));
+		when(messageRetrieverMock.getRecord(recordKey)).thenReturn(ValidMessageRecord.create(recordKey, section));
+		ValidMessage message = new ValidMessage(pluginMock, recipient, recordKey, messagePipeline);
+
+		// Act & Assert
+		assertTrue(messagePipeline.isSuppressed(message));
+	}
+
+
+	@Test @DisplayName("isSuppressed returns true for message without a valid record")
+	void isSuppressed_true_for_undefined_message()
+	{
+		// Arrange
+		when(playerMock.getUniqueId()).thenReturn(new UUID(42, 42));
+		when(messageRetrieverMock.getRecord(recordKey)).thenReturn(new InvalidMessageRecord(recordKey, InvalidRecordReason.MESSAGE_ENTRY_MISSING));
+		ValidMessage message = new ValidMessage(pluginMock, recipient, recordKey, messagePipeline);
+
+		// Act & Assert
+		assertTrue(messagePipeline.isSuppressed(message));
+	}
+
+
+	@Test @DisplayName("initiate does not render disabled message")
+	void initiate_does_not_render_disabled_message()
+	{
+		// Arrange
+		section.set(MessageRecord.Field.ENABLED.toKey(), false);
+		when(playerMock.getUniqueId()).thenReturn(new UUID(42, 42));
+		when(messageRetrieverMock.getRecord(recordKey)).thenReturn(ValidMessageRecord.create(recordKey, section));
+		ValidMessage message = new ValidMessage(pluginMock, recipient, recordKey, messagePipeline);
+
+		// Act
+		messagePipeline.initiate(message);
+
+		// Assert
+		verifyNoInteractions(messageProcessorMock, messageSenderMock, titleSenderMock);
+	}
+
+
+	@Test @DisplayName("initiate does not render message with no chat, title or subtitle content")
+	void initiate_does_not_render_empty_message()
+	{
+		// Arrange
+		section.set(MessageRecord.Field.MESSAGE_TEXT.toKey(), "");
+		section.set(MessageRecord.Field.TITLE_TEXT.toKey(), " ");
+		section.set(MessageRecord.Field.SUBTITLE_TEXT.toKey(), "");
+		when(playerMock.getUniqueId()).thenReturn(new UUID(42, 42));
+		when(messageRetrieverMock.getRecord(recordKey)).thenReturn(ValidMessageRecord.create(recordKey, section));
+		ValidMessage message = new ValidMessage(pluginMock, recipient, recordKey, messagePipeline);
+
+		// Act
+		messagePipeline.initiate(message);
+
+		// Assert
+		verifyNoInteractions(messageProcessorMock, messageSenderMock, titleSenderMock);
+	}
+
+
+	@Test @DisplayName("initiate suppresses sends exceeding the message rate limit before rendering")
+	void initiate_suppresses_rate_limited_sends()
+	{
+		// Arrange
+		section.set(MessageRecord.Field.RATE_LIMIT.toKey(), 1);
+		section.set(MessageRecord.Field.RATE_LIMIT_PERIOD.toKey(), 60);
+		ValidMessageRecord rateLimitedRecord = ValidMessageRecord.create(recordKey, section);
+		when(playerMock.getUniqueId()).thenReturn(new UUID(42, 42));
+		when(messageRetrieverMock.getRecord(recordKey)).thenReturn(rateLimitedRecord);
+		when(messageProcessorMock.process(eq(rateLimitedRecord), any())).thenReturn(finalMessageRecord);
+		ValidMessage message = new ValidMessage(pluginMock, recipient, recordKey, messagePipeline);
+
+		// Act
+		messagePipeline.initiate(message);
+		messagePipeline.initiate(message);
+		messagePipeline.initiate(message);
+
+		// Assert
+		verify(messageProcessorMock, times(1)).process(eq(rateLimitedRecord), any());
+		verify(messageSenderMock, times(1)).send(recipient, finalMessageRecord);
+	}
+
+
+	@Test @DisplayName("initiate reserves cooldown at admission, before the senders defer delivery")
+	void initiate_reserves_cooldown_at_admission()
+	{
+		// Arrange
+		when(playerMock.getUniqueId()).thenReturn(new UUID(42, 42));
+		when(messageRetrieverMock.getRecord(recordKey)).thenReturn(validMessageRecord);
+		when(messageProcessorMock.process(eq(validMessageRecord), any())).thenReturn(finalMessageRecord);
+		ValidMessage message = new ValidMessage(pluginMock, recipient, recordKey, messagePipeline);
+
+		// Act
+		messagePipeline.initiate(message);
+		messagePipeline.initiate(message);
+
+		// Assert
+		verify(messageProcessorMock, times(1)).process(eq(validMessageRecord), any());
+		verify(messageSenderMock, times(1)).send(recipient, finalMessageRecord);
+		verify(messageSenderMock, never()).prepare(any(), any());
+	}
+
+
+	@Test @DisplayName("initiate takes no permit or cooldown for a message the send queue would drop, and returns those of a shed message")
+	void initiate_returns_permit_and_cooldown_of_shed_message()
+	{
+		// Arrange
+		List<Runnable> shedActions = new ArrayList<>();
+		AtomicBoolean admitting = new AtomicBoolean(false);
+		SendQueue sheddingQueue = new SendQueue()
+		{
+			@Override public boolean admits(final MessagePriority priority) { return admitting.get(); }
+			@Override public void submit(final MessagePriority priority, final Runnable task, final Runnable shed) { shedActions.add(shed); }
+			@Override public SendQueueStatistics statistics() { return new SendQueueStatistics(0, 0, 0, 0, 0, 0); }
+		};
+		MessagePipeline sheddingPipeline = new MessagePipeline(pluginMock, configRepositoryMock, new MessagePipelineCtx(messageRetrieverMock, messageProcessorMock,
+				cooldownMap, MiniMessage.miniMessage(), List.of(messageSenderMock), new ImmediatePipelineScheduler(),
+				value -> value, new RegexTemplateAnalyzer(), sheddingQueue, new TokenBucketRateLimiter(),
+				new ContentRenderGate(), new PassThroughRenderCache(), messageRecord -> Optional.empty(), new AtomicResourceSnapshots(), new PassThroughLocalePacks()));
+
+		section.set(MessageRecord.Field.RATE_LIMIT.toKey(), 1);
+		section.set(MessageRecord.Field.RATE_LIMIT_PERIOD.toKey(), 60);
+		ValidMessageRecord rateLimitedRecord = ValidMessageRecord.create(recordKey, section);
+		when(playerMock.getUniqueId()).thenReturn(new UUID(42, 42));
+		when(messageRetrieverMock.getRecord(recordKey)).thenReturn(rateLimitedRecord);
+		ValidMessage message = new ValidMessage(pluginMock, recipient, recordKey, sheddingPipeline);
+
+		// Act
+		sheddingPipeline.initiate(message);
+		admitting.set(true);
+		sheddingPipeline.initiate(message);
+		boolean suppressedWhileQueued = sheddingPipeline.isSuppressed(message);
+		shedActions.forEach(Runnable::run);
+		sheddingPipeline.initiate(message);
+
+		// Assert
+		assertTrue(suppressedWhileQueued);
+		assertEquals(2, shedActions.size(), "The permit and cooldown of the shed message should be available again.");
+		verifyNoInteractions(messageProcessorMock);
+	}
+
+
+	@Test @DisplayName("initiate reuses cached render for repeated sends with the same macro values")
+	void initiate_reuses_cached_render()
+	{
+		// Arrange
+		section.set(MessageRecord.Field.REPEAT_DELAY.toKey(), 0);
+		ValidMessageRecord repeatableRecord = ValidMessageRecord.create(recordKey, section);
+		LruRenderCache renderCache = LruRenderCache.create(8, () -> Locale.US, new RegexTemplateAnalyzer());
+		MessagePipeline cachingPipeline = new MessagePipeline(pluginMock, configRepositoryMock, new MessagePipelineCtx(messageRetrieverMock, messageProcessorMock,
+				cooldownMap, MiniMessage.miniMessage(), List.of(messageSenderMock), new ImmediatePipelineScheduler(),
+				value -> value, new RegexTemplateAnalyzer(), new ImmediateSendQueue(), new TokenBucketRateLimiter(),
+				new ContentRenderGate(), renderCache, messageRecord -> Optional.empty(), new AtomicResourceSnapshots(), new PassThroughLocalePacks()));
+
+		when(playerMock.getUniqueId()).thenReturn(new UUID(42, 42));
+		when(messageRetrieverMock.getRecord(recordKey)).thenReturn(repeatableRecord);
+		when(messageProcessorMock.process(eq(repeatableRecord), any())).thenReturn(finalMessageRecord);
+		ValidMessage message = new ValidMessage(pluginMock, recipient, recordKey, cachingPipeline);
+
+		// Act
+		cachingPipeline.initiate(message);
+		cachingPipeline.initiate(message);
+
+		// Assert
+		verify(messageProcessorMock, times(1)).process(eq(repeatableRecord), any());
+		verify(messageSenderMock, times(2)).send(recipient, finalMessageRecord);
+		assertEquals(1, cachingPipeline.renderCacheStatistics().hits());
+	}
+
+
+	@Test @DisplayName("initiate sends pre-rendered macro-free message without processing it")
+	void initiate_sends_prerendered_message()
+	{
+		// Arrange
+		MacroFreePrerenderer prerenderer = new MacroFreePrerenderer(PrerenderedComponents.create(MiniMessage.miniMessage()));
+		MessagePipeline prerenderingPipeline = new MessagePipeline(pluginMock, configRepositoryMock, new MessagePipelineCtx(messageRetrieverMock, messageProcessorMock,
+				cooldownMap, MiniMessage.miniMessage(), List.of(messageSenderMock), new ImmediatePipelineScheduler(),
+				value -> value, new RegexTemplateAnalyzer(), new ImmediateSendQueue(), new TokenBucketRateLimiter(),
+				new ContentRenderGate(), new PassThroughRenderCache(), prerenderer, new AtomicResourceSnapshots(), new PassThroughLocalePacks()));
+
+		when(playerMock.getUniqueId()).thenReturn(new UUID(42, 42));
+		when(messageRetrieverMock.getRecord(recordKey)).thenReturn(validMessageRecord);
+		ValidMessage message = new ValidMessage(pluginMock, recipient, recordKey, prerenderingPipeline);
+
+		// Act
+		prerenderingPipeline.initiate(message);
+
+		// Assert
+		verifyNoInteractions(messageProcessorMock);
+		verify(messageSenderMock, times(1)).send(recipient, prerenderer.prerendered(validMessageRecord).orElseThrow());
+	}
+
+
+	@Test @DisplayName("initiateAsync delivers pre-rendered macro-free message without snapshotting or scheduling")
+	void initiateAsync_sends_prerendered_message()
+	{
+		// Arrange
+		List<Runnable> scheduled = new ArrayList<>();
+		PipelineScheduler recordingScheduler = new PipelineScheduler()
+		{
+			@Override public void executeAsync(final Runnable task) { scheduled.add(task); }
+			@Override public void executeSync(final Runnable task) { scheduled.add(task); }
+		};
+		AtomicInteger snapshots = new AtomicInteger();
+		List<FinalMessageRecord> delivered = new ArrayList<>();
+		Sender recordingSender = (sendable, messageRecord) -> delivered.add(messageRecord);
+		MessagePipeline prerenderingPipeline = new MessagePipeline(pluginMock, configRepositoryMock, new MessagePipelineCtx(messageRetrieverMock, messageProcessorMock,
+				cooldownMap, MiniMessage.miniMessage(), List.of(recordingSender), recordingScheduler,
+				value -> { snapshots.incrementAndGet(); return value; }, new RegexTemplateAnalyzer(), new ImmediateSendQueue(),
+				new TokenBucketRateLimiter(), new ContentRenderGate(), new PassThroughRenderCache(),
+				new MacroFreePrerenderer(PrerenderedComponents.create(MiniMessage.miniMessage())), new AtomicResourceSnapshots(), new PassThroughLocalePacks()));
+
+		when(playerMock.getUniqueId()).thenReturn(new UUID(42, 42));
+		when(messageRetrieverMock.getRecord(recordKey)).thenReturn(validMessageRecord);
+		ValidMessage message = new ValidMessage(pluginMock, recipient, recordKey, prerenderingPipeline);
+
+		// Act
+		prerenderingPipeline.initiateAsync(message);
+
+		// Assert
+		assertEquals(1, delivered.size());
+		assertEquals("this is a test message", delivered.getFirst().finalMessageString().orElseThrow());
+		assertTrue(scheduled.isEmpty());
+		assertEquals(0, snapshots.get());
+		verifyNoInteractions(messageProcessorMock);
+	}
+
+
+	@Test @DisplayName("reload clears render cache")
+	void reload_clears_render_cache()
+	{
+		// Arrange
+		section.set(MessageRecord.Field.REPEAT_DELAY.toKey(), 0);
+		ValidMessageRecord repeatableRecord = ValidMessageRecord.create(recordKey, section);
+		LruRenderCache renderCache = LruRenderCache.create(8, () -> Locale.US, new RegexTemplateAnalyzer());
+		MessagePipeline cachingPipeline = new MessagePipeline(pluginMock, configRepositoryMock, new MessagePipelineCtx(messageRetrieverMock, messageProcessorMock,
+				cooldownMap, MiniMessage.miniMessage(), List.of(messageSenderMock), new ImmediatePipelineScheduler(),
+				value -> value, new RegexTemplateAnalyzer(), new ImmediateSendQueue(), new TokenBucketRateLimiter(),
+				new ContentRenderGate(), renderCache, messageRecord -> Optional.empty(), new AtomicResourceSnapshots(), new PassThroughLocalePacks()));
+
+		when(playerMock.getUniqueId()).thenReturn(new UUID(42, 42));
+		when(messageRetrieverMock.getRecord(recordKey)).thenReturn(repeatableRecord);
+		when(messageProcessorMock.process(eq(repeatableRecord), any())).thenReturn(finalMessageRecord);
+		ValidMessage message = new ValidMessage(pluginMock, recipient, recordKey, cachingPipeline);
+
+		// Act
+		cachingPipeline.initiate(message);
+		cachingPipeline.reload();
+		cachingPipeline.initiate(message);
+
+		// Assert
+		verify(messageProcessorMock, times(2)).process(eq(repeatableRecord), any());
+		assertEquals(0, renderCache.statistics().hits());
+	}
+
+
+	@Test @DisplayName("broadcast renders once and delivers to all recipients when template does not reference recipient")
+	void broadcast_renders_once_for_recipient_independent_message()
+	{
+		// Arrange
+		Recipient.Sendable recipient2 = (Recipient.Sendable) Recipient.of(player2Mock);
+		when(playerMock.getUniqueId()).thenReturn(new UUID(42, 42));
+		when(player2Mock.getUniqueId()).thenReturn(new UUID(43, 43));
+		when(messageRetrieverMock.getRecord(recordKey)).thenReturn(validMessageRecord);
+		when(messageProcessorMock.process(eq(validMessageRecord), any())).thenReturn(finalMessageRecord);
+
+		// Act
+		messagePipeline.broadcast(new Broadcast(pluginMock, List.of(recipient, recipient2), recordKey, messagePipeline));
+
+		// Assert
+		verify(messageProcessorMock, times(1)).process(eq(validMessageRecord), any());
+		verify(messageSenderMock).broadcast(List.of(recipient, recipient2), finalMessageRecord);
+		verify(titleSenderMock).broadcast(List.of(recipient, recipient2), finalMessageRecord);
+		verify(messageSenderMock, never()).send(any(), any());
+	}
+
+
+	@Test @DisplayName("broadcast renders separately for each recipient when template references recipient")
+	void broadcast_renders_per_recipient_for_recipient_dependent_message()
+	{
+		// Arrange
+		section.set(MessageRecord.Field.MESSAGE_TEXT.toKey(), "hello {RECIPIENT.NAME}");
+		ValidMessageRecord recipientRecord = ValidMessageRecord.create(recordKey, section);
+		Recipient.Sendable recipient2 = (Recipient.Sendable) Recipient.of(player2Mock);
+		when(playerMock.getUniqueId()).thenReturn(new UUID(42, 42));
+		when(player2Mock.getUniqueId()).thenReturn(new UUID(43, 43));
+		when(messageRetrieverMock.getRecord(recordKey)).thenReturn(recipientRecord);
+		when(messageProcessorMock.process(eq(recipientRecord), any())).thenReturn(finalMessageRecord);
+		ArgumentCaptor<MacroObjectMap> captor = ArgumentCaptor.forClass(MacroObjectMap.class);
+
+		// Act
+		messagePipeline.broadcast(new Broadcast(pluginMock, List.of(recipient, recipient2), recordKey, messagePipeline));
+
+		// Assert
+		verify(messageProcessorMock, times(2)).process(eq(recipientRecord), captor.capture());
+		assertEquals(playerMock, captor.getAllValues().get(0).get(MacroKey.of("RECIPIENT").isValid().orElseThrow()).orElseThrow());
+		assertEquals(player2Mock, captor.getAllValues().get(1).get(MacroKey.of("RECIPIENT").isValid().orElseThrow()).orElseThrow());
+		verify(messageSenderMock).send(recipient, finalMessageRecord);
+		verify(messageSenderMock).send(recipient2, finalMessageRecord);
+		verify(messageSenderMock, never()).broadcast(any(), any());
+	}
+
+
+	@Test @DisplayName("broadcast excludes cooling recipients before rendering")
+	void broadcast_excludes_cooling_recipients()
+	{
+		// Arrange
+		Recipient.Sendable recipient2 = (Recipient.Sendable) Recipient.of(player2Mock);
+		when(playerMock.getUniqueId()).thenReturn(new UUID(42, 42));
+		when(player2Mock.getUniqueId()).thenReturn(new UUID(43, 43));
+		when(messageRetrieverMock.getRecord(recordKey)).thenReturn(validMessageRecord);
+		when(messageProcessorMock.process(eq(validMessageRecord), any())).thenReturn(finalMessageRecord);
+		((MessageCooldownMap) cooldownMap).putExpirationTime(recipient, finalMessageRecord);
+
+		// Act
+		messagePipeline.broadcast(new Broadcast(pluginMock, List.of(recipient, recipient2), recordKey, messagePipeline));
+
+		// Assert
+		verify(messageSenderMock).broadcast(List.of(recipient2), finalMessageRecord);
+	}
+
+
+	@Test @DisplayName("broadcast does not retrieve message when all recipients are cooling")
+	void broadcast_skips_retrieval_when_all_recipients_cooling()
+	{
+		// Arrange
+		when(playerMock.getUniqueId()).thenReturn(new UUID(42, 42));
+		((MessageCooldownMap) cooldownMap).putExpirationTime(recipient, finalMessageRecord);
+
+		// Act
+		messagePipeline.broadcast(new Broadcast(pluginMock, List.of(recipient), recordKey, messagePipeline));
+
+		// Assert
+		verifyNoInteractions(messageRetrieverMock, messageProcessorMock);
+	}
+
+
+	@Test @DisplayName("reload discards compiled templates held by message retriever")
+	void reload_delegates_to_retriever()
+	{
+		// Act
+		messagePipeline.reload();
+
+		// Assert
+		verify(messageRetrieverMock, times(1)).reload();
+	}
+
+
+	@Test @DisplayName("reload with changed keys discards compiled templates of changed messages only")
+	void reload_changed_keys_delegates_to_retriever()
+	{
+		// Act
+		messagePipeline.reload(Set.of(recordKey));
+
+		// Assert
+		verify(messageRetrieverMock, times(1)).reload(Set.of(recordKey));
+		verify(messageRetrieverMock, never()).reload();
+	}
+
+
+	@Test @DisplayName("reload pre-renders the messages of the published language file")
+	void reload_prerenders_published_messages()
+	{
+		// Arrange
+		List<ValidMessageRecord> prerendered = new ArrayList<>();
+		AtomicResourceSnapshots snapshots = new AtomicResourceSnapshots();
+		MessagePipeline prerenderingPipeline = new MessagePipeline(pluginMock, configRepositoryMock, new MessagePipelineCtx(messageRetrieverMock, messageProcessorMock,
+				cooldownMap, MiniMessage.miniMessage(), List.of(messageSenderMock), new ImmediatePipelineScheduler(),
+				value -> value, new RegexTemplateAnalyzer(), new ImmediateSendQueue(), new TokenBucketRateLimiter(), new ContentRenderGate(), new PassThroughRenderCache(),
+				messageRecord -> { prerendered.add(messageRecord); return Optional.empty(); }, snapshots, new PassThroughLocalePacks()));
+
+		MemoryConfiguration language = new MemoryConfiguration();
+		language.set("MESSAGES." + ENABLED_MESSAGE + ".MESSAGE_TEXT", "this is a test message");
+		snapshots.publish(snapshot -> snapshot.withLanguage(language));
+		when(messageRetrieverMock.getRecord(recordKey)).thenReturn(validMessageRecord);
+
+		// Act
+		prerenderingPipeline.reload();
+
+		// Assert
+		assertEquals(List.of(validMessageRecord), prerendered);
+	}
+
+
+	@Test @DisplayName("reload pre-renders published messages on the scheduler, not on the calling thread")
+	void reload_prerenders_on_scheduler()
+	{
+		// Arrange
+		List<Runnable> asyncTasks = new ArrayList<>();
+		PipelineScheduler deferredScheduler = new PipelineScheduler()
+		{
+			@Override public void executeAsync(final Runnable task) { asyncTasks.add(task); }
+			@Override public void executeSync(final Runnable task) { task.run(); }
+		};
+		List<ValidMessageRecord> prerendered = new ArrayList<>();
+		AtomicResourceSnapshots snapshots = new AtomicResourceSnapshots();
+		MessagePipeline prerenderingPipeline = new MessagePipeline(pluginMock, configRepositoryMock, new MessagePipelineCtx(messageRetrieverMock, messageProcessorMock,
+				cooldownMap, MiniMessage.miniMessage(), List.of(messageSenderMock), deferredScheduler,
+				value -> value, new RegexTemplateAnalyzer(), new ImmediateSendQueue(), new TokenBucketRateLimiter(), new ContentRenderGate(), new PassThroughRenderCache(),
+				messageRecord -> { prerendered.add(messageRecord); return Optional.empty(); }, snapshots, new PassThroughLocalePacks()));
+
+		MemoryConfiguration language = new MemoryConfiguration();
+		language.set("MESSAGES." + ENABLED_MESSAGE + ".MESSAGE_TEXT", "this is a test message");
+		snapshots.publish(snapshot -> snapshot.withLanguage(language));
+		when(messageRetrieverMock.getRecord(recordKey)).thenReturn(validMessageRecord);
+
+		// Act
+		prerenderingPipeline.reload();
+
+		// Assert
+		assertTrue(prerendered.isEmpty(), "Messages should not be pre-rendered on the calling thread.");
+		assertEquals(1, asyncTasks.size());
+		asyncTasks.forEach(Runnable::run);
+		assertEquals(List.of(validMessageRecord), prerendered);
+	}
+
+
+	@Test @DisplayName("reload with changed keys invalidates and pre-renders the changed messages only")
+	void reload_changed_keys_prerenders_changed_messages()
+	{
+		// Arrange
+		List<ValidMessageRecord> prerendered = new ArrayList<>();
+		List<Collection<ValidMessageKey>> invalidated = new ArrayList<>();
+		Prerenderer recordingPrerenderer = new Prerenderer()
+		{
+			@Override public Optional<FinalMessageRecord> prerendered(final ValidMessageRecord messageRecord)
+			{
+				prerendered.add(messageRecord);
+				return Optional.empty();
+			}
+			@Override public void clear() { fail("Pre-rendered messages should not all be discarded."); }
+			@Override public void invalidate(final Collection<ValidMessageKey> messageKeys) { invalidated.add(messageKeys); }
+		};
+		MessagePipeline prerenderingPipeline = new MessagePipeline(pluginMock, configRepositoryMock, new MessagePipelineCtx(messageRetrieverMock, messageProcessorMock,
+				cooldownMap, MiniMessage.miniMessage(), List.of(messageSenderMock), new ImmediatePipelineScheduler(),
+				value -> value, new RegexTemplateAnalyzer(), new ImmediateSendQueue(), new TokenBucketRateLimiter(), new ContentRenderGate(), new PassThroughRenderCache(),
+				recordingPrerenderer, new AtomicResourceSnapshots(), new PassThroughLocalePacks()));
+
+		when(messageRetrieverMock.getRecord(recordKey)).thenReturn(validMessageRecord);
+
+		// Act
+		prerenderingPipeline.reload(Set.of(recordKey));
+
+		// Assert
+		assertEquals(List.of(Set.of(recordKey)), invalidated);
+		assertEquals(List.of(validMessageRecord), prerendered);
+	}
+
+
+	@Test @DisplayName("analyze returns recipient dependence of retrieved record")
+	void analyze_returns_recipient_dependence()
+	{
+		// Arrange
+		when(messageRetrieverMock.getRecord(recordKey)).thenReturn(validMessageRecord);
+
+		// Act & Assert
+		assertEquals(RecipientDependence.INVARIANT, messagePipeline.analyze(recordKey));
+	}
+
+
+	@Test @DisplayName("analyze returns UNKNOWN given invalid record")
+	void analyze_returns_unknown_given_invalid_record()
+	{
+		// Arrange
+		when(messageRetrieverMock.getRecord(recordKey)).thenReturn(MessageRecord.empty(recordKey, InvalidRecordReason.MESSAGE_ENTRY_MISSING));
+
+		// Act & Assert
+		assertEquals(RecipientDependence.UNKNOWN, messagePipeline.analyze(recordKey));
+	}
+
+
+	@Test @DisplayName("warmUp renders each message against synthetic macro values without sending it")
+	void warmUp_renders_with_synthetic_macros()
+	{
+		// Arrange
+		section.set(MessageRecord.Field.MESSAGE_TEXT.toKey(), "{ITEM} expires in {DURATION} for {RECIPIENT}");
+		ValidMessageRecord macroRecord = ValidMessageRecord.create(recordKey, section);
+		when(messageRetrieverMock.getRecord(recordKey)).thenReturn(macroRecord);
+		when(messageProcessorMock.process(eq(macroRecord), any(MacroObjectMap.class))).thenReturn(finalMessageRecord);
+		ArgumentCaptor<MacroObjectMap> captor = ArgumentCaptor.forClass(MacroObjectMap.class);
+
+		// Act
+		messagePipeline.warmUp(List.of(recordKey));
+
+		// Assert
+		verify(messageProcessorMock).process(eq(macroRecord), captor.capture());
+		assertEquals(Optional.of("warm-up"), captor.getValue().get(MacroKey.of("ITEM").isValid().orElseThrow()));
+		assertTrue(captor.getValue().get(MacroKey.of("DURATION").isValid().orElseThrow()).isPresent());
+		assertTrue(captor.getValue().get(MacroKey.of("RECIPIENT").isValid().orElseThrow()).isEmpty());
+		verifyNoInteractions(messageSenderMock, titleSenderMock);
+	}
+
+
+	@Test @DisplayName("warmUp skips messages that cannot be rendered")
+	void warmUp_skips_failing_messages()
+	{
+		// Arrange
+		ValidMessageKey otherKey = MessageKey.of("DISABLED_MESSAGE").isValid().orElseThrow();
+		when(messageRetrieverMock.getRecord(recordKey)).thenThrow(new IllegalStateException("broken"));
+		when(messageRetrieverMock.getRecord(otherKey)).thenReturn(validMessageRecord);
+		when(messageProcessorMock.process(eq(validMessageRecord), any(MacroObjectMap.class))).thenReturn(finalMessageRecord);
+		Logger loggerMock = mock(Logger.class);
+		when(pluginMock.getLogger()).thenReturn(loggerMock);
+		when(configRepositoryMock.logLocale()).thenReturn(Locale.US);
+
+		// Act & Assert
+		assertDoesNotThrow(() -> messagePipeline.warmUp(List.of(recordKey, otherKey)));
+		verify(messageProcessorMock).process(eq(validMessageRecord), any(MacroObjectMap.class));
+		verify(loggerMock).info(ResourceMessage.RESOURCE_WARM_UP_SKIPPED.getLocalizedMessage(Locale.US, 1, 2));
+	}
+
+
+	@Test @DisplayName("warmUp renders messages on the pipeline scheduler, not on the calling thread")
+	void warmUp_renders_on_scheduler()
+	{
+		// Arrange
+		List<Runnable> asyncTasks = new ArrayList<>();
+		PipelineScheduler deferredScheduler = new PipelineScheduler()
+		{
+			@Override public void executeAsync(final Runnable task) { asyncTasks.add(task); }
+			@Override public void executeSync(final Runnable task) { task.run(); }
+		};
+		MessagePipeline deferredPipeline = new MessagePipeline(pluginMock, configRepositoryMock, new MessagePipelineCtx(messageRetrieverMock, messageProcessorMock,
+				cooldownMap, MiniMessage.miniMessage(), List.of(), deferredScheduler,
+				value -> value, new RegexTemplateAnalyzer(), new ImmediateSendQueue(), new TokenBucketRateLimiter(), new ContentRenderGate(), new PassThroughRenderCache(), messageRecord -> Optional.empty(), new AtomicResourceSnapshots(), new PassThroughLocalePacks()));
+		when(messageRetrieverMock.getRecord(recordKey)).thenReturn(validMessageRecord);
+		when(messageProcessorMock.process(eq(validMessageRecord), any(MacroObjectMap.class))).thenReturn(finalMessageRecord);
+
+		// Act
+		deferredPipeline.warmUp(List.of(recordKey));
+
+		// Assert
+		verifyNoInteractions(messageRetrieverMock);
+		asyncTasks.forEach(Runnable::run);
+		verify(messageProcessorMock).process(eq(validMessageRecord), any(MacroObjectMap.class));
+	}
+
+
 //	@Test @DisplayName("Test process method with Valid parameter")
 //	void testInitiate()
 //	{
@@ -138,7 +991,7 @@ class MessagePipelineTest
 //		// Arrange
 //		ValidMessageKey recordKey = MessageKey.of(NONEXISTENT_ENTRY).isValid().orElseThrow();
 //		when(playerMock.getUniqueId()).thenReturn(new UUID(42, 42));
-//		when(messageRetrieverMock.getRecord(recordKey)).thenReturn(invalidMessageRecord);
+//		when(messageRetrieverMock.getRecord(recordKey)).thenReturn(new InvalidMessageRecord(recordKey, InvalidRecordReason.MESSAGE_ENTRY_MISSING));
 //		ValidMessage message = new ValidMessage(pluginMock, recipient, MessageKey.of(NONEXISTENT_ENTRY).isValid().orElseThrow(), messagePipeline);
 //
 //		// Act & Assert
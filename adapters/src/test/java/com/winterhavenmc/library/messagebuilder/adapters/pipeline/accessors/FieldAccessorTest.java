@@ -346,7 +346,7 @@ class FieldAccessorTest
 		}
 
 		ValidMacroKey subKey = baseKey.append(KILLER).isValid().orElseThrow();
-		KillerAdapter killerAdapter = new KillerAdapter();
+		KillerAdapter killerAdapter = new KillerAdapter(adapterContextContainerMock);
 		TestObject testObject = new TestObject();
 		when(playerMock.getName()).thenReturn("Killer Name");
 
@@ -467,7 +467,7 @@ class FieldAccessorTest
 		}
 
 		ValidMacroKey subKey = baseKey.append(LOOTER).isValid().orElseThrow();
-		LooterAdapter looterAdapter = new LooterAdapter();
+		LooterAdapter looterAdapter = new LooterAdapter(adapterContextContainerMock);
 		TestObject testObject = new TestObject();
 		when(playerMock.getName()).thenReturn("Looter Name");
 
@@ -537,7 +537,7 @@ class FieldAccessorTest
 		}
 
 		ValidMacroKey subKey = baseKey.append(OWNER).isValid().orElseThrow();
-		OwnerAdapter ownerAdapter = new OwnerAdapter();
+		OwnerAdapter ownerAdapter = new OwnerAdapter(adapterContextContainerMock);
 		TestObject testObject = new TestObject();
 		when(playerMock.getName()).thenReturn("Owner Name");
 
@@ -19,6 +19,7 @@ package com.winterhavenmc.library.messagebuilder.adapters.pipeline.accessors.kil
 
 import com.winterhavenmc.library.messagebuilder.core.context.AccessorCtx;
 import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.accessors.killer.Killable;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.resolvers.playername.PlayerNameResolver;
 import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.resolvers.worldname.WorldNameResolver;
 
 import org.bukkit.Location;
@@ -50,6 +51,8 @@ public class KillerAccessorTest
 	@Mock LivingEntity livingEntityMock;
 	@Mock World worldMock;
 
+	PlayerNameResolver playerNameResolver = playerUid -> Optional.empty();
+
 	class TestObject implements Killable
 	{
 		@Override
@@ -65,9 +68,10 @@ public class KillerAccessorTest
 	{
 		// Arrange
 		TestObject testObject = new TestObject();
+		when(adapterContextContainerMock.playerNameResolver()).thenReturn(playerNameResolver);
 
 		// Act
-		Optional<Killable> adapted = new KillerAdapter().adapt(testObject);
+		Optional<Killable> adapted = new KillerAdapter(adapterContextContainerMock).adapt(testObject);
 		Optional<AnimalTamer> killer = adapted.map(Killable::getKiller);
 
 		// Assert
@@ -82,7 +86,7 @@ public class KillerAccessorTest
 		// Arrange
 		when(livingEntityMock.getKiller()).thenReturn(playerMock);
 		// Act
-		Optional<Killable> adapted = new KillerAdapter().adapt(livingEntityMock);
+		Optional<Killable> adapted = new KillerAdapter(adapterContextContainerMock).adapt(livingEntityMock);
 		Optional<AnimalTamer> killer = adapted.map(Killable::getKiller);
 
 		// Assert
@@ -99,7 +103,7 @@ public class KillerAccessorTest
 		LootContext lootContext = new LootContext.Builder(location).killer(playerMock).build();
 
 		// Act
-		Optional<Killable> adapted = new KillerAdapter().adapt(lootContext);
+		Optional<Killable> adapted = new KillerAdapter(adapterContextContainerMock).adapt(lootContext);
 		Optional<AnimalTamer> killer = adapted.map(Killable::getKiller);
 
 		// Assert
@@ -112,7 +116,7 @@ public class KillerAccessorTest
 	public void adapt_with_null_parameter_returns_empty_optional()
 	{
 		// Arrange & Act
-		Optional<Killable> adapted = new KillerAdapter().adapt(null);
+		Optional<Killable> adapted = new KillerAdapter(adapterContextContainerMock).adapt(null);
 
 		// Assert
 		assertEquals(Optional.empty(), adapted, "The adapter should return an empty optional for a null parameter.");
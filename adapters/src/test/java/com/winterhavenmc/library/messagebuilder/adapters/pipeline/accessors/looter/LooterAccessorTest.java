@@ -19,6 +19,7 @@ package com.winterhavenmc.library.messagebuilder.adapters.pipeline.accessors.loo
 
 import com.winterhavenmc.library.messagebuilder.core.context.AccessorCtx;
 import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.accessors.looter.Lootable;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.resolvers.playername.PlayerNameResolver;
 import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.resolvers.worldname.WorldNameResolver;
 
 import org.bukkit.Location;
@@ -37,6 +38,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
 
 
 @ExtendWith(MockitoExtension.class)
@@ -47,6 +49,8 @@ public class LooterAccessorTest
 	@Mock Player playerMock;
 	@Mock World worldMock;
 
+	PlayerNameResolver playerNameResolver = playerUid -> Optional.empty();
+
 	class TestObject implements Lootable
 	{
 		@Override
@@ -62,9 +66,10 @@ public class LooterAccessorTest
 	{
 		// Arrange
 		TestObject testObject = new TestObject();
+		when(adapterContextContainerMock.playerNameResolver()).thenReturn(playerNameResolver);
 
 		// Act
-		Optional<Lootable> adapter = new LooterAdapter().adapt(testObject);
+		Optional<Lootable> adapter = new LooterAdapter(adapterContextContainerMock).adapt(testObject);
 		Optional<AnimalTamer> looter = adapter.map(Lootable::getLooter);
 
 		// Assert
@@ -81,7 +86,7 @@ public class LooterAccessorTest
 		LootContext lootContext = new LootContext.Builder(location).killer(playerMock).build();
 
 		// Act
-		Optional<Lootable> adapter = new LooterAdapter().adapt(lootContext);
+		Optional<Lootable> adapter = new LooterAdapter(adapterContextContainerMock).adapt(lootContext);
 		Optional<AnimalTamer> looter = adapter.map(Lootable::getLooter);
 
 		// Assert
@@ -94,7 +99,7 @@ public class LooterAccessorTest
 	public void adapt_with_null_parameter_returns_empty_optional()
 	{
 		// Arrange & Act
-		Optional<Lootable> adapter = new LooterAdapter().adapt(null);
+		Optional<Lootable> adapter = new LooterAdapter(adapterContextContainerMock).adapt(null);
 
 		// Assert
 		assertEquals(Optional.empty(), adapter, "The adapter should return an empty optional for a null parameter.");
@@ -21,6 +21,7 @@ package com.winterhavenmc.library.messagebuilder.adapters.pipeline.accessors.nam
 import com.winterhavenmc.library.messagebuilder.core.context.AccessorCtx;
 import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.accessors.name.Nameable;
 import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.resolvers.itemname.ItemNameResolver;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.resolvers.playername.PlayerNameResolver;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.Server;
 import org.bukkit.World;
@@ -38,6 +39,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -104,7 +106,10 @@ public class NameAccessorTest
 	public void testGetName_with_valid_OfflinePlayer()
 	{
 		// Arrange
-		when(offlinePlayerMock.getName()).thenReturn("Offline Player Name");
+		UUID playerUid = UUID.randomUUID();
+		PlayerNameResolver playerNameResolver = uuid -> Optional.of("Offline Player Name");
+		when(offlinePlayerMock.getUniqueId()).thenReturn(playerUid);
+		when(adapterContextContainerMock.playerNameResolver()).thenReturn(playerNameResolver);
 		String name = "";
 
 		// Act
@@ -115,9 +120,9 @@ public class NameAccessorTest
 		}
 
 		// Assert
-		assertEquals("Offline Player Name", name, "The adapter should return the name from the OfflinePlayer.");
+		assertEquals("Offline Player Name", name, "The adapter should return the cached name of the OfflinePlayer.");
 
-		verify(offlinePlayerMock, atLeastOnce()).getName();
+		verify(offlinePlayerMock, never()).getName();
 	}
 
 
@@ -17,11 +17,15 @@
 
 package com.winterhavenmc.library.messagebuilder.adapters.pipeline.accessors.owner;
 
+import com.winterhavenmc.library.messagebuilder.core.context.AccessorCtx;
 import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.accessors.owner.Ownable;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.resolvers.playername.PlayerNameResolver;
+import org.bukkit.OfflinePlayer;
 import org.bukkit.entity.AnimalTamer;
 import org.bukkit.entity.Player;
 
 import java.util.Optional;
+import java.util.UUID;
 
 import org.bukkit.entity.Tameable;
 import org.junit.jupiter.api.DisplayName;
@@ -33,7 +37,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 
 @ExtendWith(MockitoExtension.class)
@@ -41,6 +45,10 @@ public class OwnerAccessorTest
 {
 	@Mock Player playerMock;
 	@Mock Tameable tameableMock;
+	@Mock OfflinePlayer offlinePlayerMock;
+	@Mock AccessorCtx accessorCtxMock;
+
+	PlayerNameResolver playerNameResolver = playerUid -> Optional.of("Cached Name");
 
 	class TestObject implements Ownable
 	{
@@ -57,9 +65,10 @@ public class OwnerAccessorTest
 	{
 		// Arrange
 		TestObject testObject = new TestObject();
+		when(accessorCtxMock.playerNameResolver()).thenReturn(playerNameResolver);
 
 		// Act
-		Optional<Ownable> adapter = new OwnerAdapter().adapt(testObject);
+		Optional<Ownable> adapter = new OwnerAdapter(accessorCtxMock).adapt(testObject);
 		Optional<AnimalTamer> owner = adapter.map(Ownable::getOwner);
 
 		// Assert
@@ -73,9 +82,10 @@ public class OwnerAccessorTest
 	{
 		// Arrange
 		when(tameableMock.getOwner()).thenReturn(playerMock);
+		when(accessorCtxMock.playerNameResolver()).thenReturn(playerNameResolver);
 
 		// Act
-		Optional<Ownable> adapter = new OwnerAdapter().adapt(tameableMock);
+		Optional<Ownable> adapter = new OwnerAdapter(accessorCtxMock).adapt(tameableMock);
 		Optional<AnimalTamer> owner = adapter.map(Ownable::getOwner);
 
 		// Assert
@@ -84,11 +94,31 @@ public class OwnerAccessorTest
 	}
 
 
+	@Test @DisplayName("adapt with Tameable owned by offline player resolves cached name")
+	public void adapt_with_offline_owner_returns_cached_name()
+	{
+		// Arrange
+		when(offlinePlayerMock.getUniqueId()).thenReturn(UUID.randomUUID());
+		when(tameableMock.getOwner()).thenReturn(offlinePlayerMock);
+		when(accessorCtxMock.playerNameResolver()).thenReturn(playerNameResolver);
+
+		// Act
+		Optional<Ownable> adapter = new OwnerAdapter(accessorCtxMock).adapt(tameableMock);
+		Optional<String> ownerName = adapter.map(Ownable::getOwner).map(AnimalTamer::getName);
+
+		// Assert
+		assertEquals(Optional.of("Cached Name"), ownerName);
+
+		// Verify
+		verify(offlinePlayerMock, never()).getName();
+	}
+
+
 	@Test @DisplayName("adapt with null")
 	public void adapt_with_null_parameter_returns_empty_optional()
 	{
 		// Arrange & Act
-		Optional<Ownable> adapter = new OwnerAdapter().adapt(null);
+		Optional<Ownable> adapter = new OwnerAdapter(accessorCtxMock).adapt(null);
 
 		// Assert
 		assertEquals(Optional.empty(), adapter, "The adapter should return an empty optional for a null parameter.");
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.adapters.pipeline.analyzers;
+
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.analyzers.RecipientDependence;
+import com.winterhavenmc.library.messagebuilder.models.keys.MacroKey;
+import com.winterhavenmc.library.messagebuilder.models.keys.MessageKey;
+import com.winterhavenmc.library.messagebuilder.models.keys.ValidMessageKey;
+import com.winterhavenmc.library.messagebuilder.models.language.message.MessageRecord;
+import com.winterhavenmc.library.messagebuilder.models.language.message.ValidMessageRecord;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.MemoryConfiguration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static com.winterhavenmc.library.messagebuilder.adapters.util.MessageId.ENABLED_MESSAGE;
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class RegexTemplateAnalyzerTest
+{
+	RegexTemplateAnalyzer analyzer;
+	ValidMessageKey messageKey;
+	ConfigurationSection section;
+
+
+	@BeforeEach
+	void setUp()
+	{
+		analyzer = new RegexTemplateAnalyzer();
+		messageKey = MessageKey.of(ENABLED_MESSAGE).isValid().orElseThrow();
+		section = new MemoryConfiguration();
+		section.set(MessageRecord.Field.ENABLED.toKey(), true);
+	}
+
+
+	@Test @DisplayName("analyze returns INVARIANT for template without recipient macro")
+	void analyze_returns_invariant()
+	{
+		// Arrange
+		section.set(MessageRecord.Field.MESSAGE_TEXT.toKey(), "Welcome to {PLUGIN.NAME}, the {ITEM} is ready.");
+
+		// Act
+		RecipientDependence result = analyzer.analyze(ValidMessageRecord.create(messageKey, section));
+
+		// Assert
+		assertEquals(RecipientDependence.INVARIANT, result);
+		assertTrue(result.isShareable());
+	}
+
+
+	@Test @DisplayName("analyze returns DEPENDENT for message referencing recipient field")
+	void analyze_returns_dependent_for_recipient_field()
+	{
+		// Arrange
+		section.set(MessageRecord.Field.MESSAGE_TEXT.toKey(), "Hello {RECIPIENT.NAME}!");
+
+		// Act & Assert
+		assertEquals(RecipientDependence.DEPENDENT, analyzer.analyze(ValidMessageRecord.create(messageKey, section)));
+	}
+
+
+	@Test @DisplayName("analyze returns DEPENDENT for subtitle referencing recipient")
+	void analyze_returns_dependent_for_subtitle()
+	{
+		// Arrange
+		section.set(MessageRecord.Field.MESSAGE_TEXT.toKey(), "A plain message");
+		section.set(MessageRecord.Field.SUBTITLE_TEXT.toKey(), "for {RECIPIENT}");
+
+		// Act & Assert
+		assertEquals(RecipientDependence.DEPENDENT, analyzer.analyze(ValidMessageRecord.create(messageKey, section)));
+	}
+
+
+	@Test @DisplayName("analyze does not match macros that only begin with RECIPIENT")
+	void analyze_ignores_similar_macro_names()
+	{
+		// Arrange
+		section.set(MessageRecord.Field.MESSAGE_TEXT.toKey(), "Sent by {RECIPIENTS_LIST}");
+
+		// Act & Assert
+		assertEquals(RecipientDependence.INVARIANT, analyzer.analyze(ValidMessageRecord.create(messageKey, section)));
+	}
+
+
+	@Test @DisplayName("analyze re-analyzes record when templates change for the same key")
+	void analyze_reanalyzes_changed_templates()
+	{
+		// Arrange
+		section.set(MessageRecord.Field.MESSAGE_TEXT.toKey(), "A plain message");
+		RecipientDependence before = analyzer.analyze(ValidMessageRecord.create(messageKey, section));
+		section.set(MessageRecord.Field.MESSAGE_TEXT.toKey(), "Hello {RECIPIENT}");
+
+		// Act
+		RecipientDependence after = analyzer.analyze(ValidMessageRecord.create(messageKey, section));
+
+		// Assert
+		assertEquals(RecipientDependence.INVARIANT, before);
+		assertEquals(RecipientDependence.DEPENDENT, after);
+	}
+
+
+	@Test @DisplayName("referencedKeys returns the base keys of placeholders in all templates")
+	void referencedKeys_returns_base_keys()
+	{
+		// Arrange
+		section.set(MessageRecord.Field.MESSAGE_TEXT.toKey(), "The {ITEM.NAME} is at {LOCATION.WORLD}.");
+		section.set(MessageRecord.Field.TITLE_TEXT.toKey(), "Hello {RECIPIENT}");
+
+		// Act
+		var result = analyzer.referencedKeys(ValidMessageRecord.create(messageKey, section));
+
+		// Assert
+		assertEquals(Set.of(MacroKey.of("ITEM").isValid().orElseThrow(),
+				MacroKey.of("LOCATION").isValid().orElseThrow(),
+				MacroKey.of("RECIPIENT").isValid().orElseThrow()), result);
+	}
+
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.adapters.pipeline.caches;
+
+import com.winterhavenmc.library.messagebuilder.adapters.pipeline.analyzers.RegexTemplateAnalyzer;
+import com.winterhavenmc.library.messagebuilder.adapters.util.MessageId;
+import com.winterhavenmc.library.messagebuilder.core.maps.MacroObjectMap;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.caches.RenderCacheStatistics;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.processors.Processor;
+import com.winterhavenmc.library.messagebuilder.models.keys.MacroKey;
+import com.winterhavenmc.library.messagebuilder.models.keys.MessageKey;
+import com.winterhavenmc.library.messagebuilder.models.keys.ValidMacroKey;
+import com.winterhavenmc.library.messagebuilder.models.keys.ValidMessageKey;
+import com.winterhavenmc.library.messagebuilder.models.language.message.FinalMessageRecord;
+import com.winterhavenmc.library.messagebuilder.models.language.message.MessageRecord;
+import com.winterhavenmc.library.messagebuilder.models.language.message.ValidMessageRecord;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.MemoryConfiguration;
+import org.bukkit.inventory.ItemStack;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+@ExtendWith(MockitoExtension.class)
+class LruRenderCacheTest
+{
+	@Mock ItemStack itemStackMock;
+
+	ValidMessageKey messageKey;
+	ValidMacroKey numberKey;
+	ValidMessageRecord messageRecord;
+	AtomicInteger renders;
+	Processor processor;
+	AtomicReference<Locale> locale;
+
+
+	@BeforeEach
+	void setUp()
+	{
+		messageKey = MessageKey.of(MessageId.ENABLED_MESSAGE).isValid().orElseThrow();
+		numberKey = MacroKey.of("NUMBER").isValid().orElseThrow();
+
+		ConfigurationSection section = new MemoryConfiguration();
+		section.set(MessageRecord.Field.MESSAGE_TEXT.toKey(), "number is {NUMBER}");
+		messageRecord = ValidMessageRecord.create(messageKey, section);
+
+		renders = new AtomicInteger();
+		processor = (record, macroObjectMap) ->
+		{
+			renders.incrementAndGet();
+			return record.withFinalStrings(record.message().replace("{NUMBER}",
+					macroObjectMap.get(numberKey).map(String::valueOf).orElse("")), "", "");
+		};
+
+		locale = new AtomicReference<>(Locale.US);
+	}
+
+
+	private MacroObjectMap macroObjectMap(final Object number)
+	{
+		MacroObjectMap macroObjectMap = new MacroObjectMap();
+		macroObjectMap.put(numberKey, number);
+		return macroObjectMap;
+	}
+
+
+	@Test @DisplayName("render returns cached result for equal macro values")
+	void render_returns_cached_result()
+	{
+		// Arrange
+		LruRenderCache renderCache = LruRenderCache.create(4, locale::get, new RegexTemplateAnalyzer());
+
+		// Act
+		FinalMessageRecord first = renderCache.render(messageRecord, macroObjectMap(7), processor);
+		FinalMessageRecord second = renderCache.render(messageRecord, macroObjectMap(7), processor);
+
+		// Assert
+		assertSame(first, second);
+		assertEquals(1, renders.get());
+		assertEquals(new RenderCacheStatistics(1, 1, 0, 0, 1), renderCache.statistics());
+	}
+
+
+	@Test @DisplayName("render does not reuse result for different macro values")
+	void render_different_values()
+	{
+		// Arrange
+		LruRenderCache renderCache = LruRenderCache.create(4, locale::get, new RegexTemplateAnalyzer());
+
+		// Act
+		FinalMessageRecord first = renderCache.render(messageRecord, macroObjectMap(7), processor);
+		FinalMessageRecord second = renderCache.render(messageRecord, macroObjectMap(8), processor);
+
+		// Assert
+		assertEquals("number is 7", first.finalMessageString().orElseThrow());
+		assertEquals("number is 8", second.finalMessageString().orElseThrow());
+		assertEquals(2, renders.get());
+	}
+
+
+	@Test @DisplayName("render does not reuse result rendered in a different locale")
+	void render_different_locale()
+	{
+		// Arrange
+		LruRenderCache renderCache = LruRenderCache.create(4, locale::get, new RegexTemplateAnalyzer());
+
+		// Act
+		renderCache.render(messageRecord, macroObjectMap(7), processor);
+		locale.set(Locale.FRANCE);
+		renderCache.render(messageRecord, macroObjectMap(7), processor);
+
+		// Assert
+		assertEquals(2, renders.get());
+	}
+
+
+	@Test @DisplayName("render bypasses cache for macro values that cannot be fingerprinted")
+	void render_bypasses_unstable_values()
+	{
+		// Arrange
+		LruRenderCache renderCache = LruRenderCache.create(4, locale::get, new RegexTemplateAnalyzer());
+
+		// Act
+		renderCache.render(messageRecord, macroObjectMap(itemStackMock), processor);
+		renderCache.render(messageRecord, macroObjectMap(itemStackMock), processor);
+
+		// Assert
+		assertEquals(2, renders.get());
+		assertEquals(new RenderCacheStatistics(0, 0, 2, 0, 0), renderCache.statistics());
+	}
+
+
+	@Test @DisplayName("render evicts least recently used result when full")
+	void render_evicts_least_recently_used()
+	{
+		// Arrange
+		LruRenderCache renderCache = LruRenderCache.create(2, locale::get, new RegexTemplateAnalyzer());
+		renderCache.render(messageRecord, macroObjectMap(1), processor);
+		renderCache.render(messageRecord, macroObjectMap(2), processor);
+		renderCache.render(messageRecord, macroObjectMap(1), processor);
+
+		// Act
+		renderCache.render(messageRecord, macroObjectMap(3), processor);
+		renderCache.render(messageRecord, macroObjectMap(1), processor);
+		renderCache.render(messageRecord, macroObjectMap(2), processor);
+
+		// Assert
+		assertEquals(4, renders.get());
+		assertEquals(2, renderCache.statistics().evictions());
+		assertEquals(2, renderCache.statistics().size());
+	}
+
+
+	@Test @DisplayName("clear discards cached results")
+	void clear_discards_results()
+	{
+		// Arrange
+		LruRenderCache renderCache = LruRenderCache.create(4, locale::get, new RegexTemplateAnalyzer());
+		renderCache.render(messageRecord, macroObjectMap(7), processor);
+
+		// Act
+		renderCache.clear();
+		renderCache.render(messageRecord, macroObjectMap(7), processor);
+
+		// Assert
+		assertEquals(2, renders.get());
+		assertEquals(0, renderCache.statistics().hits());
+	}
+
+
+	@Test @DisplayName("invalidate discards cached results of the given messages only")
+	void invalidate_discards_given_messages()
+	{
+		// Arrange
+		ValidMessageKey otherKey = MessageKey.of(MessageId.DISABLED_MESSAGE).isValid().orElseThrow();
+		ConfigurationSection section = new MemoryConfiguration();
+		section.set(MessageRecord.Field.MESSAGE_TEXT.toKey(), "other number is {NUMBER}");
+		ValidMessageRecord otherRecord = ValidMessageRecord.create(otherKey, section);
+
+		LruRenderCache renderCache = LruRenderCache.create(4, locale::get, new RegexTemplateAnalyzer());
+		renderCache.render(messageRecord, macroObjectMap(7), processor);
+		renderCache.render(otherRecord, macroObjectMap(7), processor);
+
+		// Act
+		renderCache.invalidate(Set.of(messageKey));
+		renderCache.render(messageRecord, macroObjectMap(7), processor);
+		renderCache.render(otherRecord, macroObjectMap(7), processor);
+
+		// Assert
+		assertEquals(3, renders.get());
+		assertEquals(1, renderCache.statistics().hits());
+	}
+
+}
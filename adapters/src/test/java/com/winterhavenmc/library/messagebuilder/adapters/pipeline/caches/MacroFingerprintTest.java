@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.adapters.pipeline.caches;
+
+import com.winterhavenmc.library.messagebuilder.adapters.pipeline.snapshots.WorldSnapshot;
+import com.winterhavenmc.library.messagebuilder.core.maps.MacroObjectMap;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.accessors.expiration.Expirable;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.accessors.protection.Protectable;
+import com.winterhavenmc.library.messagebuilder.models.keys.MacroKey;
+import com.winterhavenmc.library.messagebuilder.models.keys.ValidMacroKey;
+
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.plugin.Plugin;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+@ExtendWith(MockitoExtension.class)
+class MacroFingerprintTest
+{
+	@Mock Plugin pluginMock;
+	@Mock Player playerMock;
+	@Mock ItemStack itemStackMock;
+
+	ValidMacroKey pluginKey = MacroKey.of("PLUGIN").isValid().orElseThrow();
+	ValidMacroKey recipientKey = MacroKey.of("RECIPIENT").isValid().orElseThrow();
+	ValidMacroKey valueKey = MacroKey.of("VALUE").isValid().orElseThrow();
+
+
+	@Test @DisplayName("isStable returns true for value types, enums and records of stable components")
+	void isStable_stable_values()
+	{
+		assertTrue(MacroFingerprint.isStable("text"));
+		assertTrue(MacroFingerprint.isStable(42));
+		assertTrue(MacroFingerprint.isStable(4.2));
+		assertTrue(MacroFingerprint.isStable(new UUID(42, 42)));
+		assertTrue(MacroFingerprint.isStable(Duration.ofSeconds(42)));
+		assertTrue(MacroFingerprint.isStable(ChronoUnit.SECONDS));
+		assertTrue(MacroFingerprint.isStable(new WorldSnapshot("world", "World", new UUID(42, 42))));
+		assertTrue(MacroFingerprint.isStable(new WorldSnapshot("world", null, new UUID(42, 42))));
+	}
+
+
+	@Test @DisplayName("isStable returns false for live server objects and records containing them")
+	void isStable_unstable_values()
+	{
+		record Holder(String name, ItemStack itemStack) { }
+
+		assertFalse(MacroFingerprint.isStable(null));
+		assertFalse(MacroFingerprint.isStable(playerMock));
+		assertFalse(MacroFingerprint.isStable(itemStackMock));
+		assertFalse(MacroFingerprint.isStable(new Holder("name", itemStackMock)));
+	}
+
+
+	@Test @DisplayName("isStable returns false for expirable and protectable records of stable components")
+	void isStable_time_relative_values()
+	{
+		record Expiring(String name, Instant expiration) implements Expirable
+		{
+			@Override
+			public Instant getExpiration() { return expiration; }
+		}
+
+		record Protected(String name, Instant protection) implements Protectable
+		{
+			@Override
+			public Instant getProtection() { return protection; }
+		}
+
+		Instant instant = Instant.parse("2030-01-01T00:00:00Z");
+
+		assertTrue(MacroFingerprint.isStable(instant));
+		assertFalse(MacroFingerprint.isStable(new Expiring("name", instant)));
+		assertFalse(MacroFingerprint.isStable(new Protected("name", instant)));
+	}
+
+
+	@Test @DisplayName("of returns empty for templates referencing an expirable value")
+	void of_expirable_value()
+	{
+		// Arrange
+		Expirable expirable = () -> Instant.parse("2030-01-01T00:00:00Z");
+		MacroObjectMap macroObjectMap = new MacroObjectMap();
+		macroObjectMap.put(valueKey, expirable);
+
+		// Act
+		Optional<Map<MacroKey, Object>> result = MacroFingerprint.of(macroObjectMap, Set.of(valueKey));
+
+		// Assert
+		assertTrue(result.isEmpty());
+	}
+
+
+	@Test @DisplayName("of excludes plugin, and recipient when the templates do not reference it")
+	void of_excludes_plugin_and_recipient()
+	{
+		// Arrange
+		MacroObjectMap macroObjectMap = new MacroObjectMap();
+		macroObjectMap.put(pluginKey, pluginMock);
+		macroObjectMap.put(recipientKey, playerMock);
+		macroObjectMap.put(valueKey, 42);
+
+		// Act
+		Optional<Map<MacroKey, Object>> result = MacroFingerprint.of(macroObjectMap, Set.of(pluginKey, valueKey));
+
+		// Assert
+		assertEquals(Optional.of(Map.of(valueKey, 42)), result);
+	}
+
+
+	@Test @DisplayName("of returns empty for templates referencing a live recipient")
+	void of_recipient_dependent()
+	{
+		// Arrange
+		MacroObjectMap macroObjectMap = new MacroObjectMap();
+		macroObjectMap.put(recipientKey, playerMock);
+		macroObjectMap.put(valueKey, 42);
+
+		// Act
+		Optional<Map<MacroKey, Object>> result = MacroFingerprint.of(macroObjectMap, Set.of(recipientKey, valueKey));
+
+		// Assert
+		assertTrue(result.isEmpty());
+	}
+
+
+	@Test @DisplayName("of returns equal fingerprints for equal values")
+	void of_equal_values()
+	{
+		// Arrange
+		MacroObjectMap first = new MacroObjectMap();
+		first.put(valueKey, new WorldSnapshot("world", "World", new UUID(42, 42)));
+		MacroObjectMap second = new MacroObjectMap();
+		second.putLazyIfAbsent(valueKey, () -> new WorldSnapshot("world", "World", new UUID(42, 42)));
+
+		// Act & Assert
+		assertEquals(MacroFingerprint.of(first, Set.of(valueKey)), MacroFingerprint.of(second, Set.of(valueKey)));
+	}
+
+
+	@Test @DisplayName("of never reads values bound to keys the templates do not reference")
+	void of_ignores_unreferenced_values()
+	{
+		// Arrange
+		AtomicInteger invocations = new AtomicInteger();
+		ValidMacroKey unreferencedKey = MacroKey.of("UNREFERENCED").isValid().orElseThrow();
+		MacroObjectMap macroObjectMap = new MacroObjectMap();
+		macroObjectMap.put(valueKey, 42);
+		macroObjectMap.put(recipientKey, playerMock);
+		macroObjectMap.putLazyIfAbsent(unreferencedKey, invocations::incrementAndGet);
+
+		// Act
+		Optional<Map<MacroKey, Object>> result = MacroFingerprint.of(macroObjectMap, Set.of(valueKey));
+
+		// Assert
+		assertEquals(Optional.of(Map.of(valueKey, 42)), result);
+		assertEquals(0, invocations.get());
+	}
+
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.adapters.pipeline.compilers;
+
+import com.winterhavenmc.library.messagebuilder.adapters.util.MessageId;
+import com.winterhavenmc.library.messagebuilder.core.maps.MacroObjectMap;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.processors.Processor;
+import com.winterhavenmc.library.messagebuilder.models.keys.MacroKey;
+import com.winterhavenmc.library.messagebuilder.models.keys.MessageKey;
+import com.winterhavenmc.library.messagebuilder.models.keys.ValidMessageKey;
+import com.winterhavenmc.library.messagebuilder.models.language.message.MessageRecord;
+import com.winterhavenmc.library.messagebuilder.models.language.message.ValidMessageRecord;
+import com.winterhavenmc.library.messagebuilder.models.validation.ValidationException;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.MemoryConfiguration;
+import org.bukkit.plugin.Plugin;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+@ExtendWith(MockitoExtension.class)
+class ConstantFoldingCompilerTest
+{
+	@Mock Plugin pluginMock;
+
+	ValidMessageKey messageKey;
+	ConfigurationSection section;
+	AtomicReference<MacroObjectMap> processedMap;
+	Processor processor;
+
+
+	@BeforeEach
+	void setUp()
+	{
+		messageKey = MessageKey.of(MessageId.ENABLED_MESSAGE).isValid().orElseThrow();
+		section = new MemoryConfiguration();
+		section.set(MessageRecord.Field.MESSAGE_TEXT.toKey(), "{PLUGIN.NAME} says hello to {RECIPIENT.NAME}");
+		section.set(MessageRecord.Field.TITLE_TEXT.toKey(), "{PLUGIN.NAME}");
+		section.set(MessageRecord.Field.REPEAT_DELAY.toKey(), 5);
+
+		// a processor that resolves only the plugin name, leaving other placeholders in place
+		processedMap = new AtomicReference<>();
+		processor = (messageRecord, macroObjectMap) ->
+		{
+			processedMap.set(macroObjectMap);
+			return messageRecord.withFinalStrings(
+					messageRecord.message().replace("{PLUGIN.NAME}", "TestPlugin"),
+					messageRecord.title().replace("{PLUGIN.NAME}", "TestPlugin"),
+					messageRecord.subtitle().replace("{PLUGIN.NAME}", "TestPlugin"));
+		};
+	}
+
+
+	@Test @DisplayName("create throws ValidationException given null plugin")
+	void create_null_plugin()
+	{
+		assertThrows(ValidationException.class, () -> ConstantFoldingCompiler.create(null, processor));
+	}
+
+
+	@Test @DisplayName("compile substitutes invariant values and leaves other placeholders in place")
+	void compile_folds_invariant_macros()
+	{
+		// Arrange
+		ConstantFoldingCompiler compiler = ConstantFoldingCompiler.create(pluginMock, processor);
+
+		// Act
+		ValidMessageRecord result = compiler.compile(ValidMessageRecord.create(messageKey, section));
+
+		// Assert
+		assertEquals("TestPlugin says hello to {RECIPIENT.NAME}", result.message());
+		assertEquals("TestPlugin", result.title());
+		assertEquals("", result.subtitle());
+		assertEquals(Duration.ofSeconds(5), result.repeatDelay());
+	}
+
+
+	@Test @DisplayName("compile resolves templates with a macro map containing only the plugin")
+	void compile_uses_plugin_only_map()
+	{
+		// Arrange
+		ConstantFoldingCompiler compiler = ConstantFoldingCompiler.create(pluginMock, processor);
+
+		// Act
+		compiler.compile(ValidMessageRecord.create(messageKey, section));
+
+		// Assert
+		MacroObjectMap macroObjectMap = processedMap.get();
+		assertEquals(pluginMock, macroObjectMap.get(MacroKey.of("PLUGIN").isValid().orElseThrow()).orElseThrow());
+		assertTrue(macroObjectMap.get(MacroKey.of("RECIPIENT").isValid().orElseThrow()).isEmpty());
+	}
+
+}
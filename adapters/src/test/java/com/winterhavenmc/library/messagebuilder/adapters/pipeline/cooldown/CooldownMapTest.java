@@ -214,6 +214,62 @@ class CooldownMapTest
 	}
 
 
+	@Nested
+	@DisplayName("reserve Tests")
+	class ReserveTests
+	{
+		@BeforeEach
+		void setUp()
+		{
+			when(playerMock.getUniqueId()).thenReturn(UUID.randomUUID());
+			recipient = (Recipient.Valid) Recipient.of(playerMock);
+			cooldownKey = CooldownKey.of(recipient, recordKey).orElseThrow();
+		}
+
+
+		@Test
+		@DisplayName("reserve() admits only the first of repeated reservations")
+		void reserve_admits_only_first_reservation()
+		{
+			// Act
+			boolean first = cooldownMap.reserve(cooldownKey, Duration.ofSeconds(10));
+			boolean second = cooldownMap.reserve(cooldownKey, Duration.ofSeconds(10));
+
+			// Assert
+			assertTrue(first);
+			assertFalse(second);
+			assertFalse(cooldownMap.notCooling(cooldownKey));
+		}
+
+
+		@Test
+		@DisplayName("reserve() always admits a message with no repeat delay")
+		void reserve_admits_message_without_delay()
+		{
+			// Act & Assert
+			assertTrue(cooldownMap.reserve(cooldownKey, Duration.ZERO));
+			assertTrue(cooldownMap.reserve(cooldownKey, Duration.ZERO));
+			assertTrue(cooldownMap.notCooling(cooldownKey));
+		}
+
+
+		@Test
+		@DisplayName("release() allows a released reservation to be made again")
+		void release_allows_reservation_again()
+		{
+			// Arrange
+			cooldownMap.reserve(cooldownKey, Duration.ofSeconds(10));
+
+			// Act
+			cooldownMap.release(cooldownKey);
+
+			// Assert
+			assertTrue(cooldownMap.notCooling(cooldownKey));
+			assertTrue(cooldownMap.reserve(cooldownKey, Duration.ofSeconds(10)));
+		}
+	}
+
+
 	@Nested
 	@DisplayName("removeExpired Tests")
 	class RemoveExpiredTests
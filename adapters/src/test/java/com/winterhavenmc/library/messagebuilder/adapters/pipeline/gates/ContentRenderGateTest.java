@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.adapters.pipeline.gates;
+
+import com.winterhavenmc.library.messagebuilder.adapters.util.MessageId;
+import com.winterhavenmc.library.messagebuilder.models.keys.MessageKey;
+import com.winterhavenmc.library.messagebuilder.models.keys.ValidMessageKey;
+import com.winterhavenmc.library.messagebuilder.models.language.message.MessageRecord;
+import com.winterhavenmc.library.messagebuilder.models.language.message.ValidMessageRecord;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.MemoryConfiguration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class ContentRenderGateTest
+{
+	ValidMessageKey recordKey;
+	ConfigurationSection section;
+	ContentRenderGate gate;
+
+
+	@BeforeEach
+	void setUp()
+	{
+		recordKey = MessageKey.of(MessageId.ENABLED_MESSAGE).isValid().orElseThrow();
+		section = new MemoryConfiguration();
+		gate = new ContentRenderGate();
+	}
+
+
+	@Test
+	@DisplayName("admits enabled message with chat content")
+	void admits_chat_content()
+	{
+		section.set(MessageRecord.Field.MESSAGE_TEXT.toKey(), "this is a test message");
+
+		assertTrue(gate.admits(ValidMessageRecord.create(recordKey, section)));
+	}
+
+
+	@Test
+	@DisplayName("admits enabled message with title content only")
+	void admits_title_content()
+	{
+		section.set(MessageRecord.Field.TITLE_TEXT.toKey(), "this is a test title");
+
+		assertTrue(gate.admits(ValidMessageRecord.create(recordKey, section)));
+	}
+
+
+	@Test
+	@DisplayName("admits enabled message with subtitle content only")
+	void admits_subtitle_content()
+	{
+		section.set(MessageRecord.Field.SUBTITLE_TEXT.toKey(), "this is a test subtitle");
+
+		assertTrue(gate.admits(ValidMessageRecord.create(recordKey, section)));
+	}
+
+
+	@Test
+	@DisplayName("does not admit disabled message")
+	void does_not_admit_disabled()
+	{
+		section.set(MessageRecord.Field.ENABLED.toKey(), false);
+		section.set(MessageRecord.Field.MESSAGE_TEXT.toKey(), "this is a test message");
+
+		assertFalse(gate.admits(ValidMessageRecord.create(recordKey, section)));
+	}
+
+
+	@Test
+	@DisplayName("does not admit message with only blank content")
+	void does_not_admit_blank()
+	{
+		section.set(MessageRecord.Field.MESSAGE_TEXT.toKey(), "   ");
+		section.set(MessageRecord.Field.TITLE_TEXT.toKey(), "");
+
+		assertFalse(gate.admits(ValidMessageRecord.create(recordKey, section)));
+	}
+
+}
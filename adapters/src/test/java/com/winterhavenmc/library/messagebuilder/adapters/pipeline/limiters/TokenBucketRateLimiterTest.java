@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.adapters.pipeline.limiters;
+
+import com.winterhavenmc.library.messagebuilder.adapters.util.MessageId;
+import com.winterhavenmc.library.messagebuilder.models.keys.MessageKey;
+import com.winterhavenmc.library.messagebuilder.models.keys.ValidMessageKey;
+import com.winterhavenmc.library.messagebuilder.models.language.message.RateLimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class TokenBucketRateLimiterTest
+{
+	final AtomicLong clock = new AtomicLong(1_000_000_000L);
+	final RateLimit twoPerSecond = RateLimit.of(2, Duration.ofSeconds(1));
+
+	ValidMessageKey messageKey;
+	ValidMessageKey otherMessageKey;
+	TokenBucketRateLimiter rateLimiter;
+
+
+	@BeforeEach
+	void setUp()
+	{
+		messageKey = MessageKey.of(MessageId.ENABLED_MESSAGE).isValid().orElseThrow();
+		otherMessageKey = MessageKey.of(MessageId.DISABLED_MESSAGE).isValid().orElseThrow();
+		rateLimiter = new TokenBucketRateLimiter(clock::get);
+	}
+
+
+	@Test
+	@DisplayName("tryAcquire always permits unlimited messages")
+	void tryAcquire_unlimited()
+	{
+		for (int i = 0; i < 100; i++)
+		{
+			assertTrue(rateLimiter.tryAcquire(messageKey, RateLimit.UNLIMITED));
+		}
+	}
+
+
+	@Test
+	@DisplayName("tryAcquire permits a full burst, then suppresses sends")
+	void tryAcquire_burst_exhausted()
+	{
+		assertTrue(rateLimiter.tryAcquire(messageKey, twoPerSecond));
+		assertTrue(rateLimiter.tryAcquire(messageKey, twoPerSecond));
+		assertFalse(rateLimiter.tryAcquire(messageKey, twoPerSecond));
+	}
+
+
+	@Test
+	@DisplayName("tryAcquire permits sends again as tokens are refilled")
+	void tryAcquire_refill()
+	{
+		// Arrange
+		rateLimiter.tryAcquire(messageKey, twoPerSecond);
+		rateLimiter.tryAcquire(messageKey, twoPerSecond);
+
+		// Act & Assert
+		clock.addAndGet(Duration.ofMillis(250).toNanos());
+		assertFalse(rateLimiter.tryAcquire(messageKey, twoPerSecond));
+
+		clock.addAndGet(Duration.ofMillis(250).toNanos());
+		assertTrue(rateLimiter.tryAcquire(messageKey, twoPerSecond));
+		assertFalse(rateLimiter.tryAcquire(messageKey, twoPerSecond));
+	}
+
+
+	@Test
+	@DisplayName("tryAcquire does not refill more than a full burst")
+	void tryAcquire_refill_capped_at_burst()
+	{
+		// Arrange
+		rateLimiter.tryAcquire(messageKey, twoPerSecond);
+		clock.addAndGet(Duration.ofMinutes(10).toNanos());
+
+		// Act & Assert
+		assertTrue(rateLimiter.tryAcquire(messageKey, twoPerSecond));
+		assertTrue(rateLimiter.tryAcquire(messageKey, twoPerSecond));
+		assertFalse(rateLimiter.tryAcquire(messageKey, twoPerSecond));
+	}
+
+
+	@Test
+	@DisplayName("release returns a permit, without exceeding a full burst")
+	void release_returns_permit()
+	{
+		// Arrange
+		rateLimiter.tryAcquire(messageKey, twoPerSecond);
+		rateLimiter.tryAcquire(messageKey, twoPerSecond);
+
+		// Act
+		rateLimiter.release(messageKey, twoPerSecond);
+		rateLimiter.release(messageKey, twoPerSecond);
+		rateLimiter.release(messageKey, twoPerSecond);
+
+		// Assert
+		assertTrue(rateLimiter.tryAcquire(messageKey, twoPerSecond));
+		assertTrue(rateLimiter.tryAcquire(messageKey, twoPerSecond));
+		assertFalse(rateLimiter.tryAcquire(messageKey, twoPerSecond));
+	}
+
+
+	@Test
+	@DisplayName("tryAcquire maintains a separate bucket for each message key")
+	void tryAcquire_separate_buckets()
+	{
+		// Arrange
+		RateLimit onePerMinute = RateLimit.of(1, Duration.ofMinutes(1));
+		rateLimiter.tryAcquire(messageKey, onePerMinute);
+
+		// Act & Assert
+		assertFalse(rateLimiter.tryAcquire(messageKey, onePerMinute));
+		assertTrue(rateLimiter.tryAcquire(otherMessageKey, onePerMinute));
+	}
+
+
+	@Test
+	@DisplayName("tryAcquire replaces bucket when rate limit changes")
+	void tryAcquire_rate_limit_changed()
+	{
+		// Arrange
+		RateLimit onePerMinute = RateLimit.of(1, Duration.ofMinutes(1));
+		rateLimiter.tryAcquire(messageKey, onePerMinute);
+
+		// Act & Assert
+		assertTrue(rateLimiter.tryAcquire(messageKey, twoPerSecond));
+	}
+
+}
@@ -22,7 +22,10 @@ import com.winterhavenmc.library.messagebuilder.adapters.util.Macro;
 import com.winterhavenmc.library.messagebuilder.models.keys.MacroKey;
 import com.winterhavenmc.library.messagebuilder.models.keys.ValidMacroKey;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -149,4 +152,111 @@ class MacroObjectMapTest
 		assertEquals(Optional.empty(), result, "Non-existent entry should return empty optional.");
 	}
 
+
+
+	@Test @DisplayName("putLazyIfAbsent does not invoke supplier until value is retrieved.")
+	void putLazyIfAbsent_defers_supplier()
+	{
+		// Arrange
+		AtomicInteger invocations = new AtomicInteger();
+		ValidMacroKey macroKey = MacroKey.of(Macro.PAGE_NUMBER).isValid().orElseThrow();
+		MacroObjectMap macroObjectMap = new MacroObjectMap();
+
+		// Act
+		macroObjectMap.putLazyIfAbsent(macroKey, () -> invocations.incrementAndGet() * 42);
+
+		// Assert
+		assertEquals(0, invocations.get(), "Supplier should not be invoked on insertion.");
+		assertEquals(Optional.of(42), macroObjectMap.get(macroKey));
+		assertEquals(1, invocations.get());
+	}
+
+
+	@Test @DisplayName("putLazyIfAbsent invokes supplier at most once, including from copies of map.")
+	void putLazyIfAbsent_memoizes_supplier()
+	{
+		// Arrange
+		AtomicInteger invocations = new AtomicInteger();
+		ValidMacroKey macroKey = MacroKey.of(Macro.PAGE_NUMBER).isValid().orElseThrow();
+		MacroObjectMap macroObjectMap = new MacroObjectMap();
+		macroObjectMap.putLazyIfAbsent(macroKey, invocations::incrementAndGet);
+
+		// Act
+		macroObjectMap.get(macroKey);
+		macroObjectMap.get(macroKey);
+		macroObjectMap.copy().get(macroKey);
+
+		// Assert
+		assertEquals(1, invocations.get(), "Supplier should be invoked only once.");
+	}
+
+
+	@Test @DisplayName("putLazyIfAbsent inserts string 'NULL' if supplier is null or returns null.")
+	void putLazyIfAbsent_null_supplier_or_value()
+	{
+		// Arrange
+		ValidMacroKey macroKey = MacroKey.of(Macro.PAGE_NUMBER).isValid().orElseThrow();
+		ValidMacroKey otherKey = MacroKey.of("NUMBER").isValid().orElseThrow();
+		MacroObjectMap macroObjectMap = new MacroObjectMap();
+
+		// Act
+		macroObjectMap.putLazyIfAbsent(macroKey, null);
+		macroObjectMap.putLazyIfAbsent(otherKey, () -> null);
+
+		// Assert
+		assertEquals(Optional.of("NULL"), macroObjectMap.get(macroKey));
+		assertEquals(Optional.of("NULL"), macroObjectMap.get(otherKey));
+	}
+
+
+	@Test @DisplayName("putLazyIfAbsent does not replace existing value.")
+	void putLazyIfAbsent_existing_value()
+	{
+		// Arrange
+		ValidMacroKey macroKey = MacroKey.of(Macro.PAGE_NUMBER).isValid().orElseThrow();
+		MacroObjectMap macroObjectMap = new MacroObjectMap();
+		macroObjectMap.put(macroKey, 7);
+
+		// Act
+		macroObjectMap.putLazyIfAbsent(macroKey, () -> 42);
+
+		// Assert
+		assertEquals(Optional.of(7), macroObjectMap.get(macroKey));
+	}
+
+
+	@Test @DisplayName("mapValues applies function to computed lazy values.")
+	void mapValues_computes_lazy_values()
+	{
+		// Arrange
+		ValidMacroKey macroKey = MacroKey.of(Macro.PAGE_NUMBER).isValid().orElseThrow();
+		MacroObjectMap macroObjectMap = new MacroObjectMap();
+		macroObjectMap.putLazyIfAbsent(macroKey, () -> 21);
+
+		// Act
+		MacroObjectMap result = macroObjectMap.mapValues(value -> (Integer) value * 2);
+
+		// Assert
+		assertEquals(Optional.of(42), result.get(macroKey));
+	}
+
+
+	@Test @DisplayName("forEach visits every entry with computed lazy values.")
+	void forEach_computes_lazy_values()
+	{
+		// Arrange
+		ValidMacroKey pageKey = MacroKey.of(Macro.PAGE_NUMBER).isValid().orElseThrow();
+		ValidMacroKey numberKey = MacroKey.of("NUMBER").isValid().orElseThrow();
+		MacroObjectMap macroObjectMap = new MacroObjectMap();
+		macroObjectMap.put(numberKey, 7);
+		macroObjectMap.putLazyIfAbsent(pageKey, () -> 42);
+		Map<MacroKey, Object> visited = new HashMap<>();
+
+		// Act
+		macroObjectMap.forEach(visited::put);
+
+		// Assert
+		assertEquals(Map.of(numberKey, 7, pageKey, 42), visited);
+	}
+
 }
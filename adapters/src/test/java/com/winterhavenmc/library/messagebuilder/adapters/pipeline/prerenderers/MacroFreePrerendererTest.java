@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.adapters.pipeline.prerenderers;
+
+import com.winterhavenmc.library.messagebuilder.adapters.util.MessageId;
+import com.winterhavenmc.library.messagebuilder.models.keys.MessageKey;
+import com.winterhavenmc.library.messagebuilder.models.keys.ValidMessageKey;
+import com.winterhavenmc.library.messagebuilder.models.language.message.FinalMessageRecord;
+import com.winterhavenmc.library.messagebuilder.models.language.message.MessageRecord;
+import com.winterhavenmc.library.messagebuilder.models.language.message.ValidMessageRecord;
+
+import net.kyori.adventure.text.minimessage.MiniMessage;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.MemoryConfiguration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class MacroFreePrerendererTest
+{
+	ValidMessageKey messageKey;
+	ConfigurationSection section;
+	PrerenderedComponents prerenderedComponents;
+	MacroFreePrerenderer prerenderer;
+
+
+	@BeforeEach
+	void setUp()
+	{
+		messageKey = MessageKey.of(MessageId.ENABLED_MESSAGE).isValid().orElseThrow();
+		section = new MemoryConfiguration();
+		prerenderedComponents = PrerenderedComponents.create(MiniMessage.miniMessage());
+		prerenderer = new MacroFreePrerenderer(prerenderedComponents);
+	}
+
+
+	@Test @DisplayName("prerendered returns final strings equal to templates for macro-free record")
+	void prerendered_macro_free_record()
+	{
+		// Arrange
+		section.set(MessageRecord.Field.MESSAGE_TEXT.toKey(), "<green>Shop closed.");
+		section.set(MessageRecord.Field.TITLE_TEXT.toKey(), "Closed");
+		ValidMessageRecord messageRecord = ValidMessageRecord.create(messageKey, section);
+
+		// Act
+		Optional<FinalMessageRecord> result = prerenderer.prerendered(messageRecord);
+
+		// Assert
+		assertTrue(result.isPresent());
+		assertEquals(Optional.of("<green>Shop closed."), result.get().finalMessageString());
+		assertEquals(Optional.of("Closed"), result.get().finalTitleString());
+		assertEquals(Optional.of(""), result.get().finalSubtitleString());
+	}
+
+
+	@Test @DisplayName("prerendered parses components of macro-free record once")
+	void prerendered_parses_components()
+	{
+		// Arrange
+		section.set(MessageRecord.Field.MESSAGE_TEXT.toKey(), "<green>Shop closed.");
+		ValidMessageRecord messageRecord = ValidMessageRecord.create(messageKey, section);
+
+		// Act
+		prerenderer.prerendered(messageRecord);
+
+		// Assert
+		assertSame(prerenderedComponents.parse("<green>Shop closed."), prerenderedComponents.parse("<green>Shop closed."));
+	}
+
+
+	@Test @DisplayName("prerendered returns empty for record with macro placeholders")
+	void prerendered_record_with_macros()
+	{
+		// Arrange
+		section.set(MessageRecord.Field.MESSAGE_TEXT.toKey(), "You cannot build in {WORLD}.");
+		ValidMessageRecord messageRecord = ValidMessageRecord.create(messageKey, section);
+
+		// Act
+		Optional<FinalMessageRecord> result = prerenderer.prerendered(messageRecord);
+
+		// Assert
+		assertTrue(result.isEmpty());
+	}
+
+
+	@Test @DisplayName("prerendered returns the same result for the same record")
+	void prerendered_memoized()
+	{
+		// Arrange
+		section.set(MessageRecord.Field.MESSAGE_TEXT.toKey(), "Shop closed.");
+		ValidMessageRecord messageRecord = ValidMessageRecord.create(messageKey, section);
+
+		// Act
+		FinalMessageRecord first = prerenderer.prerendered(messageRecord).orElseThrow();
+		FinalMessageRecord second = prerenderer.prerendered(messageRecord).orElseThrow();
+
+		// Assert
+		assertSame(first, second);
+	}
+
+
+	@Test @DisplayName("prerendered renders a changed record with the same key afresh")
+	void prerendered_changed_record()
+	{
+		// Arrange
+		section.set(MessageRecord.Field.MESSAGE_TEXT.toKey(), "Shop closed.");
+		ValidMessageRecord original = ValidMessageRecord.create(messageKey, section);
+		prerenderer.prerendered(original);
+		section.set(MessageRecord.Field.MESSAGE_TEXT.toKey(), "Shop closed for {DURATION}.");
+		ValidMessageRecord reloaded = ValidMessageRecord.create(messageKey, section);
+
+		// Act
+		Optional<FinalMessageRecord> result = prerenderer.prerendered(reloaded);
+
+		// Assert
+		assertTrue(result.isEmpty());
+	}
+
+
+	@Test @DisplayName("prerendered holds results for the same message from different language packs separately")
+	void prerendered_keyed_by_pack()
+	{
+		// Arrange
+		AtomicReference<Locale> pack = new AtomicReference<>(Locale.ROOT);
+		MacroFreePrerenderer packPrerenderer = new MacroFreePrerenderer(prerenderedComponents, pack::get);
+		section.set(MessageRecord.Field.MESSAGE_TEXT.toKey(), "Shop closed.");
+		ValidMessageRecord rootRecord = ValidMessageRecord.create(messageKey, section);
+		section.set(MessageRecord.Field.MESSAGE_TEXT.toKey(), "Laden geschlossen.");
+		ValidMessageRecord germanRecord = ValidMessageRecord.create(messageKey, section);
+
+		FinalMessageRecord rootResult = packPrerenderer.prerendered(rootRecord).orElseThrow();
+		pack.set(Locale.GERMAN);
+		FinalMessageRecord germanResult = packPrerenderer.prerendered(germanRecord).orElseThrow();
+
+		// Act
+		pack.set(Locale.ROOT);
+		FinalMessageRecord rootAgain = packPrerenderer.prerendered(rootRecord).orElseThrow();
+		pack.set(Locale.GERMAN);
+		FinalMessageRecord germanAgain = packPrerenderer.prerendered(germanRecord).orElseThrow();
+
+		// Assert
+		assertSame(rootResult, rootAgain);
+		assertSame(germanResult, germanAgain);
+	}
+
+
+	@Test @DisplayName("invalidate discards the results and components of the given messages only")
+	void invalidate_discards_changed_messages()
+	{
+		// Arrange
+		ValidMessageKey otherKey = MessageKey.of(MessageId.DISABLED_MESSAGE).isValid().orElseThrow();
+		section.set(MessageRecord.Field.MESSAGE_TEXT.toKey(), "<green>Shop closed.");
+		ValidMessageRecord changedRecord = ValidMessageRecord.create(messageKey, section);
+		ConfigurationSection otherSection = new MemoryConfiguration();
+		otherSection.set(MessageRecord.Field.MESSAGE_TEXT.toKey(), "<red>Shop open.");
+		ValidMessageRecord otherRecord = ValidMessageRecord.create(otherKey, otherSection);
+		FinalMessageRecord otherResult = prerenderer.prerendered(otherRecord).orElseThrow();
+		prerenderer.prerendered(changedRecord);
+
+		// Act
+		prerenderer.invalidate(Set.of(messageKey));
+
+		// Assert
+		assertSame(otherResult, prerenderer.prerendered(otherRecord).orElseThrow());
+		assertSame(prerenderedComponents.parse("<red>Shop open."), prerenderedComponents.parse("<red>Shop open."));
+		assertNotSame(prerenderedComponents.parse("<green>Shop closed."), prerenderedComponents.parse("<green>Shop closed."));
+	}
+
+}
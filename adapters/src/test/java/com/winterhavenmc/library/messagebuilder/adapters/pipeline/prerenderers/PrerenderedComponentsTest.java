@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.adapters.pipeline.prerenderers;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class PrerenderedComponentsTest
+{
+	@Test @DisplayName("parse returns stored component for added string")
+	void parse_added_string()
+	{
+		// Arrange
+		PrerenderedComponents components = PrerenderedComponents.create(MiniMessage.miniMessage());
+		components.add("<red>Shop closed.");
+
+		// Act
+		Component first = components.parse("<red>Shop closed.");
+		Component second = components.parse("<red>Shop closed.");
+
+		// Assert
+		assertSame(first, second);
+		assertEquals(MiniMessage.miniMessage().deserialize("<red>Shop closed."), first);
+	}
+
+
+	@Test @DisplayName("parse deserializes string that was not added")
+	void parse_other_string()
+	{
+		// Arrange
+		PrerenderedComponents components = PrerenderedComponents.create(MiniMessage.miniMessage());
+
+		// Act
+		Component result = components.parse("<red>Shop open.");
+
+		// Assert
+		assertEquals(MiniMessage.miniMessage().deserialize("<red>Shop open."), result);
+	}
+
+
+	@Test @DisplayName("clear discards stored components")
+	void clear_discards_components()
+	{
+		// Arrange
+		PrerenderedComponents components = PrerenderedComponents.create(MiniMessage.miniMessage());
+		components.add("<red>Shop closed.");
+		Component stored = components.parse("<red>Shop closed.");
+
+		// Act
+		components.clear();
+
+		// Assert
+		assertNotSame(stored, components.parse("<red>Shop closed."));
+	}
+
+
+	@Test @DisplayName("retain discards components of strings that are not retained")
+	void retain_discards_other_components()
+	{
+		// Arrange
+		PrerenderedComponents components = PrerenderedComponents.create(MiniMessage.miniMessage());
+		components.add("<red>Shop closed.");
+		components.add("<green>Shop open.");
+		Component closed = components.parse("<red>Shop closed.");
+		Component open = components.parse("<green>Shop open.");
+
+		// Act
+		components.retain(List.of("<green>Shop open."));
+
+		// Assert
+		assertNotSame(closed, components.parse("<red>Shop closed."));
+		assertSame(open, components.parse("<green>Shop open."));
+	}
+
+}
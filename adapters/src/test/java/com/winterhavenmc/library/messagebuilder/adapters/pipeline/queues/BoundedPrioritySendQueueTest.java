@@ -0,0 +1,328 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.adapters.pipeline.queues;
+
+import com.winterhavenmc.library.messagebuilder.adapters.resources.ResourceMessage;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.queues.SendQueueStatistics;
+import com.winterhavenmc.library.messagebuilder.models.configuration.ConfigRepository;
+import com.winterhavenmc.library.messagebuilder.models.language.message.MessagePriority;
+import com.winterhavenmc.library.messagebuilder.models.validation.ValidationException;
+
+import org.bukkit.Server;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitScheduler;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+class BoundedPrioritySendQueueTest
+{
+	@Mock Plugin pluginMock;
+	@Mock ConfigRepository configRepositoryMock;
+	@Mock Logger loggerMock;
+	@Mock Server serverMock;
+	@Mock BukkitScheduler schedulerMock;
+
+	final AtomicReference<Double> load = new AtomicReference<>(0.0);
+	final List<String> delivered = new ArrayList<>();
+	BoundedPrioritySendQueue queue;
+
+
+	@BeforeEach
+	void setUp()
+	{
+		lenient().when(pluginMock.isEnabled()).thenReturn(true);
+		lenient().when(pluginMock.getServer()).thenReturn(serverMock);
+		lenient().when(serverMock.getScheduler()).thenReturn(schedulerMock);
+
+		queue = BoundedPrioritySendQueue.create(pluginMock, configRepositoryMock, 2, load::get, 50.0, 3);
+	}
+
+
+	private Runnable deliver(final String name)
+	{
+		return () -> delivered.add(name);
+	}
+
+
+	@Test
+	@DisplayName("create throws ValidationException given null plugin")
+	void create_null_plugin()
+	{
+		assertThrows(ValidationException.class, () -> BoundedPrioritySendQueue.create(null, configRepositoryMock, 2, () -> 0.0, 50.0, 3));
+	}
+
+
+	@Test
+	@DisplayName("submit holds task until drain and schedules a single drain")
+	void submit_holds_until_drain()
+	{
+		// Act
+		queue.submit(MessagePriority.NORMAL, deliver("first"));
+		queue.submit(MessagePriority.NORMAL, deliver("second"));
+
+		// Assert
+		assertTrue(delivered.isEmpty());
+		assertEquals(2, queue.statistics().queued());
+		verify(schedulerMock, times(1)).runTask(eq(pluginMock), any(Runnable.class));
+
+		queue.drain();
+
+		assertEquals(List.of("first", "second"), delivered);
+		assertEquals(0, queue.statistics().queued());
+	}
+
+
+	@Test
+	@DisplayName("drain runs tasks in priority order, then in order of submission")
+	void drain_priority_order()
+	{
+		// Arrange
+		queue = BoundedPrioritySendQueue.create(pluginMock, configRepositoryMock, 8, load::get, 50.0, 3);
+		queue.submit(MessagePriority.LOW, deliver("low"));
+		queue.submit(MessagePriority.NORMAL, deliver("normal-1"));
+		queue.submit(MessagePriority.HIGH, deliver("high"));
+		queue.submit(MessagePriority.NORMAL, deliver("normal-2"));
+
+		// Act
+		queue.drain();
+
+		// Assert
+		assertEquals(List.of("high", "normal-1", "normal-2", "low"), delivered);
+		assertEquals(4, queue.statistics().delivered());
+	}
+
+
+	@Test
+	@DisplayName("critical tasks bypass the queue")
+	void submit_critical_runs_immediately()
+	{
+		// Act
+		queue.submit(MessagePriority.CRITICAL, deliver("critical"));
+
+		// Assert
+		assertEquals(List.of("critical"), delivered);
+		assertEquals(0, queue.statistics().queued());
+		verifyNoInteractions(schedulerMock);
+	}
+
+
+	@Test
+	@DisplayName("tasks run immediately when plugin is disabled")
+	void submit_plugin_disabled()
+	{
+		// Arrange
+		when(pluginMock.isEnabled()).thenReturn(false);
+
+		// Act
+		queue.submit(MessagePriority.LOW, deliver("low"));
+
+		// Assert
+		assertEquals(List.of("low"), delivered);
+		verifyNoInteractions(schedulerMock);
+	}
+
+
+	@Test
+	@DisplayName("full queue evicts newest lowest priority task for higher priority task")
+	void submit_full_evicts_lower()
+	{
+		// Arrange
+		queue.submit(MessagePriority.NORMAL, deliver("normal"));
+		queue.submit(MessagePriority.LOW, deliver("low"));
+
+		// Act
+		queue.submit(MessagePriority.HIGH, deliver("high"));
+		queue.drain();
+
+		// Assert
+		assertEquals(List.of("high", "normal"), delivered);
+		assertEquals(1, queue.statistics().shedOverCapacity());
+	}
+
+
+	@Test
+	@DisplayName("full queue drops submitted task of equal or lower priority")
+	void submit_full_drops_new()
+	{
+		// Arrange
+		queue.submit(MessagePriority.NORMAL, deliver("normal-1"));
+		queue.submit(MessagePriority.NORMAL, deliver("normal-2"));
+
+		// Act
+		queue.submit(MessagePriority.NORMAL, deliver("normal-3"));
+		queue.drain();
+
+		// Assert
+		assertEquals(List.of("normal-1", "normal-2"), delivered);
+		assertEquals(1, queue.statistics().shedOverCapacity());
+	}
+
+
+	@Test
+	@DisplayName("low priority tasks are shed on submit while overloaded")
+	void submit_low_overloaded()
+	{
+		// Arrange
+		load.set(75.0);
+
+		// Act
+		queue.submit(MessagePriority.LOW, deliver("low"));
+
+		// Assert
+		assertEquals(0, queue.statistics().queued());
+		assertEquals(1, queue.statistics().shedUnderLoad());
+		verifyNoInteractions(schedulerMock);
+	}
+
+
+	@Test
+	@DisplayName("drain under load sheds low, defers normal and runs high priority tasks")
+	void drain_overloaded()
+	{
+		// Arrange
+		queue = BoundedPrioritySendQueue.create(pluginMock, configRepositoryMock, 8, load::get, 50.0, 3);
+		queue.submit(MessagePriority.LOW, deliver("low"));
+		queue.submit(MessagePriority.NORMAL, deliver("normal"));
+		queue.submit(MessagePriority.HIGH, deliver("high"));
+		load.set(75.0);
+
+		// Act
+		queue.drain();
+
+		// Assert
+		assertEquals(List.of("high"), delivered);
+		SendQueueStatistics statistics = queue.statistics();
+		assertEquals(1, statistics.shedUnderLoad());
+		assertEquals(1, statistics.deferred());
+		assertEquals(1, statistics.queued());
+		verify(schedulerMock, times(2)).runTask(eq(pluginMock), any(Runnable.class));
+
+		// deferred task is run once load subsides
+		load.set(20.0);
+		queue.drain();
+		assertEquals(List.of("high", "normal"), delivered);
+	}
+
+
+	@Test
+	@DisplayName("deferred task is counted once, and is run regardless of load after the maximum deferred ticks")
+	void drain_overloaded_promotes_aged_task()
+	{
+		// Arrange
+		queue.submit(MessagePriority.NORMAL, deliver("normal"));
+		load.set(75.0);
+
+		// Act
+		queue.drain();
+		queue.drain();
+		queue.drain();
+		List<String> beforePromotion = List.copyOf(delivered);
+		queue.drain();
+
+		// Assert
+		assertTrue(beforePromotion.isEmpty());
+		assertEquals(List.of("normal"), delivered);
+		assertEquals(1, queue.statistics().deferred());
+		assertEquals(0, queue.statistics().queued());
+	}
+
+
+	@Test
+	@DisplayName("shed action is run for each task dropped by the queue")
+	void submit_runs_shed_action_of_dropped_tasks()
+	{
+		// Arrange
+		List<String> shed = new ArrayList<>();
+		queue.submit(MessagePriority.NORMAL, deliver("normal"), () -> shed.add("normal"));
+		queue.submit(MessagePriority.LOW, deliver("low"), () -> shed.add("low"));
+
+		// Act
+		queue.submit(MessagePriority.HIGH, deliver("high"), () -> shed.add("high"));
+		queue.submit(MessagePriority.NORMAL, deliver("rejected"), () -> shed.add("rejected"));
+		load.set(75.0);
+		queue.submit(MessagePriority.LOW, deliver("overloaded"), () -> shed.add("overloaded"));
+		queue.drain();
+
+		// Assert
+		assertEquals(List.of("low", "rejected", "overloaded"), shed);
+		assertEquals(List.of("high"), delivered);
+	}
+
+
+	@Test
+	@DisplayName("admits reports whether a task would be accepted without submitting it")
+	void admits_reports_acceptance()
+	{
+		// Arrange
+		queue.submit(MessagePriority.NORMAL, deliver("normal-1"));
+		queue.submit(MessagePriority.NORMAL, deliver("normal-2"));
+
+		// Act & Assert
+		assertFalse(queue.admits(MessagePriority.NORMAL));
+		assertTrue(queue.admits(MessagePriority.HIGH));
+		assertTrue(queue.admits(MessagePriority.CRITICAL));
+		load.set(75.0);
+		assertFalse(queue.admits(MessagePriority.LOW));
+		assertEquals(2, queue.statistics().submitted());
+	}
+
+
+	@Test
+	@DisplayName("exception thrown by task is logged and does not stop drain")
+	void drain_task_throws()
+	{
+		// Arrange
+		when(pluginMock.getLogger()).thenReturn(loggerMock);
+		when(configRepositoryMock.logLocale()).thenReturn(Locale.US);
+		queue.submit(MessagePriority.HIGH, () -> { throw new IllegalStateException("boom"); });
+		queue.submit(MessagePriority.NORMAL, deliver("normal"));
+
+		// Act
+		queue.drain();
+
+		// Assert
+		assertEquals(List.of("normal"), delivered);
+		assertEquals(1, queue.statistics().delivered());
+
+		// Verify
+		verify(loggerMock).log(eq(Level.WARNING),
+				eq(ResourceMessage.RESOURCE_SEND_FAILED.getLocalizedMessage(Locale.US)),
+				any(IllegalStateException.class));
+	}
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.adapters.pipeline.queues;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class BukkitTickLoadSignalTest
+{
+	private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+
+	@Test
+	@DisplayName("currentLoad is zero before two ticks are sampled")
+	void currentLoad_no_samples()
+	{
+		BukkitTickLoadSignal loadSignal = new BukkitTickLoadSignal();
+		loadSignal.sample(1000 * MILLIS);
+
+		assertEquals(0.0, loadSignal.currentLoad());
+	}
+
+
+	@Test
+	@DisplayName("currentLoad reports first interval, then moves toward later intervals")
+	void currentLoad_moving_average()
+	{
+		// Arrange
+		BukkitTickLoadSignal loadSignal = new BukkitTickLoadSignal();
+
+		// Act
+		loadSignal.sample(1000 * MILLIS);
+		loadSignal.sample(1050 * MILLIS);
+
+		// Assert
+		assertEquals(50.0, loadSignal.currentLoad(), 0.001);
+
+		loadSignal.sample(1200 * MILLIS);
+		assertEquals(60.0, loadSignal.currentLoad(), 0.001);
+	}
+
+}
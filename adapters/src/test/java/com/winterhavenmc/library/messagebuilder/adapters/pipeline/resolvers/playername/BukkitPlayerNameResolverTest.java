@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.adapters.pipeline.resolvers.playername;
+
+import com.winterhavenmc.library.messagebuilder.models.validation.ValidationException;
+
+import org.bukkit.OfflinePlayer;
+import org.bukkit.Server;
+import org.bukkit.entity.Player;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginManager;
+import org.bukkit.scheduler.BukkitScheduler;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+class BukkitPlayerNameResolverTest
+{
+	@Mock Plugin pluginMock;
+	@Mock Server serverMock;
+	@Mock PluginManager pluginManagerMock;
+	@Mock BukkitScheduler schedulerMock;
+	@Mock OfflinePlayer offlinePlayerMock;
+	@Mock Player playerMock;
+
+	final UUID playerUid = new UUID(42, 42);
+
+
+	@BeforeEach
+	void setUp()
+	{
+		lenient().when(pluginMock.getServer()).thenReturn(serverMock);
+		lenient().when(serverMock.getPluginManager()).thenReturn(pluginManagerMock);
+		lenient().when(serverMock.getScheduler()).thenReturn(schedulerMock);
+		lenient().when(schedulerMock.runTask(any(Plugin.class), any(Runnable.class))).thenAnswer(invocation ->
+		{
+			invocation.<Runnable>getArgument(1).run();
+			return null;
+		});
+	}
+
+
+	@Test @DisplayName("create warms cache from known players and registers listener")
+	void create_warms_cache_and_registers_listener()
+	{
+		// Arrange
+		when(offlinePlayerMock.getUniqueId()).thenReturn(playerUid);
+		when(offlinePlayerMock.getName()).thenReturn("offline_player");
+		when(serverMock.getOfflinePlayers()).thenReturn(new OfflinePlayer[] { offlinePlayerMock });
+
+		// Act
+		BukkitPlayerNameResolver resolver = BukkitPlayerNameResolver.create(pluginMock);
+
+		// Assert
+		assertEquals(1, resolver.size());
+		assertEquals(Optional.of("offline_player"), resolver.resolve(playerUid));
+
+		// Verify
+		verify(pluginManagerMock, times(1)).registerEvents(resolver, pluginMock);
+		verify(offlinePlayerMock, times(1)).getName();
+	}
+
+
+	@Test @DisplayName("create warms cache on the server thread in bounded batches, one batch per task")
+	void create_warms_cache_in_batches()
+	{
+		// Arrange
+		List<Runnable> tasks = new ArrayList<>();
+		doAnswer(invocation ->
+		{
+			tasks.add(invocation.getArgument(1));
+			return null;
+		}).when(schedulerMock).runTask(any(Plugin.class), any(Runnable.class));
+		when(pluginMock.isEnabled()).thenReturn(true);
+		when(offlinePlayerMock.getUniqueId()).thenReturn(playerUid);
+		when(offlinePlayerMock.getName()).thenReturn("offline_player");
+		OfflinePlayer[] offlinePlayers = new OfflinePlayer[BukkitPlayerNameResolver.WARM_BATCH_SIZE + 1];
+		Arrays.fill(offlinePlayers, offlinePlayerMock);
+		when(serverMock.getOfflinePlayers()).thenReturn(offlinePlayers);
+
+		// Act
+		BukkitPlayerNameResolver resolver = BukkitPlayerNameResolver.create(pluginMock);
+
+		// Assert
+		assertEquals(0, resolver.size(), "The cache should not be warmed by create.");
+		verify(serverMock, never()).getOfflinePlayers();
+
+		tasks.removeFirst().run();
+		verify(offlinePlayerMock, times(BukkitPlayerNameResolver.WARM_BATCH_SIZE)).getName();
+		assertEquals(1, tasks.size(), "The remaining player should be warmed by a later task.");
+
+		tasks.removeFirst().run();
+		verify(offlinePlayerMock, times(BukkitPlayerNameResolver.WARM_BATCH_SIZE + 1)).getName();
+		assertTrue(tasks.isEmpty());
+		assertEquals(Optional.of("offline_player"), resolver.resolve(playerUid));
+	}
+
+
+	@Test @DisplayName("create throws ValidationException given null plugin")
+	void create_throws_exception_given_null_plugin()
+	{
+		// Arrange & Act
+		ValidationException exception = assertThrows(ValidationException.class,
+				() -> BukkitPlayerNameResolver.create(null));
+
+		// Assert
+		assertEquals("The parameter 'plugin' cannot be null.", exception.getMessage());
+	}
+
+
+	@Test @DisplayName("resolve returns empty optional for unknown offline player")
+	void resolve_returns_empty_for_unknown_player()
+	{
+		// Arrange
+		when(serverMock.getOfflinePlayers()).thenReturn(new OfflinePlayer[0]);
+		BukkitPlayerNameResolver resolver = BukkitPlayerNameResolver.create(pluginMock);
+
+		// Act
+		Optional<String> result = resolver.resolve(playerUid);
+
+		// Assert
+		assertTrue(result.isEmpty());
+	}
+
+
+	@Test @DisplayName("resolve caches name of online player on cache miss")
+	void resolve_caches_online_player_on_miss()
+	{
+		// Arrange
+		when(serverMock.getOfflinePlayers()).thenReturn(new OfflinePlayer[0]);
+		when(serverMock.getPlayer(playerUid)).thenReturn(playerMock);
+		when(playerMock.getName()).thenReturn("online_player");
+		BukkitPlayerNameResolver resolver = BukkitPlayerNameResolver.create(pluginMock);
+
+		// Act
+		Optional<String> first = resolver.resolve(playerUid);
+		Optional<String> second = resolver.resolve(playerUid);
+
+		// Assert
+		assertEquals(Optional.of("online_player"), first);
+		assertEquals(Optional.of("online_player"), second);
+
+		// Verify
+		verify(serverMock, times(1)).getPlayer(playerUid);
+	}
+
+
+	@Test @DisplayName("resolve falls back to the name of the player instance, and caches it, when the cache is cold")
+	void resolve_offline_player_with_cold_cache()
+	{
+		// Arrange
+		doAnswer(invocation -> null).when(schedulerMock).runTask(any(Plugin.class), any(Runnable.class));
+		when(offlinePlayerMock.getUniqueId()).thenReturn(playerUid);
+		when(offlinePlayerMock.getName()).thenReturn("offline_player");
+		BukkitPlayerNameResolver resolver = BukkitPlayerNameResolver.create(pluginMock);
+
+		// Act
+		Optional<String> first = resolver.resolveName(offlinePlayerMock);
+		Optional<String> second = resolver.resolveName(offlinePlayerMock);
+
+		// Assert
+		assertEquals(Optional.of("offline_player"), first);
+		assertEquals(Optional.of("offline_player"), second);
+		assertEquals(Optional.of("offline_player"), resolver.resolve(playerUid));
+
+		// Verify
+		verify(offlinePlayerMock, times(1)).getName();
+		verify(serverMock, never()).getOfflinePlayers();
+	}
+
+
+	@Test @DisplayName("onPlayerJoin updates cached name")
+	void onPlayerJoin_updates_cached_name()
+	{
+		// Arrange
+		when(offlinePlayerMock.getUniqueId()).thenReturn(playerUid);
+		when(offlinePlayerMock.getName()).thenReturn("old_name");
+		when(serverMock.getOfflinePlayers()).thenReturn(new OfflinePlayer[] { offlinePlayerMock });
+		when(playerMock.getUniqueId()).thenReturn(playerUid);
+		when(playerMock.getName()).thenReturn("new_name");
+		BukkitPlayerNameResolver resolver = BukkitPlayerNameResolver.create(pluginMock);
+
+		// Act
+		resolver.onPlayerJoin(new PlayerJoinEvent(playerMock, "joined"));
+
+		// Assert
+		assertEquals(Optional.of("new_name"), resolver.resolve(playerUid));
+	}
+
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.adapters.pipeline.retrievers;
+
+import com.winterhavenmc.library.messagebuilder.adapters.resources.AtomicResourceSnapshots;
+import com.winterhavenmc.library.messagebuilder.adapters.util.MessageId;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.compilers.TemplateCompiler;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.retrievers.MessageRetriever;
+import com.winterhavenmc.library.messagebuilder.models.keys.MessageKey;
+import com.winterhavenmc.library.messagebuilder.models.keys.ValidMessageKey;
+import com.winterhavenmc.library.messagebuilder.models.language.InvalidRecordReason;
+import com.winterhavenmc.library.messagebuilder.models.language.message.InvalidMessageRecord;
+import com.winterhavenmc.library.messagebuilder.models.language.message.MessageRecord;
+import com.winterhavenmc.library.messagebuilder.models.language.message.ValidMessageRecord;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.MemoryConfiguration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+class CompilingMessageRetrieverTest
+{
+	@Mock MessageRetriever delegateMock;
+
+	ValidMessageKey messageKey;
+	ValidMessageRecord validMessageRecord;
+	AtomicInteger compilations;
+	TemplateCompiler compiler;
+	AtomicResourceSnapshots snapshots;
+	CompilingMessageRetriever retriever;
+
+
+	@BeforeEach
+	void setUp()
+	{
+		messageKey = MessageKey.of(MessageId.ENABLED_MESSAGE).isValid().orElseThrow();
+		ConfigurationSection section = new MemoryConfiguration();
+		section.set(MessageRecord.Field.MESSAGE_TEXT.toKey(), "this is {PLUGIN.NAME}");
+		validMessageRecord = ValidMessageRecord.create(messageKey, section);
+
+		compilations = new AtomicInteger();
+		compiler = messageRecord ->
+		{
+			compilations.incrementAndGet();
+			return messageRecord.withTemplates(messageRecord.message().replace("{PLUGIN.NAME}", "TestPlugin"),
+					messageRecord.title(), messageRecord.subtitle());
+		};
+
+		snapshots = new AtomicResourceSnapshots();
+		retriever = CompilingMessageRetriever.create(delegateMock, compiler, snapshots);
+	}
+
+
+	@Test @DisplayName("getRecord returns compiled record")
+	void getRecord_returns_compiled_record()
+	{
+		// Arrange
+		when(delegateMock.getRecord(messageKey)).thenReturn(validMessageRecord);
+
+		// Act
+		MessageRecord result = retriever.getRecord(messageKey);
+
+		// Assert
+		assertInstanceOf(ValidMessageRecord.class, result);
+		assertEquals("this is TestPlugin", ((ValidMessageRecord) result).message());
+	}
+
+
+	@Test @DisplayName("getRecord compiles each record once")
+	void getRecord_compiles_once()
+	{
+		// Arrange
+		when(delegateMock.getRecord(messageKey)).thenReturn(validMessageRecord);
+
+		// Act
+		MessageRecord first = retriever.getRecord(messageKey);
+		MessageRecord second = retriever.getRecord(messageKey);
+
+		// Assert
+		assertSame(first, second);
+		assertEquals(1, compilations.get());
+		verify(delegateMock, times(1)).getRecord(messageKey);
+	}
+
+
+	@Test @DisplayName("getRecord does not hold invalid records")
+	void getRecord_invalid_record()
+	{
+		// Arrange
+		InvalidMessageRecord invalidMessageRecord = new InvalidMessageRecord(messageKey, InvalidRecordReason.MESSAGE_ENTRY_MISSING);
+		when(delegateMock.getRecord(messageKey)).thenReturn(invalidMessageRecord);
+
+		// Act
+		retriever.getRecord(messageKey);
+		MessageRecord result = retriever.getRecord(messageKey);
+
+		// Assert
+		assertEquals(invalidMessageRecord, result);
+		assertEquals(0, compilations.get());
+		verify(delegateMock, times(2)).getRecord(messageKey);
+	}
+
+
+	@Test @DisplayName("reload discards compiled records and reloads delegate")
+	void reload_discards_compiled_records()
+	{
+		// Arrange
+		when(delegateMock.getRecord(messageKey)).thenReturn(validMessageRecord);
+		retriever.getRecord(messageKey);
+
+		// Act
+		retriever.reload();
+		retriever.getRecord(messageKey);
+
+		// Assert
+		assertEquals(2, compilations.get());
+		verify(delegateMock, times(1)).reload();
+	}
+
+
+	@Test @DisplayName("getRecord compiles again when the snapshot epoch changes")
+	void getRecord_compiles_again_in_new_epoch()
+	{
+		// Arrange
+		when(delegateMock.getRecord(messageKey)).thenReturn(validMessageRecord);
+		MessageRecord first = retriever.getRecord(messageKey);
+
+		// Act
+		snapshots.publish(UnaryOperator.identity());
+		MessageRecord second = retriever.getRecord(messageKey);
+		MessageRecord third = retriever.getRecord(messageKey);
+
+		// Assert
+		assertNotSame(first, second);
+		assertSame(second, third);
+		assertEquals(2, compilations.get());
+	}
+
+
+	@Test @DisplayName("reload with changed keys keeps compiled records of unchanged messages in new epoch")
+	void reload_changed_keys_keeps_unchanged_records()
+	{
+		// Arrange
+		ValidMessageKey changedKey = MessageKey.of(MessageId.DISABLED_MESSAGE).isValid().orElseThrow();
+		ValidMessageRecord changedRecord = ValidMessageRecord.create(changedKey, new MemoryConfiguration());
+		when(delegateMock.getRecord(messageKey)).thenReturn(validMessageRecord);
+		when(delegateMock.getRecord(changedKey)).thenReturn(changedRecord);
+		MessageRecord unchangedBefore = retriever.getRecord(messageKey);
+		retriever.getRecord(changedKey);
+
+		// Act
+		snapshots.publish(UnaryOperator.identity());
+		retriever.reload(Set.of(changedKey));
+		MessageRecord unchangedAfter = retriever.getRecord(messageKey);
+		retriever.getRecord(changedKey);
+
+		// Assert
+		assertSame(unchangedBefore, unchangedAfter);
+		assertEquals(3, compilations.get());
+		verify(delegateMock, times(1)).reload(Set.of(changedKey));
+	}
+
+
+	@Test @DisplayName("getRecord holds compiled records separately for each language pack")
+	void getRecord_holds_records_per_pack()
+	{
+		// Arrange
+		when(delegateMock.getRecord(messageKey)).thenReturn(validMessageRecord);
+		MessageRecord configured = retriever.getRecord(messageKey);
+
+		// Act
+		MessageRecord localized = getRecordInPack(Locale.forLanguageTag("pt-BR"));
+		MessageRecord configuredAgain = retriever.getRecord(messageKey);
+
+		// Assert
+		assertNotSame(configured, localized);
+		assertSame(configured, configuredAgain);
+		assertEquals(2, compilations.get());
+	}
+
+
+	@Test @DisplayName("reload with changed keys discards compiled records of language packs")
+	void reload_changed_keys_discards_pack_records()
+	{
+		// Arrange
+		when(delegateMock.getRecord(messageKey)).thenReturn(validMessageRecord);
+		MessageRecord before = getRecordInPack(Locale.forLanguageTag("pt-BR"));
+
+		// Act
+		retriever.reload(Set.of());
+		MessageRecord after = getRecordInPack(Locale.forLanguageTag("pt-BR"));
+
+		// Assert
+		assertNotSame(before, after);
+		assertEquals(2, compilations.get());
+	}
+
+
+
+	private MessageRecord getRecordInPack(final Locale pack)
+	{
+		return snapshots.callPinned(snapshots.current().withPack(pack, new MemoryConfiguration()),
+				() -> retriever.getRecord(messageKey));
+	}
+
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.adapters.pipeline.schedulers;
+
+import com.winterhavenmc.library.messagebuilder.adapters.resources.ResourceMessage;
+import com.winterhavenmc.library.messagebuilder.models.configuration.ConfigRepository;
+import com.winterhavenmc.library.messagebuilder.models.validation.ValidationException;
+
+import org.bukkit.Server;
+import org.bukkit.event.server.PluginDisableEvent;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginManager;
+import org.bukkit.scheduler.BukkitScheduler;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+class BukkitPipelineSchedulerTest
+{
+	@Mock Plugin pluginMock;
+	@Mock ConfigRepository configRepositoryMock;
+	@Mock Server serverMock;
+	@Mock BukkitScheduler bukkitSchedulerMock;
+	@Mock ExecutorService executorMock;
+	@Mock Logger loggerMock;
+	@Mock PluginManager pluginManagerMock;
+	@Mock Plugin otherPluginMock;
+
+
+	@Test @DisplayName("create returns scheduler for valid plugin")
+	void create_returns_scheduler()
+	{
+		// Arrange
+		when(pluginMock.getServer()).thenReturn(serverMock);
+		when(serverMock.getPluginManager()).thenReturn(pluginManagerMock);
+
+		// Act
+		BukkitPipelineScheduler scheduler = BukkitPipelineScheduler.create(pluginMock, configRepositoryMock);
+
+		// Assert
+		assertNotNull(scheduler);
+
+		// Verify
+		verify(pluginManagerMock).registerEvents(scheduler, pluginMock);
+		scheduler.close();
+	}
+
+
+	@Test @DisplayName("create throws ValidationException given null plugin")
+	void create_throws_exception_given_null_plugin()
+	{
+		// Arrange & Act
+		ValidationException exception = assertThrows(ValidationException.class,
+				() -> BukkitPipelineScheduler.create(null, configRepositoryMock));
+
+		// Assert
+		assertEquals("The parameter 'plugin' cannot be null.", exception.getMessage());
+	}
+
+
+	@Test @DisplayName("executeAsync submits task to executor")
+	void executeAsync_submits_task_to_executor()
+	{
+		// Arrange
+		AtomicInteger counter = new AtomicInteger();
+		BukkitPipelineScheduler scheduler = new BukkitPipelineScheduler(pluginMock, configRepositoryMock, executorMock);
+		ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+
+		// Act
+		scheduler.executeAsync(counter::incrementAndGet);
+
+		// Assert
+		verify(executorMock).execute(captor.capture());
+		assertEquals(0, counter.get());
+		captor.getValue().run();
+		assertEquals(1, counter.get());
+	}
+
+
+	@Test @DisplayName("executeAsync logs exception thrown by task")
+	void executeAsync_logs_exception()
+	{
+		// Arrange
+		when(pluginMock.getLogger()).thenReturn(loggerMock);
+		when(configRepositoryMock.logLocale()).thenReturn(Locale.US);
+		BukkitPipelineScheduler scheduler = new BukkitPipelineScheduler(pluginMock, configRepositoryMock, executorMock);
+		ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+
+		// Act
+		scheduler.executeAsync(() -> { throw new IllegalStateException("render failure"); });
+		verify(executorMock).execute(captor.capture());
+
+		// Assert
+		assertDoesNotThrow(() -> captor.getValue().run());
+
+		// Verify
+		verify(loggerMock).log(eq(Level.WARNING),
+				eq(ResourceMessage.RESOURCE_RENDER_FAILED.getLocalizedMessage(Locale.US)),
+				any(IllegalStateException.class));
+	}
+
+
+	@Test @DisplayName("executeSync runs task immediately on primary thread")
+	void executeSync_runs_immediately_on_primary_thread()
+	{
+		// Arrange
+		AtomicInteger counter = new AtomicInteger();
+		when(pluginMock.getServer()).thenReturn(serverMock);
+		when(serverMock.isPrimaryThread()).thenReturn(true);
+		BukkitPipelineScheduler scheduler = new BukkitPipelineScheduler(pluginMock, configRepositoryMock, executorMock);
+
+		// Act
+		scheduler.executeSync(counter::incrementAndGet);
+
+		// Assert
+		assertEquals(1, counter.get());
+
+		// Verify
+		verify(serverMock, never()).getScheduler();
+	}
+
+
+	@Test @DisplayName("executeSync schedules task from worker thread")
+	void executeSync_schedules_task_from_worker_thread()
+	{
+		// Arrange
+		Runnable task = () -> { };
+		when(pluginMock.getServer()).thenReturn(serverMock);
+		when(pluginMock.isEnabled()).thenReturn(true);
+		when(serverMock.isPrimaryThread()).thenReturn(false);
+		when(serverMock.getScheduler()).thenReturn(bukkitSchedulerMock);
+		BukkitPipelineScheduler scheduler = new BukkitPipelineScheduler(pluginMock, configRepositoryMock, executorMock);
+
+		// Act
+		scheduler.executeSync(task);
+
+		// Verify
+		verify(bukkitSchedulerMock, times(1)).runTask(pluginMock, task);
+	}
+
+
+
+	@Test @DisplayName("onPluginDisable shuts down executor when own plugin is disabled")
+	void onPluginDisable_shuts_down_executor()
+	{
+		// Arrange
+		BukkitPipelineScheduler scheduler = new BukkitPipelineScheduler(pluginMock, configRepositoryMock, executorMock);
+
+		// Act
+		scheduler.onPluginDisable(new PluginDisableEvent(otherPluginMock));
+		scheduler.onPluginDisable(new PluginDisableEvent(pluginMock));
+
+		// Verify
+		verify(executorMock, times(1)).shutdown();
+	}
+
+
+	@Test @DisplayName("executeAsync discards task after scheduler is closed")
+	void executeAsync_discards_task_after_close()
+	{
+		// Arrange
+		when(executorMock.isShutdown()).thenReturn(true);
+		BukkitPipelineScheduler scheduler = new BukkitPipelineScheduler(pluginMock, configRepositoryMock, executorMock);
+
+		// Act
+		scheduler.close();
+		scheduler.executeAsync(() -> { });
+
+		// Verify
+		verify(executorMock, never()).execute(any());
+	}
+
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.adapters.pipeline.senders;
+
+import com.winterhavenmc.library.messagebuilder.adapters.util.MessageId;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.senders.Sender;
+import com.winterhavenmc.library.messagebuilder.models.keys.MessageKey;
+import com.winterhavenmc.library.messagebuilder.models.keys.ValidMessageKey;
+import com.winterhavenmc.library.messagebuilder.models.language.message.FinalMessageRecord;
+import com.winterhavenmc.library.messagebuilder.models.language.message.MessageRecord;
+import com.winterhavenmc.library.messagebuilder.models.language.message.ValidMessageRecord;
+import com.winterhavenmc.library.messagebuilder.models.recipient.Recipient;
+import com.winterhavenmc.library.messagebuilder.models.validation.ValidationException;
+
+import org.bukkit.Server;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.MemoryConfiguration;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitScheduler;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+class TickBatchingSenderTest
+{
+	@Mock Plugin pluginMock;
+	@Mock Server serverMock;
+	@Mock BukkitScheduler schedulerMock;
+	@Mock Sender delegateMock;
+	@Mock Player playerMock;
+	@Mock Player player2Mock;
+
+	Recipient.Sendable recipient;
+	Recipient.Sendable recipient2;
+	FinalMessageRecord finalMessageRecord;
+	FinalMessageRecord otherMessageRecord;
+	TickBatchingSender sender;
+
+
+	@BeforeEach
+	void setUp()
+	{
+		recipient = (Recipient.Sendable) Recipient.of(playerMock);
+		recipient2 = (Recipient.Sendable) Recipient.of(player2Mock);
+
+		ValidMessageKey recordKey = MessageKey.of(MessageId.ENABLED_MESSAGE).isValid().orElseThrow();
+		ConfigurationSection section = new MemoryConfiguration();
+		section.set(MessageRecord.Field.ENABLED.toKey(), true);
+		section.set(MessageRecord.Field.MESSAGE_TEXT.toKey(), "this is a test message");
+		ValidMessageRecord validMessageRecord = ValidMessageRecord.create(recordKey, section);
+
+		finalMessageRecord = validMessageRecord.withFinalStrings("this is a final message", "", "");
+		otherMessageRecord = validMessageRecord.withFinalStrings("this is another final message", "", "");
+
+		sender = TickBatchingSender.create(pluginMock, delegateMock);
+
+		lenient().when(pluginMock.isEnabled()).thenReturn(true);
+		lenient().when(pluginMock.getServer()).thenReturn(serverMock);
+		lenient().when(serverMock.getScheduler()).thenReturn(schedulerMock);
+	}
+
+
+	@Test @DisplayName("create throws ValidationException given null plugin")
+	void create_throws_exception_given_null_plugin()
+	{
+		// Act
+		ValidationException exception = assertThrows(ValidationException.class,
+				() -> TickBatchingSender.create(null, delegateMock));
+
+		// Assert
+		assertEquals("The parameter 'plugin' cannot be null.", exception.getMessage());
+	}
+
+
+	@Test @DisplayName("send queues records and schedules a single flush per tick")
+	void send_queues_records_and_schedules_single_flush()
+	{
+		// Act
+		sender.send(recipient, finalMessageRecord);
+		sender.send(recipient, otherMessageRecord);
+		sender.send(recipient2, finalMessageRecord);
+
+		// Assert
+		assertEquals(3, sender.pendingCount());
+		verify(schedulerMock, times(1)).runTask(eq(pluginMock), any(Runnable.class));
+		verifyNoInteractions(delegateMock);
+	}
+
+
+	@Test @DisplayName("send discards exact duplicates for the same recipient")
+	void send_discards_duplicates()
+	{
+		// Act
+		sender.send(recipient, finalMessageRecord);
+		sender.send(recipient, finalMessageRecord);
+		sender.send(recipient, finalMessageRecord);
+
+		// Assert
+		assertEquals(1, sender.pendingCount());
+	}
+
+
+	@Test @DisplayName("scheduled flush delivers queued records in order and clears the queue")
+	void flush_delivers_records_in_order()
+	{
+		// Arrange
+		ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+		sender.send(recipient, finalMessageRecord);
+		sender.send(recipient, finalMessageRecord);
+		sender.send(recipient, otherMessageRecord);
+		verify(schedulerMock).runTask(eq(pluginMock), captor.capture());
+
+		// Act
+		captor.getValue().run();
+
+		// Assert
+		InOrder inOrder = inOrder(delegateMock);
+		inOrder.verify(delegateMock).send(recipient, finalMessageRecord);
+		inOrder.verify(delegateMock).send(recipient, otherMessageRecord);
+		verifyNoMoreInteractions(delegateMock);
+		assertEquals(0, sender.pendingCount());
+	}
+
+
+	@Test @DisplayName("send delivers immediately when plugin is disabled")
+	void send_delivers_immediately_when_plugin_disabled()
+	{
+		// Arrange
+		when(pluginMock.isEnabled()).thenReturn(false);
+
+		// Act
+		sender.send(recipient, finalMessageRecord);
+
+		// Assert
+		verify(delegateMock).send(recipient, finalMessageRecord);
+		verifyNoInteractions(schedulerMock);
+	}
+
+
+	@Test @DisplayName("broadcast is passed directly to delegate")
+	void broadcast_passes_through()
+	{
+		// Act
+		sender.broadcast(List.of(recipient, recipient2), finalMessageRecord);
+
+		// Assert
+		verify(delegateMock).broadcast(List.of(recipient, recipient2), finalMessageRecord);
+		assertEquals(0, sender.pendingCount());
+	}
+
+
+
+	@Test @DisplayName("prepare is delegated off the server thread, and the prepared delivery is batched")
+	void prepare_delegates_and_batches_delivery()
+	{
+		// Arrange
+		List<String> deliveries = new ArrayList<>();
+		when(delegateMock.prepare(recipient, finalMessageRecord)).thenReturn(() -> deliveries.add("prepared"));
+		ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+
+		// Act
+		Runnable first = sender.prepare(recipient, finalMessageRecord);
+		Runnable second = sender.prepare(recipient, finalMessageRecord);
+		first.run();
+		second.run();
+
+		// Assert
+		verify(delegateMock, times(2)).prepare(recipient, finalMessageRecord);
+		assertEquals(1, sender.pendingCount());
+		assertTrue(deliveries.isEmpty());
+		verify(schedulerMock).runTask(eq(pluginMock), captor.capture());
+		captor.getValue().run();
+		assertEquals(List.of("prepared"), deliveries);
+		verify(delegateMock, never()).send(any(), any());
+	}
+
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.adapters.pipeline.snapshots;
+
+import com.winterhavenmc.library.messagebuilder.core.context.AccessorCtx;
+import com.winterhavenmc.library.messagebuilder.core.context.FormatterCtx;
+import com.winterhavenmc.library.messagebuilder.core.maps.MacroObjectMap;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.formatters.number.NumberFormatter;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.resolvers.itemname.ItemDisplayNameResolver;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.resolvers.itemname.ItemNameResolver;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.resolvers.itemname.ItemPluralNameResolver;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.resolvers.playername.PlayerNameResolver;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.resolvers.playername.PlayerNameResolver.CachedTamer;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.resolvers.worldname.WorldNameResolver;
+import com.winterhavenmc.library.messagebuilder.models.keys.MacroKey;
+import com.winterhavenmc.library.messagebuilder.models.keys.ValidMacroKey;
+
+import org.bukkit.Location;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.entity.Tameable;
+import org.bukkit.inventory.ItemStack;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+class BukkitMacroSnapshotterTest
+{
+	@Mock WorldNameResolver worldNameResolverMock;
+	@Mock ItemNameResolver itemNameResolverMock;
+	@Mock ItemDisplayNameResolver itemDisplayNameResolverMock;
+	@Mock ItemPluralNameResolver itemPluralNameResolverMock;
+	@Mock PlayerNameResolver playerNameResolverMock;
+	@Mock FormatterCtx formatterCtxMock;
+	@Mock NumberFormatter numberFormatterMock;
+	@Mock World worldMock;
+	@Mock Player playerMock;
+	@Mock Tameable tameableMock;
+	@Mock OfflinePlayer offlinePlayerMock;
+	@Mock ItemStack itemStackMock;
+	@Mock ItemStack itemStackCloneMock;
+
+	AccessorCtx accessorCtx;
+	BukkitMacroSnapshotter snapshotter;
+
+	final UUID worldUid = new UUID(1, 1);
+
+
+	@BeforeEach
+	void setUp()
+	{
+		accessorCtx = new AccessorCtx(worldNameResolverMock, itemNameResolverMock, itemDisplayNameResolverMock,
+				itemPluralNameResolverMock, playerNameResolverMock, formatterCtxMock);
+		snapshotter = BukkitMacroSnapshotter.create(accessorCtx);
+
+		lenient().when(worldMock.getName()).thenReturn("world");
+		lenient().when(worldMock.getUID()).thenReturn(worldUid);
+		lenient().when(worldNameResolverMock.resolve(worldUid)).thenReturn("Overworld");
+	}
+
+
+	@Test @DisplayName("snapshot captures player name, display name, unique id and location")
+	void snapshot_captures_player()
+	{
+		// Arrange
+		UUID playerUid = new UUID(42, 42);
+		when(playerMock.getName()).thenReturn("player1");
+		when(playerMock.getDisplayName()).thenReturn("Player One");
+		when(playerMock.getUniqueId()).thenReturn(playerUid);
+		when(playerMock.getLocation()).thenReturn(new Location(worldMock, 10.5, 64, -3.2));
+
+		// Act
+		Object result = snapshotter.snapshot(playerMock);
+
+		// Assert
+		LivingEntitySnapshot snapshot = assertInstanceOf(LivingEntitySnapshot.class, result);
+		assertEquals("player1", snapshot.getName());
+		assertEquals("Player One", snapshot.getDisplayName());
+		assertEquals(playerUid, snapshot.getUniqueId());
+		assertEquals(new LocationSnapshot(worldUid, "Overworld", 10, 64, -4), snapshot.location());
+		assertNull(snapshot.getKiller());
+	}
+
+
+	@Test @DisplayName("snapshot captures tameable owner through player name resolver")
+	void snapshot_captures_tameable_owner()
+	{
+		// Arrange
+		UUID ownerUid = new UUID(7, 7);
+		CachedTamer cachedTamer = new CachedTamer(ownerUid, "owner1");
+		when(tameableMock.getName()).thenReturn("Wolf");
+		when(tameableMock.getCustomName()).thenReturn("Fido");
+		when(tameableMock.getOwner()).thenReturn(offlinePlayerMock);
+		lenient().when(playerNameResolverMock.resolveTamer(offlinePlayerMock)).thenReturn(cachedTamer);
+
+		// Act
+		Object result = snapshotter.snapshot(tameableMock);
+
+		// Assert
+		TameableSnapshot snapshot = assertInstanceOf(TameableSnapshot.class, result);
+		assertEquals("Wolf", snapshot.getName());
+		assertEquals("Fido", snapshot.getDisplayName());
+		assertEquals(cachedTamer, snapshot.getOwner());
+		assertNull(snapshot.location());
+	}
+
+
+	@Test @DisplayName("snapshot captures online tamer as cached tamer")
+	void snapshot_captures_online_tamer()
+	{
+		// Arrange
+		UUID ownerUid = new UUID(7, 7);
+		when(tameableMock.getOwner()).thenReturn(playerMock);
+		lenient().when(playerNameResolverMock.resolveTamer(playerMock)).thenReturn(playerMock);
+		when(playerMock.getUniqueId()).thenReturn(ownerUid);
+		when(playerMock.getName()).thenReturn("owner1");
+
+		// Act
+		Object result = snapshotter.snapshot(tameableMock);
+
+		// Assert
+		TameableSnapshot snapshot = assertInstanceOf(TameableSnapshot.class, result);
+		assertEquals(new CachedTamer(ownerUid, "owner1"), snapshot.getOwner());
+	}
+
+
+	@Test @DisplayName("snapshot captures world with resolved display name")
+	void snapshot_captures_world()
+	{
+		// Act
+		Object result = snapshotter.snapshot(worldMock);
+
+		// Assert
+		assertEquals(new WorldSnapshot("world", "Overworld", worldUid), result);
+	}
+
+
+	@Test @DisplayName("snapshot captures location with resolved world name")
+	void snapshot_captures_location()
+	{
+		// Act
+		Object result = snapshotter.snapshot(new Location(worldMock, 1, 2, 3));
+
+		// Assert
+		assertEquals(new LocationSnapshot(worldUid, "Overworld", 1, 2, 3), result);
+	}
+
+
+	@Test @DisplayName("snapshot clones item stacks")
+	void snapshot_clones_item_stacks()
+	{
+		// Arrange
+		when(itemStackMock.clone()).thenReturn(itemStackCloneMock);
+
+		// Act
+		Object result = snapshotter.snapshot(itemStackMock);
+
+		// Assert
+		assertSame(itemStackCloneMock, result);
+	}
+
+
+	@Test @DisplayName("snapshot returns unsupported values unchanged")
+	void snapshot_returns_unsupported_values_unchanged()
+	{
+		// Arrange
+		Duration duration = Duration.ofSeconds(5);
+
+		// Act & Assert
+		assertSame(duration, snapshotter.snapshot(duration));
+		assertSame("string", snapshotter.snapshot("string"));
+		assertSame(offlinePlayerMock, snapshotter.snapshot(offlinePlayerMock));
+		assertNull(snapshotter.snapshot(null));
+	}
+
+
+	@Test @DisplayName("snapshotAll returns new map of snapshots")
+	void snapshotAll_returns_new_map()
+	{
+		// Arrange
+		ValidMacroKey worldKey = MacroKey.of("WORLD").isValid().orElseThrow();
+		ValidMacroKey stringKey = MacroKey.of("STRING").isValid().orElseThrow();
+		MacroObjectMap macroObjectMap = new MacroObjectMap();
+		macroObjectMap.put(worldKey, worldMock);
+		macroObjectMap.put(stringKey, "value");
+
+		// Act
+		MacroObjectMap result = snapshotter.snapshotAll(macroObjectMap);
+
+		// Assert
+		assertNotSame(macroObjectMap, result);
+		assertEquals(Optional.of(new WorldSnapshot("world", "Overworld", worldUid)), result.get(worldKey));
+		assertEquals(Optional.of("value"), result.get(stringKey));
+		assertEquals(Optional.of(worldMock), macroObjectMap.get(worldKey));
+	}
+
+
+	@Test @DisplayName("location snapshot extracts location macros without resolving world")
+	void locationSnapshot_extracts_location_macros()
+	{
+		// Arrange
+		ValidMacroKey baseKey = MacroKey.of("SPAWN").isValid().orElseThrow();
+		LocationSnapshot locationSnapshot = new LocationSnapshot(worldUid, "Overworld", 1, 2, 3);
+		when(formatterCtxMock.localeNumberFormatter()).thenReturn(numberFormatterMock);
+		when(numberFormatterMock.format(any())).thenAnswer(invocation -> invocation.getArgument(0).toString());
+
+		// Act
+		var result = locationSnapshot.extractLocation(baseKey, accessorCtx);
+
+		// Assert
+		assertEquals("Overworld [1, 2, 3]", result.get(baseKey.append("LOCATION").isValid().orElseThrow()));
+		assertEquals("Overworld", result.get(MacroKey.of("SPAWN.LOCATION.WORLD").isValid().orElseThrow()));
+		assertEquals("3", result.get(MacroKey.of("SPAWN.LOCATION.Z").isValid().orElseThrow()));
+		verifyNoInteractions(worldNameResolverMock);
+	}
+
+}
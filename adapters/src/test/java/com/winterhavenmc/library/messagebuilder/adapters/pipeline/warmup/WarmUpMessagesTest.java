@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.winterhavenmc.library.messagebuilder.adapters.pipeline.warmup;
+
+import com.winterhavenmc.library.messagebuilder.models.keys.MessageKey;
+import com.winterhavenmc.library.messagebuilder.models.keys.ValidMessageKey;
+
+import org.bukkit.configuration.MemoryConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.plugin.Plugin;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+
+@ExtendWith(MockitoExtension.class)
+class WarmUpMessagesTest
+{
+	@Mock Plugin pluginMock;
+
+	YamlConfiguration pluginConfig;
+	MemoryConfiguration language;
+
+
+	@BeforeEach
+	void setUp()
+	{
+		pluginConfig = new YamlConfiguration();
+		when(pluginMock.getConfig()).thenReturn(pluginConfig);
+
+		language = new MemoryConfiguration();
+		language.set("MESSAGES.ENABLED_MESSAGE.MESSAGE_TEXT", "enabled");
+		language.set("MESSAGES.DISABLED_MESSAGE.MESSAGE_TEXT", "disabled");
+	}
+
+
+	@Test
+	@DisplayName("select() returns an empty Optional when the warm-up is not enabled.")
+	void select_disabled()
+	{
+		// Act
+		Optional<Collection<ValidMessageKey>> result = WarmUpMessages.select(pluginMock, language);
+
+		// Assert
+		assertTrue(result.isEmpty());
+	}
+
+
+	@Test
+	@DisplayName("select() returns every message of the language file when no messages are configured.")
+	void select_all_messages()
+	{
+		// Arrange
+		pluginConfig.set(WarmUpMessages.ENABLED_KEY, true);
+
+		// Act
+		Optional<Collection<ValidMessageKey>> result = WarmUpMessages.select(pluginMock, language);
+
+		// Assert
+		assertEquals(Set.of("ENABLED_MESSAGE", "DISABLED_MESSAGE"),
+				result.orElseThrow().stream().map(ValidMessageKey::toString).collect(Collectors.toSet()));
+	}
+
+
+	@Test
+	@DisplayName("select() returns the valid keys of the configured messages.")
+	void select_configured_messages()
+	{
+		// Arrange
+		pluginConfig.set(WarmUpMessages.ENABLED_KEY, true);
+		pluginConfig.set(WarmUpMessages.MESSAGES_KEY, List.of("ENABLED_MESSAGE", "not a key"));
+
+		// Act
+		Optional<Collection<ValidMessageKey>> result = WarmUpMessages.select(pluginMock, language);
+
+		// Assert
+		assertEquals(List.of(MessageKey.of("ENABLED_MESSAGE").isValid().orElseThrow()), result.orElseThrow());
+	}
+
+}
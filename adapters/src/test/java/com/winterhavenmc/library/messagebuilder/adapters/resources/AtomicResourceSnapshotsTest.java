@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.winterhavenmc.library.messagebuilder.adapters.resources;
+
+import com.winterhavenmc.library.messagebuilder.core.ports.resources.ResourceSnapshot;
+
+import org.bukkit.configuration.Configuration;
+import org.bukkit.configuration.MemoryConfiguration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class AtomicResourceSnapshotsTest
+{
+	@Test @DisplayName("publish applies update with the next epoch")
+	void publish_increments_epoch()
+	{
+		// Arrange
+		AtomicResourceSnapshots snapshots = new AtomicResourceSnapshots();
+		Configuration language = new MemoryConfiguration();
+
+		// Act
+		ResourceSnapshot published = snapshots.publish(snapshot -> snapshot.withLanguage(language));
+
+		// Assert
+		assertEquals(1L, published.epoch());
+		assertSame(published, snapshots.current());
+		assertSame(language, snapshots.current().language());
+	}
+
+
+	@Test @DisplayName("pinned snapshot is current on the pinning thread only, until the task completes")
+	void callPinned_returns_pinned_snapshot()
+	{
+		// Arrange
+		AtomicResourceSnapshots snapshots = new AtomicResourceSnapshots();
+		ResourceSnapshot pinned = snapshots.current();
+
+		// Act
+		long epochDuringTask = snapshots.callPinned(pinned, () ->
+		{
+			snapshots.publish(snapshot -> snapshot.withSounds(new MemoryConfiguration()));
+			return snapshots.current().epoch();
+		});
+
+		// Assert
+		assertEquals(0L, epochDuringTask);
+		assertEquals(1L, snapshots.current().epoch());
+	}
+
+
+	@Test @DisplayName("nested pin restores the outer pinned snapshot")
+	void runPinned_restores_outer_snapshot()
+	{
+		// Arrange
+		AtomicResourceSnapshots snapshots = new AtomicResourceSnapshots();
+		ResourceSnapshot outer = snapshots.current();
+		ResourceSnapshot inner = snapshots.publish(snapshot -> snapshot.withSounds(new MemoryConfiguration()));
+
+		// Act
+		ResourceSnapshot afterInner = snapshots.callPinned(outer, () ->
+		{
+			snapshots.runPinned(inner, () -> assertSame(inner, snapshots.current()));
+			return snapshots.current();
+		});
+
+		// Assert
+		assertSame(outer, afterInner);
+		assertSame(inner, snapshots.current());
+	}
+
+}
@@ -0,0 +1,276 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.winterhavenmc.library.messagebuilder.adapters.resources.language;
+
+import com.winterhavenmc.library.messagebuilder.core.ports.resources.language.LanguageValidationReport;
+import com.winterhavenmc.library.messagebuilder.core.ports.resources.language.LanguageValidationReport.Issue;
+import com.winterhavenmc.library.messagebuilder.core.ports.resources.language.LanguageValidationReport.Kind;
+import com.winterhavenmc.library.messagebuilder.models.configuration.ConfigRepository;
+
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.plugin.Plugin;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+class LanguageFileValidatorTest
+{
+	@TempDir File dataFolder;
+	@Mock Plugin pluginMock;
+	@Mock ConfigRepository configRepositoryMock;
+
+	Path languageDirectory;
+	LanguageFileValidator validator;
+
+	enum MessageId { ENABLED_MESSAGE, DISABLED_MESSAGE }
+	enum Macro { ITEM, DURATION }
+
+
+	@BeforeEach
+	void setUp() throws IOException
+	{
+		lenient().when(pluginMock.getDataFolder()).thenReturn(dataFolder);
+		lenient().when(pluginMock.getLogger()).thenReturn(Logger.getLogger(this.getClass().getName()));
+		lenient().when(configRepositoryMock.logLocale()).thenReturn(Locale.US);
+
+		languageDirectory = Files.createDirectories(dataFolder.toPath().resolve("language"));
+		validator = LanguageFileValidator.create(pluginMock, configRepositoryMock, MiniMessage.miniMessage());
+	}
+
+
+	@Test
+	@DisplayName("validate() reports no issues for valid language files.")
+	void validate_clean()
+	{
+		// Arrange
+		writeLanguageFile("en-US.yml", """
+				MESSAGES:
+				  ENABLED_MESSAGE:
+				    MESSAGE_TEXT: "<green>{ITEM.NAME} enabled for {DURATION} by {PLUGIN.NAME}</green>"
+				  DISABLED_MESSAGE:
+				    MESSAGE_TEXT: "<red>disabled</red>"
+				    TITLE_TEXT: "<bold>{RECIPIENT.NAME}</bold>"
+				ITEMS:
+				  TOOL:
+				    MATERIAL: "STICK"
+				    NAME: "<gold>Tool</gold>"
+				    LORE:
+				      - "<gray>A tool</gray>"
+				CONSTANTS:
+				  SPAWN:
+				    DISPLAY_NAME: "Spawn"
+				""");
+		writeLanguageFile("de-DE.yml", """
+				MESSAGES:
+				  ENABLED_MESSAGE:
+				    MESSAGE_TEXT: "aktiviert"
+				  DISABLED_MESSAGE:
+				    MESSAGE_TEXT: "deaktiviert"
+				""");
+
+		// Act
+		LanguageValidationReport report = validator.validate(MessageId.class, Macro.class);
+
+		// Assert
+		assertTrue(report.isClean(), report.issues().toString());
+		assertEquals(2, report.files());
+		assertEquals(4, report.messages());
+	}
+
+
+	@Test
+	@DisplayName("validate() reports tags that are not closed, as MiniMessage is parsed in strict mode.")
+	void validate_strict_minimessage()
+	{
+		// Arrange
+		writeLanguageFile("en-US.yml", """
+				MESSAGES:
+				  ENABLED_MESSAGE:
+				    MESSAGE_TEXT: "<green><bold>enabled</green>"
+				  DISABLED_MESSAGE:
+				    MESSAGE_TEXT: "<red>disabled"
+				""");
+
+		// Act
+		LanguageValidationReport report = validator.validate(MessageId.class, Macro.class);
+
+		// Assert
+		assertEquals(2, report.issues().size(), report.issues().toString());
+		assertTrue(report.issues().stream().allMatch(issue -> issue.kind() == Kind.INVALID_MINIMESSAGE));
+	}
+
+
+	@Test
+	@DisplayName("validate() without enums validates syntax only, and does not check message and macro names.")
+	void validate_syntax_only()
+	{
+		// Arrange
+		writeLanguageFile("en-US.yml", """
+				MESSAGES:
+				  OBSOLETE_MESSAGE:
+				    MESSAGE_TEXT: "{PLAYR} <gren>obsolete"
+				""");
+
+		// Act
+		LanguageValidationReport report = validator.validate();
+
+		// Assert
+		assertEquals(1, report.messages());
+		assertEquals(List.of(new Issue("en-US.yml", "MESSAGES.OBSOLETE_MESSAGE.MESSAGE_TEXT", Kind.UNKNOWN_TAG, "<gren>")), report.issues());
+	}
+
+
+	@Test
+	@DisplayName("createIfEnabled() creates a validator only if validation is enabled in the plugin configuration.")
+	void createIfEnabled()
+	{
+		// Arrange
+		YamlConfiguration config = new YamlConfiguration();
+		when(pluginMock.getConfig()).thenReturn(config);
+
+		// Act & Assert
+		assertTrue(LanguageFileValidator.createIfEnabled(pluginMock, configRepositoryMock, MiniMessage.miniMessage()).isEmpty());
+		config.set(LanguageFileValidator.ENABLED_KEY, true);
+		assertTrue(LanguageFileValidator.createIfEnabled(pluginMock, configRepositoryMock, MiniMessage.miniMessage()).isPresent());
+	}
+
+
+	@Test
+	@DisplayName("validate() reports unknown, missing and invalid entries of every file in a single report.")
+	void validate_reports_issues()
+	{
+		// Arrange
+		writeLanguageFile("en-US.yml", """
+				MESSAGES:
+				  ENABLED_MESSAGE:
+				    MESSAGE_TEXT: "{ITEM} enabled by {PLAYR}"
+				  OBSOLETE_MESSAGE:
+				    MESSAGE_TEXT: "obsolete"
+				""");
+		writeLanguageFile("fr-FR.yml", """
+				MESSAGES:
+				  ENABLED_MESSAGE:
+				    MESSAGE_TEXT: "<gren>activé"
+				  DISABLED_MESSAGE:
+				    MESSAGE_TEXT: "désactivé"
+				ITEMS:
+				  TOOL:
+				    MATERIAL: "NOT_A_MATERIAL"
+				""");
+
+		// Act
+		LanguageValidationReport report = validator.validate(MessageId.class, Macro.class);
+
+		// Assert
+		assertEquals(2, report.files());
+		assertEquals(4, report.messages());
+		assertTrue(report.issues().contains(new Issue("en-US.yml", "MESSAGES.ENABLED_MESSAGE.MESSAGE_TEXT", Kind.UNKNOWN_MACRO, "PLAYR")));
+		assertTrue(report.issues().contains(new Issue("en-US.yml", "MESSAGES.OBSOLETE_MESSAGE", Kind.UNKNOWN_MESSAGE, "OBSOLETE_MESSAGE")));
+		assertTrue(report.issues().contains(new Issue("en-US.yml", "MESSAGES.DISABLED_MESSAGE", Kind.MISSING_MESSAGE, "DISABLED_MESSAGE")));
+		assertTrue(report.issues().contains(new Issue("fr-FR.yml", "MESSAGES.ENABLED_MESSAGE.MESSAGE_TEXT", Kind.UNKNOWN_TAG, "<gren>")));
+		assertTrue(report.issues().contains(new Issue("fr-FR.yml", "ITEMS.TOOL.MATERIAL", Kind.INVALID_ITEM, "NOT_A_MATERIAL")));
+		assertEquals(5, report.issues().size(), report.issues().toString());
+	}
+
+
+	@Test
+	@DisplayName("validate() reports a language file that is not valid YAML.")
+	void validate_invalid_yaml()
+	{
+		// Arrange
+		writeLanguageFile("en-US.yml", "MESSAGES: [unclosed");
+
+		// Act
+		LanguageValidationReport report = validator.validate(MessageId.class, Macro.class);
+
+		// Assert
+		assertEquals(1, report.issues().size());
+		assertEquals(Kind.INVALID_FILE, report.issues().getFirst().kind());
+		assertEquals("en-US.yml", report.issues().getFirst().file());
+	}
+
+
+	@Test
+	@DisplayName("validate() returns an empty report when no language files are installed.")
+	void validate_no_files() throws IOException
+	{
+		// Arrange
+		Files.delete(languageDirectory);
+
+		// Act
+		LanguageValidationReport report = validator.validate(MessageId.class, Macro.class);
+
+		// Assert
+		assertTrue(report.isClean());
+		assertEquals(0, report.files());
+	}
+
+
+	@Test
+	@DisplayName("log() writes a report with issues to the plugin log as a single warning.")
+	void log_single_warning()
+	{
+		// Arrange
+		Logger loggerMock = mock(Logger.class);
+		when(pluginMock.getLogger()).thenReturn(loggerMock);
+		LanguageValidationReport report = new LanguageValidationReport(1, 2, java.util.List.of(
+				new Issue("en-US.yml", "MESSAGES.A", Kind.UNKNOWN_MESSAGE, "A"),
+				new Issue("en-US.yml", "MESSAGES.B", Kind.UNKNOWN_MESSAGE, "B")));
+
+		// Act
+		validator.log(report);
+
+		// Assert
+		verify(loggerMock, times(1)).warning(argThat((String message) ->
+				message.contains("MESSAGES.A") && message.contains("MESSAGES.B")));
+		verifyNoMoreInteractions(loggerMock);
+	}
+
+
+	private void writeLanguageFile(final String name, final String contents)
+	{
+		try
+		{
+			Files.writeString(languageDirectory.resolve(name), contents);
+		}
+		catch (IOException exception)
+		{
+			throw new RuntimeException(exception);
+		}
+	}
+
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.winterhavenmc.library.messagebuilder.adapters.resources.language;
+
+import org.bukkit.configuration.Configuration;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class LanguagePackCacheTest
+{
+	@TempDir Path languageDirectory;
+
+	Path languageFile;
+
+
+	@BeforeEach
+	void setUp() throws IOException
+	{
+		languageFile = languageDirectory.resolve("en-US.yml");
+		Files.writeString(languageFile, """
+				MESSAGES:
+				  ENABLED_MESSAGE:
+				    ENABLED: true
+				    MESSAGE_TEXT: "enabled é"
+				    REPEAT_DELAY: 5
+				  EMPTY_MESSAGE: {}
+				ITEMS:
+				  TEST_ITEM:
+				    LORE:
+				      - "first line"
+				      - "second line"
+				CONSTANTS:
+				  RATE: 1.5
+				""", StandardCharsets.UTF_8);
+	}
+
+
+	private Configuration parseAndCache() throws IOException, InvalidConfigurationException
+	{
+		LanguagePackCache.FileStamp stamp = LanguagePackCache.FileStamp.of(languageFile).orElseThrow();
+		YamlConfiguration configuration = new YamlConfiguration();
+		configuration.load(languageFile.toFile());
+		assertTrue(LanguagePackCache.write(languageFile, stamp, configuration));
+		return configuration;
+	}
+
+
+	@Test @DisplayName("read rebuilds configuration written to cache")
+	void read_rebuilds_configuration() throws IOException, InvalidConfigurationException
+	{
+		// Arrange
+		Configuration parsed = parseAndCache();
+
+		// Act
+		Optional<Configuration> cached = LanguagePackCache.read(languageFile, YamlConfiguration::new);
+
+		// Assert
+		assertTrue(cached.isPresent());
+		assertEquals("enabled é", cached.get().getString("MESSAGES.ENABLED_MESSAGE.MESSAGE_TEXT"));
+		assertTrue(cached.get().getBoolean("MESSAGES.ENABLED_MESSAGE.ENABLED"));
+		assertEquals(5, cached.get().getInt("MESSAGES.ENABLED_MESSAGE.REPEAT_DELAY"));
+		assertTrue(cached.get().isConfigurationSection("MESSAGES.EMPTY_MESSAGE"));
+		assertEquals(List.of("first line", "second line"), cached.get().getStringList("ITEMS.TEST_ITEM.LORE"));
+		assertEquals(1.5, cached.get().getDouble("CONSTANTS.RATE"));
+		assertEquals(parsed.getKeys(true), cached.get().getKeys(true));
+	}
+
+
+	@Test @DisplayName("read ignores cache of a modified language file")
+	void read_ignores_stale_cache() throws IOException, InvalidConfigurationException
+	{
+		// Arrange
+		parseAndCache();
+		FileTime lastModified = Files.getLastModifiedTime(languageFile);
+		Files.writeString(languageFile, Files.readString(languageFile).replace("enabled", "ENABLED"));
+		Files.setLastModifiedTime(languageFile, lastModified);
+
+		// Act
+		Optional<Configuration> cached = LanguagePackCache.read(languageFile, YamlConfiguration::new);
+
+		// Assert
+		assertTrue(cached.isEmpty(), "A change of content with the same size and time should be detected by checksum.");
+	}
+
+
+	@Test @DisplayName("read ignores corrupt cache")
+	void read_ignores_corrupt_cache() throws IOException, InvalidConfigurationException
+	{
+		// Arrange
+		parseAndCache();
+		Path cacheFile = LanguagePackCache.cacheFile(languageFile);
+		byte[] bytes = Files.readAllBytes(cacheFile);
+		Files.write(cacheFile, Arrays.copyOf(bytes, bytes.length / 2));
+
+		// Act
+		Optional<Configuration> cached = LanguagePackCache.read(languageFile, YamlConfiguration::new);
+
+		// Assert
+		assertTrue(cached.isEmpty());
+	}
+
+
+	@Test @DisplayName("write refuses configuration with values that cannot be cached")
+	void write_unsupported_value()
+	{
+		// Arrange
+		LanguagePackCache.FileStamp stamp = LanguagePackCache.FileStamp.of(languageFile).orElseThrow();
+		YamlConfiguration configuration = new YamlConfiguration();
+		configuration.set("ITEMS.TEST_ITEM.DATA", List.of(Map.of("key", "value")));
+
+		// Act
+		boolean written = LanguagePackCache.write(languageFile, stamp, configuration);
+
+		// Assert
+		assertFalse(written);
+		assertFalse(Files.exists(LanguagePackCache.cacheFile(languageFile)));
+	}
+
+}
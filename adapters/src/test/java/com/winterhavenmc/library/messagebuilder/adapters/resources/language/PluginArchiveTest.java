@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.winterhavenmc.library.messagebuilder.adapters.resources.language;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.zip.CRC32;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class PluginArchiveTest
+{
+	@TempDir Path tempDir;
+
+	Path archivePath;
+	static final String LANGUAGE_TEXT = "MESSAGES:\n  ENABLED_MESSAGE:\n    MESSAGE_TEXT: \"enabled é\"\n";
+
+
+	@BeforeEach
+	void setUp() throws IOException
+	{
+		archivePath = writeArchive(tempDir.resolve("plugin.jar"), Map.of(
+				"language/auto_install.txt", "language/en-US.yml\n",
+				"language/en-US.yml", LANGUAGE_TEXT));
+	}
+
+
+	static Path writeArchive(final Path path, final Map<String, String> entries) throws IOException
+	{
+		try (OutputStream output = Files.newOutputStream(path);
+			 JarOutputStream jar = new JarOutputStream(output))
+		{
+			for (Map.Entry<String, String> entry : entries.entrySet())
+			{
+				jar.putNextEntry(new JarEntry(entry.getKey()));
+				jar.write(entry.getValue().getBytes(StandardCharsets.UTF_8));
+				jar.closeEntry();
+			}
+		}
+		return path;
+	}
+
+
+	@Test @DisplayName("open indexes size and checksum of each entry")
+	void open_indexes_entries()
+	{
+		// Arrange
+		byte[] bytes = LANGUAGE_TEXT.getBytes(StandardCharsets.UTF_8);
+		CRC32 crc = new CRC32();
+		crc.update(bytes);
+
+		// Act
+		Optional<PluginArchive> archive = PluginArchive.open(archivePath);
+
+		// Assert
+		assertTrue(archive.isPresent());
+		assertEquals(Optional.of(new PluginArchive.EntryStamp(bytes.length, crc.getValue())),
+				archive.get().stamp("language/en-US.yml"));
+		assertTrue(archive.get().stamp("language/fr-FR.yml").isEmpty());
+		assertTrue(archive.get().stamp(null).isEmpty());
+	}
+
+
+	@Test @DisplayName("open returns empty for a file that is not an archive")
+	void open_not_an_archive() throws IOException
+	{
+		// Arrange
+		Path notArchive = Files.writeString(tempDir.resolve("not.jar"), "not a jar");
+
+		// Act & Assert
+		assertTrue(PluginArchive.open(notArchive).isEmpty());
+	}
+
+
+	@Test @DisplayName("copy transfers entry to target and leaves no temporary file")
+	void copy_transfers_entry() throws IOException
+	{
+		// Arrange
+		PluginArchive archive = PluginArchive.open(archivePath).orElseThrow();
+		Path target = tempDir.resolve("data").resolve("language").resolve("en-US.yml");
+
+		// Act
+		long copied = archive.copy("language/en-US.yml", target);
+
+		// Assert
+		assertEquals(LANGUAGE_TEXT.getBytes(StandardCharsets.UTF_8).length, copied);
+		assertEquals(LANGUAGE_TEXT, Files.readString(target, StandardCharsets.UTF_8));
+		try (var files = Files.list(target.getParent()))
+		{
+			assertEquals(1, files.count());
+		}
+	}
+
+
+	@Test @DisplayName("copy throws for a missing entry")
+	void copy_missing_entry()
+	{
+		// Arrange
+		PluginArchive archive = PluginArchive.open(archivePath).orElseThrow();
+
+		// Act & Assert
+		assertThrows(IOException.class, () -> archive.copy("language/fr-FR.yml", tempDir.resolve("fr-FR.yml")));
+		assertFalse(Files.exists(tempDir.resolve("fr-FR.yml")));
+	}
+
+
+	@Test @DisplayName("read applies reader to entry contents")
+	void read_entry()
+	{
+		// Arrange
+		PluginArchive archive = PluginArchive.open(archivePath).orElseThrow();
+
+		// Act
+		Optional<String> contents = archive.read("language/auto_install.txt",
+				input -> new String(assertDoesNotThrow(input::readAllBytes), StandardCharsets.UTF_8));
+
+		// Assert
+		assertEquals(Optional.of("language/en-US.yml\n"), contents);
+		assertTrue(archive.read("language/missing.txt", input -> "unexpected").isEmpty());
+	}
+
+}
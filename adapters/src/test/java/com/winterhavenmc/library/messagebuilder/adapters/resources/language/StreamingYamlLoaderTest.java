@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.winterhavenmc.library.messagebuilder.adapters.resources.language;
+
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class StreamingYamlLoaderTest
+{
+	static final String LANGUAGE_TEXT = """
+			MESSAGES:
+			  ENABLED_MESSAGE:
+			    ENABLED: yes
+			    MESSAGE_TEXT: 'enabled {PLUGIN}'
+			    REPEAT_DELAY: 5
+			    LARGE: 12345678901
+			    RATE: 1.5
+			    NOTHING: ~
+			  DISABLED_MESSAGE:
+			    ENABLED: false
+			    MESSAGE_TEXT: |
+			      disabled
+			  EMPTY_MESSAGE: {}
+			ITEMS:
+			  TEST_ITEM:
+			    LORE:
+			      - "first line"
+			      - second line
+			      - 3
+			CONSTANTS:
+			  0x1F: hex key
+			""";
+
+
+	@Test @DisplayName("load produces the same values as YamlConfiguration")
+	void load_matches_yaml_configuration() throws InvalidConfigurationException
+	{
+		// Arrange
+		YamlConfiguration expected = new YamlConfiguration();
+		expected.loadFromString(LANGUAGE_TEXT);
+		YamlConfiguration streamed = new YamlConfiguration();
+
+		// Act
+		boolean loaded = StreamingYamlLoader.load(new StringReader(LANGUAGE_TEXT), streamed);
+
+		// Assert
+		assertTrue(loaded);
+		assertEquals(expected.getKeys(true), streamed.getKeys(true));
+		for (String path : expected.getKeys(true))
+		{
+			if (!expected.isConfigurationSection(path))
+			{
+				assertEquals(expected.get(path), streamed.get(path), path);
+			}
+		}
+	}
+
+
+	@Test @DisplayName("load holds a single instance of repeated keys")
+	void load_shares_repeated_keys() throws InvalidConfigurationException
+	{
+		// Arrange
+		YamlConfiguration streamed = new YamlConfiguration();
+
+		// Act
+		StreamingYamlLoader.load(new StringReader(LANGUAGE_TEXT), streamed);
+
+		// Assert
+		String enabledKey = streamed.getConfigurationSection("MESSAGES.ENABLED_MESSAGE").getKeys(false).iterator().next();
+		String disabledKey = streamed.getConfigurationSection("MESSAGES.DISABLED_MESSAGE").getKeys(false).iterator().next();
+		assertEquals("ENABLED", enabledKey);
+		assertSame(enabledKey, disabledKey);
+	}
+
+
+	@Test @DisplayName("load declines documents with aliases or merge keys and leaves configuration empty")
+	void load_declines_unsupported_features() throws InvalidConfigurationException
+	{
+		// Arrange
+		YamlConfiguration aliased = new YamlConfiguration();
+		YamlConfiguration merged = new YamlConfiguration();
+
+		// Act & Assert
+		assertFalse(StreamingYamlLoader.load(new StringReader("first: &value 1\nsecond: *value\n"), aliased));
+		assertTrue(aliased.getKeys(true).isEmpty());
+		assertFalse(StreamingYamlLoader.load(new StringReader("base:\n  a: 1\nderived:\n  <<: {a: 1}\n"), merged));
+		assertTrue(merged.getKeys(true).isEmpty());
+	}
+
+
+	@Test @DisplayName("load throws for invalid YAML or a top level that is not a map")
+	void load_throws_for_invalid_document()
+	{
+		// Act & Assert
+		assertThrows(InvalidConfigurationException.class,
+				() -> StreamingYamlLoader.load(new StringReader("MESSAGES: [\n"), new YamlConfiguration()));
+		assertThrows(InvalidConfigurationException.class,
+				() -> StreamingYamlLoader.load(new StringReader("- first\n- second\n"), new YamlConfiguration()));
+	}
+
+}
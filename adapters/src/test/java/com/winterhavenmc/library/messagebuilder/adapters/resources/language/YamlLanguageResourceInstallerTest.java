@@ -17,6 +17,7 @@
 
 package com.winterhavenmc.library.messagebuilder.adapters.resources.language;
 
+import com.winterhavenmc.library.messagebuilder.adapters.resources.ResourceMessage;
 import com.winterhavenmc.library.messagebuilder.adapters.util.MockUtility;
 import com.winterhavenmc.library.messagebuilder.models.configuration.ConfigRepository;
 import com.winterhavenmc.library.messagebuilder.core.ports.resources.ResourceInstaller;
@@ -24,6 +25,7 @@ import com.winterhavenmc.library.messagebuilder.core.ports.resources.ResourceIns
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.plugin.Plugin;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -38,10 +40,13 @@ import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
 import java.util.logging.Logger;
 
 import static com.winterhavenmc.library.messagebuilder.core.ports.resources.ResourceInstaller.*;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -219,12 +224,51 @@ public class YamlLanguageResourceInstallerTest
 		@Test
 		public void resource_unavailable()
 		{
+			// Arrange
+			doThrow(new IllegalArgumentException("The embedded resource 'nonexistent-resource' cannot be found"))
+					.when(pluginMock).saveResource("nonexistent-resource", false);
+
 			// Act
 			ResourceInstaller.InstallerStatus status = resourceInstaller.installByName("nonexistent-resource");
 
 			// Assert
 			assertEquals(ResourceInstaller.InstallerStatus.UNAVAILABLE, status);
 		}
+
+
+		@Test @DisplayName("installByName remembers a resource missing from the jar, and does not read the jar for it again")
+		public void resource_unavailable_cached()
+		{
+			// Arrange
+			doThrow(new IllegalArgumentException("The embedded resource 'nonexistent-resource' cannot be found"))
+					.when(pluginMock).saveResource("nonexistent-resource", false);
+			resourceInstaller.installByName("nonexistent-resource");
+			clearInvocations(pluginMock);
+
+			// Act
+			ResourceInstaller.InstallerStatus status = resourceInstaller.installByName("nonexistent-resource");
+
+			// Assert
+			assertEquals(ResourceInstaller.InstallerStatus.UNAVAILABLE, status);
+
+			// Verify
+			verify(pluginMock, never()).getResource(anyString());
+			verify(pluginMock, never()).saveResource(anyString(), anyBoolean());
+		}
+	}
+
+
+	@Test @DisplayName("install reads the auto install resource through the plugin only once")
+	public void install_reads_auto_install_once()
+	{
+		// Arrange
+		clearInvocations(pluginMock);
+
+		// Act
+		resourceInstaller.install();
+
+		// Verify
+		verify(pluginMock, never()).getResource(resourceInstaller.getAutoInstallResourceName());
 	}
 
 
@@ -408,8 +452,6 @@ public class YamlLanguageResourceInstallerTest
 		public void verifyResourceInstalledTest()
 		{
 			// Arrange
-			when(pluginMock.getResource(resourceInstaller.getAutoInstallResourceName())).thenReturn(getClass().getClassLoader().getResourceAsStream(resourceInstaller.getAutoInstallResourceName()));
-			when(pluginMock.getResource(defaultLanguageResource)).thenReturn(getClass().getClassLoader().getResourceAsStream(defaultLanguageResource));
 			// install resource when saveResource is called
 			doAnswer(invocation -> MockUtility.installResource(invocation.getArgument(0), tempDataDir.toPath()))
 					.when(pluginMock).saveResource(anyString(), eq(false));
@@ -423,7 +465,7 @@ public class YamlLanguageResourceInstallerTest
 
 			// verify
 			verify(pluginMock, atLeastOnce()).getResource(resourceInstaller.getAutoInstallResourceName());
-			verify(pluginMock, atLeastOnce()).getResource(defaultLanguageResource);
+			verify(pluginMock, atLeastOnce()).saveResource(defaultLanguageResource, false);
 		}
 
 		@Test
@@ -433,4 +475,84 @@ public class YamlLanguageResourceInstallerTest
 		}
 	}
 
+
+	@Nested
+	class ArchiveInstallTests
+	{
+		@TempDir Path archiveDir;
+
+		Path archivePath;
+		YamlLanguageResourceInstaller archiveInstaller;
+
+
+		@BeforeEach
+		void setUp() throws IOException
+		{
+			archivePath = PluginArchiveTest.writeArchive(archiveDir.resolve("plugin.jar"), Map.of(
+					"language/auto_install.txt", "language/en-US.yml\nlanguage/fr-FR.yml\n",
+					"language/en-US.yml", "MESSAGES: {}\n"));
+			archiveInstaller = new YamlLanguageResourceInstaller(pluginMock, configRepositoryMock, Optional.of(archivePath));
+			clearInvocations(pluginMock);
+		}
+
+
+		@Test @DisplayName("install copies listed resources from archive without plugin resource access")
+		void install_copies_from_archive() throws IOException
+		{
+			// Act
+			InstallerStatus status = archiveInstaller.install();
+
+			// Assert
+			assertEquals(InstallerStatus.SUCCESS, status);
+			assertEquals("MESSAGES: {}\n", Files.readString(tempDataDir.toPath().resolve("language/en-US.yml")));
+			assertFalse(archiveInstaller.isInstalled("language/fr-FR.yml"));
+
+			// Verify
+			verify(pluginMock, never()).getResource(anyString());
+			verify(pluginMock, never()).saveResource(anyString(), anyBoolean());
+		}
+
+
+		@Test @DisplayName("install does no archive I/O when resources are already installed")
+		void install_reads_archive_once() throws IOException
+		{
+			// Arrange
+			archiveInstaller.install();
+			Files.delete(archivePath);
+
+			// Act
+			InstallerStatus status = archiveInstaller.install();
+
+			// Assert
+			assertEquals(InstallerStatus.SUCCESS, status);
+			assertEquals(InstallerStatus.FILE_EXISTS, archiveInstaller.installIfMissing("language/en-US.yml"));
+		}
+
+
+		@Test @DisplayName("installByName returns unavailable for resource missing from archive")
+		void installByName_missing_from_archive()
+		{
+			// Act & Assert
+			assertEquals(InstallerStatus.UNAVAILABLE, archiveInstaller.installByName("language/fr-FR.yml"));
+			assertEquals(InstallerStatus.UNAVAILABLE, archiveInstaller.installByName(null));
+		}
+
+
+		@Test @DisplayName("install warns once for a resource missing from archive")
+		void install_warns_once_for_missing_resource()
+		{
+			// Arrange
+			Logger loggerMock = mock(Logger.class);
+			when(pluginMock.getLogger()).thenReturn(loggerMock);
+
+			// Act
+			archiveInstaller.install();
+			archiveInstaller.install();
+
+			// Verify
+			verify(loggerMock, times(1)).warning(ResourceMessage.RESOURCE_INSTALL_UNAVAILABLE
+					.getLocalizedMessage(Locale.US, "language/fr-FR.yml"));
+		}
+	}
+
 }
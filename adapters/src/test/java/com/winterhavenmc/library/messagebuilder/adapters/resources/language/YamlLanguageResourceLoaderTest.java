@@ -29,6 +29,7 @@ import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -37,6 +38,7 @@ import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -163,6 +165,65 @@ class YamlLanguageResourceLoaderTest
 	}
 
 
+	@Nested
+	class FileLoaderTests
+	{
+		@TempDir
+		File dataFolder;
+
+
+		@Test
+		void reads_plugin_config_on_calling_thread_only()
+		{
+			// Arrange
+			when(pluginMock.getConfig()).thenReturn(fileConfigurationMock);
+			when(pluginMock.getDataFolder()).thenReturn(dataFolder);
+			when(pluginMock.getLogger()).thenReturn(loggerMock);
+			when(fileConfigurationMock.getString("language")).thenReturn("en-US");
+			when(configRepositoryMock.locale()).thenReturn(Locale.US);
+
+			// Act
+			Supplier<Optional<Configuration>> fileLoader = loader.fileLoader();
+			clearInvocations(pluginMock, configRepositoryMock);
+			Optional<Configuration> result = fileLoader.get();
+
+			// Assert
+			assertTrue(result.isEmpty(), "A missing language file should be left to the fallback.");
+
+			// Verify
+			verify(pluginMock, never()).getConfig();
+			verify(pluginMock, never()).getResource(any());
+			verify(configRepositoryMock, never()).locale();
+		}
+
+
+		@Test
+		void prepareLoad_falls_back_to_resource_without_reading_plugin_config()
+		{
+			// Arrange
+			when(pluginMock.getConfig()).thenReturn(fileConfigurationMock);
+			when(pluginMock.getDataFolder()).thenReturn(dataFolder);
+			when(pluginMock.getLogger()).thenReturn(loggerMock);
+			when(pluginMock.getResource("language/en-US.yml"))
+					.thenReturn(new ByteArrayInputStream("MESSAGES: {}\n".getBytes(StandardCharsets.UTF_8)));
+			when(fileConfigurationMock.getString("language")).thenReturn("en-US");
+			when(configRepositoryMock.locale()).thenReturn(Locale.US);
+
+			// Act
+			Supplier<Configuration> task = loader.prepareLoad();
+			clearInvocations(pluginMock, configRepositoryMock);
+			Configuration result = task.get();
+
+			// Assert
+			assertTrue(result.isConfigurationSection("MESSAGES"));
+
+			// Verify
+			verify(pluginMock, never()).getConfig();
+			verify(configRepositoryMock, never()).locale();
+		}
+	}
+
+
 	@Nested
 	@Disabled
 	class LoadTests
@@ -18,6 +18,7 @@
 package com.winterhavenmc.library.messagebuilder.adapters.resources.language;
 
 import com.winterhavenmc.library.messagebuilder.adapters.util.MockUtility;
+import com.winterhavenmc.library.messagebuilder.core.ports.resources.ResourceSnapshot;
 import com.winterhavenmc.library.messagebuilder.core.ports.resources.SectionProvider;
 import com.winterhavenmc.library.messagebuilder.core.ports.resources.language.ConstantRepository;
 import com.winterhavenmc.library.messagebuilder.core.ports.resources.language.ItemRepository;
@@ -44,6 +45,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.File;
 import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 import java.util.logging.Logger;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -143,6 +148,81 @@ class YamlLanguageResourceManagerTest
 		}
 
 
+		@Test
+		void stageReload_publishes_configuration_only_when_applied()
+		{
+			// Arrange
+			when(languageResourceLoaderMock.load()).thenReturn(languageConfiguration);
+
+			// Act
+			Optional<UnaryOperator<ResourceSnapshot>> update = resourceManager.stageReload();
+
+			// Assert
+			assertTrue(update.isPresent());
+			assertSame(languageConfigurationMock, resourceManager.getConfigurationProvider().getConfiguration());
+			assertSame(languageConfiguration, update.get().apply(ResourceSnapshot.empty()).language());
+		}
+
+
+		@Test
+		void prepareReload_installs_on_calling_thread_and_loads_in_task()
+		{
+			// Arrange
+			AtomicInteger loads = new AtomicInteger();
+			when(languageResourceLoaderMock.prepareLoad()).thenReturn(() ->
+			{
+				loads.incrementAndGet();
+				return languageConfiguration;
+			});
+
+			// Act
+			Supplier<Optional<UnaryOperator<ResourceSnapshot>>> task = resourceManager.prepareReload();
+
+			// Assert
+			verify(languageResourceInstallerMock).install();
+			assertEquals(0, loads.get());
+
+			Optional<UnaryOperator<ResourceSnapshot>> update = task.get();
+			assertEquals(1, loads.get());
+			assertTrue(update.isPresent());
+			assertSame(languageConfiguration, update.get().apply(ResourceSnapshot.empty()).language());
+			assertSame(languageConfigurationMock, resourceManager.getConfigurationProvider().getConfiguration());
+
+			// Verify
+			verify(languageResourceLoaderMock, never()).load();
+		}
+
+
+		@Test
+		void reload_publishes_configuration_in_new_snapshot()
+		{
+			// Arrange
+			when(languageResourceLoaderMock.load()).thenReturn(languageConfiguration);
+
+			// Act
+			boolean success = resourceManager.reload();
+
+			// Assert
+			assertTrue(success);
+			assertSame(languageConfiguration, resourceManager.getConfigurationProvider().getConfiguration());
+		}
+
+
+		@Test
+		void stageReload_failure_returns_empty()
+		{
+			// Arrange
+			when(languageResourceLoaderMock.load()).thenReturn(null);
+
+			// Act
+			Optional<UnaryOperator<ResourceSnapshot>> update = resourceManager.stageReload();
+
+			// Assert
+			assertTrue(update.isEmpty());
+			assertSame(languageConfigurationMock, resourceManager.getConfigurationProvider().getConfiguration());
+		}
+
+
 		@Test
 		void reload_failure_returns_false()
 		{
@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.winterhavenmc.library.messagebuilder.adapters.resources.language;
+
+import com.winterhavenmc.library.messagebuilder.core.ports.resources.ResourceSnapshot;
+import com.winterhavenmc.library.messagebuilder.models.configuration.ConfigRepository;
+import com.winterhavenmc.library.messagebuilder.models.recipient.Recipient;
+
+import org.bukkit.command.ConsoleCommandSender;
+import org.bukkit.configuration.MemoryConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+class YamlLocalePacksTest
+{
+	@TempDir File dataFolder;
+	@Mock Plugin pluginMock;
+	@Mock ConfigRepository configRepositoryMock;
+	@Mock Player playerMock;
+	@Mock ConsoleCommandSender consoleMock;
+
+	ResourceSnapshot snapshot;
+	Recipient.Sendable player;
+
+
+	@BeforeEach
+	void setUp() throws IOException
+	{
+		lenient().when(pluginMock.getDataFolder()).thenReturn(dataFolder);
+		lenient().when(pluginMock.getLogger()).thenReturn(Logger.getLogger(this.getClass().getName()));
+		lenient().when(pluginMock.getConfig()).thenReturn(new YamlConfiguration());
+		lenient().when(configRepositoryMock.language()).thenReturn("en-US");
+		lenient().when(configRepositoryMock.logLocale()).thenReturn(Locale.US);
+
+		MemoryConfiguration configured = new MemoryConfiguration();
+		configured.set("MESSAGES.ENABLED_MESSAGE.MESSAGE_TEXT", "enabled");
+		configured.set("MESSAGES.DISABLED_MESSAGE.MESSAGE_TEXT", "disabled");
+		configured.set("MESSAGES.RELOAD_MESSAGE.MESSAGE_TEXT", "reloaded");
+		snapshot = new ResourceSnapshot(1L, configured, new MemoryConfiguration());
+
+		Path languageDirectory = Files.createDirectories(dataFolder.toPath().resolve("language"));
+		Files.writeString(languageDirectory.resolve("pt.yml"), """
+				MESSAGES:
+				  ENABLED_MESSAGE:
+				    MESSAGE_TEXT: "ativado"
+				  DISABLED_MESSAGE:
+				    MESSAGE_TEXT: "desativado"
+				""");
+		Files.writeString(languageDirectory.resolve("pt-BR.yml"), """
+				MESSAGES:
+				  ENABLED_MESSAGE:
+				    MESSAGE_TEXT: "habilitado"
+				""");
+		Files.writeString(languageDirectory.resolve("de.yml"), """
+				MESSAGES:
+				  ENABLED_MESSAGE:
+				    MESSAGE_TEXT: "aktiviert"
+				""");
+
+		player = (Recipient.Sendable) Recipient.of(playerMock);
+	}
+
+
+	@Test @DisplayName("select flattens fallback chain of locale into a single pack")
+	void select_flattens_fallback_chain()
+	{
+		// Arrange
+		YamlLocalePacks localePacks = YamlLocalePacks.create(pluginMock, configRepositoryMock, 8, Runnable::run);
+		when(playerMock.getLocale()).thenReturn("pt_br");
+
+		// Act
+		ResourceSnapshot selected = localePacks.select(snapshot, player);
+
+		// Assert
+		assertEquals(Locale.forLanguageTag("pt-BR"), selected.pack());
+		assertEquals(snapshot.epoch(), selected.epoch());
+		assertEquals("habilitado", selected.language().getString("MESSAGES.ENABLED_MESSAGE.MESSAGE_TEXT"));
+		assertEquals("desativado", selected.language().getString("MESSAGES.DISABLED_MESSAGE.MESSAGE_TEXT"));
+		assertEquals("reloaded", selected.language().getString("MESSAGES.RELOAD_MESSAGE.MESSAGE_TEXT"));
+		assertNull(selected.language().getDefaults());
+	}
+
+
+	@Test @DisplayName("select returns published snapshot for configured locale, missing pack or non-player")
+	void select_returns_published_snapshot()
+	{
+		// Arrange
+		YamlLocalePacks localePacks = YamlLocalePacks.create(pluginMock, configRepositoryMock, 8, Runnable::run);
+		Recipient.Sendable console = (Recipient.Sendable) Recipient.of(consoleMock);
+
+		// Act & Assert
+		when(playerMock.getLocale()).thenReturn("en_us");
+		assertSame(snapshot, localePacks.select(snapshot, player));
+		when(playerMock.getLocale()).thenReturn("ja_jp");
+		assertSame(snapshot, localePacks.select(snapshot, player));
+		assertSame(snapshot, localePacks.select(snapshot, console));
+	}
+
+
+	@Test @DisplayName("select reuses pack within an epoch and rebuilds it for a new epoch")
+	void select_reuses_pack_within_epoch()
+	{
+		// Arrange
+		YamlLocalePacks localePacks = YamlLocalePacks.create(pluginMock, configRepositoryMock, 8, Runnable::run);
+		when(playerMock.getLocale()).thenReturn("de_de");
+		ResourceSnapshot first = localePacks.select(snapshot, player);
+
+		// Act
+		ResourceSnapshot second = localePacks.select(snapshot, player);
+		ResourceSnapshot published = new ResourceSnapshot(2L, snapshot.language(), snapshot.sounds());
+		ResourceSnapshot third = localePacks.select(published, player);
+
+		// Assert
+		assertSame(first.language(), second.language());
+		assertNotSame(first.language(), third.language());
+		assertEquals(2L, third.epoch());
+	}
+
+
+	@Test @DisplayName("select discards least recently used pack when capacity is exceeded")
+	void select_evicts_least_recently_used_pack()
+	{
+		// Arrange
+		YamlLocalePacks localePacks = YamlLocalePacks.create(pluginMock, configRepositoryMock, 1, Runnable::run);
+		when(playerMock.getLocale()).thenReturn("de_de");
+		ResourceSnapshot german = localePacks.select(snapshot, player);
+
+		// Act
+		when(playerMock.getLocale()).thenReturn("pt_br");
+		localePacks.select(snapshot, player);
+		when(playerMock.getLocale()).thenReturn("de_de");
+		ResourceSnapshot germanAgain = localePacks.select(snapshot, player);
+
+		// Assert
+		assertNotSame(german.language(), germanAgain.language());
+		assertEquals("aktiviert", germanAgain.language().getString("MESSAGES.ENABLED_MESSAGE.MESSAGE_TEXT"));
+	}
+
+
+	@Test @DisplayName("select renders from published snapshot until the pack is loaded on the executor")
+	void select_loads_pack_off_thread()
+	{
+		// Arrange
+		List<Runnable> tasks = new ArrayList<>();
+		YamlLocalePacks localePacks = YamlLocalePacks.create(pluginMock, configRepositoryMock, 8, tasks::add);
+		when(playerMock.getLocale()).thenReturn("de_de");
+
+		// Act
+		ResourceSnapshot beforeLoad = localePacks.select(snapshot, player);
+		ResourceSnapshot whileLoading = localePacks.select(snapshot, player);
+		tasks.forEach(Runnable::run);
+		ResourceSnapshot afterLoad = localePacks.select(snapshot, player);
+
+		// Assert
+		assertSame(snapshot, beforeLoad);
+		assertSame(snapshot, whileLoading);
+		assertEquals(1, tasks.size(), "Pack should be loaded once.");
+		assertEquals(Locale.forLanguageTag("de-DE"), afterLoad.pack());
+		assertEquals("aktiviert", afterLoad.language().getString("MESSAGES.ENABLED_MESSAGE.MESSAGE_TEXT"));
+	}
+
+
+	@Test @DisplayName("select loads pack with the streaming loader and binary cache when enabled")
+	void select_uses_streaming_loader_and_cache()
+	{
+		// Arrange
+		YamlConfiguration pluginConfig = new YamlConfiguration();
+		pluginConfig.set(LanguagePackCache.ENABLED_KEY, true);
+		pluginConfig.set(StreamingYamlLoader.ENABLED_KEY, true);
+		when(pluginMock.getConfig()).thenReturn(pluginConfig);
+		YamlLocalePacks localePacks = YamlLocalePacks.create(pluginMock, configRepositoryMock, 8, Runnable::run);
+		when(playerMock.getLocale()).thenReturn("de_de");
+
+		// Act
+		ResourceSnapshot selected = localePacks.select(snapshot, player);
+
+		// Assert
+		assertEquals("aktiviert", selected.language().getString("MESSAGES.ENABLED_MESSAGE.MESSAGE_TEXT"));
+		assertTrue(Files.isRegularFile(LanguagePackCache.cacheFile(dataFolder.toPath().resolve("language").resolve("de.yml"))));
+	}
+
+
+	@Test @DisplayName("clientLocale parses client locale reported by player")
+	void clientLocale_parses_player_locale()
+	{
+		// Arrange
+		when(playerMock.getLocale()).thenReturn("pt_br");
+
+		// Act & Assert
+		assertEquals(Locale.forLanguageTag("pt-BR"), YamlLocalePacks.clientLocale(player).orElseThrow());
+	}
+
+}
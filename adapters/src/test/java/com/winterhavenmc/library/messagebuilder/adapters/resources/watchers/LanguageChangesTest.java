@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.winterhavenmc.library.messagebuilder.adapters.resources.watchers;
+
+import com.winterhavenmc.library.messagebuilder.models.keys.MessageKey;
+import com.winterhavenmc.library.messagebuilder.models.keys.ValidMessageKey;
+
+import org.bukkit.configuration.Configuration;
+import org.bukkit.configuration.MemoryConfiguration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class LanguageChangesTest
+{
+	Configuration previous;
+	Configuration current;
+
+
+	@BeforeEach
+	void setUp()
+	{
+		previous = languageConfiguration();
+		current = languageConfiguration();
+	}
+
+
+	private static Configuration languageConfiguration()
+	{
+		Configuration configuration = new MemoryConfiguration();
+		configuration.set("MESSAGES.ENABLED_MESSAGE.MESSAGE_TEXT", "enabled");
+		configuration.set("MESSAGES.DISABLED_MESSAGE.MESSAGE_TEXT", "disabled");
+		configuration.set("ITEMS.TEST_ITEM.NAME.SINGULAR", "test item");
+		configuration.set("CONSTANTS.SPAWN", "spawn");
+		return configuration;
+	}
+
+
+	private static ValidMessageKey key(final String name)
+	{
+		return MessageKey.of(name).isValid().orElseThrow();
+	}
+
+
+	@Test @DisplayName("identical configurations have no changes")
+	void between_identical_configurations()
+	{
+		// Act
+		LanguageChanges changes = LanguageChanges.between(previous, current);
+
+		// Assert
+		assertTrue(changes.messageKeys().isEmpty());
+		assertTrue(changes.confinedToMessages());
+	}
+
+
+	@Test @DisplayName("changed, added and removed messages are reported by key")
+	void between_reports_changed_messages()
+	{
+		// Arrange
+		current.set("MESSAGES.ENABLED_MESSAGE.MESSAGE_TEXT", "now enabled");
+		current.set("MESSAGES.DISABLED_MESSAGE", null);
+		current.set("MESSAGES.NEW_MESSAGE.MESSAGE_TEXT", "new");
+
+		// Act
+		LanguageChanges changes = LanguageChanges.between(previous, current);
+
+		// Assert
+		assertEquals(Set.of(key("ENABLED_MESSAGE"), key("DISABLED_MESSAGE"), key("NEW_MESSAGE")), changes.messageKeys());
+		assertTrue(changes.confinedToMessages());
+	}
+
+
+	@Test @DisplayName("changes outside the messages section are not confined to messages")
+	void between_reports_changed_constant()
+	{
+		// Arrange
+		current.set("CONSTANTS.SPAWN", "world spawn");
+
+		// Act
+		LanguageChanges changes = LanguageChanges.between(previous, current);
+
+		// Assert
+		assertTrue(changes.messageKeys().isEmpty());
+		assertFalse(changes.confinedToMessages());
+	}
+
+}
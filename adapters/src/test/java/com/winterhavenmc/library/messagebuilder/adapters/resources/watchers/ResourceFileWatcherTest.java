@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.winterhavenmc.library.messagebuilder.adapters.resources.watchers;
+
+import com.winterhavenmc.library.messagebuilder.adapters.resources.ResourceMessage;
+import com.winterhavenmc.library.messagebuilder.models.configuration.ConfigRepository;
+
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.plugin.Plugin;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static com.winterhavenmc.library.messagebuilder.adapters.resources.watchers.ResourceFileWatcher.ChangedResource.LANGUAGE;
+import static com.winterhavenmc.library.messagebuilder.adapters.resources.watchers.ResourceFileWatcher.ChangedResource.SOUNDS;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+class ResourceFileWatcherTest
+{
+	@Mock Plugin pluginMock;
+	@Mock ConfigRepository configRepositoryMock;
+	@Mock WatchService watchServiceMock;
+	@Mock WatchKey watchKeyMock;
+
+	Path dataFolder;
+	ResourceFileWatcher watcher;
+
+
+	@BeforeEach
+	void setUp()
+	{
+		dataFolder = Path.of("plugins", "TestPlugin");
+		watcher = new ResourceFileWatcher(pluginMock, configRepositoryMock, watchServiceMock, dataFolder, 0, changed -> { });
+	}
+
+
+	@SuppressWarnings("unchecked")
+	private static WatchEvent<?> event(final WatchEvent.Kind<?> kind, final Object context)
+	{
+		return new WatchEvent<>()
+		{
+			@Override public Kind<Object> kind() { return (Kind<Object>) kind; }
+			@Override public int count() { return 1; }
+			@Override public Object context() { return context; }
+		};
+	}
+
+
+	@Test @DisplayName("create returns empty Optional when watcher is not enabled")
+	void create_not_enabled()
+	{
+		// Arrange
+		YamlConfiguration configuration = new YamlConfiguration();
+		when(pluginMock.getConfig()).thenReturn(configuration);
+
+		// Act
+		Optional<ResourceFileWatcher> result = ResourceFileWatcher.create(pluginMock, configRepositoryMock, changed -> { });
+
+		// Assert
+		assertTrue(result.isEmpty());
+		verify(pluginMock, never()).getDataFolder();
+	}
+
+
+	@Test @DisplayName("classify identifies language and sound files")
+	void classify_identifies_resources()
+	{
+		// Act & Assert
+		assertEquals(Optional.of(LANGUAGE), watcher.classify(dataFolder.resolve("language").resolve("en-US.yml")));
+		assertEquals(Optional.of(SOUNDS), watcher.classify(dataFolder.resolve("sounds.yml")));
+		assertEquals(Optional.empty(), watcher.classify(dataFolder.resolve("config.yml")));
+		assertEquals(Optional.empty(), watcher.classify(dataFolder.resolve("language").resolve("en-US.yml.swp")));
+	}
+
+
+	@Test @DisplayName("drain collects changed resources and resets key")
+	void drain_collects_changed_resources()
+	{
+		// Arrange
+		when(watchKeyMock.watchable()).thenReturn(dataFolder);
+		when(watchKeyMock.pollEvents()).thenReturn(List.of(
+				event(StandardWatchEventKinds.ENTRY_MODIFY, Path.of("sounds.yml")),
+				event(StandardWatchEventKinds.ENTRY_MODIFY, Path.of("config.yml"))));
+
+		// Act
+		Set<ResourceFileWatcher.ChangedResource> changed = watcher.drain(watchKeyMock);
+
+		// Assert
+		assertEquals(EnumSet.of(SOUNDS), changed);
+		verify(watchKeyMock).reset();
+	}
+
+
+	@Test @DisplayName("drain reports all resources on overflow")
+	void drain_overflow_reports_all()
+	{
+		// Arrange
+		when(watchKeyMock.watchable()).thenReturn(dataFolder);
+		when(watchKeyMock.pollEvents()).thenReturn(List.of(event(StandardWatchEventKinds.OVERFLOW, null)));
+
+		// Act
+		Set<ResourceFileWatcher.ChangedResource> changed = watcher.drain(watchKeyMock);
+
+		// Assert
+		assertEquals(EnumSet.allOf(ResourceFileWatcher.ChangedResource.class), changed);
+	}
+
+
+	@Test @DisplayName("watch reports debounced changes once and stops when plugin is disabled")
+	void watch_reports_debounced_changes() throws InterruptedException
+	{
+		// Arrange
+		List<Set<ResourceFileWatcher.ChangedResource>> reports = new ArrayList<>();
+		ResourceFileWatcher reportingWatcher = new ResourceFileWatcher(pluginMock, configRepositoryMock, watchServiceMock, dataFolder, 0, reports::add);
+		WatchKey languageKeyMock = mock(WatchKey.class);
+		when(pluginMock.isEnabled()).thenReturn(true, true, false);
+		when(watchServiceMock.poll(anyLong(), any())).thenReturn(watchKeyMock, languageKeyMock, null);
+		when(watchKeyMock.watchable()).thenReturn(dataFolder);
+		when(watchKeyMock.pollEvents()).thenReturn(List.of(event(StandardWatchEventKinds.ENTRY_MODIFY, Path.of("sounds.yml"))));
+		when(languageKeyMock.watchable()).thenReturn(dataFolder.resolve("language"));
+		when(languageKeyMock.pollEvents()).thenReturn(List.of(event(StandardWatchEventKinds.ENTRY_MODIFY, Path.of("en-US.yml"))));
+
+		// Act
+		reportingWatcher.watch();
+
+		// Assert
+		assertEquals(List.of(EnumSet.of(LANGUAGE, SOUNDS)), reports);
+	}
+
+
+	@Test @DisplayName("watch logs a localized warning when the watch service is closed")
+	void watch_logs_localized_warning() throws InterruptedException
+	{
+		// Arrange
+		Logger loggerMock = mock(Logger.class);
+		when(pluginMock.isEnabled()).thenReturn(true);
+		when(pluginMock.getLogger()).thenReturn(loggerMock);
+		when(configRepositoryMock.logLocale()).thenReturn(Locale.US);
+		when(watchServiceMock.poll(anyLong(), any())).thenThrow(new ClosedWatchServiceException());
+
+		// Act
+		watcher.watch();
+
+		// Verify
+		verify(loggerMock).log(eq(Level.WARNING),
+				eq(ResourceMessage.RESOURCE_WATCH_STOPPED.getLocalizedMessage(Locale.US)),
+				any(ClosedWatchServiceException.class));
+	}
+
+}
@@ -23,6 +23,7 @@ import com.winterhavenmc.library.messagebuilder.adapters.pipeline.formatters.num
 import com.winterhavenmc.library.messagebuilder.adapters.pipeline.resolvers.itemname.BukkitItemDisplayNameResolver;
 import com.winterhavenmc.library.messagebuilder.adapters.pipeline.resolvers.itemname.BukkitItemNameResolver;
 import com.winterhavenmc.library.messagebuilder.adapters.pipeline.resolvers.itemname.BukkitItemPluralNameResolver;
+import com.winterhavenmc.library.messagebuilder.adapters.pipeline.resolvers.playername.BukkitPlayerNameResolver;
 import com.winterhavenmc.library.messagebuilder.adapters.pipeline.resolvers.worldname.BukkitWorldNameResolver;
 import com.winterhavenmc.library.messagebuilder.adapters.pipeline.retrievers.itemname.ItemDisplayNameRetriever;
 import com.winterhavenmc.library.messagebuilder.adapters.pipeline.retrievers.itemname.ItemNameRetriever;
@@ -33,6 +34,7 @@ import com.winterhavenmc.library.messagebuilder.core.context.FormatterCtx;
 import com.winterhavenmc.library.messagebuilder.core.context.NameResolverCtx;
 
 import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.formatters.duration.DurationFormatter;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.resolvers.playername.PlayerNameResolver;
 import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.resolvers.worldname.WorldNameResolver;
 import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.resolvers.worldname.WorldNameRetriever;
 
@@ -95,9 +97,10 @@ public final class BootstrapUtility
 
 		NameResolverCtx nameResolverCtx = new NameResolverCtx(new ItemNameRetriever(), new ItemDisplayNameRetriever(), new PersistentPluralNameRetriever(plugin, formatterCtx.miniMessage()));
 		BukkitItemPluralNameResolver bukkitItemPluralNameResolver = new BukkitItemPluralNameResolver(nameResolverCtx);
+		PlayerNameResolver playerNameResolver = BukkitPlayerNameResolver.create(plugin);
 
 		return new AccessorCtx(worldNameResolver, bukkitItemNameResolver, bukkitItemDisplayNameResolver,
-				bukkitItemPluralNameResolver, formatterCtx);
+				bukkitItemPluralNameResolver, playerNameResolver, formatterCtx);
 	}
 
 }
@@ -26,16 +26,27 @@ import com.winterhavenmc.library.messagebuilder.adapters.resources.configuration
 import com.winterhavenmc.library.messagebuilder.adapters.resources.language.*;
 import com.winterhavenmc.library.messagebuilder.adapters.resources.sound.YamlSoundRepository;
 import com.winterhavenmc.library.messagebuilder.adapters.pipeline.MessagePipeline;
+import com.winterhavenmc.library.messagebuilder.adapters.pipeline.warmup.WarmUpMessages;
 
+import com.winterhavenmc.library.messagebuilder.adapters.resources.AtomicResourceSnapshots;
+import com.winterhavenmc.library.messagebuilder.adapters.resources.ResourceMessage;
 import com.winterhavenmc.library.messagebuilder.adapters.resources.sound.YamlSoundResourceManager;
+import com.winterhavenmc.library.messagebuilder.adapters.resources.watchers.LanguageChanges;
+import com.winterhavenmc.library.messagebuilder.adapters.resources.watchers.ResourceFileWatcher;
 import com.winterhavenmc.library.messagebuilder.core.context.AccessorCtx;
 import com.winterhavenmc.library.messagebuilder.core.context.FormatterCtx;
 import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.Pipeline;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.analyzers.RecipientDependence;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.caches.RenderCacheStatistics;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.queues.SendQueueStatistics;
 import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.resolvers.spawnlocation.SpawnLocationResolver;
 import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.resolvers.worldname.WorldNameResolver;
 import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.resolvers.worldname.WorldNameRetriever;
 import com.winterhavenmc.library.messagebuilder.core.ports.resources.ResourceManager;
+import com.winterhavenmc.library.messagebuilder.core.ports.resources.ResourceSnapshot;
+import com.winterhavenmc.library.messagebuilder.core.ports.resources.ResourceSnapshots;
 import com.winterhavenmc.library.messagebuilder.core.ports.resources.language.*;
+import com.winterhavenmc.library.messagebuilder.core.message.Broadcast;
 import com.winterhavenmc.library.messagebuilder.core.message.Message;
 import com.winterhavenmc.library.messagebuilder.core.message.ValidMessage;
 import com.winterhavenmc.library.messagebuilder.core.ports.resources.sound.SoundRepository;
@@ -50,10 +61,22 @@ import com.winterhavenmc.library.messagebuilder.models.validation.*;
 
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import org.bukkit.command.CommandSender;
+import org.bukkit.configuration.Configuration;
 import org.bukkit.plugin.Plugin;
 
 import java.time.temporal.TemporalUnit;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 
 import static com.winterhavenmc.library.messagebuilder.BootstrapUtility.*;
 import static com.winterhavenmc.library.messagebuilder.models.validation.ErrorMessageKey.PARAMETER_NULL;
@@ -101,6 +124,9 @@ public final class MessageBuilder
 	private final ResourceManager soundResourceManager;
 	private final RepositoryContainer repositories;
 	private final Pipeline messagePipeline;
+	private final ResourceSnapshots snapshots;
+	private final AtomicReference<Runnable> languageValidation = new AtomicReference<>();
+	private final AtomicReference<PreparedReload> preparedReload = new AtomicReference<>();
 
 
 	/**
@@ -114,13 +140,15 @@ public final class MessageBuilder
 						   final ResourceManager languageResourceManager,
 						   final ResourceManager soundResourceManager,
 						   final RepositoryContainer repositories,
-						   final Pipeline messagePipeline)
+						   final Pipeline messagePipeline,
+						   final ResourceSnapshots snapshots)
 	{
 		this.plugin = plugin;
 		this.languageResourceManager = languageResourceManager;
 		this.soundResourceManager = soundResourceManager;
 		this.repositories = repositories;
 		this.messagePipeline = messagePipeline;
+		this.snapshots = snapshots;
 	}
 
 
@@ -139,6 +167,8 @@ public final class MessageBuilder
 		// validate parameter
 		validate(plugin, Objects::isNull, throwing(PARAMETER_NULL, Parameter.PLUGIN));
 
+		final long startTime = System.nanoTime();
+
 		// Create MiniMessage instance
 		final MiniMessage miniMessage = MiniMessage.miniMessage();
 
@@ -148,14 +178,23 @@ public final class MessageBuilder
 		// Create custom item factory
 		CustomItemFactory customItemFactory = new CustomItemFactory(plugin, miniMessage);
 
+		// create holder of the language and sound snapshot shared by both resource managers
+		final ResourceSnapshots snapshots = new AtomicResourceSnapshots();
+
+		// install the language and sound resources on the server thread, and parse both files concurrently on the common fork-join pool
+		final Supplier<YamlLanguageResourceManager> languageLoad = YamlLanguageResourceManager
+				.createAsync(plugin, configRepository, snapshots, ForkJoinPool.commonPool());
+		final Supplier<YamlSoundResourceManager> soundLoad = YamlSoundResourceManager
+				.createAsync(plugin, configRepository, snapshots, ForkJoinPool.commonPool());
+
 		// create language resource manager and repositories
-		final LanguageResourceManager languageResourceManager = YamlLanguageResourceManager.create(plugin, configRepository);
+		final LanguageResourceManager languageResourceManager = languageLoad.get();
 		final ConstantRepository constantRepository = new YamlConstantRepository(languageResourceManager);
 		final ItemRepository itemRepository = new YamlItemRepository(plugin, languageResourceManager, customItemFactory);
 		final MessageRepository messageRepository = new YamlMessageRepository(languageResourceManager);
 
 		// create sound resource manager and repositories
-		final ResourceManager soundResourceManager = YamlSoundResourceManager.create(plugin, configRepository);
+		final ResourceManager soundResourceManager = soundLoad.get();
 		final SoundRepository soundRepository = new YamlSoundRepository(plugin, soundResourceManager);
 
 		final WorldNameRetriever worldNameRetriever = WorldNameRetrieverFactory.getWorldNameRetriever(plugin.getServer().getPluginManager().getPlugin("Multiverse-Core"));
@@ -174,11 +213,35 @@ public final class MessageBuilder
 		final FormatterCtx formatterCtx = createFormatterContextContainer(plugin, configRepository, constantRepository, miniMessage);
 		final AccessorCtx accessorCtx = createAccessorContextContainer(plugin, itemRepository, formatterCtx);
 
-		// create message pipeline
-		final MessagePipeline messagePipeline = MessagePipeline.createMessagePipeline(plugin, messageRepository, soundRepository, formatterCtx, accessorCtx);
+		// create message pipeline, compiling the templates of the published messages in parallel
+		final MessagePipeline messagePipeline = MessagePipeline.createMessagePipeline(plugin, messageRepository, soundRepository, formatterCtx, accessorCtx, snapshots);
+
+		plugin.getLogger().info(ResourceMessage.RESOURCE_BOOTSTRAP_TIME
+				.getLocalizedMessage(configRepository.logLocale(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)));
+
+		// instantiate MessageBuilder library
+		final MessageBuilder messageBuilder = new MessageBuilder(plugin, languageResourceManager, soundResourceManager,
+				repositories, messagePipeline, snapshots);
 
-		// return instantiation of MessageBuilder library
-		return new MessageBuilder(plugin, languageResourceManager, soundResourceManager, repositories, messagePipeline);
+		// render the configured messages once on the pipeline's background executor, if enabled in the plugin configuration
+		WarmUpMessages.select(plugin, snapshots.current().language()).ifPresent(messagePipeline::warmUp);
+
+		// validate the installed language files on a background thread, now and after each reload, if enabled in the plugin configuration
+		LanguageFileValidator.createIfEnabled(plugin, configRepository, miniMessage).ifPresent(validator ->
+		{
+			messageBuilder.languageValidation.set(() -> validator.log(validator.validate()));
+			messageBuilder.revalidate();
+		});
+
+		// watch language and sound files for changes, if enabled in the plugin configuration; the resources are installed,
+		// and the plugin configuration read, on the server thread, so that the watcher thread only parses changed files
+		if (ResourceFileWatcher.isEnabled(plugin))
+		{
+			messageBuilder.prepareReload();
+			ResourceFileWatcher.create(plugin, configRepository, messageBuilder::reloadChanged);
+		}
+
+		return messageBuilder;
 	}
 
 
@@ -211,19 +274,288 @@ public final class MessageBuilder
 
 
 	/**
-	 * Reload resources
+	 * Reports whether a message would be sent to a recipient, without rendering it. A message would not be sent
+	 * if the recipient is not valid, if the message is cooling down for the recipient, or if the message is
+	 * undefined, disabled or empty in the language file. Callers may use this check to skip the computation of
+	 * expensive macro values.
+	 *
+	 * @param recipient the command sender to whom the message would be sent
+	 * @param messageId the message identifier enum constant
+	 * @return {@code true} if the message would be sent, {@code false} if it would be suppressed
+	 */
+	public <E extends Enum<E>> boolean wouldSend(final CommandSender recipient, final E messageId)
+	{
+		return !compose(recipient, messageId).isSuppressed();
+	}
+
+
+	/**
+	 * Initiate the message building sequence for a message to be sent to many recipients. Null or invalid
+	 * recipients are silently excluded, as is a null collection. The message is rendered once for all recipients,
+	 * unless the message template references the {@code RECIPIENT} macro.
+	 * <p>
+	 * <i>example:</i>
+	 * {@snippet lang="java":
+	 * messageBuilder.broadcast(plugin.getServer().getOnlinePlayers(), MessageId.EVENT_STARTED)
+	 *     .setMacro(Macro.EVENT, event)
+	 *     .send();
+	 * }
+	 *
+	 * @param recipients the command senders to whom the message will be sent
+	 * @param messageId the message identifier enum constant
+	 * @return {@code Broadcast} an initialized broadcast object
+	 */
+	public <E extends Enum<E>> Broadcast broadcast(final Collection<? extends CommandSender> recipients, final E messageId)
+	{
+		// exception thrown if null enum constant passed as messageId parameter
+		ValidMessageKey validMessageKey = MessageKey.of(messageId).isValid().orElseThrow(() ->
+				new ValidationException(PARAMETER_NULL, Parameter.MESSAGE_ID));
+
+		// keep only valid or proxied recipients
+		List<Recipient.Sendable> sendableRecipients = (recipients == null)
+				? List.of()
+				: recipients.stream()
+						.map(Recipient::of)
+						.filter(Recipient.Sendable.class::isInstance)
+						.map(Recipient.Sendable.class::cast)
+						.toList();
+
+		return new Broadcast(plugin, sendableRecipients, validMessageKey, messagePipeline);
+	}
+
+
+	/**
+	 * Reports whether the rendered output of a message depends on its recipient. A message is recipient-dependent
+	 * if its message, title or subtitle template references the {@code RECIPIENT} macro or any of its fields.
+	 * Output of a recipient-invariant message may be shared by all recipients, as is done by {@link #broadcast}.
+	 *
+	 * @param messageId the message identifier enum constant
+	 * @return the {@link RecipientDependence} of the message, or {@link RecipientDependence#UNKNOWN} if the
+	 * message is not defined in the language file
+	 */
+	public <E extends Enum<E>> RecipientDependence recipientDependence(final E messageId)
+	{
+		// exception thrown if null enum constant passed as messageId parameter
+		ValidMessageKey validMessageKey = MessageKey.of(messageId).isValid().orElseThrow(() ->
+				new ValidationException(PARAMETER_NULL, Parameter.MESSAGE_ID));
+
+		return messagePipeline.analyze(validMessageKey);
+	}
+
+
+	/**
+	 * Returns the counters of the send queue, including the number of messages shed due to queue capacity
+	 * or server load. If the bounded send queue is not enabled in the plugin configuration, messages are
+	 * never queued or shed.
+	 *
+	 * @return a snapshot of the send queue statistics
+	 */
+	public SendQueueStatistics queueStatistics()
+	{
+		return messagePipeline.queueStatistics();
+	}
+
+
+	/**
+	 * Returns the counters of the render cache, including the number of renders answered from the cache.
+	 * If the render cache is not enabled in the plugin configuration, every render is counted as bypassed.
+	 *
+	 * @return a snapshot of the render cache statistics
+	 */
+	public RenderCacheStatistics renderCacheStatistics()
+	{
+		return messagePipeline.renderCacheStatistics();
+	}
+
+
+	/**
+	 * Validate every language file installed in the plugin data directory, in parallel, and log the problems
+	 * found in all of them as a single report. Messages must be named by constants of the plugin's message id enum,
+	 * must parse as MiniMessage, and may only contain macros named by constants of the plugin's macro enum, or
+	 * populated by this library. Once called, the language files are validated again, on a background thread,
+	 * after each reload.
+	 *
+	 * @param messageIds the enum of the plugin's message ids
+	 * @param macros the enum of the plugin's macros
+	 * @return a report of all problems found in all installed language files
+	 * @param <E> the type of the message id enum
+	 * @param <M> the type of the macro enum
+	 */
+	public <E extends Enum<E>, M extends Enum<M>> LanguageValidationReport validateLanguageFiles(final Class<E> messageIds,
+																								  final Class<M> macros)
+	{
+		validate(messageIds, Objects::isNull, throwing(PARAMETER_NULL, MESSAGE_ID));
+		validate(macros, Objects::isNull, throwing(PARAMETER_NULL, MACRO));
+
+		final LanguageFileValidator validator = LanguageFileValidator.create(plugin, repositories.config(), MiniMessage.miniMessage());
+		languageValidation.set(() -> validator.log(validator.validate(messageIds, macros)));
+
+		final LanguageValidationReport report = validator.validate(messageIds, macros);
+		validator.log(report);
+		return report;
+	}
+
+
+	/**
+	 * Reload resources. The language and sound files are published together, in a single new resource snapshot.
 	 */
 	public boolean reload()
 	{
-		boolean languageResourceResult = languageResourceManager.reload();
-		boolean soundResourceResult = soundResourceManager.reload();
+		return publish(prepareReload().load());
+	}
+
+
+	/**
+	 * Reload resources without blocking the calling thread. The language and sound files are installed, and the
+	 * plugin configuration is read, on the server thread; the files are then read and parsed on a background
+	 * thread, and the new configurations are published on the server thread in a single step, which also discards
+	 * templates compiled from the previously loaded language file. Messages sent before that step continue to use
+	 * the previously loaded resources, and no message is sent with a mix of old and new resources. A resource that
+	 * cannot be loaded keeps its previously loaded configuration.
+	 *
+	 * @return a future that completes on the server thread with {@code true} if both resources were reloaded,
+	 * or {@code false} if either reload failed
+	 */
+	public CompletableFuture<Boolean> reloadAsync()
+	{
+		final Executor background = task -> plugin.getServer().getScheduler().runTaskAsynchronously(plugin, task);
+		final Executor serverThread = task -> plugin.getServer().getScheduler().runTask(plugin, task);
+		final Executor preparation = (plugin.getServer().isPrimaryThread()) ? Runnable::run : serverThread;
+
+		return CompletableFuture
+				.supplyAsync(this::prepareReload, preparation)
+				.thenApplyAsync(PreparedReload::load, background)
+				.thenApplyAsync(this::publish, serverThread);
+	}
+
+
+	/**
+	 * Reload the resources whose files have changed, as reported by the resource file watcher on a background
+	 * thread. The changed files are read and parsed on the calling thread, by the tasks of the last prepared reload,
+	 * and published on the server thread, which then installs any missing resource and reads the plugin
+	 * configuration for the next change; a resource installed in place of a deleted file is reported by the
+	 * watcher as a further change. If the only changes to the language file are to messages, the compiled
+	 * templates and cached renders of all unchanged messages are kept.
+	 *
+	 * @param changed the resources whose files have changed
+	 */
+	void reloadChanged(final Set<ResourceFileWatcher.ChangedResource> changed)
+	{
+		final PreparedReload prepared = preparedReload.get();
+		final UnaryOperator<ResourceSnapshot> unchanged = UnaryOperator.identity();
+		final StagedReload stagedReload = new StagedReload(
+				changed.contains(ResourceFileWatcher.ChangedResource.LANGUAGE) ? prepared.language().get() : Optional.of(unchanged),
+				changed.contains(ResourceFileWatcher.ChangedResource.SOUNDS) ? prepared.sound().get() : Optional.of(unchanged));
+
+		plugin.getServer().getScheduler().runTask(plugin, () ->
+		{
+			publishChanges(stagedReload);
+			prepareReload();
+		});
+	}
+
+
+	/**
+	 * Installs the language and sound resources, and reads the plugin configuration, on the server thread, and
+	 * keeps the returned tasks for the parsing of files reported as changed by the resource file watcher
+	 */
+	PreparedReload prepareReload()
+	{
+		final PreparedReload prepared = new PreparedReload(languageResourceManager.prepareReload(), soundResourceManager.prepareReload());
+		preparedReload.set(prepared);
+
+		return prepared;
+	}
+
+
+	private boolean publish(final StagedReload stagedReload)
+	{
+		publishSnapshot(stagedReload);
+
+		// discard templates compiled from the previously loaded language file
+		messagePipeline.reload();
+
+		revalidate();
+		return reportFailures(stagedReload);
+	}
+
+
+	private boolean publishChanges(final StagedReload stagedReload)
+	{
+		final Configuration previousLanguage = snapshots.current().language();
+		publishSnapshot(stagedReload);
+
+		final LanguageChanges changes = LanguageChanges.between(previousLanguage, snapshots.current().language());
+		if (changes.confinedToMessages())
+		{
+			// keep templates compiled from unchanged messages
+			messagePipeline.reload(changes.messageKeys());
+		}
+		else
+		{
+			// a changed item or constant may appear in any message
+			messagePipeline.reload();
+		}
+
+		revalidate();
+		return reportFailures(stagedReload);
+	}
+
+
+	/**
+	 * Validate the reloaded language files on a background thread, if validation was requested by the plugin
+	 */
+	private void revalidate()
+	{
+		final Runnable validation = languageValidation.get();
+		if (validation != null)
+		{
+			plugin.getServer().getScheduler().runTaskAsynchronously(plugin, validation);
+		}
+	}
+
+
+	private void publishSnapshot(final StagedReload stagedReload)
+	{
+		// language and sound updates are published together, as a single new snapshot
+		if (stagedReload.language().isPresent() || stagedReload.sound().isPresent())
+		{
+			final UnaryOperator<ResourceSnapshot> unchanged = UnaryOperator.identity();
+			snapshots.publish(snapshot -> stagedReload.sound().orElse(unchanged)
+					.apply(stagedReload.language().orElse(unchanged).apply(snapshot)));
+		}
+	}
+
+
+	private boolean reportFailures(final StagedReload stagedReload)
+	{
+		validate(stagedReload.language().isPresent(), bool -> bool.equals(false), logging(LogLevel.WARN, RELOAD_FAILED, LANGUAGE_RESOURCE));
+		validate(stagedReload.sound().isPresent(), bool -> bool.equals(false), logging(LogLevel.WARN, RELOAD_FAILED, SOUND_RESOURCE));
+
+		return stagedReload.language().isPresent() && stagedReload.sound().isPresent();
+	}
 
-		validate(languageResourceResult, bool -> bool.equals(false), logging(LogLevel.WARN, RELOAD_FAILED, LANGUAGE_RESOURCE));
-		validate(soundResourceResult, bool -> bool.equals(false), logging(LogLevel.WARN, RELOAD_FAILED, SOUND_RESOURCE));
 
-		return languageResourceResult && soundResourceResult; // both true else false
+	/**
+	 * The tasks that read and parse the installed resource files of a reload, without calling the server. The tasks
+	 * may be run more than once, each run reading the files again.
+	 */
+	private record PreparedReload(Supplier<Optional<UnaryOperator<ResourceSnapshot>>> language,
+								  Supplier<Optional<UnaryOperator<ResourceSnapshot>>> sound)
+	{
+		StagedReload load()
+		{
+			return new StagedReload(language.get(), sound.get());
+		}
 	}
 
+
+	/**
+	 * The loaded, but not yet published, configurations of a reload.
+	 */
+	private record StagedReload(Optional<UnaryOperator<ResourceSnapshot>> language,
+								Optional<UnaryOperator<ResourceSnapshot>> sound) { }
+
 	enum ReloadStatus
 	{
 		SUCCESS, FAIL
@@ -238,20 +570,22 @@ public final class MessageBuilder
 	 *
 	 * @param plugin a mock plugin instance
 	 * @param languageResourceManager a mock language resource manager instance
+	 * @param snapshots the holder in which reloaded resources are published
 	 * @return an instance of this class, instantiated with the mock objects
 	 */
 	static MessageBuilder test(final Plugin plugin,
 							   final ResourceManager languageResourceManager,
 							   final ResourceManager soundResourceManager,
 							   final RepositoryContainer repositories,
-							   final MessagePipeline messagePipeline)
+							   final MessagePipeline messagePipeline,
+							   final ResourceSnapshots snapshots)
 	{
 		validate(plugin, Objects::isNull, throwing(PARAMETER_NULL, Parameter.PLUGIN));
 		validate(languageResourceManager, Objects::isNull, throwing(PARAMETER_NULL, LANGUAGE_RESOURCE_MANAGER));
 		validate(soundResourceManager, Objects::isNull, throwing(PARAMETER_NULL, SOUND_RESOURCE_MANAGER));
 		validate(messagePipeline, Objects::isNull, throwing(PARAMETER_NULL, MESSAGE_PROCESSOR));
 
-		return new MessageBuilder(plugin, languageResourceManager, soundResourceManager, repositories, messagePipeline);
+		return new MessageBuilder(plugin, languageResourceManager, soundResourceManager, repositories, messagePipeline, snapshots);
 	}
 
 
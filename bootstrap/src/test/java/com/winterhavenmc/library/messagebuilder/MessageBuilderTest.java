@@ -18,27 +18,38 @@
 package com.winterhavenmc.library.messagebuilder;
 
 import com.winterhavenmc.library.messagebuilder.adapters.pipeline.MessagePipeline;
+import com.winterhavenmc.library.messagebuilder.adapters.resources.AtomicResourceSnapshots;
 import com.winterhavenmc.library.messagebuilder.adapters.resources.language.YamlLanguageResourceManager;
 import com.winterhavenmc.library.messagebuilder.adapters.resources.sound.YamlSoundResourceManager;
+import com.winterhavenmc.library.messagebuilder.adapters.resources.watchers.ResourceFileWatcher;
 
 import com.winterhavenmc.library.messagebuilder.core.context.AccessorCtx;
 import com.winterhavenmc.library.messagebuilder.core.context.FormatterCtx;
+import com.winterhavenmc.library.messagebuilder.core.message.Broadcast;
 import com.winterhavenmc.library.messagebuilder.core.message.Message;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.analyzers.RecipientDependence;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.caches.RenderCacheStatistics;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.queues.SendQueueStatistics;
+import com.winterhavenmc.library.messagebuilder.core.ports.resources.ResourceSnapshot;
 import com.winterhavenmc.library.messagebuilder.core.ports.resources.language.*;
 import com.winterhavenmc.library.messagebuilder.core.ports.resources.sound.SoundRepository;
 
 import com.winterhavenmc.library.messagebuilder.models.configuration.ConfigRepository;
 import com.winterhavenmc.library.messagebuilder.models.configuration.worlds.WorldRepository;
+import com.winterhavenmc.library.messagebuilder.models.keys.MessageKey;
 import com.winterhavenmc.library.messagebuilder.models.validation.ValidationException;
 
 import com.winterhavenmc.library.messagebuilder.util.MessageId;
 
+import org.bukkit.Server;
 import org.bukkit.command.ProxiedCommandSender;
 import org.bukkit.configuration.Configuration;
+import org.bukkit.configuration.MemoryConfiguration;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitScheduler;
 
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -49,10 +60,19 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 import java.util.logging.Logger;
 
 import static com.winterhavenmc.library.messagebuilder.MessageBuilder.TICKS;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 
@@ -71,6 +91,8 @@ class MessageBuilderTest
 	@Mock MessageRepository messageRepositoryMock;
 	@Mock WorldRepository worldRepositoryMock;
 	@Mock ConfigRepository configRepositoryMock;
+	@Mock Server serverMock;
+	@Mock BukkitScheduler schedulerMock;
 
 	@Mock FormatterCtx formatterCtx;
 	@Mock AccessorCtx accessorCtx;
@@ -81,6 +103,7 @@ class MessageBuilderTest
 	MessageBuilder messageBuilder;
 
 	RepositoryContainer repositories;
+	AtomicResourceSnapshots snapshots;
 
 
 	@BeforeEach
@@ -95,11 +118,14 @@ class MessageBuilderTest
 		repositories = new RepositoryContainer(configRepositoryMock, constantRepositoryMock,
 				itemRepositoryMock, soundRepositoryMock, worldRepositoryMock);
 
+		snapshots = new AtomicResourceSnapshots();
+
 		messageBuilder = MessageBuilder.test(pluginMock,
 				languageResourceManagerMock,
 				soundResourceManagerMock,
 				repositories,
-				messagePipelineMock);
+				messagePipelineMock,
+				snapshots);
 	}
 
 
@@ -152,18 +178,243 @@ class MessageBuilderTest
 	}
 
 
+	@Test @DisplayName("broadcast method returns Broadcast containing only valid recipients.")
+	void broadcast_method_excludes_invalid_recipients()
+	{
+		// Act
+		Broadcast result = messageBuilder.broadcast(Arrays.asList(playerMock, null, proxiedCommandSenderMock), MessageId.ENABLED_MESSAGE);
+
+		// Assert
+		assertEquals(2, result.getRecipients().size());
+		assertEquals(playerMock, result.getRecipients().getFirst().sender());
+	}
+
+
+	@Test @DisplayName("broadcast method does not throw exception when recipients parameter is null.")
+	void broadcast_accepts_null_recipients_parameter()
+	{
+		// Act
+		Broadcast result = messageBuilder.broadcast(null, MessageId.ENABLED_MESSAGE);
+
+		// Assert
+		assertEquals(List.of(), result.getRecipients());
+		assertFalse(result.send());
+	}
+
+
+	@Test @DisplayName("wouldSend method returns true when pipeline reports message is not suppressed.")
+	void wouldSend_returns_true_when_not_suppressed()
+	{
+		// Arrange
+		when(messagePipelineMock.isSuppressed(any())).thenReturn(false);
+
+		// Act & Assert
+		assertTrue(messageBuilder.wouldSend(playerMock, MessageId.ENABLED_MESSAGE));
+	}
+
+
+	@Test @DisplayName("wouldSend method returns false when pipeline reports message is suppressed.")
+	void wouldSend_returns_false_when_suppressed()
+	{
+		// Arrange
+		when(messagePipelineMock.isSuppressed(any())).thenReturn(true);
+
+		// Act & Assert
+		assertFalse(messageBuilder.wouldSend(playerMock, MessageId.ENABLED_MESSAGE));
+	}
+
+
+	@Test @DisplayName("wouldSend method returns false for null recipient.")
+	void wouldSend_returns_false_for_null_recipient()
+	{
+		// Act & Assert
+		assertFalse(messageBuilder.wouldSend(null, MessageId.ENABLED_MESSAGE));
+		verify(messagePipelineMock, never()).isSuppressed(any());
+	}
+
+
+	@Test @DisplayName("recipientDependence method returns result of pipeline analysis.")
+	void recipientDependence_returns_pipeline_analysis()
+	{
+		// Arrange
+		when(messagePipelineMock.analyze(any())).thenReturn(RecipientDependence.DEPENDENT);
+
+		// Act
+		RecipientDependence result = messageBuilder.recipientDependence(MessageId.ENABLED_MESSAGE);
+
+		// Assert
+		assertEquals(RecipientDependence.DEPENDENT, result);
+	}
+
+
+	@Test @DisplayName("queueStatistics method returns statistics of pipeline send queue.")
+	void queueStatistics_returns_pipeline_statistics()
+	{
+		// Arrange
+		SendQueueStatistics statistics = new SendQueueStatistics(5, 3, 1, 1, 0, 0);
+		when(messagePipelineMock.queueStatistics()).thenReturn(statistics);
+
+		// Act
+		SendQueueStatistics result = messageBuilder.queueStatistics();
+
+		// Assert
+		assertEquals(statistics, result);
+	}
+
+
+	@Test @DisplayName("renderCacheStatistics method returns statistics of pipeline render cache.")
+	void renderCacheStatistics_returns_pipeline_statistics()
+	{
+		// Arrange
+		RenderCacheStatistics statistics = new RenderCacheStatistics(8, 2, 1, 0, 2);
+		when(messagePipelineMock.renderCacheStatistics()).thenReturn(statistics);
+
+		// Act
+		RenderCacheStatistics result = messageBuilder.renderCacheStatistics();
+
+		// Assert
+		assertEquals(statistics, result);
+	}
+
+
 	@Test @DisplayName("Exception is not thrown when reload succeeds.")
 	void reload_success_does_not_throw_exception()
 	{
 		// Arrange
-		when(languageResourceManagerMock.reload()).thenReturn(true);
+		when(languageResourceManagerMock.prepareReload()).thenReturn(() -> Optional.of(UnaryOperator.identity()));
+		when(soundResourceManagerMock.prepareReload()).thenReturn(() -> Optional.of(UnaryOperator.identity()));
 
 		// Act
 		// Assert
 		assertDoesNotThrow(() -> messageBuilder.reload());
 
 		// Verify
-		verify(languageResourceManagerMock, atLeastOnce()).reload();
+		verify(languageResourceManagerMock, atLeastOnce()).prepareReload();
+		verify(messagePipelineMock, times(1)).reload();
+	}
+
+
+	@Test @DisplayName("reloadAsync installs resources on server thread, parses them in background and publishes them on server thread.")
+	void reloadAsync_publishes_staged_resources()
+	{
+		// Arrange
+		List<String> events = new ArrayList<>();
+		when(pluginMock.getServer()).thenReturn(serverMock);
+		when(serverMock.isPrimaryThread()).thenReturn(true);
+		when(serverMock.getScheduler()).thenReturn(schedulerMock);
+		when(schedulerMock.runTaskAsynchronously(any(Plugin.class), any(Runnable.class))).thenAnswer(invocation ->
+		{
+			events.add("background");
+			invocation.getArgument(1, Runnable.class).run();
+			return null;
+		});
+		when(schedulerMock.runTask(any(Plugin.class), any(Runnable.class))).thenAnswer(invocation ->
+		{
+			events.add("server thread");
+			invocation.getArgument(1, Runnable.class).run();
+			return null;
+		});
+		Configuration newLanguage = new MemoryConfiguration();
+		Configuration soundConfiguration = new MemoryConfiguration();
+		when(languageResourceManagerMock.prepareReload()).thenAnswer(invocation ->
+		{
+			events.add("install");
+			return (Supplier<Optional<UnaryOperator<ResourceSnapshot>>>) () ->
+			{
+				events.add("parse");
+				return Optional.of(snapshot -> snapshot.withLanguage(newLanguage));
+			};
+		});
+		when(soundResourceManagerMock.prepareReload()).thenReturn(() -> Optional.of(snapshot -> snapshot.withSounds(soundConfiguration)));
+		doAnswer(invocation -> events.add("reload pipeline at epoch " + snapshots.current().epoch())).when(messagePipelineMock).reload();
+
+		// Act
+		boolean result = messageBuilder.reloadAsync().join();
+
+		// Assert
+		assertTrue(result);
+		assertEquals(List.of("install", "background", "parse", "server thread", "reload pipeline at epoch 1"), events);
+		assertSame(newLanguage, snapshots.current().language());
+		assertSame(soundConfiguration, snapshots.current().sounds());
+	}
+
+
+	@Test @DisplayName("reloadAsync keeps previous resource when loading fails.")
+	void reloadAsync_failure_returns_false()
+	{
+		// Arrange
+		Configuration soundConfiguration = new MemoryConfiguration();
+		Configuration previousLanguage = snapshots.current().language();
+		when(pluginMock.getServer()).thenReturn(serverMock);
+		when(serverMock.isPrimaryThread()).thenReturn(false);
+		when(serverMock.getScheduler()).thenReturn(schedulerMock);
+		when(schedulerMock.runTaskAsynchronously(any(Plugin.class), any(Runnable.class))).thenAnswer(invocation ->
+		{
+			invocation.getArgument(1, Runnable.class).run();
+			return null;
+		});
+		when(schedulerMock.runTask(any(Plugin.class), any(Runnable.class))).thenAnswer(invocation ->
+		{
+			invocation.getArgument(1, Runnable.class).run();
+			return null;
+		});
+		when(languageResourceManagerMock.prepareReload()).thenReturn(Optional::empty);
+		when(soundResourceManagerMock.prepareReload()).thenReturn(() -> Optional.of(snapshot -> snapshot.withSounds(soundConfiguration)));
+
+		// Act
+		boolean result = messageBuilder.reloadAsync().join();
+
+		// Assert
+		assertFalse(result);
+		assertSame(previousLanguage, snapshots.current().language());
+		assertSame(soundConfiguration, snapshots.current().sounds());
+		verify(messagePipelineMock, times(1)).reload();
+	}
+
+
+	@Test @DisplayName("reloadChanged parses only the changed file, and prepares the next reload on the server thread.")
+	void reloadChanged_reloads_changed_messages()
+	{
+		// Arrange
+		Configuration previousLanguage = new MemoryConfiguration();
+		previousLanguage.set("MESSAGES.ENABLED_MESSAGE.MESSAGE_TEXT", "enabled");
+		previousLanguage.set("MESSAGES.DISABLED_MESSAGE.MESSAGE_TEXT", "disabled");
+		snapshots.publish(snapshot -> snapshot.withLanguage(previousLanguage));
+
+		Configuration newLanguage = new MemoryConfiguration();
+		newLanguage.set("MESSAGES.ENABLED_MESSAGE.MESSAGE_TEXT", "now enabled");
+		newLanguage.set("MESSAGES.DISABLED_MESSAGE.MESSAGE_TEXT", "disabled");
+
+		when(pluginMock.getServer()).thenReturn(serverMock);
+		when(serverMock.getScheduler()).thenReturn(schedulerMock);
+		when(schedulerMock.runTask(any(Plugin.class), any(Runnable.class))).thenAnswer(invocation ->
+		{
+			invocation.getArgument(1, Runnable.class).run();
+			return null;
+		});
+		List<String> soundParses = new ArrayList<>();
+		when(languageResourceManagerMock.prepareReload()).thenReturn(() -> Optional.of(snapshot -> snapshot.withLanguage(newLanguage)));
+		when(soundResourceManagerMock.prepareReload()).thenReturn(() ->
+		{
+			soundParses.add("sounds");
+			return Optional.of(UnaryOperator.identity());
+		});
+		messageBuilder.prepareReload();
+		clearInvocations(languageResourceManagerMock, soundResourceManagerMock);
+
+		// Act
+		messageBuilder.reloadChanged(EnumSet.of(ResourceFileWatcher.ChangedResource.LANGUAGE));
+
+		// Assert
+		assertSame(newLanguage, snapshots.current().language());
+		assertTrue(soundParses.isEmpty());
+		verify(messagePipelineMock, times(1)).reload(Set.of(MessageKey.of(MessageId.ENABLED_MESSAGE).isValid().orElseThrow()));
+		verify(messagePipelineMock, never()).reload();
+
+		// Verify
+		verify(languageResourceManagerMock, times(1)).prepareReload();
+		verify(soundResourceManagerMock, times(1)).prepareReload();
+		verify(languageResourceManagerMock, never()).stageReload();
 	}
 
 
@@ -190,7 +441,7 @@ class MessageBuilderTest
 		try (MockedStatic<BootstrapUtility> bootstrapMockedStatic = Mockito.mockStatic(BootstrapUtility.class))
 		{
 			bootstrapMockedStatic.when(() -> MessagePipeline
-					.createMessagePipeline(pluginMock, messageRepositoryMock, soundRepositoryMock, formatterCtx, accessorCtx))
+					.createMessagePipeline(pluginMock, messageRepositoryMock, soundRepositoryMock, formatterCtx, accessorCtx, snapshots))
 					.thenReturn(messagePipelineMock);
 
 			// Act
@@ -225,7 +476,8 @@ class MessageBuilderTest
 						languageResourceManagerMock,
 						soundResourceManagerMock,
 						repositories,
-						messagePipelineMock));
+						messagePipelineMock,
+						snapshots));
 
 		// Assert
 		assertEquals("The parameter 'plugin' cannot be null.", exception.getMessage());
@@ -242,7 +494,8 @@ class MessageBuilderTest
 						null,
 						soundResourceManagerMock,
 						repositories,
-						messagePipelineMock));
+						messagePipelineMock,
+						snapshots));
 
 		// Assert
 		assertEquals("The parameter 'languageResourceManager' cannot be null.", exception.getMessage());
@@ -259,7 +512,8 @@ class MessageBuilderTest
 						languageResourceManagerMock,
 						soundResourceManagerMock,
 						repositories,
-						null));
+						null,
+						snapshots));
 
 		// Assert
 		assertEquals("The parameter 'messageProcessor' cannot be null.", exception.getMessage());
@@ -22,6 +22,7 @@ import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.accessors.na
 import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.resolvers.itemname.ItemDisplayNameResolver;
 import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.resolvers.itemname.ItemNameResolver;
 import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.resolvers.itemname.ItemPluralNameResolver;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.resolvers.playername.PlayerNameResolver;
 import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.resolvers.worldname.WorldNameResolver;
 import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.accessors.expiration.Expirable;
 
@@ -37,6 +38,7 @@ import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.accessors.ex
  * to support context-sensitive formatting logic.
  *
  * @param worldNameResolver the resolver responsible for resolving world name aliases
+ * @param playerNameResolver the resolver responsible for serving cached player names without blocking lookups
  * @param formatterCtx the container holding time/locale-based formatters
  *
  * @see FormatterCtx FormatterCtx
@@ -48,4 +50,5 @@ public record AccessorCtx(WorldNameResolver worldNameResolver,
 						  ItemNameResolver itemNameResolver,
 						  ItemDisplayNameResolver itemDisplayNameResolver,
 						  ItemPluralNameResolver itemPluralNameResolver,
+						  PlayerNameResolver playerNameResolver,
 						  FormatterCtx formatterCtx) { }
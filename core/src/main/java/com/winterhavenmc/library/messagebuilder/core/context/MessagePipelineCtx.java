@@ -1,9 +1,19 @@
 package com.winterhavenmc.library.messagebuilder.core.context;
 
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.analyzers.TemplateAnalyzer;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.caches.RenderCache;
 import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.cooldown.CooldownMap;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.gates.RenderGate;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.limiters.RateLimiter;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.prerenderers.Prerenderer;
 import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.processors.Processor;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.queues.SendQueue;
 import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.retrievers.MessageRetriever;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.schedulers.PipelineScheduler;
 import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.senders.Sender;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.snapshots.MacroSnapshotter;
+import com.winterhavenmc.library.messagebuilder.core.ports.resources.ResourceSnapshots;
+import com.winterhavenmc.library.messagebuilder.core.ports.resources.language.LocalePacks;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 
 import java.util.List;
@@ -12,4 +22,14 @@ public record MessagePipelineCtx(MessageRetriever messageRetriever,
 								 Processor messageProcessor,
 								 CooldownMap cooldownMap,
 								 MiniMessage miniMessage,
-								 List<Sender> senders) { }
+								 List<Sender> senders,
+								 PipelineScheduler scheduler,
+								 MacroSnapshotter snapshotter,
+								 TemplateAnalyzer templateAnalyzer,
+								 SendQueue sendQueue,
+								 RateLimiter rateLimiter,
+								 RenderGate renderGate,
+								 RenderCache renderCache,
+								 Prerenderer prerenderer,
+								 ResourceSnapshots snapshots,
+								 LocalePacks localePacks) { }
@@ -23,6 +23,9 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 
 
 /**
@@ -33,6 +36,10 @@ import java.util.Optional;
  * Null values are not permitted; any {@code null} value is automatically replaced
  * with the string literal {@code "NULL"}.
  * <p>
+ * Values may also be inserted lazily, as a {@link Supplier} that is invoked on the first retrieval
+ * of its key. A lazy value is computed at most once, and the computed value is returned by
+ * all later retrievals, including retrievals from copies of this map.
+ * <p>
  * Primarily intended for internal use within the message pipeline where macro
  * resolution requires intermediate object capture before string conversion.
  * This class is not thread-safe and uses a {@link HashMap} internally,
@@ -74,14 +81,114 @@ public final class MacroObjectMap
 
 
 	/**
-	 * Retrieves the value associated with the specified {@link MacroKey}, if present.
+	 * Inserts a lazily computed value only if the string is not already present in the map. The supplier
+	 * is not invoked until the value is first retrieved. If the supplier is {@code null}, or returns
+	 * {@code null}, the string {@code "NULL"} is used instead.
+	 *
+	 * @param macroKey the string to insert
+	 * @param supplier the supplier of the value to associate
+	 * @param <T>      the type of the value
+	 */
+	public <T> void putLazyIfAbsent(final MacroKey macroKey, final Supplier<T> supplier)
+	{
+		if (supplier == null)
+		{
+			putIfAbsent(macroKey, null);
+		}
+		else
+		{
+			INTERNAL_MAP.putIfAbsent(macroKey, new LazyValue(supplier));
+		}
+	}
+
+
+	/**
+	 * Retrieves the value associated with the specified {@link MacroKey}, if present. If the value
+	 * was inserted lazily, its supplier is invoked on the first retrieval.
 	 *
 	 * @param macroKey the string whose value to retrieve
 	 * @return an {@link Optional} containing the associated value, or empty if not found
 	 */
 	public Optional<Object> get(final MacroKey macroKey)
 	{
-		return Optional.ofNullable(INTERNAL_MAP.get(macroKey));
+		return Optional.ofNullable(INTERNAL_MAP.get(macroKey)).map(MacroObjectMap::unwrap);
+	}
+
+
+	/**
+	 * Returns a new map containing the same entries as this map. Later changes to this map
+	 * are not reflected in the copy.
+	 *
+	 * @return a shallow copy of this map
+	 */
+	public MacroObjectMap copy()
+	{
+		MacroObjectMap copy = new MacroObjectMap();
+		copy.INTERNAL_MAP.putAll(this.INTERNAL_MAP);
+		return copy;
+	}
+
+
+	/**
+	 * Returns a new map containing the keys of this map, with each value replaced by the result of
+	 * applying the given function. Null results are replaced with the string {@code "NULL"}.
+	 * Lazy values are computed before the function is applied.
+	 *
+	 * @param function the function to apply to each value
+	 * @return a new map containing the transformed values
+	 */
+	public MacroObjectMap mapValues(final UnaryOperator<Object> function)
+	{
+		MacroObjectMap result = new MacroObjectMap();
+		INTERNAL_MAP.forEach((macroKey, value) -> result.put(macroKey, function.apply(unwrap(value))));
+		return result;
+	}
+
+
+	/**
+	 * Performs the given action for each entry in this map. Lazy values are computed before the action is applied.
+	 *
+	 * @param action the action to perform for each key and value
+	 */
+	public void forEach(final BiConsumer<MacroKey, Object> action)
+	{
+		INTERNAL_MAP.forEach((macroKey, value) -> action.accept(macroKey, unwrap(value)));
+	}
+
+
+	private static Object unwrap(final Object value)
+	{
+		return (value instanceof LazyValue lazyValue)
+				? lazyValue.get()
+				: value;
+	}
+
+
+	/**
+	 * A memoizing wrapper for a lazily computed macro value.
+	 */
+	private static final class LazyValue
+	{
+		private Supplier<?> supplier;
+		private Object value;
+
+
+		private LazyValue(final Supplier<?> supplier)
+		{
+			this.supplier = supplier;
+		}
+
+
+		private synchronized Object get()
+		{
+			if (supplier != null)
+			{
+				value = Objects.requireNonNullElse(supplier.get(), "NULL");
+				supplier = null;
+			}
+
+			return value;
+		}
 	}
 
 }
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.core.message;
+
+import com.winterhavenmc.library.messagebuilder.core.maps.MacroObjectMap;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.Pipeline;
+import com.winterhavenmc.library.messagebuilder.models.keys.MacroKey;
+import com.winterhavenmc.library.messagebuilder.models.keys.ValidMacroKey;
+import com.winterhavenmc.library.messagebuilder.models.keys.ValidMessageKey;
+import com.winterhavenmc.library.messagebuilder.models.language.message.MessagePriority;
+import com.winterhavenmc.library.messagebuilder.models.recipient.Recipient;
+
+import org.bukkit.plugin.Plugin;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+
+/**
+ * A message composed once and sent to many recipients.
+ * <p>
+ * Unlike a {@link ValidMessage}, a broadcast does not bind the {@code RECIPIENT} macro when it is composed.
+ * The message pipeline renders the message a single time and delivers it to every recipient, unless the
+ * message template references the {@code RECIPIENT} macro, in which case the message is rendered separately
+ * for each recipient with that macro bound.
+ * <p>
+ * Recipients for whom the message is cooling down are excluded before any rendering takes place.
+ * <p>
+ * A broadcast is composed with the same {@link Composable} methods as a {@link Message}, and binds its
+ * macros in the same way.
+ *
+ * @see Message
+ * @see Pipeline#broadcast(Broadcast)
+ */
+public final class Broadcast implements Composable<Broadcast>
+{
+	private final static String PLUGIN_KEY = "PLUGIN";
+
+	private final List<Recipient.Sendable> recipients;
+	private final ValidMessageKey messageKey;
+	private final Pipeline messagePipeline;
+	private final MacroObjectMap macroObjectMap;
+	private MessagePriority priority;
+
+
+	public Broadcast(final Plugin plugin,
+					 final List<Recipient.Sendable> recipients,
+					 final ValidMessageKey messageKey,
+					 final Pipeline messagePipeline)
+	{
+		this.recipients = List.copyOf(recipients);
+		this.messageKey = messageKey;
+		this.messagePipeline = messagePipeline;
+		this.macroObjectMap = new MacroObjectMap();
+
+		// put plugin in MacroMap
+		ValidMacroKey pluginKey = MacroKey.of(PLUGIN_KEY).isValid().orElseThrow();
+		this.macroObjectMap.put(pluginKey, plugin);
+	}
+
+
+	@Override
+	public <K extends Enum<K>, V> Broadcast setMacro(final K macro,
+													     final V value)
+	{
+		MacroBindings.bind(macroObjectMap, macro, value);
+		return this;
+	}
+
+
+	@Override
+	public <K extends Enum<K>, V> Broadcast setMacro(final K macro,
+													     final Supplier<V> value)
+	{
+		MacroBindings.bindLazy(macroObjectMap, macro, value);
+		return this;
+	}
+
+
+	@Override
+	public <K extends Enum<K>, V> Broadcast setMacro(final int quantity,
+													     final K macro,
+													     final V value)
+	{
+		MacroBindings.bind(macroObjectMap, quantity, macro, value);
+		return this;
+	}
+
+
+	@Override
+	public <K extends Enum<K>> Broadcast setMacro(final K macro,
+													  final Duration duration,
+													  final ChronoUnit lowerBound)
+	{
+		MacroBindings.bind(macroObjectMap, macro, duration, lowerBound);
+		return this;
+	}
+
+
+	@Override
+	public Broadcast setPriority(final MessagePriority priority)
+	{
+		this.priority = priority;
+		return this;
+	}
+
+
+	/**
+	 * Sends the composed message to every recipient that is not cooling down for the message.
+	 *
+	 * @return {@code true} if any recipients were present, {@code false} otherwise
+	 */
+	public boolean send()
+	{
+		if (recipients.isEmpty())
+		{
+			return false;
+		}
+
+		messagePipeline.broadcast(this);
+		return true;
+	}
+
+
+	/**
+	 * Returns the {@link ValidMessageKey} identifying the message template used in composition.
+	 *
+	 * @return the message key
+	 */
+	public ValidMessageKey getMessageKey()
+	{
+		return messageKey;
+	}
+
+
+	/**
+	 * Returns the unmodifiable list of recipients of this broadcast.
+	 *
+	 * @return the broadcast recipients
+	 */
+	public List<Recipient.Sendable> getRecipients()
+	{
+		return recipients;
+	}
+
+
+	/**
+	 * Returns the priority set for this broadcast, if any.
+	 *
+	 * @return an {@code Optional} containing the priority of this broadcast, or an empty {@code Optional}
+	 * if the priority assigned in the language file applies
+	 */
+	public Optional<MessagePriority> getPriority()
+	{
+		return Optional.ofNullable(priority);
+	}
+
+
+	/**
+	 * Returns the {@link MacroObjectMap} of macro values bound to this broadcast. The map does not
+	 * contain a {@code RECIPIENT} entry.
+	 *
+	 * @return the macro object map
+	 */
+	public MacroObjectMap getObjectMap()
+	{
+		return macroObjectMap;
+	}
+
+}
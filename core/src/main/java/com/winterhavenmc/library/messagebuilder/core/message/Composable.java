@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.core.message;
+
+import com.winterhavenmc.library.messagebuilder.models.language.message.MessagePriority;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.function.Supplier;
+
+
+/**
+ * The fluent composition methods shared by every kind of message, whether it is sent to a single
+ * recipient as a {@link Message} or to many recipients as a {@link Broadcast}.
+ *
+ * @param <T> the type returned by each method for fluent chaining
+ * @see Message
+ * @see Broadcast
+ */
+public interface Composable<T extends Composable<T>>
+{
+	/**
+	 * Associates a macro string with a value for later substitution during message rendering.
+	 *
+	 * @param macro the macro string to assign
+	 * @param value the value to associate with the macro
+	 * @param <K> the enum type of the macro
+	 * @param <V> the value type
+	 * @return the same instance, for fluent chaining
+	 */
+	<K extends Enum<K>, V> T setMacro(K macro, V value);
+
+
+	/**
+	 * Associates a macro string with a lazily computed value. The supplier is invoked only if the macro
+	 * is referenced by the message template when the message is rendered, and at most once for this message.
+	 * <p>
+	 * For an asynchronous send, the supplier is invoked on the calling thread, after the cooldown check,
+	 * so that the supplied value may be captured before rendering moves off the server thread.
+	 *
+	 * @param macro the macro string to assign
+	 * @param value the supplier of the value to associate with the macro
+	 * @param <K> the enum type of the macro
+	 * @param <V> the value type
+	 * @return the same instance, for fluent chaining
+	 */
+	<K extends Enum<K>, V> T setMacro(K macro, Supplier<V> value);
+
+
+	/**
+	 * Associates a macro string with a value and explicit quantity, useful for pluralization or
+	 * contextual substitution that depends on numeric counts.
+	 *
+	 * @param quantity the quantity associated with the value
+	 * @param macro the macro string
+	 * @param value the object to associate
+	 * @param <K> the enum type of the macro
+	 * @param <V> the value type
+	 * @return the same instance, for fluent chaining
+	 */
+	<K extends Enum<K>, V> T setMacro(int quantity, K macro, V value);
+
+
+	/**
+	 * Associates a duration with the given macro string, using a defined precision.
+	 *
+	 * @param macro the macro string
+	 * @param duration the {@link Duration} to be formatted and resolved
+	 * @param precision the {@link ChronoUnit} to control formatting granularity
+	 * @param <K> the enum type of the macro
+	 * @return the same instance, for fluent chaining
+	 */
+	<K extends Enum<K>> T setMacro(K macro, Duration duration, ChronoUnit precision);
+
+
+	/**
+	 * Sets the delivery priority of this message, overriding any priority assigned to the message
+	 * in the language file. The priority is used by the bounded send queue, if enabled, to decide
+	 * which messages to drop or defer when the server is under load.
+	 *
+	 * @param priority the priority of this message
+	 * @return the same instance, for fluent chaining
+	 */
+	T setPriority(MessagePriority priority);
+
+}
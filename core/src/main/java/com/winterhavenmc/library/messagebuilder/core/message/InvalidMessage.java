@@ -18,6 +18,7 @@
 package com.winterhavenmc.library.messagebuilder.core.message;
 
 import com.winterhavenmc.library.messagebuilder.models.keys.ValidMessageKey;
+import com.winterhavenmc.library.messagebuilder.models.language.message.MessagePriority;
 import com.winterhavenmc.library.messagebuilder.models.recipient.Recipient;
 import com.winterhavenmc.library.messagebuilder.core.maps.MacroObjectMap;
 import com.winterhavenmc.library.messagebuilder.models.validation.LogLevel;
@@ -26,6 +27,7 @@ import net.kyori.adventure.text.Component;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static com.winterhavenmc.library.messagebuilder.models.validation.ErrorMessageKey.PARAMETER_INVALID;
 import static com.winterhavenmc.library.messagebuilder.models.validation.Parameter.RECIPIENT;
@@ -76,6 +78,12 @@ public record InvalidMessage(String reason) implements Message
 		return this;
 	}
 
+	@Override
+	public <K extends Enum<K>, V> Message setMacro(K macro, Supplier<V> value)
+	{
+		return this;
+	}
+
 	@Override
 	public <K extends Enum<K>, V> Message setMacro(int quantity, K macro, V value)
 	{
@@ -88,6 +96,18 @@ public record InvalidMessage(String reason) implements Message
 		return this;
 	}
 
+	@Override
+	public Message setPriority(MessagePriority priority)
+	{
+		return this;
+	}
+
+	@Override
+	public boolean isSuppressed()
+	{
+		return true;
+	}
+
 	@Override
 	public boolean send()
 	{
@@ -95,6 +115,13 @@ public record InvalidMessage(String reason) implements Message
 		return true;
 	}
 
+	@Override
+	public boolean sendAsync()
+	{
+		logging(LogLevel.WARN, PARAMETER_INVALID, RECIPIENT);
+		return true;
+	}
+
 	@Override
 	public Optional<Component> toComponent()
 	{
@@ -113,6 +140,12 @@ public record InvalidMessage(String reason) implements Message
 		return null;
 	}
 
+	@Override
+	public Optional<MessagePriority> getPriority()
+	{
+		return Optional.empty();
+	}
+
 	@Override
 	public MacroObjectMap getObjectMap()
 	{
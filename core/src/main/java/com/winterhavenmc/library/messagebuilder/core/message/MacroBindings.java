@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.core.message;
+
+import com.winterhavenmc.library.messagebuilder.core.maps.MacroObjectMap;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.formatters.duration.BoundedDuration;
+import com.winterhavenmc.library.messagebuilder.models.keys.MacroKey;
+import com.winterhavenmc.library.messagebuilder.models.keys.ValidMacroKey;
+import com.winterhavenmc.library.messagebuilder.models.validation.LogLevel;
+import com.winterhavenmc.library.messagebuilder.models.validation.Parameter;
+import com.winterhavenmc.library.messagebuilder.models.validation.ValidationException;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import static com.winterhavenmc.library.messagebuilder.models.validation.ErrorMessageKey.PARAMETER_INVALID;
+import static com.winterhavenmc.library.messagebuilder.models.validation.ErrorMessageKey.PARAMETER_NULL;
+import static com.winterhavenmc.library.messagebuilder.models.validation.Parameter.*;
+import static com.winterhavenmc.library.messagebuilder.models.validation.Validator.*;
+
+
+/**
+ * Binds the macro values passed to the {@link Composable} methods into a {@link MacroObjectMap},
+ * so that every kind of message validates and stores its macros in the same way.
+ * Values already bound to a macro are not replaced.
+ */
+final class MacroBindings
+{
+	private MacroBindings() { }
+
+
+	static <K extends Enum<K>, V> void bind(final MacroObjectMap macroObjectMap,
+											final K macro,
+											final V value)
+	{
+		macroObjectMap.putIfAbsent(validKey(macro), value);
+	}
+
+
+	static <K extends Enum<K>, V> void bindLazy(final MacroObjectMap macroObjectMap,
+												final K macro,
+												final Supplier<V> value)
+	{
+		macroObjectMap.putLazyIfAbsent(validKey(macro), value);
+	}
+
+
+	static <K extends Enum<K>, V> void bind(final MacroObjectMap macroObjectMap,
+											final int quantity,
+											final K macro,
+											final V value)
+	{
+		ValidMacroKey macroKey = validKey(macro);
+		ValidMacroKey quantityKey = MacroKey.of(macroKey + ".QUANTITY").isValid().orElseThrow();
+
+		macroObjectMap.putIfAbsent(macroKey, value);
+		macroObjectMap.putIfAbsent(quantityKey, quantity);
+	}
+
+
+	static <K extends Enum<K>> void bind(final MacroObjectMap macroObjectMap,
+										 final K macro,
+										 final Duration duration,
+										 final ChronoUnit lowerBound)
+	{
+		validate(macro, Objects::isNull, throwing(PARAMETER_NULL, MACRO));
+		Duration validDuration = validate(duration, Objects::isNull, logging(LogLevel.WARN, PARAMETER_NULL, DURATION)).orElse(Duration.ZERO);
+		ChronoUnit validLowerBound = validate(lowerBound, Objects::isNull, logging(LogLevel.WARN, PARAMETER_NULL, Parameter.LOWER_BOUND)).orElse(ChronoUnit.MINUTES);
+
+		macroObjectMap.putIfAbsent(validKey(macro), new BoundedDuration(validDuration, validLowerBound));
+	}
+
+
+	private static <K extends Enum<K>> ValidMacroKey validKey(final K macro)
+	{
+		return MacroKey.of(macro).isValid().orElseThrow(() -> new ValidationException(PARAMETER_INVALID, MACRO_KEY));
+	}
+
+}
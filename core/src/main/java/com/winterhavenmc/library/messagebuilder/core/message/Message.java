@@ -18,12 +18,11 @@
 package com.winterhavenmc.library.messagebuilder.core.message;
 
 import com.winterhavenmc.library.messagebuilder.models.keys.*;
+import com.winterhavenmc.library.messagebuilder.models.language.message.MessagePriority;
 import com.winterhavenmc.library.messagebuilder.models.recipient.Recipient;
 import com.winterhavenmc.library.messagebuilder.core.maps.MacroObjectMap;
 import net.kyori.adventure.text.Component;
 
-import java.time.Duration;
-import java.time.temporal.ChronoUnit;
 import java.util.Optional;
 
 
@@ -43,57 +42,34 @@ import java.util.Optional;
  * </ul>
  *
  * <h2>Fluent Macro Assignment</h2>
- * Macros can be added to the message using the {@code setMacro} methods. These allow
+ * Macros can be added to the message using the {@code setMacro} methods inherited from {@link Composable}. These allow
  * rich contextual data such as strings, durations, quantities, and domain objects to be bound
  * to placeholders in the final rendered message.
  *
  * <h2>Sending</h2>
  * Once composed, the {@link #send()} method dispatches the message to the resolved recipient,
- * if one is available and valid.
+ * if one is available and valid. The {@link #sendAsync()} method does the same, but renders the
+ * message off the server thread.
  *
  * @see ValidMessage
  * @see InvalidMessage
  * @see Recipient
  * @see ValidMessageKey
  */
-public sealed interface Message permits ValidMessage, InvalidMessage
+public sealed interface Message extends Composable<Message> permits ValidMessage, InvalidMessage
 {
     /**
-     * Associates a macro string with a value for later substitution during message rendering.
+     * Reports whether a send of this message would be suppressed, without rendering it. A message is
+     * suppressed if it is cooling down for the recipient, is not defined in the language file, or is
+     * disabled or has no chat, title or subtitle text in the language file.
+     * <p>
+     * This check may be used to skip the computation of expensive macro values for a message that
+     * would not be sent. It does not consume a rate limit permit, so a message that is not suppressed
+     * may still be dropped by the rate limiter or the send queue.
      *
-     * @param macro the macro string to assign
-     * @param value the value to associate with the macro
-     * @param <K> the enum type of the macro
-     * @param <V> the value type
-     * @return the same {@code Message} instance, for fluent chaining
+     * @return {@code true} if a send of this message would be suppressed, {@code false} otherwise
      */
-    <K extends Enum<K>, V> Message setMacro(K macro, V value);
-
-
-    /**
-     * Associates a macro string with a value and explicit quantity, useful for pluralization or
-     * contextual substitution that depends on numeric counts.
-     *
-     * @param quantity the quantity associated with the value
-     * @param macro the macro string
-     * @param value the object to associate
-     * @param <K> the enum type of the macro
-     * @param <V> the value type
-     * @return the same {@code Message} instance, for fluent chaining
-     */
-    <K extends Enum<K>, V> Message setMacro(int quantity, K macro, V value);
-
-
-    /**
-     * Associates a duration with the given macro string, using a defined precision.
-     *
-     * @param macro the macro string
-     * @param duration the {@link Duration} to be formatted and resolved
-     * @param precision the {@link ChronoUnit} to control formatting granularity
-     * @param <K> the enum type of the macro
-     * @return the same {@code Message} instance, for fluent chaining
-     */
-    <K extends Enum<K>> Message setMacro(K macro, Duration duration, ChronoUnit precision);
+    boolean isSuppressed();
 
 
     /**
@@ -104,6 +80,18 @@ public sealed interface Message permits ValidMessage, InvalidMessage
     boolean send();
 
 
+    /**
+     * Sends the composed message to the resolved recipient, rendering it off the server thread.
+     * <p>
+     * Macro values are captured when this method is called. Retrieval, macro resolution, formatting
+     * and MiniMessage parsing are performed asynchronously, and only the final delivery to the recipient
+     * is scheduled back onto the server thread.
+     * <p>
+     * No-op if the message is invalid or the recipient is missing or unsupported.
+     */
+    boolean sendAsync();
+
+
 	Optional<Component> toComponent();
 
 
@@ -123,6 +111,15 @@ public sealed interface Message permits ValidMessage, InvalidMessage
     Recipient.Sendable getRecipient();
 
 
+    /**
+     * Returns the priority set for this message with {@link #setPriority(MessagePriority)}, if any.
+     *
+     * @return an {@code Optional} containing the priority of this message, or an empty {@code Optional}
+     * if the priority assigned in the language file applies
+     */
+    Optional<MessagePriority> getPriority();
+
+
     /**
      * Returns the {@link MacroObjectMap} of macro values bound to this message.
      *
@@ -18,28 +18,20 @@
 package com.winterhavenmc.library.messagebuilder.core.message;
 
 import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.Pipeline;
-import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.formatters.duration.BoundedDuration;
 import com.winterhavenmc.library.messagebuilder.models.keys.MacroKey;
 import com.winterhavenmc.library.messagebuilder.models.keys.ValidMacroKey;
 import com.winterhavenmc.library.messagebuilder.models.keys.ValidMessageKey;
+import com.winterhavenmc.library.messagebuilder.models.language.message.MessagePriority;
 import com.winterhavenmc.library.messagebuilder.models.recipient.Recipient;
 import com.winterhavenmc.library.messagebuilder.core.maps.MacroObjectMap;
 
-import com.winterhavenmc.library.messagebuilder.models.validation.LogLevel;
-import com.winterhavenmc.library.messagebuilder.models.validation.Parameter;
-import com.winterhavenmc.library.messagebuilder.models.validation.ValidationException;
 import net.kyori.adventure.text.Component;
 import org.bukkit.plugin.Plugin;
 
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
-import java.util.Objects;
 import java.util.Optional;
-
-import static com.winterhavenmc.library.messagebuilder.models.validation.ErrorMessageKey.PARAMETER_INVALID;
-import static com.winterhavenmc.library.messagebuilder.models.validation.ErrorMessageKey.PARAMETER_NULL;
-import static com.winterhavenmc.library.messagebuilder.models.validation.Parameter.*;
-import static com.winterhavenmc.library.messagebuilder.models.validation.Validator.*;
+import java.util.function.Supplier;
 
 
 /**
@@ -68,6 +60,7 @@ public final class ValidMessage implements Message
 	private final ValidMessageKey messageKey;
 	private final Pipeline messagePipeline;
 	private final MacroObjectMap macroObjectMap;
+	private MessagePriority priority;
 
 
 	/**
@@ -102,9 +95,16 @@ public final class ValidMessage implements Message
 	public <K extends Enum<K>, V> Message setMacro(final K macro,
 												   final V value)
 	{
-		ValidMacroKey macroKey = MacroKey.of(macro).isValid().orElseThrow(() -> new ValidationException(PARAMETER_INVALID, MACRO_KEY));
+		MacroBindings.bind(macroObjectMap, macro, value);
+		return this;
+	}
+
 
-		macroObjectMap.putIfAbsent(macroKey, value);
+	@Override
+	public <K extends Enum<K>, V> Message setMacro(final K macro,
+												   final Supplier<V> value)
+	{
+		MacroBindings.bindLazy(macroObjectMap, macro, value);
 		return this;
 	}
 
@@ -114,11 +114,7 @@ public final class ValidMessage implements Message
 												   final K macro,
 												   final V value)
 	{
-		ValidMacroKey macroKey = MacroKey.of(macro).isValid().orElseThrow(() -> new ValidationException(PARAMETER_INVALID, MACRO_KEY));
-		ValidMacroKey quantityKey = MacroKey.of(macroKey + ".QUANTITY").isValid().orElseThrow();
-
-		macroObjectMap.putIfAbsent(macroKey, value);
-		macroObjectMap.putIfAbsent(quantityKey, quantity);
+		MacroBindings.bind(macroObjectMap, quantity, macro, value);
 		return this;
 	}
 
@@ -128,18 +124,26 @@ public final class ValidMessage implements Message
 												final Duration duration,
 												final ChronoUnit lowerBound)
 	{
-		validate(macro, Objects::isNull, throwing(PARAMETER_NULL, MACRO));
-		Duration validDuration = validate(duration, Objects::isNull, logging(LogLevel.WARN, PARAMETER_NULL, DURATION)).orElse(Duration.ZERO);
-		ChronoUnit validLowerBound = validate(lowerBound, Objects::isNull, logging(LogLevel.WARN, PARAMETER_NULL, Parameter.LOWER_BOUND)).orElse(ChronoUnit.MINUTES);
+		MacroBindings.bind(macroObjectMap, macro, duration, lowerBound);
+		return this;
+	}
 
-		ValidMacroKey macroKey = MacroKey.of(macro).isValid().orElseThrow(() -> new ValidationException(PARAMETER_INVALID, MACRO_KEY));
-		BoundedDuration boundedDuration = new BoundedDuration(validDuration, validLowerBound);
 
-		macroObjectMap.putIfAbsent(macroKey, boundedDuration);
+	@Override
+	public Message setPriority(final MessagePriority priority)
+	{
+		this.priority = priority;
 		return this;
 	}
 
 
+	@Override
+	public boolean isSuppressed()
+	{
+		return messagePipeline.isSuppressed(this);
+	}
+
+
 	@Override
 	public boolean send()
 	{
@@ -148,6 +152,14 @@ public final class ValidMessage implements Message
 	}
 
 
+	@Override
+	public boolean sendAsync()
+	{
+		messagePipeline.initiateAsync(this);
+		return true;
+	}
+
+
 	@Override
 	public Optional<Component> toComponent()
 	{
@@ -169,6 +181,13 @@ public final class ValidMessage implements Message
 	}
 
 
+	@Override
+	public Optional<MessagePriority> getPriority()
+	{
+		return Optional.ofNullable(priority);
+	}
+
+
 	@Override
 	public MacroObjectMap getObjectMap()
 	{
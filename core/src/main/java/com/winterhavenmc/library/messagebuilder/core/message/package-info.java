@@ -37,6 +37,12 @@
  *       typically due to missing or null input</li>
  * </ul>
  *
+ * <p>
+ * A {@link com.winterhavenmc.library.messagebuilder.core.message.Broadcast Broadcast} is composed in the
+ * same manner for a collection of recipients, and is rendered once for all of them wherever possible.
+ * Both share the fluent macro methods of
+ * {@link com.winterhavenmc.library.messagebuilder.core.message.Composable Composable}.
+ *
  * <h2>Usage</h2>
  * Developers do not typically instantiate message types directly. Instead, messages are created
  * via the fluent API exposed by {@code com.winterhavenmc.library.messagebuilder.MessageBuilder}:
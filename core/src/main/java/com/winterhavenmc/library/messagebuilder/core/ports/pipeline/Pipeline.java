@@ -17,14 +17,29 @@
 
 package com.winterhavenmc.library.messagebuilder.core.ports.pipeline;
 
+import com.winterhavenmc.library.messagebuilder.core.message.Broadcast;
 import com.winterhavenmc.library.messagebuilder.core.message.ValidMessage;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.analyzers.RecipientDependence;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.caches.RenderCacheStatistics;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.queues.SendQueueStatistics;
+import com.winterhavenmc.library.messagebuilder.models.keys.ValidMessageKey;
 import net.kyori.adventure.text.Component;
 
+import java.util.Collection;
 import java.util.Optional;
 
 
 public interface Pipeline
 {
 	void initiate(ValidMessage message);
+	boolean isSuppressed(ValidMessage message);
+	void initiateAsync(ValidMessage message);
+	void broadcast(Broadcast broadcast);
+	RecipientDependence analyze(ValidMessageKey messageKey);
+	SendQueueStatistics queueStatistics();
+	RenderCacheStatistics renderCacheStatistics();
+	void reload();
+	void reload(Collection<ValidMessageKey> changedMessageKeys);
+	void warmUp(Collection<ValidMessageKey> messageKeys);
 	Optional<Component> retrieve(ValidMessage message);
 }
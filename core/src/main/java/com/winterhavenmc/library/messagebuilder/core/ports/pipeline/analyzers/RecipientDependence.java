@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.core.ports.pipeline.analyzers;
+
+
+/**
+ * Classifies whether the rendered output of a message template depends on the recipient of the message.
+ */
+public enum RecipientDependence
+{
+	/**
+	 * The template does not reference the {@code RECIPIENT} macro, so a single rendering of the message
+	 * may be shared by all recipients.
+	 */
+	INVARIANT,
+
+	/**
+	 * The template references the {@code RECIPIENT} macro, or one of its fields, so the message must be
+	 * rendered separately for each recipient.
+	 */
+	DEPENDENT,
+
+	/**
+	 * The template could not be analyzed, because no valid message record exists for the message key.
+	 */
+	UNKNOWN;
+
+
+	/**
+	 * Returns {@code true} if a rendering of the message may be shared by all recipients.
+	 *
+	 * @return {@code true} if this value is {@link #INVARIANT}, otherwise {@code false}
+	 */
+	public boolean isShareable()
+	{
+		return this == INVARIANT;
+	}
+}
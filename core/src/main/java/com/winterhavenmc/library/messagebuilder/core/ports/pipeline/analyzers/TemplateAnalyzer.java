@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.core.ports.pipeline.analyzers;
+
+import com.winterhavenmc.library.messagebuilder.models.keys.ValidMacroKey;
+import com.winterhavenmc.library.messagebuilder.models.language.message.ValidMessageRecord;
+
+import java.util.Set;
+
+
+/**
+ * A strategy interface for the static analysis of message templates. Implementations inspect the
+ * message, title and subtitle templates of a record without resolving any macro values.
+ */
+public interface TemplateAnalyzer
+{
+	/**
+	 * Determines whether the rendered output of the given message record depends on its recipient.
+	 *
+	 * @param messageRecord the message record whose templates are to be analyzed
+	 * @return {@link RecipientDependence#DEPENDENT} if any template references the {@code RECIPIENT} macro,
+	 * otherwise {@link RecipientDependence#INVARIANT}
+	 */
+	RecipientDependence analyze(ValidMessageRecord messageRecord);
+
+
+	/**
+	 * Returns the base macro keys referenced by the templates of the given message record. Only the values bound
+	 * to these keys can affect the rendered output of the message.
+	 *
+	 * @param messageRecord the message record whose templates are to be analyzed
+	 * @return an unmodifiable set of the base macro keys referenced by any template of the record
+	 */
+	Set<ValidMacroKey> referencedKeys(ValidMessageRecord messageRecord);
+}
@@ -0,0 +1,8 @@
+/**
+ * Defines the template analysis stage of the message pipeline, which inspects message templates
+ * without rendering them, in order to classify how their output varies between sends.
+ *
+ * @see com.winterhavenmc.library.messagebuilder.core.ports.pipeline.analyzers.TemplateAnalyzer
+ * @see com.winterhavenmc.library.messagebuilder.core.ports.pipeline.analyzers.RecipientDependence
+ */
+package com.winterhavenmc.library.messagebuilder.core.ports.pipeline.analyzers;
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.core.ports.pipeline.caches;
+
+import com.winterhavenmc.library.messagebuilder.core.maps.MacroObjectMap;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.processors.Processor;
+import com.winterhavenmc.library.messagebuilder.models.keys.ValidMessageKey;
+import com.winterhavenmc.library.messagebuilder.models.language.message.FinalMessageRecord;
+import com.winterhavenmc.library.messagebuilder.models.language.message.ValidMessageRecord;
+
+import java.util.Collection;
+
+
+/**
+ * A cache of rendered message records. Implementations decide, from the message record and its macro values,
+ * whether a previously rendered result may be returned in place of processing the record again.
+ */
+public interface RenderCache
+{
+	/**
+	 * Returns the rendered form of a message record, either from the cache or by processing it with the
+	 * given processor.
+	 *
+	 * @param messageRecord the message record to render
+	 * @param macroObjectMap the macro values used to resolve placeholders in the record
+	 * @param processor the processor used to render the record if no cached result can be used
+	 * @return the rendered message record
+	 */
+	FinalMessageRecord render(ValidMessageRecord messageRecord, MacroObjectMap macroObjectMap, Processor processor);
+
+
+	/**
+	 * Discards all cached results. Called when the language file is reloaded.
+	 */
+	void clear();
+
+
+	/**
+	 * Discards the cached results of the given messages. Called when the language file is reloaded with changes
+	 * confined to those messages. The default implementation discards all cached results.
+	 *
+	 * @param messageKeys the keys of the messages whose results are discarded
+	 */
+	default void invalidate(Collection<ValidMessageKey> messageKeys)
+	{
+		clear();
+	}
+
+
+	/**
+	 * Returns a snapshot of the counters maintained by this cache.
+	 *
+	 * @return the current cache statistics
+	 */
+	RenderCacheStatistics statistics();
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.core.ports.pipeline.caches;
+
+
+/**
+ * An immutable snapshot of the counters maintained by a {@link RenderCache}.
+ *
+ * @param hits the number of renders answered from the cache
+ * @param misses the number of renders that were processed and stored in the cache
+ * @param bypassed the number of renders that were processed without consulting the cache, because the
+ *                 cache is disabled or the macro values of the message could not be fingerprinted
+ * @param evictions the number of cached results discarded to stay within capacity
+ * @param size the number of results currently held in the cache
+ */
+public record RenderCacheStatistics(long hits,
+									long misses,
+									long bypassed,
+									long evictions,
+									int size)
+{
+	/**
+	 * Returns the fraction of cacheable renders that were answered from the cache.
+	 *
+	 * @return the hit rate, between {@code 0.0} and {@code 1.0}, or {@code 0.0} if no cacheable render has occurred
+	 */
+	public double hitRate()
+	{
+		final long lookups = hits + misses;
+		return (lookups == 0) ? 0.0 : (double) hits / lookups;
+	}
+}
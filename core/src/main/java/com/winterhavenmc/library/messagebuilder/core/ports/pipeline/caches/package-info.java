@@ -0,0 +1,8 @@
+/**
+ * Defines the render cache stage of the message pipeline, which reuses the rendered output of a message
+ * when it is sent again with the same macro values, skipping macro resolution and formatting entirely.
+ *
+ * @see com.winterhavenmc.library.messagebuilder.core.ports.pipeline.caches.RenderCache
+ * @see com.winterhavenmc.library.messagebuilder.core.ports.pipeline.caches.RenderCacheStatistics
+ */
+package com.winterhavenmc.library.messagebuilder.core.ports.pipeline.caches;
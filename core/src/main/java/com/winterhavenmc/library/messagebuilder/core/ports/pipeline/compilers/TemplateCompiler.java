@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.core.ports.pipeline.compilers;
+
+import com.winterhavenmc.library.messagebuilder.models.language.message.ValidMessageRecord;
+
+
+/**
+ * A strategy interface for the ahead-of-time compilation of message templates. A compiled record is
+ * used in place of the record read from the language file for every send, until the language file is reloaded.
+ */
+@FunctionalInterface
+public interface TemplateCompiler
+{
+	/**
+	 * Compiles the templates of the given message record.
+	 *
+	 * @param messageRecord the message record read from the language file
+	 * @return a message record whose templates render identically to those of the given record
+	 */
+	ValidMessageRecord compile(ValidMessageRecord messageRecord);
+}
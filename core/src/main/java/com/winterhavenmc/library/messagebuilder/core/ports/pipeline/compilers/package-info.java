@@ -0,0 +1,7 @@
+/**
+ * Defines the template compilation stage of the message pipeline, which transforms message records
+ * once, when the language file is loaded or reloaded, rather than on every send.
+ *
+ * @see com.winterhavenmc.library.messagebuilder.core.ports.pipeline.compilers.TemplateCompiler
+ */
+package com.winterhavenmc.library.messagebuilder.core.ports.pipeline.compilers;
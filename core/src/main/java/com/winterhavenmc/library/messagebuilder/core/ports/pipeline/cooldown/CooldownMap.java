@@ -22,6 +22,8 @@ import com.winterhavenmc.library.messagebuilder.models.keys.CooldownKey;
 import com.winterhavenmc.library.messagebuilder.models.language.message.FinalMessageRecord;
 import com.winterhavenmc.library.messagebuilder.models.recipient.Recipient;
 
+import java.time.Duration;
+
 /**
  * A functional interface representing a cooldown check for a given string.
  * <p>
@@ -40,6 +42,28 @@ public interface CooldownMap
 	 * @return {@code true} if the message is not cooling down and may be shown
 	 */
 	boolean notCooling(CooldownKey cooldownKey);
+
+
+	/**
+	 * Reserves the cooldown for the given string, if it is not currently cooling down. The check and the
+	 * reservation are performed atomically, so that of several sends admitted concurrently, or admitted before
+	 * any of them is delivered, only the first is allowed through.
+	 *
+	 * @param cooldownKey the cooldown string composed of recipient and message identifier
+	 * @param repeatDelay the delay before the message may be shown again
+	 * @return {@code true} if the cooldown was reserved and the message may be shown
+	 */
+	boolean reserve(CooldownKey cooldownKey, Duration repeatDelay);
+
+
+	/**
+	 * Releases a cooldown reserved with {@link #reserve(CooldownKey, Duration)}, for a message that was admitted
+	 * but will not be shown.
+	 *
+	 * @param cooldownKey the cooldown string composed of recipient and message identifier
+	 */
+	void release(CooldownKey cooldownKey);
+
 	void putExpirationTime(Recipient.Sendable recipient, FinalMessageRecord messageRecord);
 	int removeExpired();
 }
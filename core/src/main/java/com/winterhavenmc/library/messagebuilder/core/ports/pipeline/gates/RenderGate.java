@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.core.ports.pipeline.gates;
+
+import com.winterhavenmc.library.messagebuilder.models.language.message.ValidMessageRecord;
+
+
+/**
+ * A strategy interface for the pre-render gate of the message pipeline. A message record that is not
+ * admitted by the gate is dropped before any rendering work is performed.
+ */
+@FunctionalInterface
+public interface RenderGate
+{
+	/**
+	 * Determines whether a send of the given message record could produce output on any channel.
+	 *
+	 * @param messageRecord the message record to be sent
+	 * @return {@code true} if the record should be rendered and sent, {@code false} if it would produce no output
+	 */
+	boolean admits(ValidMessageRecord messageRecord);
+}
@@ -0,0 +1,7 @@
+/**
+ * Defines the pre-render gate stage of the message pipeline, which decides from a message record alone,
+ * before any macro resolution or formatting, whether a send could produce output on any channel.
+ *
+ * @see com.winterhavenmc.library.messagebuilder.core.ports.pipeline.gates.RenderGate
+ */
+package com.winterhavenmc.library.messagebuilder.core.ports.pipeline.gates;
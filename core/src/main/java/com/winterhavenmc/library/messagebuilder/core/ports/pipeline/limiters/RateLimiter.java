@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.core.ports.pipeline.limiters;
+
+import com.winterhavenmc.library.messagebuilder.models.keys.ValidMessageKey;
+import com.winterhavenmc.library.messagebuilder.models.language.message.RateLimit;
+
+
+/**
+ * A global rate limiter for message sends, keyed by message. Unlike a
+ * {@link com.winterhavenmc.library.messagebuilder.core.ports.pipeline.cooldown.CooldownMap CooldownMap},
+ * which limits repeated sends of a message to a single recipient, a rate limiter limits sends of a
+ * message to all recipients combined.
+ */
+public interface RateLimiter
+{
+	/**
+	 * Attempts to acquire a permit to send the message identified by the given key.
+	 *
+	 * @param messageKey the key of the message to be sent
+	 * @param rateLimit the rate limit configured for the message
+	 * @return {@code true} if the message may be sent, {@code false} if the send should be suppressed
+	 */
+	boolean tryAcquire(ValidMessageKey messageKey, RateLimit rateLimit);
+
+
+	/**
+	 * Returns a permit acquired for a send that was dropped before it was delivered, such as a message shed
+	 * by the send queue.
+	 *
+	 * @param messageKey the key of the message that was not sent
+	 * @param rateLimit the rate limit configured for the message
+	 */
+	void release(ValidMessageKey messageKey, RateLimit rateLimit);
+}
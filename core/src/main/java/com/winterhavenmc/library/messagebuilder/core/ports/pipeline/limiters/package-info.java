@@ -0,0 +1,8 @@
+/**
+ * Defines the rate limiting stage of the message pipeline, which suppresses sends of a message that
+ * exceed its configured {@link com.winterhavenmc.library.messagebuilder.models.language.message.RateLimit rate limit},
+ * across all recipients, before any rendering work is performed.
+ *
+ * @see com.winterhavenmc.library.messagebuilder.core.ports.pipeline.limiters.RateLimiter
+ */
+package com.winterhavenmc.library.messagebuilder.core.ports.pipeline.limiters;
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.core.ports.pipeline.prerenderers;
+
+import com.winterhavenmc.library.messagebuilder.models.keys.ValidMessageKey;
+import com.winterhavenmc.library.messagebuilder.models.language.message.FinalMessageRecord;
+import com.winterhavenmc.library.messagebuilder.models.language.message.ValidMessageRecord;
+
+import java.util.Collection;
+import java.util.Optional;
+
+
+/**
+ * A strategy interface for the pre-render stage of the message pipeline. A message record for which a
+ * pre-rendered result is available is sent without macro resolution, formatting or parsing.
+ * <p>
+ * The pipeline passes each record of the configured language file to {@link #prerendered} when the record is
+ * published, so that its result is ready before the record is first sent.
+ */
+@FunctionalInterface
+public interface Prerenderer
+{
+	/**
+	 * Returns the pre-rendered form of a message record, if the record can be rendered without macro values.
+	 *
+	 * @param messageRecord the message record to be sent
+	 * @return an {@link Optional} containing the pre-rendered record, or an empty {@code Optional} if the
+	 * record must be rendered with the macro values of each message
+	 */
+	Optional<FinalMessageRecord> prerendered(ValidMessageRecord messageRecord);
+
+
+	/**
+	 * Discards all pre-rendered results. Called when the language file is reloaded.
+	 */
+	default void clear() { }
+
+
+	/**
+	 * Discards the pre-rendered results of the given messages. Called when the language file is reloaded with
+	 * changes confined to those messages. The default implementation discards all pre-rendered results.
+	 *
+	 * @param messageKeys the keys of the messages whose results are discarded
+	 */
+	default void invalidate(final Collection<ValidMessageKey> messageKeys)
+	{
+		clear();
+	}
+}
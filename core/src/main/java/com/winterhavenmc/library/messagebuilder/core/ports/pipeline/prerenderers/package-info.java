@@ -0,0 +1,7 @@
+/**
+ * Defines the pre-render stage of the message pipeline, which renders messages that contain no macro
+ * placeholders once, when their record is first loaded, instead of on every send.
+ *
+ * @see com.winterhavenmc.library.messagebuilder.core.ports.pipeline.prerenderers.Prerenderer
+ */
+package com.winterhavenmc.library.messagebuilder.core.ports.pipeline.prerenderers;
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.core.ports.pipeline.queues;
+
+
+/**
+ * A pluggable measure of server load, consulted by a {@link SendQueue} to decide whether low-priority
+ * messages should be dropped or deferred. The unit of the returned value is defined by the implementation,
+ * and must match the threshold with which the queue is configured; for example, average milliseconds per tick.
+ */
+@FunctionalInterface
+public interface LoadSignal
+{
+	/**
+	 * Returns the current load of the server.
+	 *
+	 * @return the current load, in the unit defined by the implementation
+	 */
+	double currentLoad();
+}
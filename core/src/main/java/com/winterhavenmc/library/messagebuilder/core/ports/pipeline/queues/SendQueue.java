@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.core.ports.pipeline.queues;
+
+import com.winterhavenmc.library.messagebuilder.models.language.message.MessagePriority;
+
+
+/**
+ * A queue of pending message sends. Each task renders and delivers a single message; implementations
+ * decide, based on the priority of the message, whether the task is run immediately, deferred to a
+ * later tick, or dropped without being run.
+ */
+public interface SendQueue
+{
+	/**
+	 * Reports whether a task of the given priority would be accepted if it were submitted now, rather than
+	 * dropped. The message pipeline checks this before it takes a rate limit permit and reserves the cooldown
+	 * of a message, so that a message dropped on submission consumes neither.
+	 *
+	 * @param priority the priority of the message
+	 * @return {@code true} if a task of the given priority would be accepted, {@code false} if it would be dropped
+	 */
+	boolean admits(MessagePriority priority);
+
+
+	/**
+	 * Submits a render-and-deliver task for a message of the given priority.
+	 *
+	 * @param priority the priority of the message
+	 * @param task the task that renders and delivers the message
+	 * @param shed the task run instead, on the server thread, if the message is dropped without being delivered
+	 */
+	void submit(MessagePriority priority, Runnable task, Runnable shed);
+
+
+	/**
+	 * Submits a render-and-deliver task for a message of the given priority, with no action taken if the
+	 * message is dropped.
+	 *
+	 * @param priority the priority of the message
+	 * @param task the task that renders and delivers the message
+	 */
+	default void submit(final MessagePriority priority, final Runnable task)
+	{
+		submit(priority, task, () -> { });
+	}
+
+
+	/**
+	 * Returns a snapshot of the counters maintained by this queue.
+	 *
+	 * @return the current queue statistics
+	 */
+	SendQueueStatistics statistics();
+}
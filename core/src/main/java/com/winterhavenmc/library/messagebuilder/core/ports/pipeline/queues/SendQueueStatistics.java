@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.core.ports.pipeline.queues;
+
+
+/**
+ * An immutable snapshot of the counters maintained by a {@link SendQueue}.
+ *
+ * @param submitted the number of tasks submitted to the queue
+ * @param delivered the number of tasks that have been run
+ * @param shedOverCapacity the number of tasks dropped because the queue was full
+ * @param shedUnderLoad the number of tasks dropped because the server was under load
+ * @param deferred the number of times a queued task was held over to a later tick because the server was under load
+ * @param queued the number of tasks currently waiting in the queue
+ */
+public record SendQueueStatistics(long submitted,
+								  long delivered,
+								  long shedOverCapacity,
+								  long shedUnderLoad,
+								  long deferred,
+								  int queued)
+{
+	/**
+	 * Returns the total number of tasks dropped without being run.
+	 *
+	 * @return the sum of tasks shed over capacity and under load
+	 */
+	public long shed()
+	{
+		return shedOverCapacity + shedUnderLoad;
+	}
+}
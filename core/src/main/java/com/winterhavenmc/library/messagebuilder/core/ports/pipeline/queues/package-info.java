@@ -0,0 +1,9 @@
+/**
+ * Defines the send queue stage of the message pipeline, which admits, defers or sheds message sends
+ * according to their {@link com.winterhavenmc.library.messagebuilder.models.language.message.MessagePriority priority},
+ * the capacity of the queue and the current server load, before any rendering work is performed.
+ *
+ * @see com.winterhavenmc.library.messagebuilder.core.ports.pipeline.queues.SendQueue
+ * @see com.winterhavenmc.library.messagebuilder.core.ports.pipeline.queues.LoadSignal
+ */
+package com.winterhavenmc.library.messagebuilder.core.ports.pipeline.queues;
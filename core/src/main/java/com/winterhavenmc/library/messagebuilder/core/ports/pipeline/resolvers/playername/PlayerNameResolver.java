@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.core.ports.pipeline.resolvers.playername;
+
+import org.bukkit.OfflinePlayer;
+import org.bukkit.entity.AnimalTamer;
+import org.bukkit.entity.Player;
+
+import java.util.Optional;
+import java.util.UUID;
+
+
+/**
+ * A strategy interface for obtaining the name of a player by {@link UUID} from an in-memory cache.
+ * <p>
+ * Calling {@link OfflinePlayer#getName()} for a player who is not online may trigger a profile
+ * lookup, which blocks the server thread. Implementations of this interface are expected to answer
+ * from memory only, returning an empty {@code Optional} when a name is not known. When a player instance
+ * is already in hand, {@link #resolveName(OfflinePlayer)} falls back to that instance on a cache miss, so that a
+ * cold cache does not lose the name of a known player.
+ *
+ * @see OfflinePlayer
+ * @see AnimalTamer
+ */
+@FunctionalInterface
+public interface PlayerNameResolver
+{
+	/**
+	 * Resolves the cached name of the player with the given {@link UUID}.
+	 *
+	 * @param playerUid the {@link UUID} of the player whose name is to be resolved
+	 * @return an {@code Optional} containing the player name, or an empty {@code Optional} if the name is not cached
+	 */
+	Optional<String> resolve(UUID playerUid);
+
+
+	/**
+	 * Resolves the name of the given player from the cache, falling back to the name held by the player instance
+	 * on a cache miss, so that a known player's name is not lost while the cache is cold.
+	 *
+	 * @param offlinePlayer the player whose name is to be resolved, which may be {@code null}
+	 * @return an {@code Optional} containing the player name, or an empty {@code Optional} if not known
+	 */
+	default Optional<String> resolveName(final OfflinePlayer offlinePlayer)
+	{
+		return (offlinePlayer != null)
+				? resolve(offlinePlayer.getUniqueId()).or(() -> Optional.ofNullable(offlinePlayer.getName()))
+				: Optional.empty();
+	}
+
+
+	/**
+	 * Returns an {@link AnimalTamer} whose name is served by this resolver. Offline players are replaced
+	 * by a {@link CachedTamer}; online players and other tamer types are returned unchanged, because their
+	 * names are already held in memory.
+	 *
+	 * @param animalTamer the tamer to resolve, which may be {@code null}
+	 * @return an {@code AnimalTamer} that does not block when its name is requested, or {@code null}
+	 */
+	default AnimalTamer resolveTamer(final AnimalTamer animalTamer)
+	{
+		return (animalTamer instanceof OfflinePlayer offlinePlayer && !(animalTamer instanceof Player))
+				? new CachedTamer(offlinePlayer.getUniqueId(), resolveName(offlinePlayer).orElse(null))
+				: animalTamer;
+	}
+
+
+	/**
+	 * An immutable {@link AnimalTamer} holding a player {@link UUID} and the name resolved for it.
+	 *
+	 * @param uniqueId the unique id of the player
+	 * @param name the cached name of the player, or {@code null} if not known
+	 */
+	record CachedTamer(UUID uniqueId, String name) implements AnimalTamer
+	{
+		@Override
+		public String getName()
+		{
+			return name;
+		}
+
+
+		@Override
+		public UUID getUniqueId()
+		{
+			return uniqueId;
+		}
+	}
+
+}
@@ -0,0 +1,7 @@
+/**
+ * Declares interfaces for resolving player names from a cache, so that names of offline players
+ * can be inserted into messages without a blocking profile lookup on the server thread
+ *
+ * @see com.winterhavenmc.library.messagebuilder.core.ports.pipeline.resolvers.playername.PlayerNameResolver
+ */
+package com.winterhavenmc.library.messagebuilder.core.ports.pipeline.resolvers.playername;
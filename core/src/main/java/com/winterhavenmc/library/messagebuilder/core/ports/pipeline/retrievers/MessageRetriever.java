@@ -21,6 +21,8 @@ import com.winterhavenmc.library.messagebuilder.models.keys.ValidMessageKey;
 import com.winterhavenmc.library.messagebuilder.models.language.message.MessageRecord;
 import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.Pipeline;
 
+import java.util.Collection;
+
 
 /**
  * A functional interface representing the first stage of the message pipeline:
@@ -40,4 +42,23 @@ import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.Pipeline;
 public interface MessageRetriever
 {
 	MessageRecord getRecord(ValidMessageKey key);
+
+
+	/**
+	 * Discards any records derived from previously loaded language data. Called after the language
+	 * file is reloaded. The default implementation holds no derived records, and does nothing.
+	 */
+	default void reload() { }
+
+
+	/**
+	 * Discards the records derived from the given messages only, after the language file is reloaded with
+	 * changes confined to those messages. The default implementation discards all derived records.
+	 *
+	 * @param changedKeys the keys of the messages that were added, changed or removed
+	 */
+	default void reload(Collection<ValidMessageKey> changedKeys)
+	{
+		reload();
+	}
 }
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.core.ports.pipeline.schedulers;
+
+
+/**
+ * A strategy interface for executing the two halves of an asynchronous message send.
+ * <p>
+ * Tasks passed to {@link #executeAsync(Runnable)} perform rendering work only and must not touch
+ * the server; tasks passed to {@link #executeSync(Runnable)} perform the final audience calls and are
+ * executed on the server thread.
+ */
+public interface PipelineScheduler
+{
+	/**
+	 * Executes a rendering task off the server thread.
+	 *
+	 * @param task the rendering task to execute
+	 */
+	void executeAsync(Runnable task);
+
+
+	/**
+	 * Executes a delivery task on the server thread. If the caller is already on the server
+	 * thread, implementations may run the task immediately.
+	 *
+	 * @param task the delivery task to execute
+	 */
+	void executeSync(Runnable task);
+
+
+	/**
+	 * Releases the threads used to execute rendering tasks. Rendering tasks already submitted are allowed to
+	 * complete, and rendering tasks submitted afterward are discarded. Implementations that own no threads
+	 * need not override this method.
+	 */
+	default void close()
+	{
+	}
+}
@@ -0,0 +1,12 @@
+/**
+ * Defines the threading abstraction used by the message pipeline when messages are sent asynchronously.
+ *
+ * <p>Rendering work (record retrieval, macro resolution, formatting and MiniMessage parsing) may be
+ * executed on any thread, while the final delivery of a message to an audience must occur on the
+ * server thread. The {@link com.winterhavenmc.library.messagebuilder.core.ports.pipeline.schedulers.PipelineScheduler PipelineScheduler}
+ * interface decouples the pipeline from the Bukkit scheduler, allowing a synchronous stand-in to be
+ * used in tests or environments without a running server.
+ *
+ * @see com.winterhavenmc.library.messagebuilder.core.ports.pipeline.schedulers.PipelineScheduler
+ */
+package com.winterhavenmc.library.messagebuilder.core.ports.pipeline.schedulers;
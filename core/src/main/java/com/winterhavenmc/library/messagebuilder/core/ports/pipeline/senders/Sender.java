@@ -20,6 +20,8 @@ package com.winterhavenmc.library.messagebuilder.core.ports.pipeline.senders;
 import com.winterhavenmc.library.messagebuilder.models.language.message.FinalMessageRecord;
 import com.winterhavenmc.library.messagebuilder.models.recipient.Recipient;
 
+import java.util.Collection;
+
 
 /**
  * A functional interface representing a message dispatch strategy responsible for
@@ -44,4 +46,38 @@ public interface Sender
 	 * @param messageRecord the final message record with all macros resolved and fields populated
 	 */
 	void send(Recipient.Sendable recipient, FinalMessageRecord messageRecord);
+
+
+	/**
+	 * Prepares a processed message for delivery to the given recipient. Any rendering work is performed
+	 * by this method, which may be called from any thread. The returned task performs only the final
+	 * delivery and must be run on the server thread.
+	 * <p>
+	 * The default implementation defers all work to {@link #send(Recipient.Sendable, FinalMessageRecord)}.
+	 *
+	 * @param recipient the recipient of the message
+	 * @param messageRecord the final message record with all macros resolved and fields populated
+	 * @return a task that delivers the prepared message when run
+	 */
+	default Runnable prepare(final Recipient.Sendable recipient, final FinalMessageRecord messageRecord)
+	{
+		return () -> send(recipient, messageRecord);
+	}
+
+
+	/**
+	 * Sends a processed message to each of the given recipients. The message record must not contain
+	 * any recipient-specific content, since it is delivered unchanged to every recipient.
+	 * <p>
+	 * The default implementation calls {@link #send(Recipient.Sendable, FinalMessageRecord)} once per recipient.
+	 * Implementations may override this method to parse the message once and deliver it through a single
+	 * multi-recipient audience.
+	 *
+	 * @param recipients the recipients of the message
+	 * @param messageRecord the final message record with all macros resolved and fields populated
+	 */
+	default void broadcast(final Collection<Recipient.Sendable> recipients, final FinalMessageRecord messageRecord)
+	{
+		recipients.forEach(recipient -> send(recipient, messageRecord));
+	}
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.core.ports.pipeline.snapshots;
+
+import com.winterhavenmc.library.messagebuilder.core.maps.MacroObjectMap;
+import com.winterhavenmc.library.messagebuilder.models.keys.MacroKey;
+
+import java.util.Collection;
+
+
+/**
+ * A strategy interface for capturing the state of a macro value at the moment a message is sent.
+ * <p>
+ * Objects passed to {@code Message.setMacro} are frequently live server objects, such as players,
+ * locations or worlds, whose state may only be read safely on the server thread. Implementations
+ * replace such objects with immutable value records that expose only the fields required by the
+ * macro accessors, and return immutable or unsupported values unchanged.
+ */
+@FunctionalInterface
+public interface MacroSnapshotter
+{
+	/**
+	 * Returns an immutable snapshot of the given macro value, or the value itself if it is already
+	 * immutable or is not supported by this snapshotter.
+	 *
+	 * @param value the macro value to capture
+	 * @return an immutable snapshot of the value
+	 */
+	Object snapshot(Object value);
+
+
+	/**
+	 * Returns a new {@link MacroObjectMap} in which every value of the given map has been replaced
+	 * by its snapshot. The given map is not modified.
+	 *
+	 * @param macroObjectMap the map of macro values to capture
+	 * @return a new map containing snapshots of the macro values
+	 */
+	default MacroObjectMap snapshotAll(final MacroObjectMap macroObjectMap)
+	{
+		return macroObjectMap.mapValues(this::snapshot);
+	}
+
+
+	/**
+	 * Returns a new {@link MacroObjectMap} containing snapshots of the values bound to the given keys only.
+	 * Keys absent from the given map are omitted, and lazy values bound to any other key are never computed.
+	 * The given map is not modified.
+	 *
+	 * @param macroObjectMap the map of macro values to capture
+	 * @param macroKeys the keys whose values are to be captured, such as the keys referenced by a message template
+	 * @return a new map containing snapshots of the values bound to the given keys
+	 */
+	default MacroObjectMap snapshotAll(final MacroObjectMap macroObjectMap, final Collection<? extends MacroKey> macroKeys)
+	{
+		final MacroObjectMap result = new MacroObjectMap();
+		macroKeys.forEach(macroKey -> macroObjectMap.get(macroKey)
+				.ifPresent(value -> result.put(macroKey, snapshot(value))));
+		return result;
+	}
+}
@@ -0,0 +1,8 @@
+/**
+ * Defines the snapshot stage of the message pipeline, which replaces live server objects supplied as
+ * macro values with immutable value records, so that macro resolution and formatting may be performed
+ * on any thread.
+ *
+ * @see com.winterhavenmc.library.messagebuilder.core.ports.pipeline.snapshots.MacroSnapshotter
+ */
+package com.winterhavenmc.library.messagebuilder.core.ports.pipeline.snapshots;
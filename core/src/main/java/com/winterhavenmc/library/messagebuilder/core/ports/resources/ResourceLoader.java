@@ -19,6 +19,8 @@ package com.winterhavenmc.library.messagebuilder.core.ports.resources;
 
 import org.bukkit.configuration.Configuration;
 
+import java.util.function.Supplier;
+
 
 /**
  * An interface that represents classes responsible for loading an installed resource file from
@@ -33,4 +35,14 @@ public interface ResourceLoader
 	 * @return {@link Configuration} containing the configuration loaded from the language file
 	 */
 	Configuration load();
+
+
+	/**
+	 * Reads the plugin configuration on the calling thread, which must be the server thread, and returns a task
+	 * that loads the configuration object from file without calling the server, so that the file may be read and
+	 * parsed on any thread
+	 *
+	 * @return a task that returns the {@link Configuration} loaded from the resource file
+	 */
+	Supplier<Configuration> prepareLoad();
 }
@@ -17,6 +17,10 @@
 
 package com.winterhavenmc.library.messagebuilder.core.ports.resources;
 
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
 
 /**
  * An interface that describes a resource manager that is responsible for installing resources
@@ -35,7 +39,30 @@ public interface ResourceManager
 
 
 	/**
-	 * Reload resource into a bukkit Configuration object
+	 * Installs and loads the resource into a bukkit Configuration object, without publishing it to the
+	 * providers of this manager. This method installs resources and reads the plugin configuration, and must be
+	 * called on the server thread; use {@link #prepareReload()} to read and parse the resource on another thread.
+	 *
+	 * @return an {@link Optional} containing an update that places the loaded configuration in a
+	 * {@link ResourceSnapshot}, or an empty {@code Optional} if the resource could not be loaded
+	 */
+	Optional<UnaryOperator<ResourceSnapshot>> stageReload();
+
+
+	/**
+	 * Installs the resource, and reads the plugin configuration, on the calling thread, which must be the server
+	 * thread, and returns a task that reads and parses the resource file without calling the server, so that the
+	 * task may be run on any thread. The task does not publish the loaded configuration to the providers of this
+	 * manager.
+	 *
+	 * @return a task that returns an {@link Optional} containing an update that places the loaded configuration
+	 * in a {@link ResourceSnapshot}, or an empty {@code Optional} if the resource could not be loaded
+	 */
+	Supplier<Optional<UnaryOperator<ResourceSnapshot>>> prepareReload();
+
+
+	/**
+	 * Reload resource into a bukkit Configuration object, and publish it in a new {@link ResourceSnapshot}
 	 *
 	 * @return true if successful, false if not
 	 */
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.winterhavenmc.library.messagebuilder.core.ports.resources;
+
+import org.bukkit.configuration.Configuration;
+import org.bukkit.configuration.MemoryConfiguration;
+
+import java.util.Locale;
+
+
+/**
+ * An immutable view of the language and sound resources as they were published together. Messages, items
+ * and constants are all read from the same language configuration, so a snapshot covers every resource a
+ * render may consult. Each publication of a snapshot is given the next epoch number.
+ * <p>
+ * A published snapshot carries the configured language file, and its pack is {@link Locale#ROOT}. A snapshot
+ * derived from it for a recipient in another locale carries the language pack of that locale in place of the
+ * configured language file, and the locale of the pack, so that anything derived from the language configuration
+ * can be held separately for each pack.
+ *
+ * @param epoch the publication number of this snapshot, starting at zero
+ * @param language the language configuration of this snapshot
+ * @param sounds the sound configuration of this snapshot
+ * @param pack the locale of the language pack of this snapshot, or {@link Locale#ROOT} for the configured language file
+ */
+public record ResourceSnapshot(long epoch, Configuration language, Configuration sounds, Locale pack)
+{
+	/**
+	 * Constructs a snapshot of the configured language file
+	 *
+	 * @param epoch the publication number of this snapshot
+	 * @param language the language configuration of this snapshot
+	 * @param sounds the sound configuration of this snapshot
+	 */
+	public ResourceSnapshot(final long epoch, final Configuration language, final Configuration sounds)
+	{
+		this(epoch, language, sounds, Locale.ROOT);
+	}
+
+
+	/**
+	 * Returns the initial snapshot, with empty configurations, that is current before any resource is published
+	 *
+	 * @return a snapshot of epoch zero with empty language and sound configurations
+	 */
+	public static ResourceSnapshot empty()
+	{
+		return new ResourceSnapshot(0L, new MemoryConfiguration(), new MemoryConfiguration());
+	}
+
+
+	/**
+	 * Returns a copy of this snapshot with the given language configuration
+	 *
+	 * @param language the language configuration of the new snapshot
+	 * @return a snapshot of the same epoch that carries the given language configuration
+	 */
+	public ResourceSnapshot withLanguage(final Configuration language)
+	{
+		return new ResourceSnapshot(epoch, language, sounds, pack);
+	}
+
+
+	/**
+	 * Returns a copy of this snapshot with the given sound configuration
+	 *
+	 * @param sounds the sound configuration of the new snapshot
+	 * @return a snapshot of the same epoch that carries the given sound configuration
+	 */
+	public ResourceSnapshot withSounds(final Configuration sounds)
+	{
+		return new ResourceSnapshot(epoch, language, sounds, pack);
+	}
+
+
+	/**
+	 * Returns a copy of this snapshot with the language pack of a locale in place of its language configuration
+	 *
+	 * @param pack the locale of the language pack
+	 * @param language the language pack
+	 * @return a snapshot of the same epoch that carries the given language pack
+	 */
+	public ResourceSnapshot withPack(final Locale pack, final Configuration language)
+	{
+		return new ResourceSnapshot(epoch, language, sounds, pack);
+	}
+
+}
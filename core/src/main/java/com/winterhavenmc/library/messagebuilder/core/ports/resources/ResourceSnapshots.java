@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.winterhavenmc.library.messagebuilder.core.ports.resources;
+
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+
+/**
+ * An interface that describes the holder of the current {@link ResourceSnapshot}. A reload publishes a new
+ * snapshot in a single atomic step, and a render may pin the snapshot it started with, so that every resource
+ * read during the render comes from one epoch even if a reload is published part way through.
+ */
+public interface ResourceSnapshots
+{
+	/**
+	 * Returns the snapshot pinned on the calling thread, or the latest published snapshot if none is pinned
+	 *
+	 * @return the snapshot from which resources should be read on the calling thread
+	 */
+	ResourceSnapshot current();
+
+
+	/**
+	 * Publishes a new snapshot, computed from the latest snapshot by the given update, with the next epoch number.
+	 * The update may be applied more than once if publications race, and should have no side effects.
+	 *
+	 * @param update a function that returns the new snapshot contents from the latest snapshot
+	 * @return the snapshot that was published
+	 */
+	ResourceSnapshot publish(UnaryOperator<ResourceSnapshot> update);
+
+
+	/**
+	 * Runs the given task with the given snapshot pinned on the calling thread, restoring any previously pinned
+	 * snapshot when the task completes
+	 *
+	 * @param snapshot the snapshot to pin for the duration of the task
+	 * @param task the task to run
+	 * @param <T> the type of the result of the task
+	 * @return the result of the task
+	 */
+	<T> T callPinned(ResourceSnapshot snapshot, Supplier<T> task);
+
+
+	/**
+	 * Runs the given task with the given snapshot pinned on the calling thread
+	 *
+	 * @param snapshot the snapshot to pin for the duration of the task
+	 * @param task the task to run
+	 */
+	default void runPinned(final ResourceSnapshot snapshot, final Runnable task)
+	{
+		callPinned(snapshot, () ->
+		{
+			task.run();
+			return null;
+		});
+	}
+
+}
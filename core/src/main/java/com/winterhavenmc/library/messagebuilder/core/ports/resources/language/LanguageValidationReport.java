@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.core.ports.resources.language;
+
+import java.util.List;
+
+
+/**
+ * The result of validating every installed language file ahead of time. All problems found in all files are
+ * collected into a single report, in the order of the files and of the entries within them.
+ *
+ * @param files the number of language files that were validated
+ * @param messages the number of message entries that were validated, across all files
+ * @param issues the problems that were found, or an empty list if none were found
+ */
+public record LanguageValidationReport(int files, int messages, List<Issue> issues)
+{
+	public LanguageValidationReport
+	{
+		issues = List.copyOf(issues);
+	}
+
+
+	/**
+	 * The kinds of problem that may be found in a language file
+	 */
+	public enum Kind
+	{
+		INVALID_FILE,
+		INVALID_KEY,
+		MISSING_MESSAGE,
+		UNKNOWN_MESSAGE,
+		INVALID_MESSAGE,
+		UNKNOWN_MACRO,
+		INVALID_MINIMESSAGE,
+		UNKNOWN_TAG,
+		INVALID_ITEM,
+		INVALID_CONSTANT,
+	}
+
+
+	/**
+	 * A single problem found in a language file
+	 *
+	 * @param file the name of the language file
+	 * @param path the path of the entry in the language file, e.g. {@code MESSAGES.ENABLED_MESSAGE.MESSAGE_TEXT},
+	 *             or an empty string if the problem concerns the whole file
+	 * @param kind the kind of problem
+	 * @param detail the offending value, or a description of the problem
+	 */
+	public record Issue(String file, String path, Kind kind, String detail)
+	{
+		@Override
+		public String toString()
+		{
+			return (path.isEmpty())
+					? file + ": " + kind + " (" + detail + ")"
+					: file + ": " + path + ": " + kind + " (" + detail + ")";
+		}
+	}
+
+
+	/**
+	 * Returns {@code true} if no problem was found in any language file
+	 *
+	 * @return {@code true} if the report has no issues
+	 */
+	public boolean isClean()
+	{
+		return issues.isEmpty();
+	}
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.winterhavenmc.library.messagebuilder.core.ports.resources.language;
+
+import com.winterhavenmc.library.messagebuilder.core.ports.resources.ResourceSnapshot;
+import com.winterhavenmc.library.messagebuilder.models.recipient.Recipient;
+
+
+/**
+ * Selects the language resources from which a message is rendered for a recipient, according to the locale of
+ * the recipient's client.
+ */
+public interface LocalePacks
+{
+	/**
+	 * Returns the snapshot from which a message to the given recipient is rendered
+	 *
+	 * @param snapshot the published snapshot current when the message was sent
+	 * @param recipient the recipient of the message
+	 * @return a snapshot of the same epoch carrying the language pack of the recipient's locale, or the given
+	 * snapshot if the recipient has no locale, or there is no language pack for it
+	 */
+	ResourceSnapshot select(ResourceSnapshot snapshot, Recipient.Sendable recipient);
+
+
+	/**
+	 * Discards all loaded language packs. Called after the language files are reloaded. The default
+	 * implementation holds no language packs, and does nothing.
+	 */
+	default void clear() { }
+}
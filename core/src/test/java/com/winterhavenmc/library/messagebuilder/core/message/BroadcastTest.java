@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.core.message;
+
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.Pipeline;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.formatters.duration.BoundedDuration;
+import com.winterhavenmc.library.messagebuilder.core.util.Macro;
+import com.winterhavenmc.library.messagebuilder.core.util.MessageId;
+
+import com.winterhavenmc.library.messagebuilder.models.keys.MacroKey;
+import com.winterhavenmc.library.messagebuilder.models.keys.MessageKey;
+import com.winterhavenmc.library.messagebuilder.models.keys.ValidMessageKey;
+import com.winterhavenmc.library.messagebuilder.models.recipient.Recipient;
+
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+class BroadcastTest
+{
+	@Mock Plugin pluginMock;
+	@Mock Player playerMock;
+	@Mock Pipeline messagePipelineMock;
+
+	ValidMessageKey messageKey;
+	Recipient.Sendable recipient;
+
+
+	@BeforeEach
+	void setUp()
+	{
+		messageKey = MessageKey.of(MessageId.ENABLED_MESSAGE).isValid().orElseThrow();
+		recipient = (Recipient.Sendable) Recipient.of(playerMock);
+	}
+
+
+	@Test @DisplayName("send delegates to pipeline broadcast")
+	void send_delegates_to_pipeline()
+	{
+		// Arrange
+		Broadcast broadcast = new Broadcast(pluginMock, List.of(recipient), messageKey, messagePipelineMock);
+
+		// Act
+		boolean result = broadcast.send();
+
+		// Assert
+		assertTrue(result);
+		verify(messagePipelineMock, times(1)).broadcast(broadcast);
+	}
+
+
+	@Test @DisplayName("send returns false and does not call pipeline given no recipients")
+	void send_returns_false_given_no_recipients()
+	{
+		// Arrange
+		Broadcast broadcast = new Broadcast(pluginMock, List.of(), messageKey, messagePipelineMock);
+
+		// Act
+		boolean result = broadcast.send();
+
+		// Assert
+		assertFalse(result);
+		verifyNoInteractions(messagePipelineMock);
+	}
+
+
+	@Test @DisplayName("object map contains plugin and macros but not recipient")
+	void objectMap_does_not_contain_recipient()
+	{
+		// Arrange & Act
+		Broadcast broadcast = new Broadcast(pluginMock, List.of(recipient), messageKey, messagePipelineMock)
+				.setMacro(Macro.ITEM_NUMBER, 42)
+				.setMacro(Macro.DURATION, Duration.ofMinutes(5), ChronoUnit.MINUTES);
+
+		// Assert
+		assertEquals(Optional.of(pluginMock), broadcast.getObjectMap().get(MacroKey.of("PLUGIN").isValid().orElseThrow()));
+		assertEquals(Optional.of(42), broadcast.getObjectMap().get(MacroKey.of(Macro.ITEM_NUMBER).isValid().orElseThrow()));
+		assertInstanceOf(BoundedDuration.class, broadcast.getObjectMap().get(MacroKey.of(Macro.DURATION).isValid().orElseThrow()).orElseThrow());
+		assertTrue(broadcast.getObjectMap().get(MacroKey.of("RECIPIENT").isValid().orElseThrow()).isEmpty());
+		assertEquals(List.of(recipient), broadcast.getRecipients());
+	}
+
+
+
+	@Test @DisplayName("setMacro binds quantity and lazy values like a message, keeping the first value bound")
+	void setMacro_binds_like_message()
+	{
+		// Arrange
+		AtomicInteger calls = new AtomicInteger();
+
+		// Act
+		Broadcast broadcast = new Broadcast(pluginMock, List.of(recipient), messageKey, messagePipelineMock)
+				.setMacro(3, Macro.ITEM_NUMBER, "item")
+				.setMacro(Macro.ITEM_NUMBER, "ignored")
+				.setMacro(Macro.DURATION, () -> calls.incrementAndGet());
+
+		// Assert
+		assertEquals(Optional.of("item"), broadcast.getObjectMap().get(MacroKey.of(Macro.ITEM_NUMBER).isValid().orElseThrow()));
+		assertEquals(Optional.of(3), broadcast.getObjectMap().get(MacroKey.of("ITEM_NUMBER.QUANTITY").isValid().orElseThrow()));
+		assertEquals(0, calls.get());
+		assertEquals(Optional.of(1), broadcast.getObjectMap().get(MacroKey.of(Macro.DURATION).isValid().orElseThrow()));
+	}
+
+}
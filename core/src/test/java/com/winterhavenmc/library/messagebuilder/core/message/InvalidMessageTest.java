@@ -70,6 +70,18 @@ class InvalidMessageTest
 		assertDoesNotThrow(() -> invalidMessage.send());
 	}
 
+	@Test
+	void isSuppressed()
+	{
+		assertTrue(invalidMessage.isSuppressed());
+	}
+
+	@Test
+	void sendAsync()
+	{
+		assertDoesNotThrow(() -> invalidMessage.sendAsync());
+	}
+
 	@Test
 	void getMessageKey()
 	{
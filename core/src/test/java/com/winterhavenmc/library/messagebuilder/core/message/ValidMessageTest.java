@@ -49,10 +49,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.winterhavenmc.library.messagebuilder.models.validation.ErrorMessageKey.PARAMETER_INVALID;
 import static com.winterhavenmc.library.messagebuilder.models.validation.Parameter.RECIPIENT;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 
 @ExtendWith(MockitoExtension.class)
@@ -153,6 +155,26 @@ class ValidMessageTest
 		}
 
 
+		@Test @DisplayName("test setMacro method with supplier defers value until retrieved")
+		void testSetMacro_supplier()
+		{
+			// Arrange
+			AtomicInteger invocations = new AtomicInteger();
+			Message newMessage = message.setMacro(Macro.TOOL, () ->
+			{
+				invocations.incrementAndGet();
+				return itemStack;
+			});
+			ValidMacroKey macroKey = MacroKey.of(Macro.TOOL).isValid().orElseThrow();
+
+			// Act & Assert
+			assertEquals(0, invocations.get(), "Supplier should not be invoked by setMacro.");
+			assertEquals(itemStack, newMessage.getObjectMap().get(macroKey).orElseThrow());
+			assertEquals(itemStack, newMessage.getObjectMap().get(macroKey).orElseThrow());
+			assertEquals(1, invocations.get(), "Supplier should be invoked only once.");
+		}
+
+
 		@Test @DisplayName("test setMacro method with null macro")
 		@Disabled
 		// Act
@@ -272,6 +294,38 @@ class ValidMessageTest
 	}
 
 
+	@Test
+	void testSendAsync()
+	{
+		// Act
+		boolean result = message.sendAsync();
+
+		// Assert
+		assertTrue(result);
+
+		// Verify
+		verify(messagePipelineMock, times(1)).initiateAsync((ValidMessage) message);
+	}
+
+
+	@Test
+	void testIsSuppressed()
+	{
+		// Arrange
+		when(messagePipelineMock.isSuppressed((ValidMessage) message)).thenReturn(true);
+
+		// Act
+		boolean result = message.isSuppressed();
+
+		// Assert
+		assertTrue(result);
+
+		// Verify
+		verify(messagePipelineMock, times(1)).isSuppressed((ValidMessage) message);
+		verify(messagePipelineMock, never()).initiate(any());
+	}
+
+
 	@Test
 	void emptyMessage_shouldNotBeNull()
 	{
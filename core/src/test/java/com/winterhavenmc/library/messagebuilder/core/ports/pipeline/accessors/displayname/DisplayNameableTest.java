@@ -26,6 +26,7 @@ import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.formatters.n
 import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.resolvers.itemname.ItemDisplayNameResolver;
 import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.resolvers.itemname.ItemNameResolver;
 import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.resolvers.itemname.ItemPluralNameResolver;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.resolvers.playername.PlayerNameResolver;
 import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.resolvers.worldname.WorldNameResolver;
 import com.winterhavenmc.library.messagebuilder.models.configuration.ConfigRepository;
 import com.winterhavenmc.library.messagebuilder.models.keys.MacroKey;
@@ -50,6 +51,7 @@ class DisplayNameableTest
 	@Mock DurationFormatter durationFormatterMock;
 	@Mock NumberFormatter numberFormatterMock;
 	@Mock WorldNameResolver worldNameResolverMock;
+	@Mock PlayerNameResolver playerNameResolverMock;
 	@Mock ItemNameResolver itemNameResolverMock;
 	@Mock ItemDisplayNameResolver itemDisplayNameResolverMock;
 	@Mock ItemPluralNameResolver itemPluralNameResolver;
@@ -99,7 +101,7 @@ class DisplayNameableTest
 		TestObject testObject = new TestObject();
 		FormatterCtx formatterCtx = new FormatterCtx(configRepositoryMock, durationFormatterMock, numberFormatterMock, MiniMessage.miniMessage());
 		AccessorCtx accessorCtx = new AccessorCtx(worldNameResolverMock, itemNameResolverMock,
-				itemDisplayNameResolverMock, itemPluralNameResolver, formatterCtx);
+				itemDisplayNameResolverMock, itemPluralNameResolver, playerNameResolverMock, formatterCtx);
 
 		// Act
 		MacroStringMap result = testObject.extractDisplayName(baseKey, accessorCtx);
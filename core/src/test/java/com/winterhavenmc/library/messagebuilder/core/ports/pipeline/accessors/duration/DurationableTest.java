@@ -26,6 +26,7 @@ import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.formatters.n
 import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.resolvers.itemname.ItemDisplayNameResolver;
 import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.resolvers.itemname.ItemNameResolver;
 import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.resolvers.itemname.ItemPluralNameResolver;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.resolvers.playername.PlayerNameResolver;
 import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.resolvers.worldname.WorldNameResolver;
 import com.winterhavenmc.library.messagebuilder.models.configuration.ConfigRepository;
 import com.winterhavenmc.library.messagebuilder.models.keys.MacroKey;
@@ -58,6 +59,7 @@ class DurationableTest
 	@Mock ConfigRepository configRepositoryMock;
 	@Mock NumberFormatter numberFormatterMock;
 	@Mock WorldNameResolver worldNameResolverMock;
+	@Mock PlayerNameResolver playerNameResolverMock;
 	@Mock ItemNameResolver itemNameResolverMock;
 	@Mock ItemDisplayNameResolver itemDisplayNameResolverMock;
 	@Mock ItemPluralNameResolver itemPluralNameResolver;
@@ -108,7 +110,7 @@ class DurationableTest
 		when(durationFormatterMock.format(any(), eq(ChronoUnit.MINUTES))).thenReturn("valid duration string");
 		FormatterCtx formatterCtx = new FormatterCtx(configRepositoryMock, durationFormatterMock, numberFormatterMock, MiniMessage.miniMessage());
 		AccessorCtx accessorCtx = new AccessorCtx(worldNameResolverMock, itemNameResolverMock,
-				itemDisplayNameResolverMock, itemPluralNameResolver, formatterCtx);
+				itemDisplayNameResolverMock, itemPluralNameResolver, playerNameResolverMock, formatterCtx);
 
 		// Act
 		MacroStringMap result = testObject.extractDuration(baseKey, ChronoUnit.MINUTES, accessorCtx);
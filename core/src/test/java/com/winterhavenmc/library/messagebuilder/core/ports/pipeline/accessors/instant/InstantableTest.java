@@ -26,6 +26,7 @@ import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.formatters.n
 import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.resolvers.itemname.ItemDisplayNameResolver;
 import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.resolvers.itemname.ItemNameResolver;
 import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.resolvers.itemname.ItemPluralNameResolver;
+import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.resolvers.playername.PlayerNameResolver;
 import com.winterhavenmc.library.messagebuilder.core.ports.pipeline.resolvers.worldname.WorldNameResolver;
 import com.winterhavenmc.library.messagebuilder.models.configuration.ConfigRepository;
 import com.winterhavenmc.library.messagebuilder.models.keys.MacroKey;
@@ -54,6 +55,7 @@ class InstantableTest
 {
 	@Mock ConfigRepository configRepositoryMock;
 	@Mock WorldNameResolver worldNameResolverMock;
+	@Mock PlayerNameResolver playerNameResolverMock;
 	@Mock ItemNameResolver itemNameResolverMock;
 	@Mock ItemDisplayNameResolver itemDisplayNameResolver;
 	@Mock ItemPluralNameResolver itemPluralNameResolver;
@@ -105,7 +107,7 @@ class InstantableTest
 		TestObject testObject = new TestObject();
 		FormatterCtx formatterCtx = new FormatterCtx(configRepositoryMock, durationFormatterMock, numberFormatterMock, MiniMessage.miniMessage());
 		AccessorCtx accessorCtx = new AccessorCtx(worldNameResolverMock, itemNameResolverMock, itemDisplayNameResolver,
-				itemPluralNameResolver, formatterCtx);
+				itemPluralNameResolver, playerNameResolverMock, formatterCtx);
 		when(configRepositoryMock.zoneId()).thenReturn(ZoneId.of("UTC"));
 		when(configRepositoryMock.dateLocale()).thenReturn(Locale.US);
 
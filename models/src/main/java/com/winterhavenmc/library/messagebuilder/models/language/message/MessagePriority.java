@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.models.language.message;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+
+/**
+ * The delivery priority of a message, used by a bounded send queue to decide which messages
+ * to drop or defer when the queue is full or the server is under load.
+ * <p>
+ * Priorities may be assigned per message in the language file, using the {@code PRIORITY} field of a
+ * message entry, or per send, using {@code Message.setPriority}. Messages without an assigned priority
+ * are treated as {@link #NORMAL}.
+ */
+public enum MessagePriority
+{
+	/**
+	 * Informational messages that may be dropped whenever the server is under load.
+	 */
+	LOW,
+
+	/**
+	 * The default priority. Deferred to a later tick while the server is under load.
+	 */
+	NORMAL,
+
+	/**
+	 * Messages that are delivered even while the server is under load, but may be dropped
+	 * in favour of critical messages when the queue is full.
+	 */
+	HIGH,
+
+	/**
+	 * Messages that bypass the send queue entirely, and are never dropped or deferred.
+	 */
+	CRITICAL;
+
+
+	/**
+	 * Returns the priority whose name matches the given string, ignoring case.
+	 *
+	 * @param string the string to parse
+	 * @return an {@code Optional} containing the matching priority, or an empty {@code Optional} if none matches
+	 */
+	public static Optional<MessagePriority> parse(final String string)
+	{
+		return (string == null)
+				? Optional.empty()
+				: Arrays.stream(values()).filter(priority -> priority.name().equalsIgnoreCase(string.trim())).findFirst();
+	}
+}
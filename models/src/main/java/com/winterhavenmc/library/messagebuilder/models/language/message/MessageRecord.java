@@ -98,12 +98,15 @@ public sealed interface MessageRecord extends SectionRecord permits ValidMessage
 	{
 		ENABLED("ENABLED"),
 		REPEAT_DELAY("REPEAT_DELAY"),
+		RATE_LIMIT("RATE_LIMIT"),
+		RATE_LIMIT_PERIOD("RATE_LIMIT_PERIOD"),
 		MESSAGE_TEXT("MESSAGE_TEXT"),
 		TITLE_TEXT("TITLE_TEXT"),
 		TITLE_FADE_IN("TITLE_FADE_IN"),
 		TITLE_STAY("TITLE_STAY"),
 		TITLE_FADE_OUT("TITLE_FADE_OUT"),
-		SUBTITLE_TEXT("SUBTITLE_TEXT");
+		SUBTITLE_TEXT("SUBTITLE_TEXT"),
+		PRIORITY("PRIORITY");
 
 		private final String keyString;
 
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.models.language.message;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import static com.winterhavenmc.library.messagebuilder.models.validation.ErrorMessageKey.PARAMETER_INVALID;
+import static com.winterhavenmc.library.messagebuilder.models.validation.ErrorMessageKey.PARAMETER_NULL;
+import static com.winterhavenmc.library.messagebuilder.models.validation.Parameter.DURATION;
+import static com.winterhavenmc.library.messagebuilder.models.validation.Validator.throwing;
+import static com.winterhavenmc.library.messagebuilder.models.validation.Validator.validate;
+
+
+/**
+ * The global send rate limit of a message, applied across all recipients. A message with a rate limit may be
+ * sent at most {@code burst} times in a burst, after which sends are suppressed until tokens are refilled.
+ * Tokens are refilled evenly, at a rate of {@code burst} tokens per {@code period}.
+ * <p>
+ * Rate limits are assigned per message in the language file, using the {@code RATE_LIMIT} and
+ * {@code RATE_LIMIT_PERIOD} fields of a message entry. A message without a positive {@code RATE_LIMIT}
+ * is not rate limited. A rate limit with a positive burst must have a positive period; use
+ * {@link #of(int, Duration)} to obtain {@link #UNLIMITED} for any other combination.
+ *
+ * @param burst the maximum number of sends permitted in a burst
+ * @param period the time over which a full burst of tokens is refilled
+ */
+public record RateLimit(int burst, Duration period)
+{
+	/**
+	 * A rate limit that permits every send.
+	 */
+	public static final RateLimit UNLIMITED = new RateLimit(0, Duration.ZERO);
+
+
+	/**
+	 * Compact constructor
+	 *
+	 * @throws com.winterhavenmc.library.messagebuilder.models.validation.ValidationException if the burst is
+	 * positive and the period is null or not a positive duration
+	 */
+	public RateLimit
+	{
+		if (burst > 0)
+		{
+			validate(period, Objects::isNull, throwing(PARAMETER_NULL, DURATION));
+			validate(period, duration -> !duration.isPositive(), throwing(PARAMETER_INVALID, DURATION));
+		}
+	}
+
+
+	/**
+	 * Static factory method. Returns {@link #UNLIMITED} if the burst is not positive or the period is
+	 * not a positive duration.
+	 *
+	 * @param burst the maximum number of sends permitted in a burst
+	 * @param period the time over which a full burst of tokens is refilled
+	 * @return a {@code RateLimit} for the given burst and period
+	 */
+	public static RateLimit of(final int burst, final Duration period)
+	{
+		return (burst > 0 && period != null && period.isPositive())
+				? new RateLimit(burst, period)
+				: UNLIMITED;
+	}
+
+
+	/**
+	 * Reports whether this rate limit restricts sends.
+	 *
+	 * @return {@code true} if sends are restricted by this rate limit, {@code false} if every send is permitted
+	 */
+	public boolean isLimited()
+	{
+		return burst > 0;
+	}
+}
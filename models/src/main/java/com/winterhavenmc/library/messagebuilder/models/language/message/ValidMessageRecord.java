@@ -38,6 +38,8 @@ import java.util.Optional;
  *   <li>Optional title and subtitle text</li>
  *   <li>Title animation parameters (fade-in, stay, fade-out durations)</li>
  *   <li>An optional repeat delay for scheduled messages</li>
+ *   <li>An optional global {@link RateLimit}, applied across all recipients</li>
+ *   <li>A delivery {@link MessagePriority}, which defaults to {@link MessagePriority#NORMAL}</li>
  * </ul>
  * <p>
  * This class is created via the {@link #create(ValidMessageKey, ConfigurationSection)} factory method,
@@ -55,11 +57,13 @@ public final class ValidMessageRecord implements MessageRecord
 	private final boolean enabled;
 	private final String message;
 	private final Duration repeatDelay;
+	private final RateLimit rateLimit;
 	private final String title;
 	private final Duration titleFadeIn;
 	private final Duration titleStay;
 	private final Duration titleFadeOut;
 	private final String subtitle;
+	private final MessagePriority priority;
 
 
 	/**
@@ -71,6 +75,7 @@ public final class ValidMessageRecord implements MessageRecord
 	 * @param enabled the enabled setting for the message
 	 * @param message the raw message string, with placeholders
 	 * @param repeatDelay the repeat delay setting for the message
+	 * @param rateLimit the global rate limit setting for the message
 	 * @param title the raw title string, with placeholders
 	 * @param titleFadeIn the title fade in setting for the message
 	 * @param titleStay the title stay setting for the message
@@ -81,21 +86,25 @@ public final class ValidMessageRecord implements MessageRecord
 							   boolean enabled,
 							   String message,
 							   Duration repeatDelay,
+							   RateLimit rateLimit,
 							   String title,
 							   Duration titleFadeIn,
 							   Duration titleStay,
 							   Duration titleFadeOut,
-							   String subtitle)
+							   String subtitle,
+							   MessagePriority priority)
 	{
 		this.key = key;
 		this.enabled = enabled;
 		this.message = message;
 		this.repeatDelay = repeatDelay;
+		this.rateLimit = rateLimit;
 		this.title = title;
 		this.titleFadeIn = titleFadeIn;
 		this.titleStay = titleStay;
 		this.titleFadeOut = titleFadeOut;
 		this.subtitle = subtitle;
+		this.priority = priority;
 	}
 
 
@@ -122,6 +131,10 @@ public final class ValidMessageRecord implements MessageRecord
 		// defaults to zero, no ternary operator necessary
 		Duration repeatDelay = Duration.ofSeconds(section.getLong(Field.REPEAT_DELAY.toString()));
 
+		// defaults to unlimited if rate limit not present; rate limit period defaults to one second if not present
+		RateLimit rateLimit = RateLimit.of(section.getInt(Field.RATE_LIMIT.toString()),
+				Duration.ofSeconds(section.getLong(Field.RATE_LIMIT_PERIOD.toString(), 1L)));
+
 		// defaults to empty string if not present
 		String titleText = section.contains(Field.TITLE_TEXT.toString())
 				? section.getString(Field.TITLE_TEXT.toString())
@@ -148,8 +161,33 @@ public final class ValidMessageRecord implements MessageRecord
 				: "";
 
 
-		return new ValidMessageRecord(key, enabled, messageText, repeatDelay,
-				titleText, titleFadeIn, titleStay, titleFadeOut, subtitleText);
+		// defaults to NORMAL if not present or not a valid priority name
+		MessagePriority priority = MessagePriority.parse(section.getString(Field.PRIORITY.toString()))
+				.orElse(MessagePriority.NORMAL);
+
+		return new ValidMessageRecord(key, enabled, messageText, repeatDelay, rateLimit,
+				titleText, titleFadeIn, titleStay, titleFadeOut, subtitleText, priority);
+	}
+
+
+	/**
+	 * Creates a {@code ValidMessageRecord} with the same settings as this record, but with the given
+	 * message, title and subtitle templates in place of the templates of this record.
+	 * <p>
+	 * This is used to store templates that have been partially resolved ahead of time, such as
+	 * templates in which macros whose values never change have been substituted.
+	 *
+	 * @param messageTemplate the replacement message template
+	 * @param titleTemplate the replacement title template
+	 * @param subtitleTemplate the replacement subtitle template
+	 * @return a new {@code ValidMessageRecord} with the given templates
+	 */
+	public ValidMessageRecord withTemplates(final String messageTemplate,
+											final String titleTemplate,
+											final String subtitleTemplate)
+	{
+		return new ValidMessageRecord(this.key, this.enabled, messageTemplate, this.repeatDelay, this.rateLimit,
+				titleTemplate, this.titleFadeIn, this.titleStay, this.titleFadeOut, subtitleTemplate, this.priority);
 	}
 
 
@@ -209,6 +247,12 @@ public final class ValidMessageRecord implements MessageRecord
 	}
 
 
+	public RateLimit rateLimit()
+	{
+		return rateLimit;
+	}
+
+
 	public String title()
 	{
 		return title;
@@ -238,4 +282,10 @@ public final class ValidMessageRecord implements MessageRecord
 		return subtitle;
 	}
 
+
+	public MessagePriority priority()
+	{
+		return priority;
+	}
+
 }
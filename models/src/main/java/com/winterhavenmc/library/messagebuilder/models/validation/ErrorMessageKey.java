@@ -78,6 +78,11 @@ public enum ErrorMessageKey
 	 */
 	RELOAD_FAILED,
 
+	/**
+	 * Summarizes a logged validation failure that recurred while its log entries were suppressed.
+	 */
+	REPEATED_FAILURE,
+
 	/**
 	 * Indicates that a provided string was blank (empty or only whitespace).
 	 */
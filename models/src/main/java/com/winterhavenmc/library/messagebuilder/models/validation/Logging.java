@@ -19,9 +19,6 @@ package com.winterhavenmc.library.messagebuilder.models.validation;
 
 import java.util.Optional;
 import java.util.function.Predicate;
-import java.util.logging.Logger;
-
-import static com.winterhavenmc.library.messagebuilder.models.validation.Validator.formatMessage;
 
 
 /**
@@ -32,7 +29,9 @@ import static com.winterhavenmc.library.messagebuilder.models.validation.Validat
  * or should be tracked without disrupting normal flow.
  * <p>
  * The message is localized using {@link Validator#formatMessage(ErrorMessageKey, Parameter)},
- * and is logged using the Java {@link java.util.logging.Logger} API.
+ * and is logged using the Java {@link java.util.logging.Logger} API. Localized messages are formatted once
+ * per locale, and a failure that recurs is logged at most once per minute, with a count of the occurrences
+ * that were not logged, so that a failure on a hot path cannot flood the log.
  *
  * <p>
  * The {@link LogLevel} enum provides a clearer abstraction over
@@ -55,9 +54,6 @@ public record Logging<T>(LogLevel logLevel,
                          ErrorMessageKey messageKey,
                          Parameter parameter) implements Validator<T>
 {
-    private static final Logger LOGGER = Logger.getLogger("ValidationLogger");
-
-
     /**
      * Logs a validation failure using the specified log level and message,
      * but continues execution by returning the original value.
@@ -68,7 +64,7 @@ public record Logging<T>(LogLevel logLevel,
     @Override
     public Optional<T> handleInvalid(final T value)
     {
-        LOGGER.log(logLevel.toJavaUtilLevel(), formatMessage(messageKey, parameter));
+        ValidationLog.instance().log(logLevel, messageKey, parameter);
         return Optional.ofNullable(value); // return the value even though it failed validation
     }
 
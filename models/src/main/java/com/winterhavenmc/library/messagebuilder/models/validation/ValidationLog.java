@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.models.validation;
+
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.logging.Logger;
+
+import static com.winterhavenmc.library.messagebuilder.models.validation.Validator.BUNDLE_NAME;
+import static com.winterhavenmc.library.messagebuilder.models.validation.Validator.formatMessage;
+
+
+/**
+ * The log to which {@link Logging} validation handlers write, built to be called on hot paths.
+ * <p>
+ * Each localized message is formatted once per locale, and reused. Every failure is counted, but a given failure
+ * is written to the log at most once per summary interval: the first occurrence is written immediately, later
+ * occurrences within the interval are only counted, and the next occurrence after the interval is written
+ * together with the number of occurrences that were suppressed. A failure that recurs on every send therefore
+ * writes one log entry per interval, rather than one per send. Failures below the level of the logger are
+ * counted, but never formatted.
+ */
+final class ValidationLog
+{
+	static final Duration SUMMARY_INTERVAL = Duration.ofMinutes(1);
+	private static final ValidationLog INSTANCE = new ValidationLog(Logger.getLogger("ValidationLogger"), System::nanoTime, SUMMARY_INTERVAL);
+
+	private final Logger logger;
+	private final LongSupplier nanoClock;
+	private final long intervalNanos;
+	private final Map<Localized, String> messages = new ConcurrentHashMap<>();
+	private final Map<Locale, String> summaryPatterns = new ConcurrentHashMap<>();
+	private final Map<FailureKey, Failure> failures = new ConcurrentHashMap<>();
+
+
+	/**
+	 * The key of a formatted message, in a locale
+	 */
+	private record Localized(Locale locale, ErrorMessageKey messageKey, Parameter parameter) { }
+
+
+	/**
+	 * The key of the counters of a failure
+	 */
+	private record FailureKey(LogLevel logLevel, ErrorMessageKey messageKey, Parameter parameter) { }
+
+
+	/**
+	 * The counters of a failure
+	 */
+	private static final class Failure
+	{
+		private final LongAdder total = new LongAdder();
+		private boolean logged; // guarded by this
+		private long loggedAt; // guarded by this
+		private long suppressed; // guarded by this
+	}
+
+
+	ValidationLog(final Logger logger, final LongSupplier nanoClock, final Duration interval)
+	{
+		this.logger = logger;
+		this.nanoClock = nanoClock;
+		this.intervalNanos = interval.toNanos();
+	}
+
+
+	/**
+	 * Returns the log shared by all logging validation handlers
+	 *
+	 * @return the shared validation log
+	 */
+	static ValidationLog instance()
+	{
+		return INSTANCE;
+	}
+
+
+	/**
+	 * Counts a validation failure, and writes it to the log unless the same failure was written within the
+	 * summary interval
+	 *
+	 * @param logLevel the severity level of the failure
+	 * @param messageKey the structured message key of the failure
+	 * @param parameter the parameter that failed validation
+	 */
+	void log(final LogLevel logLevel, final ErrorMessageKey messageKey, final Parameter parameter)
+	{
+		final Failure failure = failures.computeIfAbsent(new FailureKey(logLevel, messageKey, parameter), key -> new Failure());
+		failure.total.increment();
+
+		if (!logger.isLoggable(logLevel.toJavaUtilLevel()))
+		{
+			return;
+		}
+
+		final long suppressed;
+		synchronized (failure)
+		{
+			final long now = nanoClock.getAsLong();
+			if (failure.logged && now - failure.loggedAt < intervalNanos)
+			{
+				failure.suppressed++;
+				return;
+			}
+			suppressed = failure.suppressed;
+			failure.logged = true;
+			failure.loggedAt = now;
+			failure.suppressed = 0;
+		}
+
+		final Locale locale = ValidationContext.getLocale();
+		final String message = messages.computeIfAbsent(new Localized(locale, messageKey, parameter),
+				key -> formatMessage(messageKey, parameter));
+
+		logger.log(logLevel.toJavaUtilLevel(), (suppressed == 0)
+				? message
+				: MessageFormat.format(summaryPattern(locale), message, suppressed, intervalNanos / 1_000_000_000L));
+	}
+
+
+	/**
+	 * Returns the number of times a failure has occurred, whether or not it was written to the log
+	 *
+	 * @param logLevel the severity level of the failure
+	 * @param messageKey the structured message key of the failure
+	 * @param parameter the parameter that failed validation
+	 * @return the total number of occurrences of the failure
+	 */
+	long count(final LogLevel logLevel, final ErrorMessageKey messageKey, final Parameter parameter)
+	{
+		final Failure failure = failures.get(new FailureKey(logLevel, messageKey, parameter));
+		return (failure != null)
+				? failure.total.sum()
+				: 0;
+	}
+
+
+	private String summaryPattern(final Locale locale)
+	{
+		return summaryPatterns.computeIfAbsent(locale, key ->
+		{
+			try
+			{
+				return ResourceBundle.getBundle(BUNDLE_NAME, locale).getString(ErrorMessageKey.REPEATED_FAILURE.name());
+			}
+			catch (MissingResourceException exception)
+			{
+				return "{0} (repeated {1} more times in the last {2} seconds)";
+			}
+		});
+	}
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package com.winterhavenmc.library.messagebuilder.models.language.message;
+
+import com.winterhavenmc.library.messagebuilder.models.validation.ValidationException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class RateLimitTest
+{
+	@Test
+	@DisplayName("of returns rate limit for positive burst and period")
+	void of_returns_rate_limit()
+	{
+		// Act
+		RateLimit rateLimit = RateLimit.of(5, Duration.ofSeconds(10));
+
+		// Assert
+		assertTrue(rateLimit.isLimited());
+		assertEquals(new RateLimit(5, Duration.ofSeconds(10)), rateLimit);
+	}
+
+
+	@Test
+	@DisplayName("of returns UNLIMITED for non-positive burst or period")
+	void of_returns_unlimited()
+	{
+		assertSame(RateLimit.UNLIMITED, RateLimit.of(0, Duration.ofSeconds(10)));
+		assertSame(RateLimit.UNLIMITED, RateLimit.of(5, Duration.ZERO));
+		assertSame(RateLimit.UNLIMITED, RateLimit.of(5, Duration.ofSeconds(-1)));
+		assertSame(RateLimit.UNLIMITED, RateLimit.of(5, null));
+	}
+
+
+	@Test
+	@DisplayName("constructor throws ValidationException given positive burst and zero period")
+	void constructor_zero_period()
+	{
+		assertThrows(ValidationException.class, () -> new RateLimit(5, Duration.ZERO));
+	}
+
+
+	@Test
+	@DisplayName("constructor throws ValidationException given positive burst and negative period")
+	void constructor_negative_period()
+	{
+		assertThrows(ValidationException.class, () -> new RateLimit(5, Duration.ofSeconds(-1)));
+	}
+
+
+	@Test
+	@DisplayName("constructor throws ValidationException given positive burst and null period")
+	void constructor_null_period()
+	{
+		assertThrows(ValidationException.class, () -> new RateLimit(5, null));
+	}
+
+
+	@Test
+	@DisplayName("constructor accepts any period given non-positive burst")
+	void constructor_unlimited()
+	{
+		assertFalse(new RateLimit(0, Duration.ZERO).isLimited());
+		assertFalse(new RateLimit(0, null).isLimited());
+	}
+
+}
@@ -166,4 +166,110 @@ class ValidMessageRecordTest
 		assertEquals(Optional.of("this is a final subtitle string"), finalMessageRecord.finalSubtitleString());
 	}
 
+
+	@Test
+	void testPriority_defaults_to_normal()
+	{
+		// Arrange & Act
+		MessagePriority priority = validMessageRecord.priority();
+
+		// Assert
+		assertEquals(MessagePriority.NORMAL, priority);
+	}
+
+
+	@Test
+	void testPriority_from_section()
+	{
+		// Arrange
+		section.set(MessageRecord.Field.PRIORITY.toKey(), "low");
+
+		// Act
+		MessagePriority priority = ValidMessageRecord.create(recordKey, section).priority();
+
+		// Assert
+		assertEquals(MessagePriority.LOW, priority);
+	}
+
+
+	@Test
+	void testPriority_invalid_defaults_to_normal()
+	{
+		// Arrange
+		section.set(MessageRecord.Field.PRIORITY.toKey(), "urgent");
+
+		// Act
+		MessagePriority priority = ValidMessageRecord.create(recordKey, section).priority();
+
+		// Assert
+		assertEquals(MessagePriority.NORMAL, priority);
+	}
+
+
+
+	@Test
+	void testRateLimit_defaults_to_unlimited()
+	{
+		// Arrange & Act
+		RateLimit rateLimit = validMessageRecord.rateLimit();
+
+		// Assert
+		assertEquals(RateLimit.UNLIMITED, rateLimit);
+		assertFalse(rateLimit.isLimited());
+	}
+
+
+	@Test
+	void testRateLimit_from_section()
+	{
+		// Arrange
+		section.set(MessageRecord.Field.RATE_LIMIT.toKey(), 5);
+		section.set(MessageRecord.Field.RATE_LIMIT_PERIOD.toKey(), 10);
+
+		// Act
+		RateLimit rateLimit = ValidMessageRecord.create(recordKey, section).rateLimit();
+
+		// Assert
+		assertEquals(new RateLimit(5, Duration.ofSeconds(10)), rateLimit);
+		assertTrue(rateLimit.isLimited());
+	}
+
+
+	@Test
+	void testRateLimit_period_defaults_to_one_second()
+	{
+		// Arrange
+		section.set(MessageRecord.Field.RATE_LIMIT.toKey(), 3);
+
+		// Act
+		RateLimit rateLimit = ValidMessageRecord.create(recordKey, section).rateLimit();
+
+		// Assert
+		assertEquals(new RateLimit(3, Duration.ofSeconds(1)), rateLimit);
+	}
+
+
+
+	@Test
+	void testWithTemplates()
+	{
+		// Arrange
+		section.set(MessageRecord.Field.PRIORITY.toKey(), "high");
+		ValidMessageRecord original = ValidMessageRecord.create(recordKey, section);
+
+		// Act
+		ValidMessageRecord result = original.withTemplates("new message", "new title", "new subtitle");
+
+		// Assert
+		assertEquals("new message", result.message());
+		assertEquals("new title", result.title());
+		assertEquals("new subtitle", result.subtitle());
+		assertEquals(original.key(), result.key());
+		assertEquals(original.enabled(), result.enabled());
+		assertEquals(original.repeatDelay(), result.repeatDelay());
+		assertEquals(original.titleStay(), result.titleStay());
+		assertEquals(original.priority(), result.priority());
+		assertEquals(original.rateLimit(), result.rateLimit());
+	}
+
 }
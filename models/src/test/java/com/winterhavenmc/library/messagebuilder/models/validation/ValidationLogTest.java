@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2025 Tim Savage.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+package com.winterhavenmc.library.messagebuilder.models.validation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class ValidationLogTest
+{
+	List<LogRecord> records;
+	AtomicLong clock;
+	Logger logger;
+	ValidationLog validationLog;
+
+
+	@BeforeEach
+	void setUp()
+	{
+		records = new ArrayList<>();
+		clock = new AtomicLong();
+		logger = Logger.getAnonymousLogger();
+		logger.setUseParentHandlers(false);
+		logger.addHandler(new Handler()
+		{
+			@Override public void publish(final LogRecord record) { records.add(record); }
+			@Override public void flush() { }
+			@Override public void close() { }
+		});
+		validationLog = new ValidationLog(logger, clock::get, Duration.ofSeconds(60));
+	}
+
+
+	@Test @DisplayName("log() writes the first occurrence of a failure immediately.")
+	void log_writes_first_occurrence()
+	{
+		// Act
+		validationLog.log(LogLevel.WARN, ErrorMessageKey.PARAMETER_NULL, Parameter.RECIPIENT);
+
+		// Assert
+		assertEquals(1, records.size());
+		assertEquals(Level.WARNING, records.getFirst().getLevel());
+		assertEquals(Validator.formatMessage(ErrorMessageKey.PARAMETER_NULL, Parameter.RECIPIENT), records.getFirst().getMessage());
+	}
+
+
+	@Test @DisplayName("log() counts, but does not write, repeated failures within the summary interval.")
+	void log_suppresses_repeats_within_interval()
+	{
+		// Act
+		for (int i = 0; i < 100; i++)
+		{
+			validationLog.log(LogLevel.INFO, ErrorMessageKey.PARAMETER_INVALID, Parameter.VALUE);
+		}
+
+		// Assert
+		assertEquals(1, records.size());
+		assertEquals(100, validationLog.count(LogLevel.INFO, ErrorMessageKey.PARAMETER_INVALID, Parameter.VALUE));
+	}
+
+
+	@Test @DisplayName("log() writes a summary of suppressed failures after the summary interval.")
+	void log_writes_summary_after_interval()
+	{
+		// Arrange
+		validationLog.log(LogLevel.INFO, ErrorMessageKey.PARAMETER_INVALID, Parameter.VALUE);
+		validationLog.log(LogLevel.INFO, ErrorMessageKey.PARAMETER_INVALID, Parameter.VALUE);
+		validationLog.log(LogLevel.INFO, ErrorMessageKey.PARAMETER_INVALID, Parameter.VALUE);
+		clock.addAndGet(Duration.ofSeconds(61).toNanos());
+
+		// Act
+		validationLog.log(LogLevel.INFO, ErrorMessageKey.PARAMETER_INVALID, Parameter.VALUE);
+
+		// Assert
+		assertEquals(2, records.size());
+		assertTrue(records.get(1).getMessage().startsWith(Validator.formatMessage(ErrorMessageKey.PARAMETER_INVALID, Parameter.VALUE)));
+		assertTrue(records.get(1).getMessage().contains("2"));
+	}
+
+
+	@Test @DisplayName("log() rate limits each failure separately.")
+	void log_limits_each_failure_separately()
+	{
+		// Act
+		validationLog.log(LogLevel.INFO, ErrorMessageKey.PARAMETER_INVALID, Parameter.VALUE);
+		validationLog.log(LogLevel.INFO, ErrorMessageKey.PARAMETER_NULL, Parameter.VALUE);
+		validationLog.log(LogLevel.INFO, ErrorMessageKey.PARAMETER_INVALID, Parameter.MACRO);
+
+		// Assert
+		assertEquals(3, records.size());
+	}
+
+
+	@Test @DisplayName("log() counts, but does not write, failures below the level of the logger.")
+	void log_counts_unloggable_failures()
+	{
+		// Arrange
+		logger.setLevel(Level.WARNING);
+
+		// Act
+		validationLog.log(LogLevel.INFO, ErrorMessageKey.PARAMETER_INVALID, Parameter.VALUE);
+
+		// Assert
+		assertTrue(records.isEmpty());
+		assertEquals(1, validationLog.count(LogLevel.INFO, ErrorMessageKey.PARAMETER_INVALID, Parameter.VALUE));
+	}
+
+}